@@ -0,0 +1,164 @@
+package com.example.demo.codec;
+
+import com.example.demo.model.Product;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Encoder/decoder Protobuf untuk {@link Product} sesuai skema {@code src/main/proto/product.proto}.
+ *
+ * <p>Pesan ditulis langsung dengan {@link CodedOutputStream} dari entity,
+ * tanpa kelas hasil generate {@code protoc} dan tanpa objek perantara.
+ * Harga dikirim sebagai {@code price_cents} (long) sehingga tidak ada
+ * pembulatan floating point; harga dengan lebih dari dua desimal dibulatkan
+ * HALF_UP ke sen terdekat. Field yang null tidak ditulis.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class ProductProtobufCodec {
+
+    private static final int ID = 1;
+    private static final int NAME = 2;
+    private static final int DESCRIPTION = 3;
+    private static final int PRICE_CENTS = 4;
+    private static final int STOCK = 5;
+    private static final int VERSION = 6;
+    private static final int PRODUCTS = 1;
+
+    private ProductProtobufCodec() {
+    }
+
+    /**
+     * Menulis satu pesan {@code Product}.
+     */
+    public static void writeProduct(Product product, OutputStream output) throws IOException {
+        CodedOutputStream out = CodedOutputStream.newInstance(output);
+        writeFields(product, out);
+        out.flush();
+    }
+
+    /**
+     * Menulis pesan {@code ProductList}.
+     */
+    public static void writeProducts(List<Product> products, OutputStream output) throws IOException {
+        CodedOutputStream out = CodedOutputStream.newInstance(output);
+        for (Product product : products) {
+            out.writeTag(PRODUCTS, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            out.writeUInt32NoTag(size(product));
+            writeFields(product, out);
+        }
+        out.flush();
+    }
+
+    /**
+     * Membaca satu pesan {@code Product}.
+     */
+    public static Product readProduct(InputStream input) throws IOException {
+        return readFields(CodedInputStream.newInstance(input));
+    }
+
+    /**
+     * Membaca pesan {@code ProductList}.
+     */
+    public static List<Product> readProducts(InputStream input) throws IOException {
+        CodedInputStream in = CodedInputStream.newInstance(input);
+        List<Product> products = new ArrayList<>();
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            if (WireFormat.getTagFieldNumber(tag) == PRODUCTS
+                    && WireFormat.getTagWireType(tag) == WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+                int limit = in.pushLimit(in.readRawVarint32());
+                products.add(readFields(in));
+                in.popLimit(limit);
+            } else {
+                in.skipField(tag);
+            }
+        }
+        return products;
+    }
+
+    /**
+     * Mengubah harga menjadi sen.
+     *
+     * @throws ArithmeticException jika hasilnya tidak muat di long
+     */
+    public static long toCents(BigDecimal price) {
+        return price.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal fromCents(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    private static void writeFields(Product product, CodedOutputStream out) throws IOException {
+        if (product.getId() != null) {
+            out.writeInt64(ID, product.getId());
+        }
+        if (product.getName() != null) {
+            out.writeString(NAME, product.getName());
+        }
+        if (product.getDescription() != null) {
+            out.writeString(DESCRIPTION, product.getDescription());
+        }
+        if (product.getPrice() != null) {
+            out.writeInt64(PRICE_CENTS, toCents(product.getPrice()));
+        }
+        if (product.getStock() != null) {
+            out.writeInt32(STOCK, product.getStock());
+        }
+        if (product.getVersion() != null) {
+            out.writeInt64(VERSION, product.getVersion());
+        }
+    }
+
+    private static int size(Product product) {
+        int size = 0;
+        if (product.getId() != null) {
+            size += CodedOutputStream.computeInt64Size(ID, product.getId());
+        }
+        if (product.getName() != null) {
+            size += CodedOutputStream.computeStringSize(NAME, product.getName());
+        }
+        if (product.getDescription() != null) {
+            size += CodedOutputStream.computeStringSize(DESCRIPTION, product.getDescription());
+        }
+        if (product.getPrice() != null) {
+            size += CodedOutputStream.computeInt64Size(PRICE_CENTS, toCents(product.getPrice()));
+        }
+        if (product.getStock() != null) {
+            size += CodedOutputStream.computeInt32Size(STOCK, product.getStock());
+        }
+        if (product.getVersion() != null) {
+            size += CodedOutputStream.computeInt64Size(VERSION, product.getVersion());
+        }
+        return size;
+    }
+
+    private static Product readFields(CodedInputStream in) throws IOException {
+        Product product = new Product();
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case ID -> product.setId(in.readInt64());
+                case NAME -> product.setName(in.readString());
+                case DESCRIPTION -> product.setDescription(in.readString());
+                case PRICE_CENTS -> product.setPrice(fromCents(in.readInt64()));
+                case STOCK -> product.setStock(in.readInt32());
+                case VERSION -> product.setVersion(in.readInt64());
+                default -> in.skipField(tag);
+            }
+        }
+        return product;
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.demo.codec;
+
+import com.example.demo.model.Product;
+import com.google.protobuf.InvalidProtocolBufferException;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * HttpMessageConverter {@code application/x-protobuf} untuk {@link Product} dan {@code List<Product>}.
+ *
+ * <p>Tipe lain (misalnya {@code ProductPage} atau {@code BulkResult}) tidak
+ * memiliki skema Protobuf, sehingga request dengan Accept ini pada endpoint
+ * tersebut mendapat 406.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ProductProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final String PROTOBUF_VALUE = "application/x-protobuf";
+    public static final MediaType PROTOBUF = MediaType.parseMediaType(PROTOBUF_VALUE);
+
+    public ProductProtobufHttpMessageConverter() {
+        super(PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return Product.class == clazz;
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return isProductOrProductList(type) && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return (type != null ? isProductOrProductList(type) : supports(clazz)) && canWrite(mediaType);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        try {
+            if (isProductList(type)) {
+                return ProductProtobufCodec.readProducts(inputMessage.getBody());
+            }
+            return ProductProtobufCodec.readProduct(inputMessage.getBody());
+        } catch (InvalidProtocolBufferException e) {
+            throw new HttpMessageNotReadableException("Invalid protobuf body: " + e.getMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        return read(clazz, null, inputMessage);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(Object body, Type type, HttpOutputMessage outputMessage) throws IOException {
+        if (body instanceof Product product) {
+            ProductProtobufCodec.writeProduct(product, outputMessage.getBody());
+        } else {
+            ProductProtobufCodec.writeProducts((List<Product>) body, outputMessage.getBody());
+        }
+    }
+
+    private static boolean isProductOrProductList(Type type) {
+        return ResolvableType.forType(type).resolve() == Product.class || isProductList(type);
+    }
+
+    private static boolean isProductList(Type type) {
+        ResolvableType resolved = ResolvableType.forType(type);
+        return resolved.resolve() == List.class && resolved.resolveGeneric(0) == Product.class;
+    }
+}
@@ -0,0 +1,661 @@
+package com.example.demo.columnar;
+
+import com.example.demo.config.ProductProperties;
+import com.example.demo.model.Product;
+import com.example.demo.repository.ProductRepository;
+import com.example.demo.service.ProductChangedEvent;
+import com.example.demo.service.StockChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Read model katalog yang disimpan per kolom dalam array primitif.
+ *
+ * <p>Setiap produk memakai satu slot di kolom {@code long[] ids} (terurut),
+ * {@code long[] priceCents}, {@code int[] stock}, {@code long[] versions},
+ * serta {@code int[]} kode nama dan deskripsi yang menunjuk ke kamus string
+ * (nama yang sama disimpan sekali). Satu baris memakan 36 byte ditambah
+ * string unik di kamus, jauh lebih kecil daripada entity {@code Product}
+ * dengan {@code Long}, {@code BigDecimal}, {@code Integer}, dan overhead Hibernate.
+ *
+ * <p>Fitur ini opsional ({@code app.products.columnar.enabled}). Saat startup
+ * file snapshot di-memory-map dan kolomnya disalin langsung ke array; isi file
+ * dipakai hanya jika jumlah baris, ID maksimum, dan total {@code version}
+ * sama dengan tabel {@code products} (setiap perubahan baris menaikkan
+ * version). Jika tidak cocok, read model dibangun ulang dari database lalu
+ * snapshot ditulis ulang. Perubahan diterapkan dari {@link ProductChangedEvent}
+ * dan {@link StockChangedEvent} setelah transaksinya commit, dan snapshot
+ * ditulis ulang secara berkala serta saat shutdown jika ada perubahan.
+ * Perubahan stok memakai stok dan version yang dibawa event tanpa membaca
+ * ulang database, dan perubahan dengan version lebih lama dari baris yang
+ * tersimpan diabaikan agar event yang tidak berurutan tidak menimpa nilai baru.
+ *
+ * <p>Produk yang dihapus ditandai sebagai tombstone lalu dibuang saat
+ * jumlahnya melebihi seperempat isi. Kamus string juga dibangun ulang dari
+ * baris yang masih hidup saat tombstone dibuang atau saat isinya lebih dari
+ * empat kali jumlah baris (nama lama sisa update tidak lagi dipakai), dan
+ * dimulai dari kosong pada setiap rebuild. Semua method thread-safe;
+ * pembacaan memakai read lock sehingga dapat berjalan paralel.
+ *
+ * @author Harist Islami
+ * @version 1.2
+ * @since 2026-10-18
+ */
+@Component
+public class ColumnarCatalog implements SmartInitializingSingleton, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ColumnarCatalog.class);
+
+    static final int MAGIC = 0x434F4C31; // "COL1"
+    static final int HEADER_BYTES = 12;
+    static final int ROW_BYTES = 8 + 8 + 4 + 8 + 4 + 4;
+
+    private static final long TOMBSTONE = -1L;
+    private static final int NO_STRING = -1;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int REBUILD_BATCH_SIZE = 5000;
+
+    private final ProductRepository productRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductProperties.Columnar settings;
+    private final Path file;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private long[] priceCents = new long[INITIAL_CAPACITY];
+    private int[] stock = new int[INITIAL_CAPACITY];
+    private long[] versions = new long[INITIAL_CAPACITY];
+    private int[] nameCodes = new int[INITIAL_CAPACITY];
+    private int[] descriptionCodes = new int[INITIAL_CAPACITY];
+    private int size;
+    private int tombstones;
+    private StringDictionary dictionary = new StringDictionary();
+
+    private volatile boolean ready;
+    private volatile boolean dirty;
+
+    @Autowired
+    public ColumnarCatalog(ProductRepository productRepository,
+                           JdbcTemplate jdbcTemplate,
+                           ProductProperties properties) {
+        this.productRepository = productRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.settings = properties.getColumnar();
+        this.file = Path.of(settings.getFile());
+    }
+
+    /**
+     * Memuat snapshot (atau membangun ulang dari database) jika fitur aktif.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!settings.isEnabled()) {
+            return;
+        }
+        if (!load()) {
+            rebuild();
+            writeSnapshot();
+        }
+        ready = true;
+    }
+
+    /**
+     * Menulis snapshot terakhir agar startup berikutnya cukup memetakan file.
+     */
+    @Override
+    public void destroy() {
+        if (ready && dirty) {
+            writeSnapshot();
+        }
+    }
+
+    /**
+     * True jika read model aktif dan sudah terisi; jika false, pembaca harus memakai database.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!ready) {
+            return;
+        }
+        if (event.getType() == ProductChangedEvent.Type.DELETED) {
+            remove(event.getId());
+        } else {
+            apply(event.getProduct());
+        }
+    }
+
+    /**
+     * Stok berubah lewat UPDATE langsung (reservasi atau flush hot SKU); stok
+     * dan version baru diambil dari event.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStockChanged(StockChangedEvent event) {
+        if (!ready) {
+            return;
+        }
+        event.getLevels().forEach(this::applyStock);
+    }
+
+    @Scheduled(fixedDelayString = "${app.products.columnar.snapshot-interval-ms:60000}")
+    public void writeSnapshotIfDirty() {
+        if (ready && dirty) {
+            writeSnapshot();
+        }
+    }
+
+    public Optional<Product> findById(Long id) {
+        lock.readLock().lock();
+        try {
+            int row = rowOf(id);
+            return row < 0 ? Optional.empty() : Optional.of(toProduct(row));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Mengambil produk untuk setiap ID yang ada; ID yang tidak ditemukan dilewati.
+     */
+    public List<Product> findByIdIn(Collection<Long> productIds) {
+        List<Product> products = new ArrayList<>(productIds.size());
+        lock.readLock().lock();
+        try {
+            for (Long id : productIds) {
+                int row = rowOf(id);
+                if (row >= 0) {
+                    products.add(toProduct(row));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return products;
+    }
+
+    /**
+     * Seluruh produk, terurut berdasarkan ID.
+     */
+    public List<Product> findAll() {
+        lock.readLock().lock();
+        try {
+            List<Product> products = new ArrayList<>(size - tombstones);
+            for (int row = 0; row < size; row++) {
+                if (versions[row] != TOMBSTONE) {
+                    products.add(toProduct(row));
+                }
+            }
+            return products;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Produk dengan harga dalam {@code [min, max]}, terurut berdasarkan harga lalu ID.
+     *
+     * <p>Kolom harga dipindai berurutan; hanya {@code limit} baris termurah
+     * yang dipertahankan di heap berukuran tetap. Batas yang melebihi
+     * {@code long} sen dijenuhkan, bukan melempar exception.
+     */
+    public List<Product> findByPriceBetween(BigDecimal min, BigDecimal max, int limit) {
+        long minCents = boundCents(min, RoundingMode.CEILING);
+        long maxCents = boundCents(max, RoundingMode.FLOOR);
+        lock.readLock().lock();
+        try {
+            Comparator<Integer> cheapestFirst = Comparator.<Integer>comparingLong(row -> priceCents[row])
+                    .thenComparingLong(row -> ids[row]);
+            PriorityQueue<Integer> kept = new PriorityQueue<>(Math.min(limit, 1024), cheapestFirst.reversed());
+            for (int row = 0; row < size; row++) {
+                long cents = priceCents[row];
+                if (cents < minCents || cents > maxCents || versions[row] == TOMBSTONE) {
+                    continue;
+                }
+                if (kept.size() < limit) {
+                    kept.add(row);
+                } else if (cheapestFirst.compare(row, kept.peek()) < 0) {
+                    kept.poll();
+                    kept.add(row);
+                }
+            }
+            List<Integer> rows = new ArrayList<>(kept);
+            rows.sort(cheapestFirst);
+            List<Product> products = new ArrayList<>(rows.size());
+            rows.forEach(row -> products.add(toProduct(row)));
+            return products;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size - tombstones;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Menambahkan produk atau mengganti baris dengan ID yang sama, kecuali
+     * version-nya lebih lama dari baris yang tersimpan.
+     */
+    void apply(Product product) {
+        lock.writeLock().lock();
+        try {
+            long id = product.getId();
+            long version = product.getVersion() == null ? 0L : product.getVersion();
+            int row = Arrays.binarySearch(ids, 0, size, id);
+            if (row >= 0 && versions[row] != TOMBSTONE && version < versions[row]) {
+                return;
+            }
+            if (row < 0) {
+                row = -row - 1;
+                insertSlot(row);
+                ids[row] = id;
+            } else if (versions[row] == TOMBSTONE) {
+                tombstones--;
+            }
+            priceCents[row] = toCents(product.getPrice());
+            stock[row] = product.getStock();
+            versions[row] = version;
+            nameCodes[row] = dictionary.encode(product.getName());
+            descriptionCodes[row] = dictionary.encode(product.getDescription());
+            dirty = true;
+            if (dictionary.size() > INITIAL_CAPACITY && dictionary.size() > 4L * (size - tombstones)) {
+                compactDictionary();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Mengganti stok dan version satu baris dalam O(log n). Produk yang belum
+     * tercatat dilewati; rebuild atau event simpan produk akan mencatatnya.
+     */
+    void applyStock(Long id, StockChangedEvent.StockLevel level) {
+        lock.writeLock().lock();
+        try {
+            int row = rowOf(id);
+            if (row < 0 || level.getVersion() < versions[row]) {
+                return;
+            }
+            stock[row] = level.getStock();
+            versions[row] = level.getVersion();
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            int row = Arrays.binarySearch(ids, 0, size, id);
+            if (row < 0 || versions[row] == TOMBSTONE) {
+                return;
+            }
+            versions[row] = TOMBSTONE;
+            tombstones++;
+            dirty = true;
+            if (tombstones > INITIAL_CAPACITY && tombstones > size / 4) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Membangun ulang seluruh kolom dari tabel {@code products}.
+     */
+    public void rebuild() {
+        long start = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            clear();
+            long lastId = 0L;
+            List<Product> batch = productRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(REBUILD_BATCH_SIZE));
+            while (!batch.isEmpty()) {
+                batch.forEach(this::apply);
+                lastId = batch.get(batch.size() - 1).getId();
+                batch = productRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(REBUILD_BATCH_SIZE));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Rebuilt columnar catalog from {} rows in {} ms", size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Memetakan file snapshot dan memuat kolomnya jika masih sesuai dengan database.
+     *
+     * @return true jika snapshot dipakai, false jika tidak ada, rusak, atau usang
+     */
+    public boolean load() {
+        if (!Files.exists(file)) {
+            return false;
+        }
+        long start = System.nanoTime();
+        lock.writeLock().lock();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC) {
+                log.warn("Ignoring columnar snapshot {}: unknown format", file);
+                return false;
+            }
+            int rows = buffer.getInt();
+            int strings = buffer.getInt();
+            clear();
+            ensureCapacity(rows);
+            buffer.asLongBuffer().get(ids, 0, rows);
+            buffer.position(buffer.position() + rows * 8);
+            buffer.asLongBuffer().get(priceCents, 0, rows);
+            buffer.position(buffer.position() + rows * 8);
+            buffer.asIntBuffer().get(stock, 0, rows);
+            buffer.position(buffer.position() + rows * 4);
+            buffer.asLongBuffer().get(versions, 0, rows);
+            buffer.position(buffer.position() + rows * 8);
+            buffer.asIntBuffer().get(nameCodes, 0, rows);
+            buffer.position(buffer.position() + rows * 4);
+            buffer.asIntBuffer().get(descriptionCodes, 0, rows);
+            buffer.position(buffer.position() + rows * 4);
+            for (int i = 0; i < strings; i++) {
+                byte[] bytes = new byte[buffer.getInt()];
+                buffer.get(bytes);
+                dictionary.encode(new String(bytes, StandardCharsets.UTF_8));
+            }
+            size = rows;
+            if (!matchesDatabase()) {
+                log.info("Columnar snapshot {} is stale, rebuilding from database", file);
+                clear();
+                return false;
+            }
+            dirty = false;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable columnar snapshot {}", file, e);
+            clear();
+            return false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Mapped columnar catalog snapshot with {} rows in {} ms", size(), (System.nanoTime() - start) / 1_000_000);
+        return true;
+    }
+
+    /**
+     * Menulis seluruh kolom ke file snapshot baru lewat memory map, lalu menggantinya secara atomik.
+     *
+     * <p>Tombstone tidak ikut ditulis dan kamus hanya berisi string yang masih dipakai.
+     */
+    public void writeSnapshot() {
+        long start = System.nanoTime();
+        lock.readLock().lock();
+        try {
+            dirty = false;
+            int[] remap = new int[dictionary.size()];
+            Arrays.fill(remap, NO_STRING);
+            List<byte[]> strings = new ArrayList<>();
+            long bytes = HEADER_BYTES;
+            int rows = 0;
+            for (int row = 0; row < size; row++) {
+                if (versions[row] == TOMBSTONE) {
+                    continue;
+                }
+                rows++;
+                bytes += keepString(nameCodes[row], remap, strings);
+                bytes += keepString(descriptionCodes[row], remap, strings);
+            }
+            bytes += (long) rows * ROW_BYTES;
+            if (bytes > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Columnar snapshot larger than 2 GB is not supported");
+            }
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+                buffer.putInt(MAGIC).putInt(rows).putInt(strings.size());
+                writeLongColumn(buffer, ids);
+                writeLongColumn(buffer, priceCents);
+                writeIntColumn(buffer, stock, null);
+                writeLongColumn(buffer, versions);
+                writeIntColumn(buffer, nameCodes, remap);
+                writeIntColumn(buffer, descriptionCodes, remap);
+                for (byte[] string : strings) {
+                    buffer.putInt(string.length).put(string);
+                }
+                buffer.force();
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Wrote columnar catalog snapshot with {} rows ({} bytes) in {} ms",
+                    rows, bytes, (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException | RuntimeException e) {
+            dirty = true;
+            log.warn("Failed to write columnar snapshot {}", file, e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Memberi kode baru untuk string yang pertama kali dipakai; mengembalikan tambahan ukuran file.
+     */
+    private int keepString(int code, int[] remap, List<byte[]> strings) {
+        if (code == NO_STRING || remap[code] != NO_STRING) {
+            return 0;
+        }
+        remap[code] = strings.size();
+        byte[] encoded = dictionary.decode(code).getBytes(StandardCharsets.UTF_8);
+        strings.add(encoded);
+        return 4 + encoded.length;
+    }
+
+    private void writeLongColumn(ByteBuffer buffer, long[] column) {
+        for (int row = 0; row < size; row++) {
+            if (versions[row] != TOMBSTONE) {
+                buffer.putLong(column[row]);
+            }
+        }
+    }
+
+    private void writeIntColumn(ByteBuffer buffer, int[] column, int[] remap) {
+        for (int row = 0; row < size; row++) {
+            if (versions[row] != TOMBSTONE) {
+                int value = column[row];
+                buffer.putInt(remap == null || value == NO_STRING ? value : remap[value]);
+            }
+        }
+    }
+
+    /**
+     * Membandingkan jumlah baris, ID maksimum, dan total version dengan tabel {@code products}.
+     */
+    private boolean matchesDatabase() {
+        long count = 0;
+        long maxId = 0;
+        long versionSum = 0;
+        for (int row = 0; row < size; row++) {
+            if (versions[row] != TOMBSTONE) {
+                count++;
+                maxId = ids[row];
+                versionSum += versions[row];
+            }
+        }
+        long[] expected = {count, maxId, versionSum};
+        long[] actual = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*), COALESCE(MAX(id), 0), COALESCE(SUM(version), 0) FROM products",
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2), rs.getLong(3)});
+        return Arrays.equals(expected, actual);
+    }
+
+    private int rowOf(Long id) {
+        if (id == null) {
+            return -1;
+        }
+        int row = Arrays.binarySearch(ids, 0, size, id);
+        return row < 0 || versions[row] == TOMBSTONE ? -1 : row;
+    }
+
+    private Product toProduct(int row) {
+        return new Product(ids[row], dictionary.decode(nameCodes[row]), dictionary.decode(descriptionCodes[row]),
+                BigDecimal.valueOf(priceCents[row], 2), stock[row], versions[row]);
+    }
+
+    private void insertSlot(int row) {
+        ensureCapacity(size + 1);
+        if (row < size) {
+            int moved = size - row;
+            System.arraycopy(ids, row, ids, row + 1, moved);
+            System.arraycopy(priceCents, row, priceCents, row + 1, moved);
+            System.arraycopy(stock, row, stock, row + 1, moved);
+            System.arraycopy(versions, row, versions, row + 1, moved);
+            System.arraycopy(nameCodes, row, nameCodes, row + 1, moved);
+            System.arraycopy(descriptionCodes, row, descriptionCodes, row + 1, moved);
+        }
+        size++;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= ids.length) {
+            return;
+        }
+        int capacity = Math.max(required, ids.length + (ids.length >> 1));
+        ids = Arrays.copyOf(ids, capacity);
+        priceCents = Arrays.copyOf(priceCents, capacity);
+        stock = Arrays.copyOf(stock, capacity);
+        versions = Arrays.copyOf(versions, capacity);
+        nameCodes = Arrays.copyOf(nameCodes, capacity);
+        descriptionCodes = Arrays.copyOf(descriptionCodes, capacity);
+    }
+
+    private void compact() {
+        int target = 0;
+        for (int row = 0; row < size; row++) {
+            if (versions[row] == TOMBSTONE) {
+                continue;
+            }
+            ids[target] = ids[row];
+            priceCents[target] = priceCents[row];
+            stock[target] = stock[row];
+            versions[target] = versions[row];
+            nameCodes[target] = nameCodes[row];
+            descriptionCodes[target] = descriptionCodes[row];
+            target++;
+        }
+        size = target;
+        tombstones = 0;
+        compactDictionary();
+    }
+
+    /**
+     * Mengganti kamus dengan kamus baru yang hanya berisi string dari baris yang masih hidup.
+     */
+    private void compactDictionary() {
+        StringDictionary compacted = new StringDictionary();
+        for (int row = 0; row < size; row++) {
+            if (versions[row] == TOMBSTONE) {
+                nameCodes[row] = NO_STRING;
+                descriptionCodes[row] = NO_STRING;
+                continue;
+            }
+            nameCodes[row] = compacted.encode(dictionary.decode(nameCodes[row]));
+            descriptionCodes[row] = compacted.encode(dictionary.decode(descriptionCodes[row]));
+        }
+        dictionary = compacted;
+    }
+
+    int dictionarySize() {
+        lock.readLock().lock();
+        try {
+            return dictionary.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void clear() {
+        size = 0;
+        tombstones = 0;
+        dictionary = new StringDictionary();
+    }
+
+    private static long toCents(BigDecimal price) {
+        return price.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static long boundCents(BigDecimal bound, RoundingMode rounding) {
+        BigInteger cents = bound.setScale(2, rounding).unscaledValue();
+        if (cents.bitLength() < Long.SIZE) {
+            return cents.longValue();
+        }
+        return cents.signum() > 0 ? Long.MAX_VALUE : Long.MIN_VALUE;
+    }
+
+    /**
+     * Kamus string append-only: setiap string unik mendapat kode int berurutan.
+     * Kode lama dibuang dengan mengganti seluruh kamus lewat {@code compactDictionary()}.
+     */
+    private static final class StringDictionary {
+
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int encode(String value) {
+            if (value == null) {
+                return NO_STRING;
+            }
+            Integer code = codes.get(value);
+            if (code == null) {
+                code = values.size();
+                codes.put(value, code);
+                values.add(value);
+            }
+            return code;
+        }
+
+        String decode(int code) {
+            return code == NO_STRING ? null : values.get(code);
+        }
+
+        int size() {
+            return values.size();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.demo.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Konfigurasi cache aplikasi.
+ *
+ * <p>Cache manager (Caffeine) beserta ukuran maksimum, TTL, dan statistiknya
+ * dikonfigurasi lewat properti {@code spring.cache.*} di application.properties.
+ * Statistik hit/miss/eviction otomatis tersedia di {@code /actuator/metrics/cache.*}.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /** Nama cache untuk produk berdasarkan ID. */
+    public static final String PRODUCTS_CACHE = "products";
+}
@@ -0,0 +1,175 @@
+package com.example.demo.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Properti konfigurasi fitur produk dengan prefix {@code app.products}.
+ *
+ * @author Harist Islami
+ * @version 1.7
+ * @since 2026-10-18
+ */
+@Data
+@ConfigurationProperties(prefix = "app.products")
+public class ProductProperties {
+
+    private final Bulk bulk = new Bulk();
+    private final Export export = new Export();
+    private final HotStock hotStock = new HotStock();
+    private final BatchLoader batchLoader = new BatchLoader();
+    private final ResponseCache responseCache = new ResponseCache();
+    private final Snapshot snapshot = new Snapshot();
+    private final Columnar columnar = new Columnar();
+    private final Stats stats = new Stats();
+    private final SqlProfiling sqlProfiling = new SqlProfiling();
+    private final Jfr jfr = new Jfr();
+
+    /**
+     * Pengaturan API bulk create/update.
+     */
+    @Data
+    public static class Bulk {
+        /** Jumlah statement INSERT/UPDATE yang dikirim dalam satu JDBC batch. */
+        private int batchSize = 50;
+        /** Jumlah item yang di-commit dalam satu transaksi. */
+        private int chunkSize = 1000;
+    }
+
+    /**
+     * Pengaturan endpoint export NDJSON.
+     */
+    @Data
+    public static class Export {
+        /** Batas waktu satu export, dalam milidetik; hanya berlaku untuk endpoint export. */
+        private long timeoutMs = 30 * 60 * 1000L;
+    }
+
+    /**
+     * Pengaturan mode "hot SKU": stok produk tertentu dipegang di counter
+     * in-memory dan ditulis ke database secara berkala.
+     */
+    @Data
+    public static class HotStock {
+        private boolean enabled = false;
+        /** ID produk yang dipromosikan menjadi hot SKU saat startup. */
+        private List<Long> productIds = new ArrayList<>();
+        /** Interval penulisan delta ke database, dalam milidetik. */
+        private long flushIntervalMs = 200;
+        /** Direktori journal delta untuk pemulihan setelah crash. */
+        private String journalDirectory = "data/stock-journal";
+        /**
+         * Interval group commit journal, dalam milidetik. Reservasi tidak menunggu
+         * journal ditulis, sehingga crash bisa menghilangkan perubahan stok hingga
+         * satu interval ini.
+         */
+        private long journalCommitIntervalMs = 5;
+        /** Paksa fsync untuk setiap group commit journal (tahan mati listrik, lebih lambat). */
+        private boolean journalFsync = false;
+    }
+
+    /**
+     * Pengaturan micro-batching lookup produk berdasarkan ID: lookup yang
+     * datang dalam satu jendela waktu digabung menjadi satu query IN.
+     */
+    @Data
+    public static class BatchLoader {
+        private boolean enabled = true;
+        /** Lama jendela pengumpulan ID sejak lookup pertama, dalam mikrodetik. */
+        private long windowMicros = 2000;
+        /** Jumlah ID maksimum per query; batch yang penuh langsung dieksekusi. */
+        private int maxBatchSize = 100;
+    }
+
+    /**
+     * Pengaturan cache byte respons JSON untuk listing dan pencarian produk.
+     */
+    @Data
+    public static class ResponseCache {
+        private boolean enabled = true;
+        /** Total ukuran maksimum body yang disimpan (JSON + gzip), dalam byte. */
+        private long maxSizeBytes = 64L * 1024 * 1024;
+        /** Simpan juga versi gzip untuk client yang mengirim Accept-Encoding: gzip. */
+        private boolean gzip = true;
+        /** Body yang lebih kecil dari ini tidak dikompres. */
+        private int gzipMinBytes = 1024;
+    }
+
+    /**
+     * Pengaturan snapshot katalog terkompresi di disk untuk GET /api/products/snapshot.
+     */
+    @Data
+    public static class Snapshot {
+        private boolean enabled = true;
+        /** Direktori file snapshot dan blok-bloknya. */
+        private String directory = "data/catalog-snapshot";
+        /** Jumlah ID produk per blok; hanya blok yang berubah yang dirender ulang. */
+        private int blockSize = 10_000;
+        /** Interval pengecekan perubahan, dalam milidetik. */
+        private long checkIntervalMs = 1000;
+        /** Snapshot dibangun ulang setelah tidak ada penulisan selama ini, dalam milidetik. */
+        private long settleMs = 2000;
+        /** Batas tunda maksimum saat penulisan tidak pernah mereda, dalam milidetik. */
+        private long maxDelayMs = 60_000;
+    }
+
+    /**
+     * Pengaturan read model kolumnar (array primitif) untuk pembacaan katalog.
+     */
+    @Data
+    public static class Columnar {
+        private boolean enabled = false;
+        /** File snapshot yang di-memory-map saat startup agar tidak perlu membaca ulang tabel. */
+        private String file = "data/columnar/catalog.col";
+        /** Interval penulisan snapshot jika ada perubahan, dalam milidetik. */
+        private long snapshotIntervalMs = 60_000;
+    }
+
+    /**
+     * Pengaturan statistik katalog untuk GET /api/products/stats.
+     */
+    @Data
+    public static class Stats {
+        /** Interval pencocokan agregat in-memory dengan database, dalam milidetik. */
+        private long reconcileIntervalMs = 300_000;
+    }
+
+    /**
+     * Pengaturan profiling statement SQL per request HTTP.
+     */
+    @Data
+    public static class SqlProfiling {
+        /** Membungkus DataSource dengan proxy pengukur (diaktifkan oleh profile debug). */
+        private boolean enabled = false;
+        /** Menambahkan header X-SQL-* ke setiap respons (diaktifkan oleh profile debug). */
+        private boolean headers = false;
+        /** Statement yang lebih lama dari ini dicatat di log sebagai slow query, dalam milidetik. */
+        private long slowQueryMs = 100;
+        /** Jumlah eksekusi statement identik dalam satu request yang dicatat sebagai dugaan N+1. */
+        private int repeatedStatementThreshold = 5;
+        /** Jumlah statement berbeda yang dilacak endpoint actuator; sisanya digabung ke satu entry. */
+        private int maxStatements = 1000;
+    }
+
+    /**
+     * Pengaturan recording Java Flight Recorder lewat {@code /actuator/jfr}.
+     */
+    @Data
+    public static class Jfr {
+        /** Direktori tempat file .jfr ditulis saat recording diunduh. */
+        private String directory = "data/jfr";
+        /** Konfigurasi JFR bawaan JDK yang dipakai jika tidak diminta: {@code default} atau {@code profile}. */
+        private String settings = "default";
+        /** Durasi recording jika tidak diminta, dalam detik. */
+        private long defaultDurationSeconds = 60;
+        /** Durasi recording terpanjang yang boleh diminta, dalam detik. */
+        private long maxDurationSeconds = 1800;
+        /** Ukuran data recording maksimum di disk, dalam megabyte. */
+        private long maxSizeMb = 256;
+        /** Jumlah recording (berjalan atau selesai) yang disimpan sekaligus. */
+        private int maxRecordings = 4;
+    }
+}
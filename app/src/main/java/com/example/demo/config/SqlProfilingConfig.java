@@ -0,0 +1,59 @@
+package com.example.demo.config;
+
+import com.example.demo.sql.SqlProfilingFilter;
+import com.example.demo.sql.SqlProfilingListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * Membungkus {@link DataSource} aplikasi dengan datasource-proxy agar setiap
+ * statement SQL (JPA maupun JdbcTemplate) diukur oleh {@link SqlProfilingListener},
+ * serta mendaftarkan {@link SqlProfilingFilter} sebagai filter pertama agar
+ * seluruh statement selama request terhitung.
+ *
+ * <p>Tidak ada yang dibungkus jika {@code app.products.sql-profiling.enabled=false},
+ * sehingga jalur JDBC kembali tanpa overhead proxy.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Configuration
+public class SqlProfilingConfig {
+
+    @Bean
+    public static BeanPostProcessor sqlProfilingDataSourcePostProcessor(ObjectProvider<ProductProperties> properties,
+                                                                        ObjectProvider<SqlProfilingListener> listener) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource
+                        || !properties.getObject().getSqlProfiling().isEnabled()) {
+                    return bean;
+                }
+                SqlProfilingListener sqlListener = listener.getObject();
+                return ProxyDataSourceBuilder.create(beanName, dataSource)
+                        .listener(sqlListener)
+                        .proxyResultSet()
+                        .methodListener(sqlListener)
+                        .build();
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlProfilingFilter> sqlProfilingFilter(ProductProperties properties) {
+        FilterRegistrationBean<SqlProfilingFilter> registration =
+                new FilterRegistrationBean<>(new SqlProfilingFilter(properties));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
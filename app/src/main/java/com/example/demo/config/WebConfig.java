@@ -0,0 +1,56 @@
+package com.example.demo.config;
+
+import com.example.demo.codec.ProductProtobufHttpMessageConverter;
+import com.example.demo.jfr.ProductRequestEventInterceptor;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Konfigurasi format biner untuk content negotiation.
+ *
+ * <p>Converter Smile ({@code application/x-jackson-smile}) dan CBOR
+ * ({@code application/cbor}) dibangun dari builder Jackson milik Spring Boot
+ * agar memakai pengaturan {@code spring.jackson.*} yang sama dengan JSON.
+ * Converter Protobuf ditambahkan paling akhir sehingga JSON tetap menjadi
+ * default untuk {@code Accept: *}{@code /*}.
+ *
+ * <p>Request ke {@code /api/products} juga dicatat sebagai event JFR oleh
+ * {@link ProductRequestEventInterceptor}.
+ *
+ * @author Harist Islami
+ * @version 1.1
+ * @since 2026-10-18
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new ProductProtobufHttpMessageConverter());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ProductRequestEventInterceptor()).addPathPatterns("/api/products", "/api/products/**");
+    }
+}
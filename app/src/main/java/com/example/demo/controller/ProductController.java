@@ -0,0 +1,705 @@
+package com.example.demo.controller;
+
+import com.example.demo.config.ProductProperties;
+import com.example.demo.model.BulkResult;
+import com.example.demo.model.CatalogStats;
+import com.example.demo.model.PriceBucket;
+import com.example.demo.model.Product;
+import com.example.demo.model.ProductPage;
+import com.example.demo.model.ProductSearchHit;
+import com.example.demo.model.ProductSuggestion;
+import com.example.demo.model.StockItem;
+import com.example.demo.service.InsufficientStockException;
+import com.example.demo.service.ProductBulkService;
+import com.example.demo.service.ProductField;
+import com.example.demo.service.ProductNotFoundException;
+import com.example.demo.service.ProductPatchService;
+import com.example.demo.service.ProductService;
+import com.example.demo.service.ProductSort;
+import com.example.demo.service.ProductStockService;
+import com.example.demo.service.ProductVersionConflictException;
+import com.example.demo.snapshot.CatalogSnapshotService;
+import com.example.demo.stats.CatalogStatistics;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import jakarta.validation.Valid;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * ProductController adalah REST controller yang menyediakan endpoint untuk mengelola data produk.
+ *
+ * <p>Controller ini menyediakan API CRUD untuk operasi produk seperti:
+ * - GET semua produk (opsional hanya field tertentu lewat {@code fields})
+ * - GET/POST multi-get produk berdasarkan daftar ID
+ * - GET produk per halaman (pagination cursor)
+ * - GET produk berdasarkan ID
+ * - POST produk baru
+ * - POST/PUT bulk create dan update produk
+ * - POST reservasi dan pelepasan stok (per produk dan per keranjang)
+ * - PUT update produk
+ * - PATCH update parsial produk (JSON Merge Patch)
+ * - DELETE produk
+ * - GET produk berdasarkan nama (opsional hanya field tertentu lewat {@code fields})
+ * - GET saran autocomplete berdasarkan awalan nama
+ * - GET pencarian full-text berdasarkan relevansi
+ * - GET produk dalam rentang harga, top-N berdasarkan harga, dan histogram harga
+ * - GET export seluruh katalog sebagai NDJSON
+ * - GET snapshot katalog terkompresi gzip dari disk (mendukung Range)
+ * - GET statistik agregat katalog
+ *
+ * <p>Listing dan pencarian nama dilayani dari {@link ResponseBodyCache}
+ * (body JSON/gzip yang sudah jadi, dengan strong ETag dan 304).
+ *
+ * <p>Selain JSON, setiap endpoint produk dapat mengirim dan menerima format
+ * biner lewat header Accept/Content-Type: Smile ({@code application/x-jackson-smile}),
+ * CBOR ({@code application/cbor}), dan Protobuf ({@code application/x-protobuf},
+ * khusus {@code Product} dan {@code List<Product>}, harga dalam sen).
+ *
+ * <p>Produk tunggal dikirim dengan header ETag berbasis version. GET mendukung
+ * If-None-Match (304), sedangkan PUT, PATCH, dan DELETE mendukung If-Match sehingga
+ * perubahan dari client lain tidak tertimpa diam-diam (412).
+ *
+ * @author Harist Islami
+ * @version 3.3
+ * @since 2025-09-20
+ */
+@RestController
+@RequestMapping("/api/products")
+public class ProductController {
+
+    static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+    private static final MediaType GZIP = MediaType.parseMediaType("application/gzip");
+    /** Ukuran potongan NDJSON yang dikirim sekaligus ke client saat export. */
+    private static final int EXPORT_CHUNK_BYTES = 64 * 1024;
+    private static final Set<ResponseFormat> ALL_FORMATS = EnumSet.allOf(ResponseFormat.class);
+    /** Projection berupa map sehingga tidak punya skema Protobuf. */
+    private static final Set<ResponseFormat> PROJECTION_FORMATS =
+            EnumSet.of(ResponseFormat.JSON, ResponseFormat.SMILE, ResponseFormat.CBOR);
+
+    private final ProductService productService;
+    private final ProductBulkService productBulkService;
+    private final ProductStockService productStockService;
+    private final ProductPatchService productPatchService;
+    private final ResponseBodyCache responseBodyCache;
+    private final CatalogSnapshotService catalogSnapshotService;
+    private final CatalogStatistics catalogStatistics;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter exportWriter;
+    private final AsyncTaskExecutor exportExecutor;
+    private final long exportTimeoutMs;
+
+    @Autowired
+    public ProductController(ProductService productService, ProductBulkService productBulkService,
+                             ProductStockService productStockService, ProductPatchService productPatchService,
+                             ResponseBodyCache responseBodyCache, CatalogSnapshotService catalogSnapshotService,
+                             CatalogStatistics catalogStatistics, ObjectMapper objectMapper,
+                             ProductProperties properties,
+                             @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                             AsyncTaskExecutor exportExecutor) {
+        this.productService = productService;
+        this.productBulkService = productBulkService;
+        this.productStockService = productStockService;
+        this.productPatchService = productPatchService;
+        this.responseBodyCache = responseBodyCache;
+        this.catalogSnapshotService = catalogSnapshotService;
+        this.catalogStatistics = catalogStatistics;
+        this.objectMapper = objectMapper;
+        this.exportWriter = objectMapper.writer()
+                .without(SerializationFeature.INDENT_OUTPUT)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.exportExecutor = exportExecutor;
+        this.exportTimeoutMs = properties.getExport().getTimeoutMs();
+    }
+
+    /**
+     * Endpoint untuk mendapatkan semua data produk.
+     *
+     * <p>Body JSON di-cache sampai katalog berubah dan dikirim dengan strong
+     * ETag; request dengan If-None-Match yang cocok mendapat 304.
+     *
+     * @param accept format yang diterima client (JSON, Smile, CBOR, atau Protobuf)
+     * @param ifNoneMatch ETag yang dimiliki client (opsional)
+     * @param acceptEncoding encoding yang diterima client; gzip dikirim jika diterima
+     * @return ResponseEntity<byte[]> JSON daftar semua produk, atau 304 jika tidak berubah
+     */
+    @GetMapping
+    public ResponseEntity<byte[]> getAllProducts(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return cachedResponse("list", ALL_FORMATS, productService::getAllProducts, accept, ifNoneMatch, acceptEncoding);
+    }
+
+    /**
+     * Endpoint untuk mendapatkan semua produk dengan hanya field tertentu,
+     * misalnya {@code ?fields=id,name,price,stock}. Di-cache seperti listing penuh.
+     *
+     * @param fields daftar field dipisahkan koma
+     * @param accept format yang diterima client (JSON, Smile, atau CBOR)
+     * @param ifNoneMatch ETag yang dimiliki client (opsional)
+     * @param acceptEncoding encoding yang diterima client
+     * @return ResponseEntity<byte[]> JSON produk berisi field yang diminta,
+     *         304 jika tidak berubah, atau 400 jika ada field yang tidak dikenali
+     */
+    @GetMapping(params = {"fields", "!limit", "!ids"})
+    public ResponseEntity<byte[]> getAllProducts(
+            @RequestParam String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        Set<ProductField> selected;
+        try {
+            selected = ProductField.parse(fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return cachedResponse("list:" + selected, PROJECTION_FORMATS, () -> productService.getAllProducts(selected),
+                accept, ifNoneMatch, acceptEncoding);
+    }
+
+    /**
+     * Endpoint untuk mendapatkan produk per halaman dengan pagination keyset.
+     *
+     * <p>Aktif jika parameter {@code limit} diberikan. Gunakan nilai
+     * {@code nextCursor} dari respons sebagai parameter {@code after}
+     * untuk mengambil halaman berikutnya.
+     *
+     * @param after cursor halaman sebelumnya (opsional)
+     * @param limit jumlah maksimum item per halaman
+     * @param sort urutan listing: {@code id} atau {@code price}
+     * @return ResponseEntity<ProductPage> halaman produk, atau 400 jika parameter tidak valid
+     */
+    @GetMapping(params = "limit")
+    public ResponseEntity<ProductPage> getProductPage(@RequestParam(required = false) String after,
+                                                      @RequestParam int limit,
+                                                      @RequestParam(defaultValue = "id") String sort) {
+        try {
+            return ResponseEntity.ok(productService.getProductPage(after, limit, ProductSort.from(sort)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Endpoint untuk mendapatkan banyak produk sekaligus, misalnya {@code ?ids=1,2,3}.
+     *
+     * <p>Semua produk diambil dengan satu query IN. ID yang tidak ditemukan
+     * dilewati; urutan hasil mengikuti urutan ID di request.
+     *
+     * @param ids daftar ID produk dipisahkan koma
+     * @return ResponseEntity<List<Product>> produk yang ditemukan, atau 400 jika daftar tidak valid
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<Product>> getProductsByIds(@RequestParam List<Long> ids) {
+        return multiGetResponse(ids);
+    }
+
+    /**
+     * Endpoint untuk mendapatkan produk berdasarkan ID.
+     *
+     * @param id ID produk yang dicari
+     * @param ifNoneMatch ETag yang dimiliki client (opsional)
+     * @return ResponseEntity<Product> produk dengan ID yang diberikan, atau 304 jika tidak berubah
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<Product> getProductById(@PathVariable Long id,
+                                                  @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+                                                  String ifNoneMatch) {
+        return productService.getProductById(id)
+                .map(product -> {
+                    String eTag = ProductETags.of(product);
+                    if (ProductETags.matchesNoneMatch(ifNoneMatch, eTag)) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).<Product>build();
+                    }
+                    return withETag(ResponseEntity.ok(), product).body(product);
+                })
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Endpoint untuk mencari produk berdasarkan nama.
+     *
+     * <p>Body JSON di-cache per kata kunci (tanpa membedakan huruf besar/kecil)
+     * sampai katalog berubah, dengan strong ETag dan dukungan 304.
+     *
+     * @param name nama produk yang dicari (case insensitive)
+     * @param accept format yang diterima client (JSON, Smile, CBOR, atau Protobuf)
+     * @param ifNoneMatch ETag yang dimiliki client (opsional)
+     * @param acceptEncoding encoding yang diterima client
+     * @return ResponseEntity<byte[]> JSON daftar produk yang namanya mengandung kata kunci
+     */
+    @GetMapping("/search")
+    public ResponseEntity<byte[]> searchProductsByName(
+            @RequestParam String name,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return cachedResponse("search:" + name.toLowerCase(Locale.ROOT), ALL_FORMATS,
+                () -> productService.findProductsByName(name), accept, ifNoneMatch, acceptEncoding);
+    }
+
+    /**
+     * Endpoint pencarian nama produk dengan hanya field tertentu (sparse fieldset).
+     *
+     * @param name nama produk yang dicari (case insensitive)
+     * @param fields daftar field dipisahkan koma
+     * @param accept format yang diterima client (JSON, Smile, atau CBOR)
+     * @param ifNoneMatch ETag yang dimiliki client (opsional)
+     * @param acceptEncoding encoding yang diterima client
+     * @return ResponseEntity<byte[]> JSON produk berisi field yang diminta,
+     *         304 jika tidak berubah, atau 400 jika ada field yang tidak dikenali
+     */
+    @GetMapping(value = "/search", params = "fields")
+    public ResponseEntity<byte[]> searchProductsByName(
+            @RequestParam String name,
+            @RequestParam String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        Set<ProductField> selected;
+        try {
+            selected = ProductField.parse(fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return cachedResponse("search:" + name.toLowerCase(Locale.ROOT) + ":" + selected, PROJECTION_FORMATS,
+                () -> productService.findProductsByName(name, selected), accept, ifNoneMatch, acceptEncoding);
+    }
+
+    /**
+     * Endpoint autocomplete untuk kotak pencarian.
+     *
+     * <p>Hanya mengembalikan ID dan nama produk yang namanya diawali
+     * {@code prefix}, sehingga cukup ringan untuk dipanggil setiap ketikan.
+     *
+     * @param prefix awalan nama produk (case insensitive)
+     * @param limit jumlah maksimum saran, default 10
+     * @return ResponseEntity<List<ProductSuggestion>> daftar saran, atau 400 jika parameter tidak valid
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<ProductSuggestion>> suggestProducts(@RequestParam String prefix,
+                                                                   @RequestParam(defaultValue = "10") int limit) {
+        try {
+            return ResponseEntity.ok(productService.suggestProducts(prefix, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Endpoint pencarian full-text atas nama dan deskripsi produk.
+     *
+     * @param q teks yang dicari
+     * @param limit jumlah maksimum hasil, default 10
+     * @return ResponseEntity<List<ProductSearchHit>> hasil terurut dari yang paling relevan, atau 400 jika parameter tidak valid
+     */
+    @GetMapping("/fulltext")
+    public ResponseEntity<List<ProductSearchHit>> searchFullText(@RequestParam String q,
+                                                                 @RequestParam(defaultValue = "10") int limit) {
+        try {
+            return ResponseEntity.ok(productService.searchFullText(q, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Endpoint untuk mendapatkan produk dalam rentang harga, termurah lebih dulu.
+     *
+     * @param min harga minimum (inklusif)
+     * @param max harga maksimum (inklusif)
+     * @param limit jumlah maksimum produk, default 100
+     * @return ResponseEntity<List<Product>> produk terurut berdasarkan harga, atau 400 jika parameter tidak valid
+     */
+    @GetMapping("/price-range")
+    public ResponseEntity<List<Product>> getProductsByPriceRange(@RequestParam BigDecimal min,
+                                                                 @RequestParam BigDecimal max,
+                                                                 @RequestParam(defaultValue = "100") int limit) {
+        try {
+            return ResponseEntity.ok(productService.getProductsByPriceRange(min, max, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Endpoint untuk mendapatkan N produk termurah atau termahal.
+     *
+     * @param by kriteria urutan, default "price" (satu-satunya yang didukung)
+     * @param order "asc" untuk termurah lebih dulu atau "desc" untuk termahal lebih dulu
+     * @param n jumlah produk, default 10
+     * @param inStock hanya produk dengan stok, default false
+     * @return ResponseEntity<List<Product>> produk terurut, atau 400 jika parameter tidak valid
+     */
+    @GetMapping("/top")
+    public ResponseEntity<List<Product>> getTopProducts(@RequestParam(defaultValue = "price") String by,
+                                                        @RequestParam(defaultValue = "asc") String order,
+                                                        @RequestParam(defaultValue = "10") int n,
+                                                        @RequestParam(defaultValue = "false") boolean inStock) {
+        try {
+            boolean descending = switch (order.trim().toLowerCase(Locale.ROOT)) {
+                case "asc" -> false;
+                case "desc" -> true;
+                default -> throw new IllegalArgumentException("Unsupported order: " + order);
+            };
+            return ResponseEntity.ok(productService.getTopProducts(ProductSort.from(by), descending, n, inStock));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Endpoint untuk histogram harga dengan bucket selebar sama.
+     *
+     * @param min harga minimum (inklusif), default harga termurah
+     * @param max harga maksimum (inklusif), default harga termahal
+     * @param buckets jumlah bucket, default 10
+     * @return ResponseEntity<List<PriceBucket>> bucket terurut dari harga terendah, atau 400 jika parameter tidak valid
+     */
+    @GetMapping("/price-histogram")
+    public ResponseEntity<List<PriceBucket>> getPriceHistogram(@RequestParam(required = false) BigDecimal min,
+                                                               @RequestParam(required = false) BigDecimal max,
+                                                               @RequestParam(defaultValue = "10") int buckets) {
+        try {
+            return ResponseEntity.ok(productService.getPriceHistogram(min, max, buckets));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Endpoint untuk statistik agregat katalog: jumlah produk, total stok,
+     * jumlah produk habis, nilai inventori, dan harga min/max/rata-rata.
+     *
+     * <p>Dijawab dari agregat in-memory yang diperbarui per perubahan, sehingga
+     * biayanya tidak bergantung pada ukuran katalog.
+     *
+     * @return ResponseEntity<CatalogStats> statistik katalog saat ini
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<CatalogStats> getCatalogStats() {
+        return ResponseEntity.ok(catalogStatistics.stats());
+    }
+
+    /**
+     * Endpoint untuk mengekspor seluruh katalog produk sebagai newline-delimited JSON.
+     *
+     * <p>Setiap baris berisi satu produk. Data dikirim ke response per
+     * potongan {@value #EXPORT_CHUNK_BYTES} byte selama dibaca dari database,
+     * sehingga tidak ada list produk yang dibangun di memori. Export berjalan
+     * di executor aplikasi dengan timeout sendiri
+     * ({@code app.products.export.timeout-ms}); setelah timeout, pembacaan
+     * database dihentikan.
+     *
+     * @return ResponseEntity<ResponseBodyEmitter> stream NDJSON seluruh produk
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ResponseBodyEmitter> exportProducts() {
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(exportTimeoutMs);
+        exportExecutor.execute(() -> {
+            try {
+                ByteArrayOutputStream chunk = new ByteArrayOutputStream(EXPORT_CHUNK_BYTES + 1024);
+                JsonGenerator generator = objectMapper.getFactory().createGenerator(chunk);
+                generator.setRootValueSeparator(null);
+                productService.exportProducts(product -> {
+                    try {
+                        exportWriter.writeValue(generator, product);
+                        generator.writeRaw('\n');
+                        generator.flush();
+                        if (chunk.size() >= EXPORT_CHUNK_BYTES) {
+                            emitter.send(chunk.toByteArray(), MediaType.APPLICATION_NDJSON);
+                            chunk.reset();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.close();
+                if (chunk.size() > 0) {
+                    emitter.send(chunk.toByteArray(), MediaType.APPLICATION_NDJSON);
+                }
+                emitter.complete();
+            } catch (IOException | RuntimeException e) {
+                emitter.completeWithError(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(emitter);
+    }
+
+    /**
+     * Endpoint untuk mengunduh snapshot seluruh katalog sebagai file JSON terkompresi gzip.
+     *
+     * <p>File dibangun di latar belakang dan dikirim langsung dari disk,
+     * sehingga pemakaian heap tidak bergantung pada ukuran katalog. Mendukung
+     * header Range (206) untuk melanjutkan download, serta If-None-Match dan
+     * If-Modified-Since (304).
+     *
+     * @return ResponseEntity<Resource> file snapshot, atau 503 jika snapshot belum tersedia
+     */
+    @GetMapping("/snapshot")
+    public ResponseEntity<Resource> getCatalogSnapshot() {
+        return catalogSnapshotService.current()
+                .map(snapshot -> ResponseEntity.ok()
+                        .contentType(GZIP)
+                        .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                                .filename(CatalogSnapshotService.FILE_NAME).build().toString())
+                        .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                        .eTag(snapshot.eTag())
+                        .lastModified(snapshot.builtAt())
+                        .<Resource>body(new FileSystemResource(snapshot.path())))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, "5")
+                        .build());
+    }
+
+    /**
+     * Endpoint untuk membuat produk baru.
+     *
+     * @param product data produk yang akan dibuat
+     * @return ResponseEntity<Product> produk yang berhasil dibuat
+     */
+    @PostMapping
+    public ResponseEntity<Product> createProduct(@Valid @RequestBody Product product) {
+        Product createdProduct = productService.createProduct(product);
+        return withETag(ResponseEntity.status(HttpStatus.CREATED), createdProduct).body(createdProduct);
+    }
+
+    /**
+     * Endpoint untuk membuat banyak produk sekaligus.
+     *
+     * <p>Setiap item divalidasi sendiri; item yang gagal dilaporkan di
+     * {@code errors} tanpa membatalkan item lain.
+     *
+     * @param products daftar produk yang akan dibuat
+     * @return ResponseEntity<BulkResult> ringkasan hasil per item
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkResult> createProducts(@RequestBody List<Product> products) {
+        return ResponseEntity.ok(productBulkService.createProducts(products));
+    }
+
+    /**
+     * Varian POST dari multi-get untuk daftar ID yang terlalu panjang untuk query string.
+     *
+     * @param ids array JSON berisi ID produk
+     * @return ResponseEntity<List<Product>> produk yang ditemukan, atau 400 jika daftar tidak valid
+     */
+    @PostMapping("/lookup")
+    public ResponseEntity<List<Product>> lookupProducts(@RequestBody List<Long> ids) {
+        return multiGetResponse(ids);
+    }
+
+    /**
+     * Endpoint untuk mengupdate banyak produk sekaligus. Setiap item wajib memiliki ID.
+     *
+     * @param products daftar produk dengan data baru
+     * @return ResponseEntity<BulkResult> ringkasan hasil per item
+     */
+    @PutMapping("/bulk")
+    public ResponseEntity<BulkResult> updateProducts(@RequestBody List<Product> products) {
+        return ResponseEntity.ok(productBulkService.updateProducts(products));
+    }
+
+    /**
+     * Endpoint untuk mengupdate produk yang sudah ada.
+     *
+     * @param id ID produk yang akan diupdate
+     * @param product data produk baru
+     * @param ifMatch ETag yang terakhir dibaca client (opsional)
+     * @return ResponseEntity<Product> produk yang berhasil diupdate, atau 412 jika ETag tidak cocok
+     */
+    @PutMapping("/{id}")
+    public ResponseEntity<Product> updateProduct(@PathVariable Long id, @Valid @RequestBody Product product,
+                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+                                                 String ifMatch) {
+        try {
+            Product updatedProduct = ifMatch == null || ProductETags.isWildcard(ifMatch)
+                    ? productService.updateProduct(id, product)
+                    : productService.updateProduct(id, product, ProductETags.versionOf(ifMatch));
+            return withETag(ResponseEntity.ok(), updatedProduct).body(updatedProduct);
+        } catch (ProductVersionConflictException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        } catch (ProductNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * Endpoint untuk mengupdate sebagian field produk dengan JSON Merge Patch.
+     *
+     * <p>Hanya field yang dikirim yang divalidasi dan ditulis ke database;
+     * nilai null mengosongkan field tersebut.
+     *
+     * @param id ID produk yang akan diupdate
+     * @param patch dokumen merge patch berisi field yang berubah
+     * @param ifMatch ETag yang terakhir dibaca client (opsional)
+     * @return ResponseEntity<Product> produk setelah dipatch, 400 jika patch tidak valid,
+     *         atau 412 jika ETag tidak cocok
+     */
+    @PatchMapping(value = "/{id}", consumes = {MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<Product> patchProduct(@PathVariable Long id, @RequestBody JsonNode patch,
+                                                @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+                                                String ifMatch) {
+        try {
+            Long expectedVersion = ifMatch == null || ProductETags.isWildcard(ifMatch)
+                    ? null
+                    : ProductETags.versionOf(ifMatch);
+            Product patchedProduct = productPatchService.patchProduct(id, patch, expectedVersion);
+            return withETag(ResponseEntity.ok(), patchedProduct).body(patchedProduct);
+        } catch (ProductVersionConflictException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (ProductNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * Endpoint untuk menghapus produk.
+     *
+     * @param id ID produk yang akan dihapus
+     * @param ifMatch ETag yang terakhir dibaca client (opsional)
+     * @return ResponseEntity<Void> status response, 412 jika ETag tidak cocok
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteProduct(@PathVariable Long id,
+                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+                                              String ifMatch) {
+        try {
+            if (ifMatch == null || ProductETags.isWildcard(ifMatch)) {
+                productService.deleteProduct(id);
+            } else {
+                productService.deleteProduct(id, ProductETags.versionOf(ifMatch));
+            }
+            return ResponseEntity.noContent().build();
+        } catch (ProductVersionConflictException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        } catch (ProductNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    private ResponseEntity<byte[]> cachedResponse(String key, Set<ResponseFormat> formats, Supplier<?> loader,
+                                                  String accept, String ifNoneMatch, String acceptEncoding) {
+        ResponseFormat format = ResponseFormat.negotiate(accept, formats);
+        if (format == null) {
+            return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).build();
+        }
+        ResponseBodyCache.Entry entry = responseBodyCache.get(key, format, loader);
+        boolean gzip = entry.gzip() != null && ResponseBodyCache.acceptsGzip(acceptEncoding);
+        String eTag = gzip ? entry.gzipETag() : entry.eTag();
+        if (eTag != null && ProductETags.matchesNoneMatch(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (eTag != null) {
+            response.eTag(eTag);
+        }
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(entry.gzip());
+        }
+        return response.body(entry.body());
+    }
+
+    private ResponseEntity<List<Product>> multiGetResponse(List<Long> ids) {
+        try {
+            return ResponseEntity.ok(productService.getProductsByIds(ids));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Endpoint untuk mereservasi stok satu produk.
+     *
+     * @param id ID produk
+     * @param quantity jumlah yang direservasi
+     * @return 204 jika berhasil, 409 jika stok tidak cukup, 404 jika produk tidak ditemukan
+     */
+    @PostMapping("/{id}/stock/reserve")
+    public ResponseEntity<Void> reserveStock(@PathVariable Long id, @RequestParam int quantity) {
+        return stockResponse(() -> productStockService.reserveStock(id, quantity));
+    }
+
+    /**
+     * Endpoint untuk mengembalikan stok satu produk.
+     *
+     * @param id ID produk
+     * @param quantity jumlah yang dilepas
+     * @return 204 jika berhasil, 404 jika produk tidak ditemukan
+     */
+    @PostMapping("/{id}/stock/release")
+    public ResponseEntity<Void> releaseStock(@PathVariable Long id, @RequestParam int quantity) {
+        return stockResponse(() -> productStockService.releaseStock(id, quantity));
+    }
+
+    /**
+     * Endpoint untuk mereservasi stok seluruh isi keranjang secara atomik.
+     *
+     * @param items daftar produk dan jumlahnya
+     * @return 204 jika semua item berhasil, 409 jika ada item yang stoknya tidak cukup
+     */
+    @PostMapping("/stock/reserve")
+    public ResponseEntity<Void> reserveStock(@RequestBody List<StockItem> items) {
+        return stockResponse(() -> productStockService.reserveStock(items));
+    }
+
+    /**
+     * Endpoint untuk mengembalikan stok seluruh isi keranjang secara atomik.
+     *
+     * @param items daftar produk dan jumlahnya
+     * @return 204 jika semua item berhasil, 404 jika ada produk yang tidak ditemukan
+     */
+    @PostMapping("/stock/release")
+    public ResponseEntity<Void> releaseStock(@RequestBody List<StockItem> items) {
+        return stockResponse(() -> productStockService.releaseStock(items));
+    }
+
+    private static ResponseEntity.BodyBuilder withETag(ResponseEntity.BodyBuilder builder, Product product) {
+        String eTag = ProductETags.of(product);
+        return eTag == null ? builder : builder.eTag(eTag);
+    }
+
+    private ResponseEntity<Void> stockResponse(Runnable operation) {
+        try {
+            operation.run();
+            return ResponseEntity.noContent().build();
+        } catch (InsufficientStockException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (ProductNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.demo.controller;
+
+import com.example.demo.model.Product;
+
+/**
+ * Utilitas ETag produk berbasis kolom {@code version}.
+ *
+ * <p>ETag berbentuk strong validator {@code "<version>"}. If-None-Match
+ * memakai perbandingan weak (prefix {@code W/} diabaikan), sedangkan
+ * If-Match memakai perbandingan strong sesuai RFC 9110.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class ProductETags {
+
+    /** Version yang tidak mungkin ada, dipakai untuk ETag If-Match yang tidak dikenali. */
+    static final long UNKNOWN_VERSION = -1L;
+
+    private ProductETags() {
+    }
+
+    /**
+     * @return ETag untuk produk, atau null jika produk belum memiliki version
+     */
+    static String of(Product product) {
+        return product.getVersion() == null ? null : "\"" + product.getVersion() + "\"";
+    }
+
+    /**
+     * Mengecek header If-None-Match terhadap ETag saat ini.
+     */
+    static boolean matchesNoneMatch(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || eTag == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || stripWeak(tag).equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean isWildcard(String ifMatch) {
+        return ifMatch.trim().equals("*");
+    }
+
+    /**
+     * Mengambil version dari header If-Match berisi satu strong ETag.
+     *
+     * @return version, atau {@link #UNKNOWN_VERSION} jika ETag tidak dikenali
+     *         (weak, lebih dari satu, atau bukan angka) sehingga update bersyarat pasti gagal
+     */
+    static long versionOf(String ifMatch) {
+        String tag = ifMatch.trim();
+        if (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            return UNKNOWN_VERSION;
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            return UNKNOWN_VERSION;
+        }
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.demo.controller;
+
+import com.example.demo.codec.ProductProtobufCodec;
+import com.example.demo.config.ProductProperties;
+import com.example.demo.model.Product;
+import com.example.demo.service.CatalogGeneration;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache body respons yang sudah diserialisasi (dan opsional dikompres gzip).
+ *
+ * <p>Key berisi endpoint, parameternya, dan {@link ResponseFormat}; setiap
+ * format (JSON, Smile, CBOR, Protobuf) disimpan sebagai entry terpisah. Setiap entry mencatat
+ * {@link CatalogGeneration} saat data dibaca; entry dari generasi lama
+ * dianggap kedaluwarsa dan dibuat ulang pada request berikutnya. Generasi
+ * dibaca sebelum query, sehingga perubahan yang terjadi selama query membuat
+ * entry langsung usang, bukan menyimpan data lama dengan generasi baru.
+ *
+ * <p>ETag dihitung dari isi body (strong), sehingga berbeda per format dan
+ * tetap sama jika perubahan katalog tidak mempengaruhi hasil endpoint tersebut.
+ *
+ * <p>Jumlah hit dan miss dicatat di metric {@code products.response.cache}.
+ *
+ * @author Harist Islami
+ * @version 1.1
+ * @since 2026-10-18
+ */
+@Component
+class ResponseBodyCache {
+
+    private final CatalogGeneration catalogGeneration;
+    private final ProductProperties.ResponseCache settings;
+    private final Map<ResponseFormat, ObjectWriter> writers = new EnumMap<>(ResponseFormat.class);
+    private final Cache<String, Entry> entries;
+    private final Counter hits;
+    private final Counter misses;
+
+    @Autowired
+    ResponseBodyCache(CatalogGeneration catalogGeneration,
+                      ProductProperties properties,
+                      ObjectMapper objectMapper,
+                      MappingJackson2SmileHttpMessageConverter smileConverter,
+                      MappingJackson2CborHttpMessageConverter cborConverter,
+                      MeterRegistry meterRegistry) {
+        this.catalogGeneration = catalogGeneration;
+        this.settings = properties.getResponseCache();
+        writers.put(ResponseFormat.JSON, objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT));
+        writers.put(ResponseFormat.SMILE, smileConverter.getObjectMapper().writer());
+        writers.put(ResponseFormat.CBOR, cborConverter.getObjectMapper().writer());
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(settings.getMaxSizeBytes())
+                .weigher((String key, Entry entry) -> entry.size())
+                .build();
+        this.hits = counter(meterRegistry, "hit");
+        this.misses = counter(meterRegistry, "miss");
+    }
+
+    /**
+     * Mengembalikan body untuk {@code key}, atau membuatnya dari {@code loader} jika
+     * belum ada atau sudah usang. Jika cache dimatikan, body selalu dibuat ulang
+     * dan tidak memiliki ETag.
+     *
+     * @param key endpoint dan parameter yang sudah dinormalisasi
+     * @param format format body; {@link ResponseFormat#PROTOBUF} hanya untuk {@code List<Product>}
+     * @param loader penghasil objek yang akan diserialisasi
+     * @return body yang siap dikirim
+     */
+    Entry get(String key, ResponseFormat format, Supplier<?> loader) {
+        if (!settings.isEnabled()) {
+            return new Entry(-1, serialize(format, loader.get()), null, null);
+        }
+        long generation = catalogGeneration.current();
+        String formatKey = key + "|" + format;
+        Entry entry = entries.getIfPresent(formatKey);
+        if (entry != null && entry.generation() == generation) {
+            hits.increment();
+            return entry;
+        }
+        misses.increment();
+        byte[] body = serialize(format, loader.get());
+        byte[] gzip = settings.isGzip() && body.length >= settings.getGzipMinBytes() ? gzip(body) : null;
+        Entry created = new Entry(generation, body, gzip, eTag(body));
+        entries.put(formatKey, created);
+        return created;
+    }
+
+    void clear() {
+        entries.invalidateAll();
+    }
+
+    /**
+     * Mengecek apakah header Accept-Encoding menerima gzip (termasuk {@code *}), dengan memperhatikan {@code q=0}.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.split(";");
+            String coding = tokens[0].trim();
+            if (!coding.equalsIgnoreCase("gzip") && !coding.equals("*")) {
+                continue;
+            }
+            boolean rejected = false;
+            for (int i = 1; i < tokens.length; i++) {
+                String parameter = tokens[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        rejected = Double.parseDouble(parameter.substring(2)) <= 0;
+                    } catch (NumberFormatException e) {
+                        rejected = true;
+                    }
+                }
+            }
+            if (!rejected) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private byte[] serialize(ResponseFormat format, Object body) {
+        try {
+            if (format == ResponseFormat.PROTOBUF) {
+                ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+                ProductProtobufCodec.writeProducts((List<Product>) body, buffer);
+                return buffer.toByteArray();
+            }
+            return writers.get(format).writeValueAsBytes(body);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to serialize response", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static String eTag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("products.response.cache")
+                .description("Serialized list/search responses served from cache or rebuilt")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Body yang sudah diserialisasi.
+     *
+     * @param generation generasi katalog saat data dibaca
+     * @param body body tanpa kompresi
+     * @param gzip body terkompresi gzip, atau null jika tidak dikompres
+     * @param eTag strong ETag dari isi body, atau null jika cache dimatikan
+     */
+    record Entry(long generation, byte[] body, byte[] gzip, String eTag) {
+
+        int size() {
+            return body.length + (gzip == null ? 0 : gzip.length);
+        }
+
+        /** ETag untuk representasi gzip, dibedakan dari representasi tanpa kompresi. */
+        String gzipETag() {
+            return eTag == null ? null : eTag.substring(0, eTag.length() - 1) + "-gzip\"";
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.demo.controller;
+
+import com.example.demo.codec.ProductProtobufHttpMessageConverter;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Format body yang bisa dipilih client lewat header Accept pada endpoint yang di-cache.
+ *
+ * <p>Endpoint lain memakai content negotiation bawaan Spring MVC lewat
+ * HttpMessageConverter; enum ini hanya dipakai oleh {@link ResponseBodyCache}
+ * yang menyimpan body yang sudah diserialisasi per format.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+enum ResponseFormat {
+    JSON(MediaType.APPLICATION_JSON),
+    SMILE(MediaType.parseMediaType("application/x-jackson-smile")),
+    CBOR(MediaType.parseMediaType("application/cbor")),
+    PROTOBUF(ProductProtobufHttpMessageConverter.PROTOBUF);
+
+    private final MediaType mediaType;
+
+    ResponseFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    MediaType mediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Memilih format dari header Accept: quality tertinggi menang, lalu format yang
+     * disebut paling spesifik, lalu urutan enum (JSON lebih dulu).
+     *
+     * @param accept nilai header Accept, null atau kosong berarti JSON
+     * @param supported format yang bisa dihasilkan endpoint
+     * @return format terpilih, atau null jika tidak ada yang diterima client (406)
+     */
+    static ResponseFormat negotiate(String accept, Set<ResponseFormat> supported) {
+        if (accept == null || accept.isBlank()) {
+            return JSON;
+        }
+        List<MediaType> ranges;
+        try {
+            ranges = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return null;
+        }
+        ResponseFormat best = null;
+        double bestQuality = 0;
+        int bestSpecificity = -1;
+        for (ResponseFormat format : values()) {
+            if (!supported.contains(format)) {
+                continue;
+            }
+            // Quality sebuah format ditentukan oleh range paling spesifik yang mencakupnya.
+            double quality = 0;
+            int specificity = -1;
+            for (MediaType range : ranges) {
+                int rangeSpecificity = range.isWildcardType() ? 0 : range.isWildcardSubtype() ? 1 : 2;
+                if (range.includes(format.mediaType) && rangeSpecificity > specificity) {
+                    quality = range.getQualityValue();
+                    specificity = rangeSpecificity;
+                }
+            }
+            if (quality > bestQuality || (quality == bestQuality && quality > 0 && specificity > bestSpecificity)) {
+                best = format;
+                bestQuality = quality;
+                bestSpecificity = specificity;
+            }
+        }
+        return best;
+    }
+}
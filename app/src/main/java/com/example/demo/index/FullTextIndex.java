@@ -0,0 +1,259 @@
+package com.example.demo.index;
+
+import com.example.demo.model.Product;
+import com.example.demo.model.ProductSearchHit;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index in-memory atas nama dan deskripsi produk dengan skor BM25.
+ *
+ * <p>Teks dipecah menjadi token huruf/angka yang di-lowercase. Token dari nama
+ * dihitung {@link #NAME_BOOST} kali agar kecocokan di nama lebih relevan
+ * daripada di deskripsi. Setiap term menyimpan posting list ID produk beserta
+ * term frequency dan panjang dokumen, sehingga skor dihitung tanpa lookup
+ * tambahan. Hasil teratas dipilih dengan min-heap berukuran {@code limit}.
+ *
+ * <p>Index ini menyimpan nama produk sendiri sehingga query tidak pernah
+ * menyentuh tabel {@code products}.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class FullTextIndex implements ProductIndex {
+
+    static final int NAME_BOOST = 3;
+    static final double K1 = 1.2;
+    static final double B = 0.75;
+
+    private static final Comparator<ProductSearchHit> BY_RELEVANCE = Comparator
+            .comparingDouble(ProductSearchHit::getScore).reversed()
+            .thenComparing(ProductSearchHit::getId);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, TermPostings> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private long totalLength;
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(Product product) {
+        Document document = analyze(product);
+        lock.writeLock().lock();
+        try {
+            add(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Tokenisasi seluruh batch dikerjakan paralel, lalu hasilnya dimasukkan
+     * ke index dalam satu kali write lock.
+     */
+    @Override
+    public void indexAll(List<Product> products) {
+        List<Document> analyzed = products.parallelStream().map(FullTextIndex::analyze).toList();
+        lock.writeLock().lock();
+        try {
+            analyzed.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            unlink(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Mencari produk yang paling relevan dengan query.
+     *
+     * @param query teks bebas
+     * @param limit jumlah maksimum hasil
+     * @return hasil terurut dari skor tertinggi
+     */
+    public List<ProductSearchHit> search(String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        lock.readLock().lock();
+        try {
+            if (documents.isEmpty() || terms.isEmpty()) {
+                return List.of();
+            }
+            double averageLength = (double) totalLength / documents.size();
+            Map<Long, Double> scores = new HashMap<>();
+            for (String term : terms) {
+                TermPostings termPostings = postings.get(term);
+                if (termPostings == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documents.size() - termPostings.size + 0.5) / (termPostings.size + 0.5));
+                for (int i = 0; i < termPostings.size; i++) {
+                    int tf = termPostings.frequencies[i];
+                    double norm = K1 * (1 - B + B * termPostings.lengths[i] / averageLength);
+                    scores.merge(termPostings.ids[i], idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+                }
+            }
+
+            PriorityQueue<ProductSearchHit> top = new PriorityQueue<>(limit + 1, BY_RELEVANCE.reversed());
+            for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                if (top.size() < limit || entry.getValue() > top.peek().getScore()) {
+                    top.add(new ProductSearchHit(entry.getKey(), documents.get(entry.getKey()).name, entry.getValue()));
+                    if (top.size() > limit) {
+                        top.poll();
+                    }
+                }
+            }
+            List<ProductSearchHit> hits = new ArrayList<>(top);
+            hits.sort(BY_RELEVANCE);
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Memecah teks menjadi token huruf/angka yang di-lowercase.
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean tokenChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (tokenChar && start < 0) {
+                start = i;
+            } else if (!tokenChar && start >= 0) {
+                tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static Document analyze(Product product) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : tokenize(product.getName())) {
+            frequencies.merge(token, NAME_BOOST, Integer::sum);
+        }
+        for (String token : tokenize(product.getDescription())) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+        return new Document(product.getId(), product.getName(), frequencies, length);
+    }
+
+    private void add(Document document) {
+        unlink(document.id);
+        documents.put(document.id, document);
+        totalLength += document.length;
+        document.frequencies.forEach((term, frequency) ->
+                postings.computeIfAbsent(term, key -> new TermPostings()).add(document.id, frequency, document.length));
+    }
+
+    private void unlink(Long id) {
+        Document previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        totalLength -= previous.length;
+        for (String term : previous.frequencies.keySet()) {
+            TermPostings termPostings = postings.get(term);
+            if (termPostings != null && termPostings.remove(id) && termPostings.size == 0) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    private record Document(Long id, String name, Map<String, Integer> frequencies, int length) {
+    }
+
+    /**
+     * Posting list satu term: ID terurut naik dengan term frequency dan panjang dokumen.
+     */
+    private static final class TermPostings {
+        private long[] ids = new long[2];
+        private int[] frequencies = new int[2];
+        private int[] lengths = new int[2];
+        private int size;
+
+        void add(long id, int frequency, int length) {
+            int position = size > 0 && ids[size - 1] < id ? -size - 1 : Arrays.binarySearch(ids, 0, size, id);
+            if (position >= 0) {
+                frequencies[position] = frequency;
+                lengths[position] = length;
+                return;
+            }
+            int insertAt = -position - 1;
+            if (size == ids.length) {
+                int capacity = ids.length + (ids.length >> 1) + 1;
+                ids = Arrays.copyOf(ids, capacity);
+                frequencies = Arrays.copyOf(frequencies, capacity);
+                lengths = Arrays.copyOf(lengths, capacity);
+            }
+            int tail = size - insertAt;
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, tail);
+            System.arraycopy(frequencies, insertAt, frequencies, insertAt + 1, tail);
+            System.arraycopy(lengths, insertAt, lengths, insertAt + 1, tail);
+            ids[insertAt] = id;
+            frequencies[insertAt] = frequency;
+            lengths[insertAt] = length;
+            size++;
+        }
+
+        boolean remove(long id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position < 0) {
+                return false;
+            }
+            int tail = size - position - 1;
+            System.arraycopy(ids, position + 1, ids, position, tail);
+            System.arraycopy(frequencies, position + 1, frequencies, position, tail);
+            System.arraycopy(lengths, position + 1, lengths, position, tail);
+            size--;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.demo.index;
+
+import java.util.Arrays;
+
+/**
+ * Posting list berisi ID produk yang terurut naik dalam array {@code long[]} primitif.
+ *
+ * <p>Karena ID baru hampir selalu lebih besar dari ID yang sudah ada, penambahan
+ * umumnya hanya append di akhir array. Kelas ini tidak thread-safe; pemanggil
+ * bertanggung jawab atas sinkronisasi.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class LongPostingList {
+
+    private long[] ids = new long[4];
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    long get(int index) {
+        return ids[index];
+    }
+
+    /**
+     * Menambahkan ID pada posisi terurutnya. ID yang sudah ada diabaikan.
+     */
+    void add(long id) {
+        if (size > 0 && ids[size - 1] < id) {
+            ensureCapacity();
+            ids[size++] = id;
+            return;
+        }
+        int position = Arrays.binarySearch(ids, 0, size, id);
+        if (position >= 0) {
+            return;
+        }
+        int insertAt = -position - 1;
+        ensureCapacity();
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        size++;
+    }
+
+    void remove(long id) {
+        int position = Arrays.binarySearch(ids, 0, size, id);
+        if (position < 0) {
+            return;
+        }
+        System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+        size--;
+    }
+
+    boolean contains(long id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    /**
+     * Mengembalikan salinan ID dalam urutan naik.
+     */
+    long[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    /**
+     * Menyaring {@code candidates} (terurut naik) sehingga hanya menyisakan ID
+     * yang juga ada di posting list ini.
+     *
+     * @param candidates ID kandidat terurut naik
+     * @param length jumlah kandidat yang valid
+     * @return jumlah kandidat yang tersisa, ditulis ulang di awal {@code candidates}
+     */
+    int retainAll(long[] candidates, int length) {
+        int kept = 0;
+        int from = 0;
+        for (int i = 0; i < length && from < size; i++) {
+            int position = Arrays.binarySearch(ids, from, size, candidates[i]);
+            if (position >= 0) {
+                candidates[kept++] = candidates[i];
+                from = position + 1;
+            } else {
+                from = -position - 1;
+            }
+        }
+        return kept;
+    }
+
+    private void ensureCapacity() {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length + (ids.length >> 1) + 1);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.demo.index;
+
+import com.example.demo.model.Product;
+import com.example.demo.model.ProductSuggestion;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Index prefix nama produk untuk autocomplete.
+ *
+ * <p>Nama produk di-lowercase lalu disimpan dalam map terurut
+ * (nama ter-fold, ID) → nama asli. Semua nama dengan prefix tertentu berada
+ * dalam satu rentang kunci yang bersebelahan, sehingga saran didapat dengan
+ * satu pencarian O(log n) lalu membaca {@code limit} entri berikutnya.
+ * Map ini lock-free sehingga pembaruan dari jalur tulis tidak memblokir
+ * request autocomplete.
+ *
+ * <p>Pergantian kunci satu produk dilakukan di dalam {@code keysById.compute}
+ * sehingga index dan remove untuk ID yang sama berjalan berurutan dan tidak
+ * meninggalkan kunci lama di {@code entries}.
+ *
+ * @author Harist Islami
+ * @version 1.1
+ * @since 2026-10-18
+ */
+@Component
+public class PrefixIndex implements ProductIndex {
+
+    private final ConcurrentSkipListMap<Key, String> entries = new ConcurrentSkipListMap<>();
+    private final Map<Long, Key> keysById = new ConcurrentHashMap<>();
+
+    @Override
+    public void clear() {
+        entries.clear();
+        keysById.clear();
+    }
+
+    @Override
+    public void index(Product product) {
+        Key key = new Key(fold(product.getName()), product.getId());
+        keysById.compute(product.getId(), (id, previous) -> {
+            if (previous != null && !previous.equals(key)) {
+                entries.remove(previous);
+            }
+            entries.put(key, product.getName());
+            return key;
+        });
+    }
+
+    @Override
+    public void remove(Long id) {
+        keysById.computeIfPresent(id, (ignored, previous) -> {
+            entries.remove(previous);
+            return null;
+        });
+    }
+
+    /**
+     * Mencari produk yang namanya diawali {@code prefix} (case insensitive).
+     *
+     * @param prefix awalan nama produk
+     * @param limit jumlah maksimum saran
+     * @return saran produk terurut berdasarkan nama
+     */
+    public List<ProductSuggestion> suggest(String prefix, int limit) {
+        String folded = fold(prefix);
+        ConcurrentNavigableMap<Key, String> range = entries.subMap(
+                new Key(folded, Long.MIN_VALUE), true,
+                new Key(folded + Character.MAX_VALUE, Long.MIN_VALUE), false);
+        List<ProductSuggestion> suggestions = new ArrayList<>(Math.min(limit, 16));
+        for (Map.Entry<Key, String> entry : range.entrySet()) {
+            if (suggestions.size() == limit) {
+                break;
+            }
+            suggestions.add(new ProductSuggestion(entry.getKey().id(), entry.getValue()));
+        }
+        return suggestions;
+    }
+
+    public int size() {
+        return keysById.size();
+    }
+
+    private static String fold(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private record Key(String name, long id) implements Comparable<Key> {
+        @Override
+        public int compareTo(Key other) {
+            int byName = name.compareTo(other.name);
+            return byName != 0 ? byName : Long.compare(id, other.id);
+        }
+    }
+}
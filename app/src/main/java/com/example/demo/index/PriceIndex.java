@@ -0,0 +1,184 @@
+package com.example.demo.index;
+
+import com.example.demo.model.Product;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Index harga produk untuk rentang harga, top-N, dan histogram.
+ *
+ * <p>Setiap produk disimpan sebagai kunci (harga dalam sen, ID) di set
+ * terurut yang lock-free. Rentang harga adalah satu subset yang
+ * bersebelahan, sehingga query cukup satu pencarian O(log n) lalu membaca
+ * entri berikutnya; histogram hanya menghitung kunci tanpa menyentuh
+ * entity produk.
+ *
+ * <p>Index baru dianggap siap setelah rebuild pertama selesai. Selama
+ * belum siap (atau sedang dibangun ulang) pemanggil harus memakai query
+ * database.
+ *
+ * <p>Seperti {@link PrefixIndex}, kunci satu produk diganti di dalam
+ * {@code keysById.compute} agar tidak ada kunci lama yang tertinggal.
+ * Batas rentang yang melebihi {@code long} sen dijenuhkan ke
+ * {@link Long#MIN_VALUE}/{@link Long#MAX_VALUE} alih-alih melempar exception.
+ *
+ * @author Harist Islami
+ * @version 1.1
+ * @since 2026-10-18
+ */
+@Component
+public class PriceIndex implements ProductIndex {
+
+    private final ConcurrentSkipListSet<Key> entries = new ConcurrentSkipListSet<>();
+    private final Map<Long, Key> keysById = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    @Override
+    public void clear() {
+        ready = false;
+        entries.clear();
+        keysById.clear();
+    }
+
+    @Override
+    public void index(Product product) {
+        Key key = new Key(toCents(product.getPrice()), product.getId());
+        keysById.compute(product.getId(), (id, previous) -> {
+            if (previous != null && !previous.equals(key)) {
+                entries.remove(previous);
+            }
+            entries.add(key);
+            return key;
+        });
+    }
+
+    @Override
+    public void remove(Long id) {
+        keysById.computeIfPresent(id, (ignored, previous) -> {
+            entries.remove(previous);
+            return null;
+        });
+    }
+
+    @Override
+    public void rebuildCompleted() {
+        ready = true;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * ID produk dengan harga dalam {@code [min, max]}, terurut berdasarkan harga lalu ID.
+     *
+     * @param min harga minimum (inklusif)
+     * @param max harga maksimum (inklusif)
+     * @param limit jumlah maksimum ID
+     */
+    public List<Long> range(BigDecimal min, BigDecimal max, int limit) {
+        long minCents = boundCents(min, RoundingMode.CEILING);
+        long maxCents = boundCents(max, RoundingMode.FLOOR);
+        List<Long> ids = new ArrayList<>(Math.min(limit, 256));
+        if (minCents > maxCents) {
+            return ids;
+        }
+        for (Key key : entries.subSet(new Key(minCents, Long.MIN_VALUE), true, new Key(maxCents, Long.MAX_VALUE), true)) {
+            if (ids.size() == limit) {
+                break;
+            }
+            ids.add(key.id());
+        }
+        return ids;
+    }
+
+    /**
+     * Iterator ID produk dari yang termurah atau termahal. Iterator bersifat
+     * weakly consistent: perubahan bersamaan boleh terlihat atau tidak.
+     *
+     * @param descending true untuk termahal lebih dulu
+     */
+    public Iterator<Long> idsByPrice(boolean descending) {
+        NavigableSet<Key> ordered = descending ? entries.descendingSet() : entries;
+        Iterator<Key> keys = ordered.iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return keys.hasNext();
+            }
+
+            @Override
+            public Long next() {
+                return keys.next().id();
+            }
+        };
+    }
+
+    /** Harga termurah dalam sen, atau kosong jika index kosong. */
+    public OptionalLong minCents() {
+        Key first = entries.ceiling(new Key(Long.MIN_VALUE, Long.MIN_VALUE));
+        return first == null ? OptionalLong.empty() : OptionalLong.of(first.cents());
+    }
+
+    /** Harga termahal dalam sen, atau kosong jika index kosong. */
+    public OptionalLong maxCents() {
+        Key last = entries.floor(new Key(Long.MAX_VALUE, Long.MAX_VALUE));
+        return last == null ? OptionalLong.empty() : OptionalLong.of(last.cents());
+    }
+
+    /**
+     * Menghitung jumlah produk per bucket harga dengan lebar sama.
+     *
+     * <p>Bucket ke-i mencakup harga {@code [fromCents + i * width, fromCents + (i + 1) * width)}
+     * dalam sen; bucket terakhir dipotong di {@code toCents} (inklusif).
+     *
+     * @param fromCents batas bawah bucket pertama
+     * @param toCents harga tertinggi yang dihitung
+     * @param width lebar setiap bucket dalam sen
+     * @param buckets jumlah bucket
+     * @return jumlah produk per bucket
+     */
+    public long[] histogram(long fromCents, long toCents, long width, int buckets) {
+        long[] counts = new long[buckets];
+        for (Key key : entries.subSet(new Key(fromCents, Long.MIN_VALUE), true, new Key(toCents, Long.MAX_VALUE), true)) {
+            counts[(int) Math.min((key.cents() - fromCents) / width, buckets - 1)]++;
+        }
+        return counts;
+    }
+
+    public int size() {
+        return keysById.size();
+    }
+
+    static long toCents(BigDecimal price) {
+        return price.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /** Seperti {@link #toCents(BigDecimal)} tetapi jenuh di batas {@code long} untuk batas rentang. */
+    static long boundCents(BigDecimal bound, RoundingMode rounding) {
+        BigInteger cents = bound.setScale(2, rounding).unscaledValue();
+        if (cents.bitLength() < Long.SIZE) {
+            return cents.longValue();
+        }
+        return cents.signum() > 0 ? Long.MAX_VALUE : Long.MIN_VALUE;
+    }
+
+    private record Key(long cents, long id) implements Comparable<Key> {
+        @Override
+        public int compareTo(Key other) {
+            int byPrice = Long.compare(cents, other.cents);
+            return byPrice != 0 ? byPrice : Long.compare(id, other.id);
+        }
+    }
+}
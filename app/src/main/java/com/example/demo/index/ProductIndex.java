@@ -0,0 +1,54 @@
+package com.example.demo.index;
+
+import com.example.demo.model.Product;
+
+import java.util.List;
+
+/**
+ * Kontrak untuk struktur data in-memory yang dibangun dari tabel {@code products}.
+ *
+ * <p>Implementasi dibangun ulang oleh {@link ProductIndexer} saat startup lalu
+ * diperbarui secara inkremental dari setiap perubahan di ProductService.
+ * Semua method harus thread-safe.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface ProductIndex {
+
+    /**
+     * Menghapus seluruh isi index sebelum dibangun ulang.
+     */
+    void clear();
+
+    /**
+     * Menambahkan produk ke index, atau mengganti entri lama dengan ID yang sama.
+     *
+     * @param product produk yang sudah tersimpan (ID tidak null)
+     */
+    void index(Product product);
+
+    /**
+     * Menambahkan satu batch produk, dipakai saat rebuild. Implementasi boleh
+     * meng-override untuk memproses batch secara paralel.
+     *
+     * @param products produk yang sudah tersimpan
+     */
+    default void indexAll(List<Product> products) {
+        products.forEach(this::index);
+    }
+
+    /**
+     * Menghapus produk dari index. Tidak melakukan apa-apa jika ID tidak ada.
+     *
+     * @param id ID produk
+     */
+    void remove(Long id);
+
+    /**
+     * Dipanggil setelah rebuild selesai, sebelum perubahan inkremental berikutnya.
+     */
+    default void rebuildCompleted() {
+    }
+}
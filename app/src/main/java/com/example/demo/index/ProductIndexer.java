@@ -0,0 +1,85 @@
+package com.example.demo.index;
+
+import com.example.demo.model.Product;
+import com.example.demo.repository.ProductRepository;
+import com.example.demo.service.ProductChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Menjaga seluruh {@link ProductIndex} tetap sinkron dengan tabel {@code products}.
+ *
+ * <p>Saat startup (sebelum web server menerima request) seluruh produk dibaca
+ * per halaman dengan query keyset lalu dimasukkan ke setiap index. Setiap
+ * halaman diproses oleh semua index secara paralel, sementara halaman
+ * berikutnya sudah dibaca dari database. Setelah itu
+ * setiap {@link ProductChangedEvent} diteruskan ke semua index setelah
+ * transaksinya commit.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class ProductIndexer implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductIndexer.class);
+
+    static final int REBUILD_BATCH_SIZE = 5000;
+
+    private final ProductRepository productRepository;
+    private final List<ProductIndex> indexes;
+
+    @Autowired
+    public ProductIndexer(ProductRepository productRepository, List<ProductIndex> indexes) {
+        this.productRepository = productRepository;
+        this.indexes = indexes;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    /**
+     * Membangun ulang semua index dari database.
+     */
+    public void rebuild() {
+        long start = System.nanoTime();
+        indexes.forEach(ProductIndex::clear);
+        long lastId = 0L;
+        long count = 0L;
+        CompletableFuture<Void> pending = CompletableFuture.completedFuture(null);
+        List<Product> batch = productRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(REBUILD_BATCH_SIZE));
+        while (!batch.isEmpty()) {
+            List<Product> current = batch;
+            pending.join();
+            pending = CompletableFuture.runAsync(
+                    () -> indexes.parallelStream().forEach(index -> index.indexAll(current)));
+            count += batch.size();
+            lastId = batch.get(batch.size() - 1).getId();
+            batch = productRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(REBUILD_BATCH_SIZE));
+        }
+        pending.join();
+        indexes.forEach(ProductIndex::rebuildCompleted);
+        log.info("Rebuilt {} product indexes from {} rows in {} ms",
+                indexes.size(), count, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.getType() == ProductChangedEvent.Type.DELETED) {
+            indexes.forEach(index -> index.remove(event.getId()));
+        } else {
+            indexes.forEach(index -> index.index(event.getProduct()));
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.demo.index;
+
+import com.example.demo.model.Product;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Index trigram in-memory atas nama produk untuk pencarian substring.
+ *
+ * <p>Setiap nama di-lowercase lalu dipecah menjadi seluruh potongan tiga
+ * karakter berurutan. Untuk setiap trigram disimpan posting list ID produk.
+ * Query substring dijawab dengan mengiris posting list dari semua trigram
+ * query (dimulai dari yang terpendek), lalu kandidat diverifikasi terhadap
+ * nama lengkap karena trigram yang cocok belum tentu bersebelahan.
+ *
+ * <p>Query yang lebih pendek dari {@link #GRAM_LENGTH} karakter tidak bisa
+ * dijawab index ini; lihat {@link #supports(String)}.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class TrigramIndex implements ProductIndex {
+
+    public static final int GRAM_LENGTH = 3;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, String> names = new HashMap<>();
+    private final Map<Long, LongPostingList> postings = new HashMap<>();
+
+    /**
+     * Mengecek apakah query cukup panjang untuk dijawab oleh index.
+     *
+     * @param query kata kunci pencarian
+     * @return true jika query memiliki minimal satu trigram
+     */
+    public static boolean supports(String query) {
+        return fold(query).length() >= GRAM_LENGTH;
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            names.clear();
+            postings.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(Product product) {
+        String name = fold(product.getName());
+        lock.writeLock().lock();
+        try {
+            String previous = names.put(product.getId(), name);
+            if (previous != null) {
+                if (previous.equals(name)) {
+                    return;
+                }
+                unlink(product.getId(), previous);
+            }
+            for (long gram : grams(name)) {
+                postings.computeIfAbsent(gram, key -> new LongPostingList()).add(product.getId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            String previous = names.remove(id);
+            if (previous != null) {
+                unlink(id, previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Mencari ID produk yang namanya mengandung {@code query} (case insensitive).
+     *
+     * @param query kata kunci dengan minimal {@link #GRAM_LENGTH} karakter
+     * @return ID produk yang cocok, terurut naik
+     * @throws IllegalArgumentException jika query terlalu pendek
+     */
+    public List<Long> search(String query) {
+        String folded = fold(query);
+        if (folded.length() < GRAM_LENGTH) {
+            throw new IllegalArgumentException("Query must have at least " + GRAM_LENGTH + " characters");
+        }
+        lock.readLock().lock();
+        try {
+            List<LongPostingList> lists = new ArrayList<>();
+            for (long gram : grams(folded)) {
+                LongPostingList list = postings.get(gram);
+                if (list == null) {
+                    return List.of();
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(LongPostingList::size));
+
+            long[] candidates = lists.get(0).toArray();
+            int length = candidates.length;
+            for (int i = 1; i < lists.size() && length > 0; i++) {
+                length = lists.get(i).retainAll(candidates, length);
+            }
+
+            List<Long> matches = new ArrayList<>(length);
+            for (int i = 0; i < length; i++) {
+                if (names.get(candidates[i]).contains(folded)) {
+                    matches.add(candidates[i]);
+                }
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Jumlah produk yang ada di index.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return names.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void unlink(Long id, String name) {
+        for (long gram : grams(name)) {
+            LongPostingList list = postings.get(gram);
+            if (list != null) {
+                list.remove(id);
+                if (list.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static String fold(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Trigram unik dari string, masing-masing dikemas menjadi satu long (3 x 16 bit).
+     */
+    private static Set<Long> grams(String value) {
+        Set<Long> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+            grams.add(((long) value.charAt(i) << 32) | ((long) value.charAt(i + 1) << 16) | value.charAt(i + 2));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.demo.jfr;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Endpoint actuator {@code /actuator/jfr} untuk recording Java Flight Recorder on-demand.
+ *
+ * <ul>
+ *   <li>{@code GET /actuator/jfr} - daftar recording</li>
+ *   <li>{@code POST /actuator/jfr} dengan body {@code {"name", "durationSeconds", "settings"}}
+ *       (semua opsional) - memulai recording</li>
+ *   <li>{@code POST /actuator/jfr/{name}} - menghentikan recording lebih awal</li>
+ *   <li>{@code GET /actuator/jfr/{name}} - mengunduh file .jfr (data sejauh ini jika masih berjalan)</li>
+ *   <li>{@code DELETE /actuator/jfr/{name}} - membuang recording dan filenya</li>
+ * </ul>
+ * File .jfr bisa dibuka di JDK Mission Control; event aplikasi ada di
+ * kategori Demo berdampingan dengan event GC, lock, dan alokasi.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+@WebEndpoint(id = "jfr")
+public class FlightRecordingEndpoint {
+
+    private final FlightRecordings flightRecordings;
+
+    public FlightRecordingEndpoint(FlightRecordings flightRecordings) {
+        this.flightRecordings = flightRecordings;
+    }
+
+    @ReadOperation
+    public List<FlightRecordings.RecordingInfo> recordings() {
+        return flightRecordings.list();
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<FlightRecordings.RecordingInfo> start(@Nullable String name,
+                                                                     @Nullable Long durationSeconds,
+                                                                     @Nullable String settings) {
+        try {
+            return new WebEndpointResponse<>(flightRecordings.start(name, durationSeconds, settings));
+        } catch (IllegalArgumentException e) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+        } catch (IllegalStateException e) {
+            return new WebEndpointResponse<>(409);
+        }
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<FlightRecordings.RecordingInfo> stop(@Selector String name) {
+        return flightRecordings.stop(name)
+                .map(WebEndpointResponse::new)
+                .orElseGet(() -> new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND));
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> download(@Selector String name) throws IOException {
+        return flightRecordings.dump(name)
+                .map(file -> new WebEndpointResponse<Resource>(new FileSystemResource(file)))
+                .orElseGet(() -> new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND));
+    }
+
+    @DeleteOperation
+    public WebEndpointResponse<Void> delete(@Selector String name) throws IOException {
+        return new WebEndpointResponse<>(flightRecordings.delete(name)
+                ? WebEndpointResponse.STATUS_NO_CONTENT
+                : WebEndpointResponse.STATUS_NOT_FOUND);
+    }
+}
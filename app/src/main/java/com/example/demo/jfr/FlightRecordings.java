@@ -0,0 +1,184 @@
+package com.example.demo.jfr;
+
+import com.example.demo.config.ProductProperties;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Mengelola recording Java Flight Recorder yang dimulai lewat {@code /actuator/jfr}.
+ *
+ * <p>Recording memakai konfigurasi bawaan JDK ({@code default} sekitar 1%
+ * overhead, {@code profile} lebih detail) dan berhenti sendiri setelah
+ * durasinya habis. Data disimpan JFR di repository sementara sampai recording
+ * dihapus; {@link #dump(String)} menulisnya ke {@code app.products.jfr.directory}
+ * sebagai file .jfr, juga saat recording masih berjalan (berisi data sejauh ini).
+ *
+ * <p>Jumlah recording yang disimpan dibatasi {@code max-recordings};
+ * recording lama harus dihapus sebelum memulai yang baru.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class FlightRecordings implements DisposableBean {
+
+    private static final Pattern NAME = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+    private static final DateTimeFormatter DEFAULT_NAME = DateTimeFormatter.ofPattern("'recording-'yyyyMMdd-HHmmss")
+            .withZone(ZoneOffset.UTC);
+
+    private final ProductProperties.Jfr settings;
+    private final Map<String, Tracked> recordings = new LinkedHashMap<>();
+
+    public FlightRecordings(ProductProperties properties) {
+        this.settings = properties.getJfr();
+    }
+
+    /**
+     * Keadaan satu recording.
+     *
+     * @param name nama recording, juga nama file unduhan
+     * @param state NEW, DELAYED, RUNNING, STOPPED, atau CLOSED
+     * @param settings konfigurasi JFR yang dipakai
+     * @param startTime waktu mulai
+     * @param stopTime waktu berhenti, atau null jika masih berjalan
+     * @param durationSeconds durasi yang diminta
+     */
+    public record RecordingInfo(String name, String state, String settings, Instant startTime, Instant stopTime,
+                                long durationSeconds) {
+    }
+
+    private record Tracked(Recording recording, String settings) {
+
+        RecordingInfo info() {
+            Duration duration = recording.getDuration();
+            return new RecordingInfo(recording.getName(), recording.getState().name(), settings,
+                    recording.getStartTime(), recording.getStopTime(), duration == null ? 0 : duration.toSeconds());
+        }
+    }
+
+    /**
+     * Memulai recording baru.
+     *
+     * @param name nama recording (huruf, angka, {@code -} dan {@code _}), atau null untuk nama dari waktu mulai
+     * @param durationSeconds durasi dalam detik, atau null untuk durasi default
+     * @param configuration {@code default}, {@code profile}, atau null untuk konfigurasi default
+     * @return keadaan recording yang baru dimulai
+     * @throws IllegalArgumentException jika nama, durasi, atau konfigurasi tidak valid
+     * @throws IllegalStateException jika nama sudah dipakai atau jumlah recording sudah maksimum
+     */
+    public synchronized RecordingInfo start(String name, Long durationSeconds, String configuration) {
+        String recordingName = name == null ? DEFAULT_NAME.format(Instant.now()) : name;
+        if (!NAME.matcher(recordingName).matches()) {
+            throw new IllegalArgumentException("Name must be 1-64 letters, digits, '-' or '_'");
+        }
+        long duration = durationSeconds == null ? settings.getDefaultDurationSeconds() : durationSeconds;
+        if (duration < 1 || duration > settings.getMaxDurationSeconds()) {
+            throw new IllegalArgumentException("Duration must be between 1 and " + settings.getMaxDurationSeconds() + " seconds");
+        }
+        String settingsName = configuration == null ? settings.getSettings() : configuration;
+        if (recordings.containsKey(recordingName)) {
+            throw new IllegalStateException("Recording " + recordingName + " already exists");
+        }
+        if (recordings.size() >= settings.getMaxRecordings()) {
+            throw new IllegalStateException("At most " + settings.getMaxRecordings() + " recordings are kept; delete one first");
+        }
+        Recording recording = new Recording(configuration(settingsName));
+        recording.setName(recordingName);
+        recording.setToDisk(true);
+        recording.setMaxSize(settings.getMaxSizeMb() * 1024 * 1024);
+        recording.setDuration(Duration.ofSeconds(duration));
+        recording.start();
+        Tracked tracked = new Tracked(recording, settingsName);
+        recordings.put(recordingName, tracked);
+        return tracked.info();
+    }
+
+    /**
+     * Menghentikan recording lebih awal; datanya tetap bisa diunduh.
+     *
+     * @return keadaan recording, atau kosong jika tidak ada
+     */
+    public synchronized Optional<RecordingInfo> stop(String name) {
+        Tracked tracked = recordings.get(name);
+        if (tracked == null) {
+            return Optional.empty();
+        }
+        if (tracked.recording().getState() == RecordingState.RUNNING) {
+            tracked.recording().stop();
+        }
+        return Optional.of(tracked.info());
+    }
+
+    /**
+     * Menulis data recording ke file .jfr.
+     *
+     * @return path file, atau kosong jika recording tidak ada
+     */
+    public synchronized Optional<Path> dump(String name) throws IOException {
+        Tracked tracked = recordings.get(name);
+        if (tracked == null) {
+            return Optional.empty();
+        }
+        Path directory = Path.of(settings.getDirectory());
+        Files.createDirectories(directory);
+        Path file = directory.resolve(name + ".jfr");
+        tracked.recording().dump(file);
+        return Optional.of(file);
+    }
+
+    /**
+     * Menghentikan dan membuang recording beserta file .jfr-nya.
+     *
+     * @return false jika recording tidak ada
+     */
+    public synchronized boolean delete(String name) throws IOException {
+        Tracked tracked = recordings.remove(name);
+        if (tracked == null) {
+            return false;
+        }
+        tracked.recording().close();
+        Files.deleteIfExists(Path.of(settings.getDirectory()).resolve(name + ".jfr"));
+        return true;
+    }
+
+    public synchronized List<RecordingInfo> list() {
+        return recordings.values().stream().map(Tracked::info).toList();
+    }
+
+    @Override
+    public synchronized void destroy() {
+        recordings.values().forEach(tracked -> tracked.recording().close());
+        recordings.clear();
+    }
+
+    private static Configuration configuration(String name) {
+        boolean known = Configuration.getConfigurations().stream().anyMatch(c -> c.getName().equals(name));
+        if (!known) {
+            throw new IllegalArgumentException("Unknown JFR settings " + name + "; use one of "
+                    + Configuration.getConfigurations().stream().map(Configuration::getName).toList());
+        }
+        try {
+            return Configuration.getConfiguration(name);
+        } catch (IOException | ParseException e) {
+            throw new IllegalArgumentException("Cannot read JFR settings " + name, e);
+        }
+    }
+}
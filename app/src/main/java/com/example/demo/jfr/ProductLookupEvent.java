@@ -0,0 +1,49 @@
+package com.example.demo.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Event JFR untuk lookup produk berdasarkan ID di {@code ProductService}.
+ *
+ * <p>Hanya lookup yang benar-benar dieksekusi yang tercatat; jawaban dari
+ * cache {@code products} tidak masuk ke method service.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Name("com.example.demo.ProductLookup")
+@Label("Product Lookup")
+@Category({"Demo", "Products"})
+@Description("Product lookup by id, single or multi-get")
+@StackTrace(false)
+public class ProductLookupEvent extends Event {
+
+    @Label("Id")
+    @Description("Requested id, 0 for a multi-get")
+    public long id;
+
+    @Label("Requested")
+    @Description("Number of distinct ids requested")
+    public int requested;
+
+    @Label("Row Count")
+    @Description("Number of products found")
+    public int rowCount;
+
+    /**
+     * @return event yang sudah dimulai; commit setelah {@link #rowCount} diisi
+     */
+    public static ProductLookupEvent begin(Long id, int requested) {
+        ProductLookupEvent event = new ProductLookupEvent();
+        event.id = id == null ? 0 : id;
+        event.requested = requested;
+        event.begin();
+        return event;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.demo.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Event JFR untuk satu request yang ditangani {@code ProductController},
+ * dari sebelum handler dipanggil sampai respons selesai.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Name("com.example.demo.ProductRequest")
+@Label("Product Request")
+@Category({"Demo", "HTTP"})
+@Description("Request handled by ProductController")
+@StackTrace(false)
+public class ProductRequestEvent extends Event {
+
+    @Label("Method")
+    public String method;
+
+    @Label("Route")
+    @Description("Matched URI pattern, e.g. /api/products/{id}")
+    public String route;
+
+    @Label("Handler")
+    @Description("ProductController method")
+    public String handler;
+
+    @Label("Status")
+    public int status;
+}
@@ -0,0 +1,52 @@
+package com.example.demo.jfr;
+
+import com.example.demo.controller.ProductController;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Mencatat {@link ProductRequestEvent} untuk setiap request ke {@link ProductController}.
+ *
+ * <p>Event dimulai sebelum handler dipanggil dan di-commit setelah respons
+ * selesai. Untuk request async (misalnya streaming export) event yang sama
+ * dipakai sampai dispatch async selesai, sehingga durasinya mencakup
+ * seluruh penulisan body.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ProductRequestEventInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String EVENT_ATTRIBUTE = ProductRequestEventInterceptor.class.getName() + ".event";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod method) || method.getBeanType() != ProductController.class
+                || request.getAttribute(EVENT_ATTRIBUTE) != null) {
+            return true;
+        }
+        ProductRequestEvent event = new ProductRequestEvent();
+        if (event.isEnabled()) {
+            event.method = request.getMethod();
+            event.route = String.valueOf(request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE));
+            event.handler = method.getMethod().getName();
+            event.begin();
+            request.setAttribute(EVENT_ATTRIBUTE, event);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (request.getAttribute(EVENT_ATTRIBUTE) instanceof ProductRequestEvent event) {
+            request.removeAttribute(EVENT_ATTRIBUTE);
+            event.status = response.getStatus();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.demo.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Event JFR untuk pencarian produk di {@code ProductService}: nama, saran
+ * autocomplete, dan full-text.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Name("com.example.demo.ProductSearch")
+@Label("Product Search")
+@Category({"Demo", "Products"})
+@Description("Product search by name, prefix or full text")
+@StackTrace(false)
+public class ProductSearchEvent extends Event {
+
+    public static final String NAME = "name";
+    public static final String SUGGEST = "suggest";
+    public static final String FULL_TEXT = "full-text";
+
+    @Label("Kind")
+    @Description("name, suggest or full-text")
+    public String kind;
+
+    @Label("Term")
+    public String term;
+
+    @Label("Row Count")
+    @Description("Number of results returned")
+    public int rowCount;
+
+    /**
+     * @return event yang sudah dimulai; commit setelah {@link #rowCount} diisi
+     */
+    public static ProductSearchEvent begin(String kind, String term) {
+        ProductSearchEvent event = new ProductSearchEvent();
+        event.kind = kind;
+        event.term = term;
+        event.begin();
+        return event;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.demo.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Event JFR untuk create, update, dan delete produk di {@code ProductService}.
+ *
+ * <p>Operasi yang gagal (produk tidak ada atau konflik version) tetap
+ * tercatat dengan {@link #rowCount} 0.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Name("com.example.demo.ProductWrite")
+@Label("Product Write")
+@Category({"Demo", "Products"})
+@Description("Product create, update or delete")
+@StackTrace(false)
+public class ProductWriteEvent extends Event {
+
+    public static final String CREATE = "create";
+    public static final String UPDATE = "update";
+    public static final String DELETE = "delete";
+
+    @Label("Operation")
+    @Description("create, update or delete")
+    public String operation;
+
+    @Label("Id")
+    public long id;
+
+    @Label("Conditional")
+    @Description("Whether the write required a matching version (If-Match)")
+    public boolean conditional;
+
+    @Label("Row Count")
+    @Description("Number of rows written")
+    public int rowCount;
+
+    /**
+     * @return event yang sudah dimulai; commit setelah {@link #rowCount} diisi
+     */
+    public static ProductWriteEvent begin(String operation, Long id, boolean conditional) {
+        ProductWriteEvent event = new ProductWriteEvent();
+        event.operation = operation;
+        event.id = id == null ? 0 : id;
+        event.conditional = conditional;
+        event.begin();
+        return event;
+    }
+}
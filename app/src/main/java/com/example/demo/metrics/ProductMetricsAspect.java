@@ -0,0 +1,169 @@
+package com.example.demo.metrics;
+
+import com.example.demo.service.InsufficientStockException;
+import com.example.demo.service.ProductNotFoundException;
+import com.example.demo.service.ProductVersionConflictException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.ConstraintViolationException;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timer Micrometer untuk setiap method publik {@code ProductController},
+ * {@code ProductService}, dan {@code ProductRepository}.
+ *
+ * <p>Setiap layer punya satu metric ({@code products.controller},
+ * {@code products.service}, {@code products.repository}) dengan tag
+ * {@code method} dan {@code outcome}:
+ * <ul>
+ *   <li>{@code found} - status 2xx/3xx atau hasil yang tidak kosong</li>
+ *   <li>{@code not-found} - status 404, {@code Optional} kosong, atau
+ *       {@link ProductNotFoundException}</li>
+ *   <li>{@code validation-error} - status 400, {@code IllegalArgumentException},
+ *       atau {@code ConstraintViolationException}</li>
+ *   <li>{@code conflict} - status 409/412, konflik version, atau stok tidak cukup</li>
+ *   <li>{@code error} - status 5xx atau exception lain</li>
+ * </ul>
+ * Timer mempublikasikan percentile histogram sehingga persentil bisa
+ * diagregasi di Prometheus ({@code /actuator/prometheus}).
+ *
+ * <p>Jalur not-found di service yang berakhir dengan exception (misalnya
+ * {@code updateProduct} dan {@code deleteProduct} untuk ID yang tidak ada,
+ * yang di controller dipetakan ke 404) juga dicatat di timer
+ * {@code products.service.not_found} per method, agar biaya membuat exception
+ * dan query tambahannya terlihat terpisah dari jalur normal.
+ *
+ * <p>Body {@link java.util.stream.Stream} dan streaming response hanya diukur
+ * sampai method kembali, bukan sampai seluruh data terkirim. Request yang
+ * ditolak sebelum method controller dipanggil (misalnya gagal {@code @Valid})
+ * tidak tercatat di sini; lihat {@code http.server.requests}.
+ *
+ * @author Harist Islami
+ * @version 1.1
+ * @since 2026-10-18
+ */
+@Aspect
+@Component
+public class ProductMetricsAspect {
+
+    static final String CONTROLLER_TIMER = "products.controller";
+    static final String SERVICE_TIMER = "products.service";
+    static final String REPOSITORY_TIMER = "products.repository";
+    static final String NOT_FOUND_TIMER = "products.service.not_found";
+
+    static final String FOUND = "found";
+    static final String NOT_FOUND = "not-found";
+    static final String VALIDATION_ERROR = "validation-error";
+    static final String CONFLICT = "conflict";
+    static final String ERROR = "error";
+
+    private record TimerKey(String name, String method, String outcome) {
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public ProductMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * *(..)) && within(com.example.demo.controller.ProductController)")
+    public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(CONTROLLER_TIMER, joinPoint);
+    }
+
+    @Around("execution(public * *(..)) && within(com.example.demo.service.ProductService)")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(SERVICE_TIMER, joinPoint);
+    }
+
+    @Around("execution(public * *(..)) && target(com.example.demo.repository.ProductRepository)"
+            + " && !execution(* java.lang.Object.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(REPOSITORY_TIMER, joinPoint);
+    }
+
+    private Object time(String name, ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        String method = signature.getName();
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            long elapsed = System.nanoTime() - start;
+            String outcome = outcome(e);
+            timer(name, method, outcome).record(elapsed, TimeUnit.NANOSECONDS);
+            if (name.equals(SERVICE_TIMER) && NOT_FOUND.equals(outcome)) {
+                timer(NOT_FOUND_TIMER, method, outcome).record(elapsed, TimeUnit.NANOSECONDS);
+            }
+            throw e;
+        }
+        long elapsed = System.nanoTime() - start;
+        timer(name, method, outcome(result, signature.getReturnType()))
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        return result;
+    }
+
+    private Timer timer(String name, String method, String outcome) {
+        return timers.computeIfAbsent(new TimerKey(name, method, outcome), key -> Timer.builder(key.name())
+                .description(description(key.name()))
+                .tag("method", key.method())
+                .tag("outcome", key.outcome())
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    static String outcome(Object result, Class<?> returnType) {
+        if (result instanceof ResponseEntity<?> response) {
+            return outcome(response.getStatusCode());
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? FOUND : NOT_FOUND;
+        }
+        return result == null && returnType != void.class ? NOT_FOUND : FOUND;
+    }
+
+    static String outcome(Throwable error) {
+        if (error instanceof ResponseStatusException e) {
+            return outcome(e.getStatusCode());
+        }
+        if (error instanceof IllegalArgumentException || error instanceof ConstraintViolationException) {
+            return VALIDATION_ERROR;
+        }
+        if (error instanceof ProductVersionConflictException || error instanceof InsufficientStockException) {
+            return CONFLICT;
+        }
+        return error instanceof ProductNotFoundException ? NOT_FOUND : ERROR;
+    }
+
+    private static String outcome(HttpStatusCode status) {
+        return switch (status.value()) {
+            case 400 -> VALIDATION_ERROR;
+            case 404 -> NOT_FOUND;
+            case 409, 412 -> CONFLICT;
+            default -> status.isError() ? ERROR : FOUND;
+        };
+    }
+
+    private static String description(String name) {
+        return switch (name) {
+            case CONTROLLER_TIMER -> "ProductController endpoint latency by outcome";
+            case SERVICE_TIMER -> "ProductService method latency by outcome";
+            case REPOSITORY_TIMER -> "ProductRepository method latency by outcome";
+            default -> "ProductService calls that ended in a not-found exception";
+        };
+    }
+}
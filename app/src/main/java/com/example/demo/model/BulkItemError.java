@@ -0,0 +1,22 @@
+package com.example.demo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Kesalahan untuk satu item pada request bulk.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkItemError {
+    /** Posisi item di dalam request (mulai dari 0). */
+    private int index;
+    private Long id;
+    private String message;
+}
@@ -0,0 +1,44 @@
+package com.example.demo.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Ringkasan hasil request bulk create/update.
+ *
+ * <p>{@code ids} sejajar dengan urutan item pada request: berisi ID produk
+ * untuk item yang berhasil dan null untuk item yang gagal. Detail kegagalan
+ * ada di {@code errors}.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Data
+@NoArgsConstructor
+public class BulkResult {
+    private int requested;
+    private int succeeded;
+    private int failed;
+    private List<Long> ids;
+    private List<BulkItemError> errors = new ArrayList<>();
+
+    public BulkResult(int requested) {
+        this.requested = requested;
+        this.ids = Arrays.asList(new Long[requested]);
+    }
+
+    public void addSuccess(int index, Long id) {
+        ids.set(index, id);
+        succeeded++;
+    }
+
+    public void addError(int index, Long id, String message) {
+        errors.add(new BulkItemError(index, id, message));
+        failed++;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.demo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Ringkasan agregat katalog produk untuk dashboard.
+ *
+ * <p>{@code minPrice}, {@code maxPrice}, dan {@code averagePrice} bernilai
+ * null jika katalog kosong. {@code inventoryValue} adalah jumlah
+ * {@code price * stock} seluruh produk.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogStats {
+    private long productCount;
+    private long totalStock;
+    private long outOfStockCount;
+    private BigDecimal inventoryValue;
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+    private BigDecimal averagePrice;
+    private Instant lastReconciledAt;
+}
@@ -1,5 +1,6 @@
 package com.example.demo.model;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
@@ -13,8 +14,16 @@ import java.math.BigDecimal;
  * <p>Kelas ini berisi informasi dasar tentang produk termasuk ID, nama,
  * deskripsi, harga, dan jumlah stok yang tersedia.
  *
+ * <p>ID diambil dari sequence {@code product_seq} dengan alokasi blok 50 ID
+ * per round trip, sehingga insert massal dapat dikirim sebagai JDBC batch
+ * (hal yang tidak mungkin dengan kolom IDENTITY).
+ *
+ * <p>{@code version} dinaikkan setiap kali baris berubah dan dipakai sebagai
+ * ETag pada API. Nilainya hanya dibaca dari database; nilai dari request
+ * body diabaikan.
+ *
  * @author Harist Islami
- * @version 1.0
+ * @version 1.2
  * @since 2025-09-20
  */
 @Data
@@ -24,7 +33,8 @@ import java.math.BigDecimal;
 @Table(name = "products")
 public class Product {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq")
+    @SequenceGenerator(name = "product_seq", sequenceName = "product_seq", initialValue = 51, allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Product name is required")
@@ -46,4 +56,13 @@ public class Product {
     @Min(value = 0, message = "Product stock cannot be negative")
     @Column(nullable = false)
     private Integer stock;
+
+    @Version
+    @Column(nullable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+
+    public Product(Long id, String name, String description, BigDecimal price, Integer stock) {
+        this(id, name, description, price, stock, null);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.example.demo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Satu halaman hasil listing produk dengan pagination keyset (cursor).
+ *
+ * <p>{@code nextCursor} bersifat opaque dan hanya diisi jika masih ada
+ * halaman berikutnya.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductPage {
+    private List<Product> items;
+    private String nextCursor;
+}
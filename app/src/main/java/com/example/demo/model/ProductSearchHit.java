@@ -0,0 +1,21 @@
+package com.example.demo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Hasil pencarian full-text: ID dan nama produk beserta skor relevansinya.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSearchHit {
+    private Long id;
+    private String name;
+    private double score;
+}
@@ -0,0 +1,20 @@
+package com.example.demo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Satu baris reservasi atau pelepasan stok pada keranjang.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockItem {
+    private Long productId;
+    private Integer quantity;
+}
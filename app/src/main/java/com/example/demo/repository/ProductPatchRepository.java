@@ -0,0 +1,27 @@
+package com.example.demo.repository;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Fragment repository untuk update parsial produk.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface ProductPatchRepository {
+
+    /** Atribut Product yang boleh diubah lewat patch. */
+    Set<String> PATCHABLE_ATTRIBUTES = Set.of("name", "description", "price", "stock");
+
+    /**
+     * Mengubah hanya atribut yang ada di {@code changes} dengan satu statement UPDATE.
+     *
+     * @param id ID produk
+     * @param expectedVersion version yang harus cocok, atau null untuk update tanpa syarat
+     * @param changes nama atribut ke nilai baru; tidak boleh kosong
+     * @return jumlah baris yang berubah (0 atau 1)
+     */
+    int patchById(Long id, Long expectedVersion, Map<String, Object> changes);
+}
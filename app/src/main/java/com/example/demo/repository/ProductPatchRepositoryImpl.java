@@ -0,0 +1,49 @@
+package com.example.demo.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+/**
+ * Implementasi {@link ProductPatchRepository} dengan JPQL yang disusun sesuai
+ * atribut yang dikirim, sehingga kolom lain (misalnya description) tidak ikut ditulis.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ProductPatchRepositoryImpl implements ProductPatchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int patchById(Long id, Long expectedVersion, Map<String, Object> changes) {
+        if (changes.isEmpty()) {
+            throw new IllegalArgumentException("At least one attribute must be changed");
+        }
+        StringBuilder jpql = new StringBuilder("UPDATE Product p SET ");
+        for (String attribute : changes.keySet()) {
+            if (!PATCHABLE_ATTRIBUTES.contains(attribute)) {
+                throw new IllegalArgumentException("Attribute cannot be patched: " + attribute);
+            }
+            jpql.append("p.").append(attribute).append(" = :").append(attribute).append(", ");
+        }
+        jpql.append("p.version = p.version + 1 WHERE p.id = :id");
+        if (expectedVersion != null) {
+            jpql.append(" AND p.version = :version");
+        }
+
+        Query query = entityManager.createQuery(jpql.toString());
+        changes.forEach(query::setParameter);
+        query.setParameter("id", id);
+        if (expectedVersion != null) {
+            query.setParameter("version", expectedVersion);
+        }
+        return query.executeUpdate();
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.demo.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Fragment repository untuk projection dinamis: hanya kolom yang diminta
+ * yang di-SELECT, sehingga kolom besar seperti description tidak dibaca.
+ *
+ * <p>Setiap baris dikembalikan sebagai map atribut ke nilai dengan urutan
+ * sesuai {@code attributes}; {@code id} selalu ikut dan berada di depan.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface ProductProjectionRepository {
+
+    /** Atribut Product yang boleh dipilih dalam projection. */
+    Set<String> PROJECTABLE_ATTRIBUTES = Set.of("id", "name", "description", "price", "stock", "version");
+
+    /**
+     * Mengambil seluruh produk terurut berdasarkan ID.
+     */
+    List<Map<String, Object>> findAllProjected(Collection<String> attributes);
+
+    /**
+     * Mengambil produk dengan ID yang diberikan.
+     */
+    List<Map<String, Object>> findProjectedByIdIn(Collection<Long> ids, Collection<String> attributes);
+
+    /**
+     * Mengambil produk yang namanya mengandung {@code name} (case insensitive), terurut berdasarkan ID.
+     */
+    List<Map<String, Object>> findProjectedByNameContainingIgnoreCase(String name, Collection<String> attributes);
+}
@@ -0,0 +1,92 @@
+package com.example.demo.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Implementasi {@link ProductProjectionRepository} dengan query JPQL berbentuk
+ * Tuple yang daftar kolomnya disusun sesuai atribut yang diminta.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ProductProjectionRepositoryImpl implements ProductProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findAllProjected(Collection<String> attributes) {
+        Set<String> columns = columns(attributes);
+        return toMaps(entityManager.createQuery(select(columns) + " ORDER BY p.id", Tuple.class), columns);
+    }
+
+    @Override
+    public List<Map<String, Object>> findProjectedByIdIn(Collection<Long> ids, Collection<String> attributes) {
+        Set<String> columns = columns(attributes);
+        TypedQuery<Tuple> query = entityManager.createQuery(select(columns) + " WHERE p.id IN :ids", Tuple.class);
+        query.setParameter("ids", ids);
+        return toMaps(query, columns);
+    }
+
+    @Override
+    public List<Map<String, Object>> findProjectedByNameContainingIgnoreCase(String name,
+                                                                           Collection<String> attributes) {
+        Set<String> columns = columns(attributes);
+        TypedQuery<Tuple> query = entityManager.createQuery(
+                select(columns) + " WHERE UPPER(p.name) LIKE UPPER(:pattern) ESCAPE '\\' ORDER BY p.id", Tuple.class);
+        query.setParameter("pattern", "%" + escapeLike(name) + "%");
+        return toMaps(query, columns);
+    }
+
+    private static Set<String> columns(Collection<String> attributes) {
+        Set<String> columns = new LinkedHashSet<>();
+        columns.add("id");
+        for (String attribute : attributes) {
+            if (!PROJECTABLE_ATTRIBUTES.contains(attribute)) {
+                throw new IllegalArgumentException("Attribute cannot be projected: " + attribute);
+            }
+            columns.add(attribute);
+        }
+        return columns;
+    }
+
+    private static String select(Set<String> columns) {
+        StringBuilder jpql = new StringBuilder("SELECT ");
+        for (String column : columns) {
+            if (jpql.length() > "SELECT ".length()) {
+                jpql.append(", ");
+            }
+            jpql.append("p.").append(column).append(" AS ").append(column);
+        }
+        return jpql.append(" FROM Product p").toString();
+    }
+
+    private static List<Map<String, Object>> toMaps(TypedQuery<Tuple> query, Set<String> columns) {
+        List<Tuple> tuples = query.getResultList();
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (String column : columns) {
+                row.put(column, tuple.get(column));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
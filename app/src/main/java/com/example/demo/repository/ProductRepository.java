@@ -0,0 +1,159 @@
+package com.example.demo.repository;
+
+import com.example.demo.model.Product;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+/**
+ * Repository interface untuk Product entity.
+ *
+ * <p>Interface ini menyediakan akses ke database untuk operasi CRUD
+ * pada produk menggunakan Spring Data JPA.
+ *
+ * <p>Query keyset (cursor) di bawah selalu melanjutkan dari baris terakhir
+ * halaman sebelumnya, sehingga biaya setiap halaman tetap sama berapa pun
+ * kedalamannya (tanpa OFFSET).
+ *
+ * <p>Query berdasarkan harga (rentang, top-N, jumlah per rentang, serta
+ * harga minimum/maksimum) memakai index {@code idx_product_price} dan menjadi
+ * fallback saat {@code PriceIndex} in-memory belum siap.
+ *
+ * <p>{@link #streamAllForExport()} membaca seluruh tabel dengan cursor
+ * forward-only. Baris dibuat lewat constructor expression sehingga tidak
+ * masuk persistence context dan heap tetap datar berapa pun jumlah barisnya.
+ * Stream harus dikonsumsi di dalam transaksi dan ditutup setelah selesai.
+ *
+ * <p>{@link #decrementStock} dan {@link #incrementStock} mengubah stok dengan
+ * satu statement UPDATE tanpa memuat entity. Pengecekan stok cukup dilakukan
+ * di klausa WHERE sehingga atomik terhadap update lain pada baris yang sama.
+ * UPDATE dibungkus {@code SELECT ... FROM FINAL TABLE (...)} (H2), sehingga
+ * stok dan version sesudah perubahan kembali dalam round trip yang sama;
+ * hasilnya kosong jika tidak ada baris yang berubah.
+ *
+ * <p>Update dan delete produk juga berupa satu statement. Varian
+ * {@code ...AndVersion} hanya berhasil jika version di database sama dengan
+ * yang diharapkan (optimistic locking), tanpa query existsById terlebih dahulu.
+ * Setiap perubahan baris menaikkan {@code version}.
+ *
+ * <p>Query yang kolomnya ditentukan saat runtime (patch parsial dan sparse
+ * fieldset) ada di fragment {@link ProductPatchRepository} dan
+ * {@link ProductProjectionRepository}.
+ *
+ * @author Harist Islami
+ * @version 1.6
+ * @since 2025-09-20
+ */
+@Repository
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductPatchRepository,
+        ProductProjectionRepository {
+    /** Jumlah baris yang diambil per round trip saat streaming export. */
+    int EXPORT_FETCH_SIZE = 1000;
+
+    List<Product> findByNameContainingIgnoreCase(String name);
+
+    @Query("SELECT p FROM Product p WHERE p.id IN :ids")
+    List<Product> findByIdIn(@Param("ids") Collection<Long> ids);
+
+    List<Product> findAllByOrderByIdAsc(Limit limit);
+
+    List<Product> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    List<Product> findAllByOrderByPriceAscIdAsc(Limit limit);
+
+    List<Product> findByPriceBetweenOrderByPriceAscIdAsc(BigDecimal min, BigDecimal max, Limit limit);
+
+    List<Product> findAllByOrderByPriceDescIdDesc(Limit limit);
+
+    List<Product> findByStockGreaterThanOrderByPriceAscIdAsc(int stock, Limit limit);
+
+    List<Product> findByStockGreaterThanOrderByPriceDescIdDesc(int stock, Limit limit);
+
+    long countByPriceBetween(BigDecimal min, BigDecimal max);
+
+    @Query("SELECT MIN(p.price) FROM Product p")
+    BigDecimal findMinPrice();
+
+    @Query("SELECT MAX(p.price) FROM Product p")
+    BigDecimal findMaxPrice();
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT new com.example.demo.model.Product(p.id, p.name, p.description, p.price, p.stock, p.version) FROM Product p ORDER BY p.id")
+    Stream<Product> streamAllForExport();
+
+    @Query("SELECT new com.example.demo.model.Product(p.id, p.name, p.description, p.price, p.stock, p.version) FROM Product p WHERE p.id BETWEEN :fromId AND :toId ORDER BY p.id")
+    List<Product> findSnapshotRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query("SELECT MAX(p.id) FROM Product p")
+    Long findMaxId();
+
+    @Query("SELECT p FROM Product p WHERE p.price > :price OR (p.price = :price AND p.id > :id) ORDER BY p.price ASC, p.id ASC")
+    List<Product> findPageByPriceAfter(@Param("price") BigDecimal price, @Param("id") Long id, Limit limit);
+
+    @Transactional
+    @Query(value = "SELECT id, stock, version FROM FINAL TABLE (UPDATE products "
+            + "SET stock = stock - :quantity, version = version + 1 WHERE id = :id AND stock >= :quantity)",
+            nativeQuery = true)
+    Optional<StockLevel> decrementStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    @Transactional
+    @Query(value = "SELECT id, stock, version FROM FINAL TABLE (UPDATE products "
+            + "SET stock = stock + :quantity, version = version + 1 WHERE id = :id)",
+            nativeQuery = true)
+    Optional<StockLevel> incrementStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Product p SET p.name = :#{#product.name}, p.description = :#{#product.description}, "
+            + "p.price = :#{#product.price}, p.stock = :#{#product.stock}, p.version = p.version + 1 "
+            + "WHERE p.id = :id")
+    int updateById(@Param("id") Long id, @Param("product") Product product);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Product p SET p.name = :#{#product.name}, p.description = :#{#product.description}, "
+            + "p.price = :#{#product.price}, p.stock = :#{#product.stock}, p.version = p.version + 1 "
+            + "WHERE p.id = :id AND p.version = :version")
+    int updateByIdAndVersion(@Param("id") Long id, @Param("version") Long version, @Param("product") Product product);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Product p WHERE p.id = :id")
+    int removeById(@Param("id") Long id);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Product p WHERE p.id = :id AND p.version = :version")
+    int removeByIdAndVersion(@Param("id") Long id, @Param("version") Long version);
+
+    /**
+     * Stok dan version sebuah produk sesudah perubahan stok.
+     */
+    interface StockLevel {
+        Long getId();
+
+        Integer getStock();
+
+        Long getVersion();
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.demo.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Nomor generasi katalog yang naik setiap kali data produk berubah.
+ *
+ * <p>Dipakai sebagai penanda invalidasi untuk cache yang mencakup banyak
+ * produk sekaligus (misalnya hasil listing dan pencarian): hasil yang dibuat
+ * pada generasi lama tidak boleh dipakai lagi. Generasi dinaikkan setelah
+ * commit, sehingga hasil yang dihitung sebelum perubahan terlihat selalu
+ * tercatat dengan generasi lama.
+ *
+ * <p>Perubahan produk dideteksi dari {@link ProductChangedEvent}
+ * (create/update/patch/delete/bulk) dan {@link StockChangedEvent}
+ * (reservasi stok dan flush hot SKU). Waktu perubahan terakhir dicatat agar
+ * pekerjaan latar belakang bisa menunggu sampai penulisan mereda.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class CatalogGeneration {
+
+    private final AtomicLong generation = new AtomicLong();
+    private volatile long lastAdvancedNanos = System.nanoTime();
+
+    public long current() {
+        return generation.get();
+    }
+
+    /**
+     * Waktu {@link System#nanoTime()} saat generasi terakhir kali naik.
+     */
+    public long lastAdvancedNanos() {
+        return lastAdvancedNanos;
+    }
+
+    public void advance() {
+        lastAdvancedNanos = System.nanoTime();
+        generation.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        advance();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStockChanged(StockChangedEvent event) {
+        advance();
+    }
+}
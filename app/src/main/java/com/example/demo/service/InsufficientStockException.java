@@ -0,0 +1,23 @@
+package com.example.demo.service;
+
+import lombok.Getter;
+
+/**
+ * Dilempar ketika stok produk tidak cukup untuk reservasi yang diminta.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Getter
+public class InsufficientStockException extends RuntimeException {
+
+    private final Long productId;
+    private final int requested;
+
+    public InsufficientStockException(Long productId, int requested) {
+        super("Insufficient stock for product " + productId + ": requested " + requested);
+        this.productId = productId;
+        this.requested = requested;
+    }
+}
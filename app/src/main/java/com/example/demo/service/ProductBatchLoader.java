@@ -0,0 +1,213 @@
+package com.example.demo.service;
+
+import com.example.demo.config.ProductProperties;
+import com.example.demo.model.Product;
+import com.example.demo.repository.ProductRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Micro-batcher ala DataLoader untuk lookup produk berdasarkan ID.
+ *
+ * <p>Lookup yang datang saat tidak ada batch terbuka maupun query yang sedang
+ * berjalan langsung dieksekusi tanpa menunggu, sehingga lookup tunggal pada
+ * trafik rendah tidak terkena tambahan latency. Lookup yang datang selagi
+ * query lain berjalan membuka sebuah batch dan menjadwalkan eksekusinya setelah
+ * {@code app.products.batch-loader.window-micros}. Lookup lain yang datang
+ * selama jendela itu ikut ke batch yang sama, sehingga semuanya dijawab oleh
+ * satu query {@code WHERE id IN (...)}. Batch yang mencapai
+ * {@code max-batch-size} langsung dieksekusi di thread pemanggil terakhir.
+ * ID yang sama dalam satu batch hanya di-query sekali dan semua pemanggilnya
+ * menerima objek yang sama, sehingga hasil tidak boleh dimodifikasi.
+ *
+ * <p>Metric: {@code products.batcher.batch.size}, {@code products.batcher.fill.ratio}
+ * (ukuran batch dibanding {@code max-batch-size}) dan {@code products.batcher.flushes}
+ * dengan tag {@code trigger} ({@code immediate}, {@code window}, atau {@code full}).
+ *
+ * @author Harist Islami
+ * @version 1.1
+ * @since 2026-10-18
+ */
+@Component
+public class ProductBatchLoader implements DisposableBean {
+
+    private final ProductRepository productRepository;
+    private final ProductProperties.BatchLoader settings;
+    private final ScheduledExecutorService scheduler;
+    private final DistributionSummary batchSize;
+    private final DistributionSummary fillRatio;
+    private final Counter immediateFlushes;
+    private final Counter windowFlushes;
+    private final Counter fullFlushes;
+
+    private final Object lock = new Object();
+    private Map<Long, CompletableFuture<Optional<Product>>> pending;
+    /** Jumlah batch yang sudah dikeluarkan dari {@code pending} dan query-nya belum selesai. */
+    private int inFlight;
+
+    @Autowired
+    public ProductBatchLoader(ProductRepository productRepository,
+                              ProductProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.productRepository = productRepository;
+        this.settings = properties.getBatchLoader();
+        if (settings.getMaxBatchSize() < 1 || settings.getMaxBatchSize() > ProductService.ID_LOOKUP_CHUNK_SIZE) {
+            throw new IllegalArgumentException("app.products.batch-loader.max-batch-size must be between 1 and "
+                    + ProductService.ID_LOOKUP_CHUNK_SIZE);
+        }
+        AtomicInteger threads = new AtomicInteger();
+        this.scheduler = Executors.newScheduledThreadPool(
+                Math.max(2, Runtime.getRuntime().availableProcessors() / 2), runnable -> {
+                    Thread thread = new Thread(runnable, "product-batch-loader-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.batchSize = DistributionSummary.builder("products.batcher.batch.size")
+                .description("Distinct product ids resolved per batched IN query")
+                .register(meterRegistry);
+        this.fillRatio = DistributionSummary.builder("products.batcher.fill.ratio")
+                .description("Batch size relative to the configured maximum batch size")
+                .register(meterRegistry);
+        this.immediateFlushes = flushCounter(meterRegistry, "immediate");
+        this.windowFlushes = flushCounter(meterRegistry, "window");
+        this.fullFlushes = flushCounter(meterRegistry, "full");
+    }
+
+    /**
+     * Mengambil produk berdasarkan ID, digabung dengan lookup lain dalam jendela yang sama.
+     *
+     * <p>Jika batching dimatikan, langsung memanggil {@code findById}. Jika
+     * tidak ada lookup lain yang menunggu atau berjalan, query dieksekusi
+     * langsung di thread pemanggil.
+     *
+     * @param id ID produk
+     * @return produk jika ada
+     */
+    public Optional<Product> load(Long id) {
+        if (!settings.isEnabled()) {
+            return productRepository.findById(id);
+        }
+        CompletableFuture<Optional<Product>> result;
+        Map<Long, CompletableFuture<Optional<Product>>> full = null;
+        Map<Long, CompletableFuture<Optional<Product>>> immediate = null;
+        synchronized (lock) {
+            if (pending == null && inFlight == 0) {
+                immediate = new HashMap<>();
+                result = new CompletableFuture<>();
+                immediate.put(id, result);
+                inFlight++;
+            } else {
+                result = enqueue(id);
+                if (result == null) {
+                    return productRepository.findById(id);
+                }
+                if (pending.size() >= settings.getMaxBatchSize()) {
+                    full = pending;
+                    pending = null;
+                    inFlight++;
+                }
+            }
+        }
+        if (immediate != null) {
+            immediateFlushes.increment();
+            dispatch(immediate);
+        } else if (full != null) {
+            fullFlushes.increment();
+            dispatch(full);
+        }
+        return await(result);
+    }
+
+    /**
+     * Menambahkan ID ke batch terbuka, atau membuka batch baru beserta jadwal flush-nya.
+     * Dipanggil di bawah {@code lock}.
+     *
+     * @return future hasil lookup, atau null jika scheduler sudah dimatikan
+     */
+    private CompletableFuture<Optional<Product>> enqueue(Long id) {
+        if (pending == null) {
+            Map<Long, CompletableFuture<Optional<Product>>> batch = new HashMap<>();
+            try {
+                scheduler.schedule(() -> flushWindow(batch), settings.getWindowMicros(), TimeUnit.MICROSECONDS);
+            } catch (RejectedExecutionException e) {
+                return null;
+            }
+            pending = batch;
+        }
+        return pending.computeIfAbsent(id, key -> new CompletableFuture<>());
+    }
+
+    private void flushWindow(Map<Long, CompletableFuture<Optional<Product>>> batch) {
+        synchronized (lock) {
+            if (pending != batch) {
+                return;
+            }
+            pending = null;
+            inFlight++;
+        }
+        windowFlushes.increment();
+        dispatch(batch);
+    }
+
+    private void dispatch(Map<Long, CompletableFuture<Optional<Product>>> batch) {
+        batchSize.record(batch.size());
+        fillRatio.record((double) batch.size() / settings.getMaxBatchSize());
+        try {
+            List<Product> products = productRepository.findByIdIn(batch.keySet());
+            Map<Long, Product> byId = new LinkedHashMap<>();
+            for (Product product : products) {
+                byId.put(product.getId(), product);
+            }
+            batch.forEach((id, future) -> future.complete(Optional.ofNullable(byId.get(id))));
+        } catch (RuntimeException | Error e) {
+            batch.values().forEach(future -> future.completeExceptionally(e));
+        } finally {
+            synchronized (lock) {
+                inFlight--;
+            }
+        }
+    }
+
+    private static Optional<Product> await(CompletableFuture<Optional<Product>> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private static Counter flushCounter(MeterRegistry meterRegistry, String trigger) {
+        return Counter.builder("products.batcher.flushes")
+                .description("Batched product lookups executed, by what triggered the query")
+                .tag("trigger", trigger)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdown();
+    }
+}
@@ -0,0 +1,240 @@
+package com.example.demo.service;
+
+import com.example.demo.config.CacheConfig;
+import com.example.demo.config.ProductProperties;
+import com.example.demo.model.BulkResult;
+import com.example.demo.model.Product;
+import com.example.demo.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service untuk membuat dan mengupdate produk dalam jumlah besar.
+ *
+ * <p>Setiap item divalidasi terlebih dahulu; item yang tidak valid dilaporkan
+ * tanpa menggagalkan item lain. Item yang valid disimpan per chunk
+ * ({@code app.products.bulk.chunk-size}) dalam satu transaksi, dan di dalam
+ * chunk statement dikirim sebagai JDBC batch ({@code app.products.bulk.batch-size})
+ * dengan flush dan clear per batch agar persistence context tetap kecil.
+ * Jika sebuah chunk gagal di database, chunk tersebut di-rollback lalu itemnya
+ * dicoba ulang satu per satu untuk menemukan item yang bermasalah.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Service
+public class ProductBulkService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductBulkService.class);
+
+    private final EntityManager entityManager;
+    private final ProductRepository productRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final Cache productCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProductProperties.Bulk settings;
+
+    @Autowired
+    public ProductBulkService(EntityManager entityManager,
+                              ProductRepository productRepository,
+                              PlatformTransactionManager transactionManager,
+                              Validator validator,
+                              CacheManager cacheManager,
+                              ApplicationEventPublisher eventPublisher,
+                              ProductProperties properties) {
+        this.entityManager = entityManager;
+        this.productRepository = productRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.productCache = cacheManager.getCache(CacheConfig.PRODUCTS_CACHE);
+        this.eventPublisher = eventPublisher;
+        this.settings = properties.getBulk();
+    }
+
+    /**
+     * Membuat banyak produk sekaligus. ID pada item request diabaikan.
+     *
+     * @param products produk yang akan dibuat
+     * @return ringkasan hasil per item
+     */
+    public BulkResult createProducts(List<Product> products) {
+        BulkResult result = new BulkResult(products.size());
+        List<Item> valid = validate(products, false, result);
+        for (List<Item> chunk : partition(valid, settings.getChunkSize())) {
+            try {
+                List<Product> saved = transactionTemplate.execute(status -> insert(chunk));
+                for (int i = 0; i < chunk.size(); i++) {
+                    result.addSuccess(chunk.get(i).index(), saved.get(i).getId());
+                }
+            } catch (RuntimeException e) {
+                log.warn("Bulk insert chunk of {} items failed, retrying items one by one: {}",
+                        chunk.size(), mostSpecificMessage(e));
+                for (Item item : chunk) {
+                    try {
+                        List<Product> saved = transactionTemplate.execute(status -> insert(List.of(item)));
+                        result.addSuccess(item.index(), saved.get(0).getId());
+                    } catch (RuntimeException itemError) {
+                        result.addError(item.index(), null, mostSpecificMessage(itemError));
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Mengupdate banyak produk sekaligus. Setiap item wajib memiliki ID.
+     *
+     * @param products produk dengan data baru
+     * @return ringkasan hasil per item; ID yang tidak ada dilaporkan sebagai error
+     */
+    public BulkResult updateProducts(List<Product> products) {
+        BulkResult result = new BulkResult(products.size());
+        List<Item> valid = validate(products, true, result);
+        for (List<Item> chunk : partition(valid, settings.getChunkSize())) {
+            try {
+                List<Item> missing = transactionTemplate.execute(status -> update(chunk));
+                recordUpdates(chunk, missing, result);
+            } catch (RuntimeException e) {
+                log.warn("Bulk update chunk of {} items failed, retrying items one by one: {}",
+                        chunk.size(), mostSpecificMessage(e));
+                for (Item item : chunk) {
+                    try {
+                        List<Item> missing = transactionTemplate.execute(status -> update(List.of(item)));
+                        recordUpdates(List.of(item), missing, result);
+                    } catch (RuntimeException itemError) {
+                        result.addError(item.index(), item.product().getId(), mostSpecificMessage(itemError));
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private List<Item> validate(List<Product> products, boolean requireId, BulkResult result) {
+        List<Item> valid = new ArrayList<>(products.size());
+        for (int i = 0; i < products.size(); i++) {
+            Product product = products.get(i);
+            if (product == null) {
+                result.addError(i, null, "Product is required");
+                continue;
+            }
+            if (requireId && product.getId() == null) {
+                result.addError(i, null, "Product id is required");
+                continue;
+            }
+            Set<ConstraintViolation<Product>> violations = validator.validate(product);
+            if (!violations.isEmpty()) {
+                result.addError(i, product.getId(), violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+                continue;
+            }
+            valid.add(new Item(i, product));
+        }
+        return valid;
+    }
+
+    private List<Product> insert(List<Item> items) {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(settings.getBatchSize());
+        List<Product> saved = new ArrayList<>(items.size());
+        for (Item item : items) {
+            Product source = item.product();
+            Product entity = new Product(null, source.getName(), source.getDescription(), source.getPrice(), source.getStock());
+            entityManager.persist(entity);
+            saved.add(entity);
+            if (saved.size() % settings.getBatchSize() == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        saved.forEach(product -> eventPublisher.publishEvent(ProductChangedEvent.saved(product)));
+        return saved;
+    }
+
+    /**
+     * Mengupdate item per batch: entity dimuat dengan satu query IN, field
+     * disalin, lalu flush mengirim seluruh UPDATE sebagai satu JDBC batch.
+     *
+     * @return item yang ID-nya tidak ditemukan
+     */
+    private List<Item> update(List<Item> items) {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(settings.getBatchSize());
+        List<Item> missing = new ArrayList<>();
+        List<Product> updated = new ArrayList<>(items.size());
+        for (List<Item> batch : partition(items, settings.getBatchSize())) {
+            Map<Long, Product> managed = productRepository
+                    .findByIdIn(batch.stream().map(item -> item.product().getId()).toList())
+                    .stream()
+                    .collect(Collectors.toMap(Product::getId, Function.identity()));
+            for (Item item : batch) {
+                Product source = item.product();
+                Product entity = managed.get(source.getId());
+                if (entity == null) {
+                    missing.add(item);
+                    continue;
+                }
+                entity.setName(source.getName());
+                entity.setDescription(source.getDescription());
+                entity.setPrice(source.getPrice());
+                entity.setStock(source.getStock());
+                updated.add(entity);
+            }
+            entityManager.flush();
+            entityManager.clear();
+        }
+        updated.forEach(product -> eventPublisher.publishEvent(ProductChangedEvent.saved(product)));
+        return missing;
+    }
+
+    private void recordUpdates(List<Item> chunk, List<Item> missing, BulkResult result) {
+        for (Item item : chunk) {
+            Long id = item.product().getId();
+            if (missing.contains(item)) {
+                result.addError(item.index(), id, "Product not found with id: " + id);
+            } else {
+                productCache.evict(id);
+                result.addSuccess(item.index(), id);
+            }
+        }
+    }
+
+    private static <T> List<List<T>> partition(List<T> items, int size) {
+        List<List<T>> partitions = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += size) {
+            partitions.add(items.subList(from, Math.min(from + size, items.size())));
+        }
+        return partitions;
+    }
+
+    private static String mostSpecificMessage(Throwable e) {
+        return NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+    }
+
+    private record Item(int index, Product product) {
+    }
+}
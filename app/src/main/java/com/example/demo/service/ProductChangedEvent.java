@@ -0,0 +1,45 @@
+package com.example.demo.service;
+
+import com.example.demo.model.Product;
+import lombok.Value;
+
+/**
+ * Event yang dipublikasikan ProductService setiap kali data produk berubah.
+ *
+ * <p>Event ini dipakai oleh struktur data in-memory (index, cache, statistik)
+ * agar tetap sinkron dengan tabel {@code products} tanpa perlu membaca ulang
+ * database. Untuk {@link Type#DELETED}, {@code product} bernilai null.
+ *
+ * <p>{@code stockChanged} bernilai false jika perubahan dipastikan tidak
+ * menyentuh kolom {@code stock} (misalnya PATCH yang hanya mengubah harga),
+ * sehingga listener yang mengelola stok di memori tidak perlu menimpanya.
+ *
+ * @author Harist Islami
+ * @version 1.1
+ * @since 2026-10-18
+ */
+@Value
+public class ProductChangedEvent {
+
+    public enum Type {
+        SAVED,
+        DELETED
+    }
+
+    Type type;
+    Long id;
+    Product product;
+    boolean stockChanged;
+
+    public static ProductChangedEvent saved(Product product) {
+        return saved(product, true);
+    }
+
+    public static ProductChangedEvent saved(Product product, boolean stockChanged) {
+        return new ProductChangedEvent(Type.SAVED, product.getId(), product, stockChanged);
+    }
+
+    public static ProductChangedEvent deleted(Long id) {
+        return new ProductChangedEvent(Type.DELETED, id, null, true);
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.demo.service;
+
+import com.example.demo.model.Product;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Posisi keyset untuk pagination produk yang di-encode menjadi token opaque.
+ *
+ * <p>Token berisi urutan yang dipakai beserta nilai kolom urut dari baris
+ * terakhir halaman sebelumnya, misalnya {@code id:42} atau
+ * {@code price:1999999.00:42}, lalu di-encode dengan Base64 URL-safe.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class ProductCursor {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final ProductSort sort;
+    private final BigDecimal price;
+    private final Long id;
+
+    private ProductCursor(ProductSort sort, BigDecimal price, Long id) {
+        this.sort = sort;
+        this.price = price;
+        this.id = id;
+    }
+
+    static ProductCursor after(ProductSort sort, Product last) {
+        return new ProductCursor(sort, sort == ProductSort.PRICE ? last.getPrice() : null, last.getId());
+    }
+
+    /**
+     * Membaca cursor dari parameter {@code after}.
+     *
+     * <p>Untuk urutan {@code id}, ID mentah (misalnya {@code after=42}) juga diterima.
+     *
+     * @param token token dari {@code nextCursor} atau ID mentah
+     * @param sort urutan yang diminta pada request saat ini
+     * @return ProductCursor hasil decode
+     * @throws IllegalArgumentException jika token tidak valid atau urutannya berbeda
+     */
+    static ProductCursor decode(String token, ProductSort sort) {
+        if (sort == ProductSort.ID && token.chars().allMatch(Character::isDigit) && !token.isEmpty()) {
+            return new ProductCursor(sort, null, Long.valueOf(token));
+        }
+        try {
+            String[] parts = new String(DECODER.decode(token), StandardCharsets.UTF_8).split(":");
+            ProductSort tokenSort = ProductSort.from(parts[0]);
+            if (tokenSort != sort) {
+                throw new IllegalArgumentException("Cursor was issued for a different sort");
+            }
+            if (sort == ProductSort.PRICE && parts.length == 3) {
+                return new ProductCursor(sort, new BigDecimal(parts[1]), Long.valueOf(parts[2]));
+            }
+            if (sort == ProductSort.ID && parts.length == 2) {
+                return new ProductCursor(sort, null, Long.valueOf(parts[1]));
+            }
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+        throw new IllegalArgumentException("Invalid cursor: " + token);
+    }
+
+    String encode() {
+        String raw = sort == ProductSort.PRICE
+                ? "price:" + price.toPlainString() + ":" + id
+                : "id:" + id;
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    BigDecimal getPrice() {
+        return price;
+    }
+
+    Long getId() {
+        return id;
+    }
+}
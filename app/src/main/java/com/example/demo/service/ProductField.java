@@ -0,0 +1,61 @@
+package com.example.demo.service;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Field produk yang bisa dipilih lewat parameter {@code fields} (sparse fieldset).
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public enum ProductField {
+    ID("id"),
+    NAME("name"),
+    DESCRIPTION("description"),
+    PRICE("price"),
+    STOCK("stock"),
+    VERSION("version");
+
+    private final String attribute;
+
+    ProductField(String attribute) {
+        this.attribute = attribute;
+    }
+
+    /**
+     * Nama atribut entity sekaligus nama property JSON.
+     */
+    public String attribute() {
+        return attribute;
+    }
+
+    /**
+     * Mengubah nilai parameter {@code fields}, misalnya "id,name,price", menjadi set field.
+     *
+     * @param value daftar field dipisahkan koma
+     * @return field yang diminta, terurut sesuai deklarasi enum
+     * @throws IllegalArgumentException jika kosong atau ada field yang tidak dikenali
+     */
+    public static Set<ProductField> parse(String value) {
+        Set<ProductField> fields = EnumSet.noneOf(ProductField.class);
+        if (value != null) {
+            for (String name : value.split(",")) {
+                if (name.isBlank()) {
+                    continue;
+                }
+                try {
+                    fields.add(valueOf(name.trim().toUpperCase(Locale.ROOT)));
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Unsupported field: " + name.trim());
+                }
+            }
+        }
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("At least one field is required");
+        }
+        return fields;
+    }
+}
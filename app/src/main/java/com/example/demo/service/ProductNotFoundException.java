@@ -0,0 +1,24 @@
+package com.example.demo.service;
+
+import lombok.Getter;
+
+/**
+ * Dilempar ketika produk yang akan diubah, dihapus, atau direservasi stoknya
+ * tidak ada di database. Controller memetakan exception ini ke 404; error lain
+ * (misalnya pelanggaran constraint atau kegagalan koneksi database) tidak
+ * diperlakukan sebagai produk yang tidak ditemukan.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Getter
+public class ProductNotFoundException extends RuntimeException {
+
+    private final Long productId;
+
+    public ProductNotFoundException(Long productId) {
+        super("Product not found with id: " + productId);
+        this.productId = productId;
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.demo.service;
+
+import com.example.demo.config.CacheConfig;
+import com.example.demo.model.Product;
+import com.example.demo.repository.ProductPatchRepository;
+import com.example.demo.repository.ProductRepository;
+import com.example.demo.stock.HotStockRegistry;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Service untuk update parsial produk dengan JSON Merge Patch (RFC 7396).
+ *
+ * <p>Hanya field yang ada di patch yang divalidasi terhadap constraint
+ * {@link Product} dan ditulis ke database, dalam satu statement UPDATE tanpa
+ * existsById sebelumnya. Nilai null berarti mengosongkan field (dan akan
+ * ditolak untuk field wajib). Produk lalu dibaca ulang berdasarkan primary key
+ * di transaksi yang sama untuk respons, cache, dan index pencarian. Untuk hot
+ * SKU, respons dan cache memakai salinan dengan stok live dari
+ * {@link HotStockRegistry} kecuali patch mengubah stok itu sendiri; entity
+ * managed tidak diubah agar stok live tidak ikut tertulis saat commit.
+ *
+ * @author Harist Islami
+ * @version 1.2
+ * @since 2026-10-18
+ */
+@Service
+public class ProductPatchService {
+
+    private static final Map<String, Class<?>> FIELD_TYPES = Map.of(
+            "name", String.class,
+            "description", String.class,
+            "price", BigDecimal.class,
+            "stock", Integer.class);
+
+    private final ProductRepository productRepository;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final HotStockRegistry hotStockRegistry;
+
+    @Autowired
+    public ProductPatchService(ProductRepository productRepository,
+                               ObjectMapper objectMapper,
+                               Validator validator,
+                               ApplicationEventPublisher eventPublisher,
+                               HotStockRegistry hotStockRegistry) {
+        this.productRepository = productRepository;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.hotStockRegistry = hotStockRegistry;
+    }
+
+    /**
+     * Menerapkan merge patch ke produk.
+     *
+     * @param id ID produk
+     * @param patch dokumen JSON Merge Patch
+     * @param expectedVersion version yang harus cocok (dari If-Match), atau null
+     * @return produk setelah dipatch
+     * @throws IllegalArgumentException jika patch bukan object, berisi field yang
+     *         tidak dikenal, atau nilainya tidak valid
+     * @throws ProductVersionConflictException jika version sudah berubah
+     * @throws ProductNotFoundException jika produk tidak ditemukan
+     */
+    @CachePut(cacheNames = CacheConfig.PRODUCTS_CACHE, key = "#id")
+    @Transactional
+    public Product patchProduct(Long id, JsonNode patch, Long expectedVersion) {
+        Map<String, Object> changes = readChanges(patch);
+        if (changes.isEmpty()) {
+            Product current = productRepository.findById(id).orElseThrow(() -> notFound(id));
+            if (expectedVersion != null && !expectedVersion.equals(current.getVersion())) {
+                throw new ProductVersionConflictException(id, expectedVersion);
+            }
+            return withLiveStock(current);
+        }
+        if (productRepository.patchById(id, expectedVersion, changes) == 0) {
+            throw expectedVersion != null && productRepository.existsById(id)
+                    ? new ProductVersionConflictException(id, expectedVersion)
+                    : notFound(id);
+        }
+        Product saved = productRepository.findById(id).orElseThrow(() -> notFound(id));
+        eventPublisher.publishEvent(ProductChangedEvent.saved(saved, changes.containsKey("stock")));
+        return changes.containsKey("stock") ? saved : withLiveStock(saved);
+    }
+
+    private Product withLiveStock(Product product) {
+        if (!hotStockRegistry.isHot(product.getId())) {
+            return product;
+        }
+        Product copy = new Product(product.getId(), product.getName(), product.getDescription(),
+                product.getPrice(), product.getStock(), product.getVersion());
+        hotStockRegistry.overlay(copy);
+        return copy;
+    }
+
+    private Map<String, Object> readChanges(JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            throw new IllegalArgumentException("Patch must be a JSON object");
+        }
+        Map<String, Object> changes = new LinkedHashMap<>();
+        for (Iterator<Map.Entry<String, JsonNode>> fields = patch.fields(); fields.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            String name = field.getKey();
+            Class<?> type = FIELD_TYPES.get(name);
+            if (type == null || !ProductPatchRepository.PATCHABLE_ATTRIBUTES.contains(name)) {
+                throw new IllegalArgumentException("Field cannot be patched: " + name);
+            }
+            Object value = convert(name, field.getValue(), type);
+            Set<ConstraintViolation<Product>> violations = validator.validateValue(Product.class, name, value);
+            if (!violations.isEmpty()) {
+                throw new IllegalArgumentException(name + ": " + violations.iterator().next().getMessage());
+            }
+            changes.put(name, value);
+        }
+        return changes;
+    }
+
+    private Object convert(String name, JsonNode value, Class<?> type) {
+        if (value.isNull()) {
+            return null;
+        }
+        boolean compatible = type == String.class ? value.isTextual()
+                : type == Integer.class ? value.isIntegralNumber() : value.isNumber();
+        if (!compatible) {
+            throw new IllegalArgumentException("Invalid value for field " + name);
+        }
+        try {
+            return objectMapper.treeToValue(value, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid value for field " + name, e);
+        }
+    }
+
+    private static ProductNotFoundException notFound(Long id) {
+        return new ProductNotFoundException(id);
+    }
+}
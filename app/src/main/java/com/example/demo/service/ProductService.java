@@ -0,0 +1,742 @@
+package com.example.demo.service;
+
+import com.example.demo.columnar.ColumnarCatalog;
+import com.example.demo.config.CacheConfig;
+import com.example.demo.index.FullTextIndex;
+import com.example.demo.index.PrefixIndex;
+import com.example.demo.index.PriceIndex;
+import com.example.demo.index.TrigramIndex;
+import com.example.demo.jfr.ProductLookupEvent;
+import com.example.demo.jfr.ProductSearchEvent;
+import com.example.demo.jfr.ProductWriteEvent;
+import com.example.demo.model.PriceBucket;
+import com.example.demo.model.Product;
+import com.example.demo.model.ProductPage;
+import com.example.demo.model.ProductSearchHit;
+import com.example.demo.model.ProductSuggestion;
+import com.example.demo.repository.ProductRepository;
+import com.example.demo.stock.HotStockRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Service layer untuk Product entity.
+ *
+ * <p>Kelas ini menyediakan business logic untuk operasi CRUD
+ * pada produk. Setiap perubahan dipublikasikan sebagai
+ * {@link ProductChangedEvent} agar index in-memory tetap sinkron.
+ *
+ * <p>Stok produk hot SKU dipegang oleh {@link HotStockRegistry}; semua
+ * pembacaan produk di sini menampilkan nilai counter terkini, bukan nilai
+ * di database yang baru diperbarui secara berkala.
+ *
+ * <p>Jika {@link ColumnarCatalog} aktif, pembacaan berdasarkan ID, listing
+ * penuh, dan rentang harga dijawab dari read model kolumnar tanpa query
+ * database.
+ *
+ * <p>Rentang harga, top-N, dan histogram harga dijawab dari {@link PriceIndex};
+ * selama index belum siap, query database memakai index {@code idx_product_price}.
+ *
+ * <p>Lookup, pencarian, dan penulisan dicatat sebagai event JFR
+ * ({@link ProductLookupEvent}, {@link ProductSearchEvent}, {@link ProductWriteEvent});
+ * biayanya hampir nol selama tidak ada recording yang aktif.
+ *
+ * @author Harist Islami
+ * @version 1.8
+ * @since 2025-09-20
+ */
+@Service
+public class ProductService {
+
+    /** Batas maksimum jumlah item per halaman pada listing dengan cursor. */
+    public static final int MAX_PAGE_LIMIT = 1000;
+
+    /**
+     * Jumlah ID maksimum dalam satu query IN.
+     *
+     * <p>Multi-get hingga {@value #MAX_MULTI_GET_IDS} ID sengaja dipecah, bukan
+     * satu IN besar: daftar IN yang panjang membuat optimizer cenderung beralih
+     * dari lookup primary key ke scan tabel, setiap panjang daftar menjadi
+     * statement berbeda di cache plan, dan sebagian database membatasi jumlah
+     * elemen IN atau parameter bind (mis. 1000 di Oracle, 2100 di SQL Server).
+     * Dengan 500, multi-get terbesar tetap hanya dua query.
+     */
+    static final int ID_LOOKUP_CHUNK_SIZE = 500;
+
+    /** Batas maksimum jumlah ID dalam satu request multi-get. */
+    public static final int MAX_MULTI_GET_IDS = 1000;
+
+    /** Batas maksimum jumlah saran autocomplete per request. */
+    public static final int MAX_SUGGESTION_LIMIT = 50;
+
+    /** Batas maksimum jumlah hasil pencarian full-text per request. */
+    public static final int MAX_FULL_TEXT_LIMIT = 100;
+
+    /** Batas maksimum jumlah produk pada top-N. */
+    public static final int MAX_TOP_N = 100;
+
+    /** Batas maksimum jumlah bucket histogram harga. */
+    public static final int MAX_HISTOGRAM_BUCKETS = 100;
+
+    /** Harga tertinggi yang bisa disimpan, sama dengan {@code @DecimalMax} pada {@link Product}. */
+    public static final BigDecimal MAX_PRICE = new BigDecimal("99999999.99");
+
+    private final ProductRepository productRepository;
+    private final TrigramIndex trigramIndex;
+    private final PrefixIndex prefixIndex;
+    private final FullTextIndex fullTextIndex;
+    private final PriceIndex priceIndex;
+    private final RequestCoalescer requestCoalescer;
+    private final ProductBatchLoader productBatchLoader;
+    private final ApplicationEventPublisher eventPublisher;
+    private final HotStockRegistry hotStockRegistry;
+    private final ColumnarCatalog columnarCatalog;
+
+    @Autowired
+    public ProductService(ProductRepository productRepository,
+                          TrigramIndex trigramIndex,
+                          PrefixIndex prefixIndex,
+                          FullTextIndex fullTextIndex,
+                          PriceIndex priceIndex,
+                          RequestCoalescer requestCoalescer,
+                          ProductBatchLoader productBatchLoader,
+                          ApplicationEventPublisher eventPublisher,
+                          HotStockRegistry hotStockRegistry,
+                          ColumnarCatalog columnarCatalog) {
+        this.productRepository = productRepository;
+        this.trigramIndex = trigramIndex;
+        this.prefixIndex = prefixIndex;
+        this.fullTextIndex = fullTextIndex;
+        this.priceIndex = priceIndex;
+        this.requestCoalescer = requestCoalescer;
+        this.productBatchLoader = productBatchLoader;
+        this.eventPublisher = eventPublisher;
+        this.hotStockRegistry = hotStockRegistry;
+        this.columnarCatalog = columnarCatalog;
+    }
+
+    public List<Product> getAllProducts() {
+        List<Product> products = columnarCatalog.isReady() ? columnarCatalog.findAll() : productRepository.findAll();
+        hotStockRegistry.overlay(products);
+        return products;
+    }
+
+    /**
+     * Mengambil semua produk dengan hanya field yang diminta (sparse fieldset).
+     *
+     * <p>Kolom yang tidak diminta tidak di-SELECT dari database dan tidak
+     * ikut diserialisasi.
+     *
+     * @param fields field yang diminta
+     * @return satu map per produk berisi field yang diminta, terurut berdasarkan ID
+     */
+    public List<Map<String, Object>> getAllProducts(Set<ProductField> fields) {
+        return project(productRepository.findAllProjected(attributes(fields)), fields);
+    }
+
+    /**
+     * Mengambil satu halaman produk menggunakan pagination keyset (cursor).
+     *
+     * <p>Query mengambil {@code limit + 1} baris untuk mengetahui apakah masih
+     * ada halaman berikutnya tanpa perlu query COUNT.
+     *
+     * @param after cursor dari halaman sebelumnya, atau null untuk halaman pertama
+     * @param limit jumlah maksimum item dalam halaman
+     * @param sort urutan listing
+     * @return ProductPage berisi item dan cursor halaman berikutnya
+     * @throws IllegalArgumentException jika limit di luar batas atau cursor tidak valid
+     */
+    public ProductPage getProductPage(String after, int limit, ProductSort sort) {
+        if (limit < 1 || limit > MAX_PAGE_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_LIMIT);
+        }
+        ProductCursor cursor = after == null ? null : ProductCursor.decode(after, sort);
+        Limit fetch = Limit.of(limit + 1);
+        List<Product> rows = switch (sort) {
+            case ID -> cursor == null
+                    ? productRepository.findAllByOrderByIdAsc(fetch)
+                    : productRepository.findByIdGreaterThanOrderByIdAsc(cursor.getId(), fetch);
+            case PRICE -> cursor == null
+                    ? productRepository.findAllByOrderByPriceAscIdAsc(fetch)
+                    : productRepository.findPageByPriceAfter(cursor.getPrice(), cursor.getId(), fetch);
+        };
+        hotStockRegistry.overlay(rows);
+        if (rows.size() <= limit) {
+            return new ProductPage(rows, null);
+        }
+        List<Product> items = new ArrayList<>(rows.subList(0, limit));
+        String nextCursor = ProductCursor.after(sort, items.get(limit - 1)).encode();
+        return new ProductPage(items, nextCursor);
+    }
+
+    /**
+     * Mengirim seluruh produk satu per satu ke {@code consumer}, berurutan berdasarkan ID.
+     *
+     * <p>Baris dibaca dengan cursor forward-only sehingga pemakaian heap tidak
+     * bergantung pada jumlah produk di database.
+     *
+     * @param consumer penerima setiap produk
+     */
+    @Transactional(readOnly = true)
+    public void exportProducts(Consumer<Product> consumer) {
+        try (Stream<Product> products = productRepository.streamAllForExport()) {
+            products.forEach(product -> {
+                hotStockRegistry.overlay(product);
+                consumer.accept(product);
+            });
+        }
+    }
+
+    /**
+     * Mengambil produk berdasarkan ID melalui cache read-through.
+     *
+     * <p>Produk yang tidak ditemukan tidak di-cache. Cache miss yang terjadi
+     * bersamaan untuk ID yang sama hanya menjalankan satu query, dan cache miss
+     * untuk ID berbeda dalam jendela waktu yang sama digabung oleh
+     * {@link ProductBatchLoader} menjadi satu query IN. Produk hot SKU
+     * tidak melewati cache maupun database, tetapi dibaca dari counter stoknya.
+     *
+     * @param id ID produk
+     * @return produk jika ada
+     */
+    @Cacheable(cacheNames = CacheConfig.PRODUCTS_CACHE, key = "#id",
+            condition = "!@hotStockRegistry.isHot(#id)", unless = "#result == null")
+    public Optional<Product> getProductById(Long id) {
+        ProductLookupEvent event = ProductLookupEvent.begin(id, 1);
+        try {
+            Optional<Product> product = lookupById(id);
+            event.rowCount = product.isPresent() ? 1 : 0;
+            return product;
+        } finally {
+            event.commit();
+        }
+    }
+
+    private Optional<Product> lookupById(Long id) {
+        Optional<Product> hot = hotStockRegistry.snapshot(id);
+        if (hot.isPresent()) {
+            return hot;
+        }
+        if (columnarCatalog.isReady()) {
+            return columnarCatalog.findById(id);
+        }
+        return requestCoalescer.execute("findById", id, () -> productBatchLoader.load(id));
+    }
+
+    /**
+     * Mengambil banyak produk sekaligus berdasarkan ID (multi-get).
+     *
+     * <p>ID duplikat dibuang, lalu produk diambil dengan query IN per
+     * {@value #ID_LOOKUP_CHUNK_SIZE} ID (lihat {@link #ID_LOOKUP_CHUNK_SIZE}).
+     * ID yang tidak ditemukan dilewati.
+     *
+     * @param ids daftar ID produk
+     * @return produk yang ditemukan, sesuai urutan kemunculan pertama ID di {@code ids}
+     * @throws IllegalArgumentException jika daftar kosong, berisi null, atau melebihi batas
+     */
+    public List<Product> getProductsByIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("At least one id is required");
+        }
+        Set<Long> unique = new LinkedHashSet<>();
+        for (Long id : ids) {
+            if (id == null) {
+                throw new IllegalArgumentException("Ids must not contain null");
+            }
+            unique.add(id);
+        }
+        List<Long> distinct = new ArrayList<>(unique);
+        if (distinct.size() > MAX_MULTI_GET_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_MULTI_GET_IDS + " ids are allowed");
+        }
+        ProductLookupEvent event = ProductLookupEvent.begin(0L, distinct.size());
+        try {
+            List<Product> products = findByIdsInOrder(distinct);
+            hotStockRegistry.overlay(products);
+            event.rowCount = products.size();
+            return products;
+        } finally {
+            event.commit();
+        }
+    }
+
+    /**
+     * Mengambil produk dengan harga dalam rentang {@code [min, max]}.
+     *
+     * <p>ID diambil dari {@link PriceIndex} lalu produknya dimuat berdasarkan
+     * primary key. Selama index belum siap, dipakai read model kolumnar (jika
+     * aktif) atau query database.
+     *
+     * @param min harga minimum (inklusif)
+     * @param max harga maksimum (inklusif)
+     * @param limit jumlah maksimum produk
+     * @return produk terurut berdasarkan harga lalu ID
+     * @throws IllegalArgumentException jika rentang atau limit tidak valid
+     */
+    public List<Product> getProductsByPriceRange(BigDecimal min, BigDecimal max, int limit) {
+        if (min == null || max == null || min.signum() < 0 || min.compareTo(max) > 0) {
+            throw new IllegalArgumentException("Price range must satisfy 0 <= min <= max");
+        }
+        if (limit < 1 || limit > MAX_PAGE_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_LIMIT);
+        }
+        List<Product> products;
+        if (priceIndex.isReady()) {
+            products = findByIdsInOrder(priceIndex.range(min, max, limit));
+        } else if (columnarCatalog.isReady()) {
+            products = columnarCatalog.findByPriceBetween(min, max, limit);
+        } else {
+            products = productRepository.findByPriceBetweenOrderByPriceAscIdAsc(min, max, Limit.of(limit));
+        }
+        hotStockRegistry.overlay(products);
+        return products;
+    }
+
+    /**
+     * Mengambil N produk termurah atau termahal.
+     *
+     * <p>ID dibaca berurutan dari {@link PriceIndex} per batch (ukurannya
+     * berlipat dua hingga {@value #ID_LOOKUP_CHUNK_SIZE}); jika hanya produk
+     * dengan stok yang diminta, produk tanpa stok dilewati dan batch berikutnya
+     * dibaca sampai N produk terkumpul.
+     *
+     * @param by kriteria urutan, saat ini hanya {@link ProductSort#PRICE}
+     * @param descending true untuk termahal lebih dulu
+     * @param n jumlah produk
+     * @param inStockOnly hanya produk dengan stok lebih dari 0
+     * @return produk terurut sesuai kriteria
+     * @throws IllegalArgumentException jika kriteria tidak didukung atau n di luar batas
+     */
+    public List<Product> getTopProducts(ProductSort by, boolean descending, int n, boolean inStockOnly) {
+        if (by != ProductSort.PRICE) {
+            throw new IllegalArgumentException("Unsupported ranking: " + by);
+        }
+        if (n < 1 || n > MAX_TOP_N) {
+            throw new IllegalArgumentException("N must be between 1 and " + MAX_TOP_N);
+        }
+        if (!priceIndex.isReady()) {
+            return topProductsFromDatabase(descending, n, inStockOnly);
+        }
+        Iterator<Long> ids = priceIndex.idsByPrice(descending);
+        Set<Long> seen = new HashSet<>();
+        List<Product> top = new ArrayList<>(n);
+        int chunk = n;
+        while (top.size() < n && ids.hasNext()) {
+            List<Long> batch = new ArrayList<>(chunk);
+            while (batch.size() < chunk && ids.hasNext()) {
+                Long id = ids.next();
+                if (seen.add(id)) {
+                    batch.add(id);
+                }
+            }
+            List<Product> products = findByIdsInOrder(batch);
+            hotStockRegistry.overlay(products);
+            for (Product product : products) {
+                if (top.size() < n && (!inStockOnly || product.getStock() > 0)) {
+                    top.add(product);
+                }
+            }
+            chunk = Math.min(chunk * 2, ID_LOOKUP_CHUNK_SIZE);
+        }
+        return top;
+    }
+
+    private List<Product> topProductsFromDatabase(boolean descending, int n, boolean inStockOnly) {
+        Limit limit = Limit.of(n);
+        List<Product> products;
+        if (inStockOnly) {
+            products = descending
+                    ? productRepository.findByStockGreaterThanOrderByPriceDescIdDesc(0, limit)
+                    : productRepository.findByStockGreaterThanOrderByPriceAscIdAsc(0, limit);
+        } else {
+            products = descending
+                    ? productRepository.findAllByOrderByPriceDescIdDesc(limit)
+                    : productRepository.findAllByOrderByPriceAscIdAsc(limit);
+        }
+        products = new ArrayList<>(products);
+        hotStockRegistry.overlay(products);
+        if (inStockOnly) {
+            products.removeIf(product -> product.getStock() <= 0);
+        }
+        return products;
+    }
+
+    /**
+     * Menghitung histogram harga dengan bucket selebar sama (dalam sen).
+     *
+     * <p>Dihitung dari kunci {@link PriceIndex} tanpa memuat produk. Selama
+     * index belum siap, setiap bucket dihitung dengan query COUNT berdasarkan
+     * rentang harga. Jika rentang lebih sempit dari jumlah bucket, bucket
+     * yang seluruhnya di luar rentang tidak dikembalikan.
+     *
+     * @param min batas bawah, atau null untuk harga termurah
+     * @param max batas atas, atau null untuk harga termahal
+     * @param buckets jumlah bucket
+     * @return bucket terurut dari harga terendah; kosong jika tidak ada produk
+     * @throws IllegalArgumentException jika rentang atau jumlah bucket tidak valid,
+     *         termasuk batas di atas {@link #MAX_PRICE}
+     */
+    public List<PriceBucket> getPriceHistogram(BigDecimal min, BigDecimal max, int buckets) {
+        if (buckets < 1 || buckets > MAX_HISTOGRAM_BUCKETS) {
+            throw new IllegalArgumentException("Buckets must be between 1 and " + MAX_HISTOGRAM_BUCKETS);
+        }
+        if ((min != null && min.signum() < 0) || (min != null && max != null && min.compareTo(max) > 0)) {
+            throw new IllegalArgumentException("Price range must satisfy 0 <= min <= max");
+        }
+        if ((min != null && min.compareTo(MAX_PRICE) > 0) || (max != null && max.compareTo(MAX_PRICE) > 0)) {
+            throw new IllegalArgumentException("Price bounds must not exceed " + MAX_PRICE);
+        }
+        boolean fromIndex = priceIndex.isReady();
+        OptionalLong from = min != null ? OptionalLong.of(toCents(min, RoundingMode.CEILING))
+                : fromIndex ? priceIndex.minCents() : cents(productRepository.findMinPrice());
+        OptionalLong to = max != null ? OptionalLong.of(toCents(max, RoundingMode.FLOOR))
+                : fromIndex ? priceIndex.maxCents() : cents(productRepository.findMaxPrice());
+        if (from.isEmpty() || to.isEmpty() || from.getAsLong() > to.getAsLong()) {
+            return List.of();
+        }
+        long fromCents = from.getAsLong();
+        long toCents = to.getAsLong();
+        long width = (toCents - fromCents + buckets) / buckets;
+        long[] counts = fromIndex ? priceIndex.histogram(fromCents, toCents, width, buckets) : null;
+        List<PriceBucket> histogram = new ArrayList<>(buckets);
+        for (int i = 0; i < buckets; i++) {
+            long low = fromCents + i * width;
+            if (low > toCents) {
+                break;
+            }
+            long high = Math.min(low + width - 1, toCents);
+            BigDecimal lowPrice = BigDecimal.valueOf(low, 2);
+            BigDecimal highPrice = BigDecimal.valueOf(high, 2);
+            long count = counts != null ? counts[i] : productRepository.countByPriceBetween(lowPrice, highPrice);
+            histogram.add(new PriceBucket(lowPrice, highPrice, count));
+        }
+        return histogram;
+    }
+
+    private static long toCents(BigDecimal price, RoundingMode rounding) {
+        return price.setScale(2, rounding).unscaledValue().longValueExact();
+    }
+
+    private static OptionalLong cents(BigDecimal price) {
+        return price == null ? OptionalLong.empty() : OptionalLong.of(toCents(price, RoundingMode.HALF_UP));
+    }
+
+    public Product createProduct(Product product) {
+        ProductWriteEvent event = ProductWriteEvent.begin(ProductWriteEvent.CREATE, null, false);
+        try {
+            product.setId(null);
+            product.setVersion(null);
+            Product saved = productRepository.save(product);
+            eventPublisher.publishEvent(ProductChangedEvent.saved(saved));
+            event.id = saved.getId();
+            event.rowCount = 1;
+            return saved;
+        } finally {
+            event.commit();
+        }
+    }
+
+    /**
+     * Mengupdate produk tanpa syarat version (last write wins).
+     *
+     * <p>Update dikirim sebagai satu statement UPDATE; produk lalu dibaca ulang
+     * untuk mendapatkan version yang baru.
+     *
+     * @param id ID produk
+     * @param product data produk baru
+     * @return produk setelah diupdate
+     * @throws ProductNotFoundException jika produk tidak ditemukan
+     */
+    @CachePut(cacheNames = CacheConfig.PRODUCTS_CACHE, key = "#id")
+    @Transactional
+    public Product updateProduct(Long id, Product product) {
+        ProductWriteEvent event = ProductWriteEvent.begin(ProductWriteEvent.UPDATE, id, false);
+        try {
+            if (productRepository.updateById(id, product) == 0) {
+                throw notFound(id);
+            }
+            event.rowCount = 1;
+            Product saved = productRepository.findById(id).orElseThrow(() -> notFound(id));
+            eventPublisher.publishEvent(ProductChangedEvent.saved(saved));
+            return saved;
+        } finally {
+            event.commit();
+        }
+    }
+
+    /**
+     * Mengupdate produk hanya jika version di database sama dengan {@code expectedVersion}.
+     *
+     * <p>Cukup satu statement UPDATE bersyarat; existsById hanya dipanggil
+     * ketika update gagal untuk membedakan produk yang tidak ada dari konflik.
+     *
+     * @param id ID produk
+     * @param product data produk baru
+     * @param expectedVersion version yang terakhir dibaca client (dari ETag)
+     * @return produk setelah diupdate
+     * @throws ProductVersionConflictException jika version sudah berubah
+     * @throws ProductNotFoundException jika produk tidak ditemukan
+     */
+    @CachePut(cacheNames = CacheConfig.PRODUCTS_CACHE, key = "#id")
+    public Product updateProduct(Long id, Product product, long expectedVersion) {
+        ProductWriteEvent event = ProductWriteEvent.begin(ProductWriteEvent.UPDATE, id, true);
+        try {
+            if (productRepository.updateByIdAndVersion(id, expectedVersion, product) == 0) {
+                throw conflictOrNotFound(id, expectedVersion);
+            }
+            event.rowCount = 1;
+            Product saved = new Product(id, product.getName(), product.getDescription(),
+                    product.getPrice(), product.getStock(), expectedVersion + 1);
+            eventPublisher.publishEvent(ProductChangedEvent.saved(saved));
+            return saved;
+        } finally {
+            event.commit();
+        }
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.PRODUCTS_CACHE, key = "#id")
+    public void deleteProduct(Long id) {
+        ProductWriteEvent event = ProductWriteEvent.begin(ProductWriteEvent.DELETE, id, false);
+        try {
+            if (productRepository.removeById(id) == 0) {
+                throw notFound(id);
+            }
+            event.rowCount = 1;
+            eventPublisher.publishEvent(ProductChangedEvent.deleted(id));
+        } finally {
+            event.commit();
+        }
+    }
+
+    /**
+     * Menghapus produk hanya jika version di database sama dengan {@code expectedVersion}.
+     *
+     * @throws ProductVersionConflictException jika version sudah berubah
+     * @throws ProductNotFoundException jika produk tidak ditemukan
+     */
+    @CacheEvict(cacheNames = CacheConfig.PRODUCTS_CACHE, key = "#id")
+    public void deleteProduct(Long id, long expectedVersion) {
+        ProductWriteEvent event = ProductWriteEvent.begin(ProductWriteEvent.DELETE, id, true);
+        try {
+            if (productRepository.removeByIdAndVersion(id, expectedVersion) == 0) {
+                throw conflictOrNotFound(id, expectedVersion);
+            }
+            event.rowCount = 1;
+            eventPublisher.publishEvent(ProductChangedEvent.deleted(id));
+        } finally {
+            event.commit();
+        }
+    }
+
+    private RuntimeException conflictOrNotFound(Long id, long expectedVersion) {
+        return productRepository.existsById(id)
+                ? new ProductVersionConflictException(id, expectedVersion)
+                : notFound(id);
+    }
+
+    private static ProductNotFoundException notFound(Long id) {
+        return new ProductNotFoundException(id);
+    }
+
+    /**
+     * Mencari produk yang namanya mengandung kata kunci (case insensitive).
+     *
+     * <p>Query dengan minimal tiga karakter dijawab oleh {@link TrigramIndex}
+     * lalu produk diambil berdasarkan primary key. Query yang lebih pendek
+     * diteruskan ke query LIKE di database. Pencarian bersamaan dengan kata
+     * kunci yang sama (tanpa membedakan huruf besar/kecil) hanya dieksekusi
+     * sekali dan hasilnya dipakai bersama.
+     *
+     * @param name kata kunci pencarian
+     * @return daftar produk yang cocok, terurut berdasarkan ID
+     */
+    public List<Product> findProductsByName(String name) {
+        ProductSearchEvent event = ProductSearchEvent.begin(ProductSearchEvent.NAME, name);
+        try {
+            List<Product> products = requestCoalescer.execute(
+                    "findByName", name.toLowerCase(Locale.ROOT), () -> searchByName(name));
+            hotStockRegistry.overlay(products);
+            event.rowCount = products.size();
+            return products;
+        } finally {
+            event.commit();
+        }
+    }
+
+    /**
+     * Sama seperti {@link #findProductsByName(String)}, tetapi hanya memuat field yang diminta.
+     *
+     * @param name kata kunci pencarian
+     * @param fields field yang diminta
+     * @return satu map per produk berisi field yang diminta, terurut berdasarkan ID
+     */
+    public List<Map<String, Object>> findProductsByName(String name, Set<ProductField> fields) {
+        ProductSearchEvent event = ProductSearchEvent.begin(ProductSearchEvent.NAME, name);
+        try {
+            List<Map<String, Object>> rows = requestCoalescer.execute("findByNameProjected",
+                    List.of(name.toLowerCase(Locale.ROOT), fields),
+                    () -> project(searchByName(name, attributes(fields)), fields));
+            event.rowCount = rows.size();
+            return rows;
+        } finally {
+            event.commit();
+        }
+    }
+
+    private List<Map<String, Object>> searchByName(String name, List<String> attributes) {
+        if (!TrigramIndex.supports(name)) {
+            return productRepository.findProjectedByNameContainingIgnoreCase(name, attributes);
+        }
+        List<Long> ids = trigramIndex.search(name);
+        List<Map<String, Object>> rows = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += ID_LOOKUP_CHUNK_SIZE) {
+            rows.addAll(productRepository.findProjectedByIdIn(
+                    ids.subList(from, Math.min(from + ID_LOOKUP_CHUNK_SIZE, ids.size())), attributes));
+        }
+        rows.sort(Comparator.comparing(row -> (Long) row.get(ProductField.ID.attribute())));
+        return rows;
+    }
+
+    private static List<String> attributes(Set<ProductField> fields) {
+        return fields.stream().map(ProductField::attribute).toList();
+    }
+
+    /**
+     * Menerapkan stok hot SKU lalu membuang {@code id} jika tidak diminta.
+     */
+    private List<Map<String, Object>> project(List<Map<String, Object>> rows, Set<ProductField> fields) {
+        boolean overlayStock = fields.contains(ProductField.STOCK);
+        boolean keepId = fields.contains(ProductField.ID);
+        for (Map<String, Object> row : rows) {
+            if (overlayStock) {
+                hotStockRegistry.snapshot((Long) row.get(ProductField.ID.attribute()))
+                        .ifPresent(hot -> row.put(ProductField.STOCK.attribute(), hot.getStock()));
+            }
+            if (!keepId) {
+                row.remove(ProductField.ID.attribute());
+            }
+        }
+        return rows;
+    }
+
+    private List<Product> searchByName(String name) {
+        if (!TrigramIndex.supports(name)) {
+            return productRepository.findByNameContainingIgnoreCase(name);
+        }
+        List<Long> ids = trigramIndex.search(name);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<Product> products = findByIds(ids);
+        products.sort(Comparator.comparing(Product::getId));
+        return products;
+    }
+
+    /**
+     * Sama seperti {@link #findByIds(List)}, tetapi hasilnya mengikuti urutan {@code ids}.
+     */
+    private List<Product> findByIdsInOrder(List<Long> ids) {
+        Map<Long, Product> byId = new HashMap<>();
+        for (Product product : findByIds(ids)) {
+            byId.put(product.getId(), product);
+        }
+        List<Product> products = new ArrayList<>(byId.size());
+        for (Long id : ids) {
+            Product product = byId.get(id);
+            if (product != null) {
+                products.add(product);
+            }
+        }
+        return products;
+    }
+
+    private List<Product> findByIds(List<Long> ids) {
+        if (columnarCatalog.isReady()) {
+            return columnarCatalog.findByIdIn(ids);
+        }
+        List<Product> products = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += ID_LOOKUP_CHUNK_SIZE) {
+            products.addAll(productRepository.findByIdIn(
+                    ids.subList(from, Math.min(from + ID_LOOKUP_CHUNK_SIZE, ids.size()))));
+        }
+        return products;
+    }
+
+    /**
+     * Memberikan saran produk untuk autocomplete berdasarkan awalan nama.
+     *
+     * <p>Dijawab sepenuhnya dari {@link PrefixIndex} tanpa query database.
+     *
+     * @param prefix awalan nama produk (case insensitive)
+     * @param limit jumlah maksimum saran
+     * @return daftar ID dan nama produk terurut berdasarkan nama
+     * @throws IllegalArgumentException jika prefix kosong atau limit di luar batas
+     */
+    public List<ProductSuggestion> suggestProducts(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new IllegalArgumentException("Prefix is required");
+        }
+        if (limit < 1 || limit > MAX_SUGGESTION_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_SUGGESTION_LIMIT);
+        }
+        ProductSearchEvent event = ProductSearchEvent.begin(ProductSearchEvent.SUGGEST, prefix);
+        try {
+            List<ProductSuggestion> suggestions = prefixIndex.suggest(prefix, limit);
+            event.rowCount = suggestions.size();
+            return suggestions;
+        } finally {
+            event.commit();
+        }
+    }
+
+    /**
+     * Mencari produk berdasarkan relevansi terhadap nama dan deskripsi.
+     *
+     * <p>Dijawab sepenuhnya dari {@link FullTextIndex} dengan skor BM25,
+     * tanpa query ke tabel {@code products}.
+     *
+     * @param query teks bebas
+     * @param limit jumlah maksimum hasil
+     * @return hasil terurut dari yang paling relevan
+     * @throws IllegalArgumentException jika query kosong atau limit di luar batas
+     */
+    public List<ProductSearchHit> searchFullText(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Query is required");
+        }
+        if (limit < 1 || limit > MAX_FULL_TEXT_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_FULL_TEXT_LIMIT);
+        }
+        ProductSearchEvent event = ProductSearchEvent.begin(ProductSearchEvent.FULL_TEXT, query);
+        try {
+            List<ProductSearchHit> hits = fullTextIndex.search(query, limit);
+            event.rowCount = hits.size();
+            return hits;
+        } finally {
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.demo.service;
+
+import java.util.Locale;
+
+/**
+ * Urutan yang didukung oleh listing produk dengan pagination keyset.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public enum ProductSort {
+    ID,
+    PRICE;
+
+    /**
+     * Mengubah nilai parameter {@code sort} menjadi ProductSort.
+     *
+     * @param value nilai parameter, misalnya "id" atau "price"
+     * @return ProductSort yang sesuai
+     * @throws IllegalArgumentException jika nilai tidak dikenali
+     */
+    public static ProductSort from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported sort: " + value);
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.example.demo.service;
+
+import com.example.demo.config.CacheConfig;
+import com.example.demo.model.StockItem;
+import com.example.demo.repository.ProductRepository;
+import com.example.demo.service.StockChangedEvent.StockLevel;
+import com.example.demo.stock.HotStockRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Service untuk reservasi dan pelepasan stok produk.
+ *
+ * <p>Setiap perubahan stok adalah satu statement UPDATE bersyarat
+ * ({@code stock = stock - ? WHERE stock >= ?}) tanpa memuat entity, sehingga
+ * checkout bersamaan tidak saling menimpa dan stok tidak pernah negatif.
+ * Baris yang sudah dikunci UPDATE membuat transaksi lain menunggu, lalu
+ * kondisi WHERE dievaluasi ulang terhadap nilai terbaru.
+ *
+ * <p>Reservasi keranjang berjalan dalam satu transaksi: jika satu item gagal,
+ * seluruh item di-rollback. Item diproses berurutan berdasarkan ID produk agar
+ * dua keranjang yang berisi produk sama tidak saling deadlock.
+ *
+ * <p>Entry cache produk yang stoknya berubah dibuang setelah commit, lalu
+ * {@link StockChangedEvent} dipublikasikan agar cache listing dan snapshot
+ * katalog ikut diperbarui. Stok dan version sesudah perubahan dikembalikan
+ * oleh statement UPDATE yang sama dan dibawa di event.
+ *
+ * <p>Produk hot SKU tidak menyentuh database sama sekali: stoknya diubah di
+ * {@link HotStockRegistry}. Untuk keranjang, item hot direservasi lebih dulu
+ * dan dikembalikan lagi (kompensasi) jika item lain gagal.
+ *
+ * @author Harist Islami
+ * @version 1.4
+ * @since 2026-10-18
+ */
+@Service
+public class ProductStockService {
+
+    private final ProductRepository productRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache productCache;
+    private final HotStockRegistry hotStockRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    public ProductStockService(ProductRepository productRepository,
+                               PlatformTransactionManager transactionManager,
+                               CacheManager cacheManager,
+                               HotStockRegistry hotStockRegistry,
+                               ApplicationEventPublisher eventPublisher) {
+        this.productRepository = productRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.productCache = cacheManager.getCache(CacheConfig.PRODUCTS_CACHE);
+        this.hotStockRegistry = hotStockRegistry;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Mengurangi stok produk jika stok mencukupi.
+     *
+     * @param id ID produk
+     * @param quantity jumlah yang direservasi, minimal 1
+     * @throws InsufficientStockException jika stok kurang dari quantity
+     * @throws IllegalArgumentException jika quantity tidak valid
+     * @throws ProductNotFoundException jika produk tidak ditemukan
+     */
+    public void reserveStock(Long id, int quantity) {
+        requirePositive(quantity);
+        stockChanged(id, reserve(id, quantity));
+    }
+
+    /**
+     * Mengembalikan stok produk, misalnya saat keranjang dibatalkan.
+     *
+     * @param id ID produk
+     * @param quantity jumlah yang dilepas, minimal 1
+     * @throws IllegalArgumentException jika quantity tidak valid
+     * @throws ProductNotFoundException jika produk tidak ditemukan
+     */
+    public void releaseStock(Long id, int quantity) {
+        requirePositive(quantity);
+        stockChanged(id, release(id, quantity));
+    }
+
+    /**
+     * Mereservasi seluruh item keranjang secara atomik (semua atau tidak sama sekali).
+     *
+     * @param items item keranjang; produk yang sama boleh muncul lebih dari sekali
+     * @throws InsufficientStockException jika salah satu produk stoknya tidak cukup
+     * @throws IllegalArgumentException jika keranjang kosong atau item tidak valid
+     * @throws ProductNotFoundException jika salah satu produk tidak ditemukan
+     */
+    public void reserveStock(List<StockItem> items) {
+        Map<Long, Integer> quantities = merge(items);
+        Map<Long, Integer> cold = new TreeMap<>();
+        Map<Long, StockLevel> levels = new TreeMap<>();
+        List<Map.Entry<Long, Integer>> reservedHot = new ArrayList<>();
+        try {
+            for (Map.Entry<Long, Integer> line : quantities.entrySet()) {
+                if (hotStockRegistry.isHot(line.getKey())) {
+                    reserve(line.getKey(), line.getValue());
+                    reservedHot.add(line);
+                } else {
+                    cold.put(line.getKey(), line.getValue());
+                }
+            }
+            if (!cold.isEmpty()) {
+                transactionTemplate.executeWithoutResult(
+                        status -> cold.forEach((id, quantity) -> levels.put(id, reserve(id, quantity))));
+            }
+        } catch (RuntimeException e) {
+            reservedHot.forEach(line -> hotStockRegistry.release(line.getKey(), line.getValue()));
+            throw e;
+        }
+        stockChanged(levels);
+    }
+
+    /**
+     * Melepas seluruh item keranjang secara atomik.
+     *
+     * @param items item keranjang
+     * @throws IllegalArgumentException jika keranjang kosong atau item tidak valid
+     * @throws ProductNotFoundException jika salah satu produk tidak ditemukan
+     */
+    public void releaseStock(List<StockItem> items) {
+        Map<Long, Integer> quantities = merge(items);
+        Map<Long, Integer> cold = new TreeMap<>(quantities);
+        cold.keySet().removeIf(hotStockRegistry::isHot);
+        Map<Long, StockLevel> levels = new TreeMap<>();
+        if (!cold.isEmpty()) {
+            transactionTemplate.executeWithoutResult(
+                    status -> cold.forEach((id, quantity) -> levels.put(id, release(id, quantity))));
+        }
+        quantities.forEach((id, quantity) -> {
+            if (!cold.containsKey(id)) {
+                release(id, quantity);
+            }
+        });
+        stockChanged(levels);
+    }
+
+    /**
+     * @return stok dan version sesudah reservasi, atau null untuk produk hot
+     */
+    private StockLevel reserve(Long id, int quantity) {
+        if (hotStockRegistry.isHot(id)) {
+            if (!hotStockRegistry.tryReserve(id, quantity)) {
+                throw new InsufficientStockException(id, quantity);
+            }
+            return null;
+        }
+        Optional<ProductRepository.StockLevel> level = productRepository.decrementStock(id, quantity);
+        if (level.isEmpty()) {
+            requireExists(id);
+            throw new InsufficientStockException(id, quantity);
+        }
+        return toStockLevel(level.get());
+    }
+
+    /**
+     * @return stok dan version sesudah pelepasan, atau null untuk produk hot
+     */
+    private StockLevel release(Long id, int quantity) {
+        if (hotStockRegistry.isHot(id)) {
+            hotStockRegistry.release(id, quantity);
+            return null;
+        }
+        return productRepository.incrementStock(id, quantity)
+                .map(ProductStockService::toStockLevel)
+                .orElseThrow(() -> new ProductNotFoundException(id));
+    }
+
+    /**
+     * Stok produk hot tidak menerbitkan event di sini; {@link HotStockRegistry}
+     * menerbitkannya saat delta ditulis ke database.
+     */
+    private void stockChanged(Long id, StockLevel level) {
+        productCache.evict(id);
+        if (level != null) {
+            eventPublisher.publishEvent(new StockChangedEvent(Map.of(id, level)));
+        }
+    }
+
+    private void stockChanged(Map<Long, StockLevel> coldLevels) {
+        if (!coldLevels.isEmpty()) {
+            coldLevels.keySet().forEach(productCache::evict);
+            eventPublisher.publishEvent(new StockChangedEvent(Map.copyOf(coldLevels)));
+        }
+    }
+
+    private void requireExists(Long id) {
+        if (!productRepository.existsById(id)) {
+            throw new ProductNotFoundException(id);
+        }
+    }
+
+    private static StockLevel toStockLevel(ProductRepository.StockLevel level) {
+        return new StockLevel(level.getStock(), level.getVersion());
+    }
+
+    /** Menggabungkan item dengan produk yang sama dan mengurutkannya berdasarkan ID. */
+    private static Map<Long, Integer> merge(List<StockItem> items) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("At least one item is required");
+        }
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (StockItem item : items) {
+            if (item == null || item.getProductId() == null || item.getQuantity() == null) {
+                throw new IllegalArgumentException("Each item requires productId and quantity");
+            }
+            requirePositive(item.getQuantity());
+            quantities.merge(item.getProductId(), item.getQuantity(), Math::addExact);
+        }
+        return quantities;
+    }
+
+    private static void requirePositive(int quantity) {
+        if (quantity < 1) {
+            throw new IllegalArgumentException("Quantity must be at least 1");
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.demo.service;
+
+import lombok.Getter;
+
+/**
+ * Dilempar ketika update atau delete bersyarat gagal karena version produk
+ * di database sudah berbeda dari yang diharapkan (diubah oleh client lain).
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Getter
+public class ProductVersionConflictException extends RuntimeException {
+
+    private final Long productId;
+    private final long expectedVersion;
+
+    public ProductVersionConflictException(Long productId, long expectedVersion) {
+        super("Product " + productId + " is no longer at version " + expectedVersion);
+        this.productId = productId;
+        this.expectedVersion = expectedVersion;
+    }
+}
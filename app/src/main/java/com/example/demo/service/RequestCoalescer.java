@@ -0,0 +1,98 @@
+package com.example.demo.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Menggabungkan lookup identik yang berjalan bersamaan menjadi satu eksekusi (single-flight).
+ *
+ * <p>Pemanggil pertama untuk sebuah (operasi, key) menjalankan loader, sedangkan
+ * pemanggil lain yang datang selama loader masih berjalan menunggu dan menerima
+ * hasil (atau exception) yang sama. Setelah selesai, key dilepas sehingga
+ * request berikutnya kembali membaca data terbaru. Hasil dipakai bersama oleh
+ * banyak pemanggil dan tidak boleh dimodifikasi.
+ *
+ * <p>Jumlah pemanggilan dicatat di metric {@code products.coalescer.calls}
+ * dengan tag {@code operation} dan {@code result} ({@code executed} atau
+ * {@code collapsed}).
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class RequestCoalescer {
+
+    private final Map<FlightKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Counter> executedCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> collapsedCounters = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public RequestCoalescer(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Menjalankan {@code loader}, atau menunggu hasil eksekusi identik yang sedang berjalan.
+     *
+     * @param operation nama operasi, misalnya "findById"
+     * @param key key lookup yang sudah dinormalisasi
+     * @param loader query yang dijalankan jika belum ada eksekusi untuk key ini
+     * @return hasil loader
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, Object key, Supplier<T> loader) {
+        FlightKey flightKey = new FlightKey(operation, key);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+        if (existing != null) {
+            counter(collapsedCounters, operation, "collapsed").increment();
+            return (T) await(existing);
+        }
+        counter(executedCounters, operation, "executed").increment();
+        try {
+            T result = loader.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private Counter counter(Map<String, Counter> counters, String operation, String result) {
+        return counters.computeIfAbsent(operation, name -> Counter.builder("products.coalescer.calls")
+                .description("Lookups that executed a query or joined an identical in-flight query")
+                .tag("operation", name)
+                .tag("result", result)
+                .register(meterRegistry));
+    }
+
+    private record FlightKey(String operation, Object key) {
+    }
+}
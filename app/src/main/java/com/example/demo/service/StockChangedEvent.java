@@ -0,0 +1,42 @@
+package com.example.demo.service;
+
+import lombok.Value;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Event yang dipublikasikan setelah stok produk berubah lewat jalur yang tidak
+ * menerbitkan {@link ProductChangedEvent}: reservasi/pelepasan stok dan flush
+ * delta hot SKU ke database.
+ *
+ * <p>Event ini tidak membawa entity produk, karena yang berubah hanya kolom
+ * {@code stock} (dan {@code version}). Stok dan version sesudah perubahan
+ * dibawa per produk, sehingga listener dapat menerapkannya tanpa membaca ulang
+ * database. Listener yang berjalan bersamaan bisa menerima event tidak
+ * berurutan; nilai dengan version lebih lama dari yang sudah tersimpan harus
+ * diabaikan.
+ *
+ * @author Harist Islami
+ * @version 1.1
+ * @since 2026-10-18
+ */
+@Value
+public class StockChangedEvent {
+
+    /** Stok dan version terbaru per ID produk. */
+    Map<Long, StockLevel> levels;
+
+    public Set<Long> getProductIds() {
+        return levels.keySet();
+    }
+
+    /**
+     * Stok dan version sebuah produk sesudah perubahan.
+     */
+    @Value
+    public static class StockLevel {
+        int stock;
+        long version;
+    }
+}
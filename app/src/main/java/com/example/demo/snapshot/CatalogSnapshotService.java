@@ -0,0 +1,308 @@
+package com.example.demo.snapshot;
+
+import com.example.demo.config.ProductProperties;
+import com.example.demo.model.Product;
+import com.example.demo.repository.ProductRepository;
+import com.example.demo.service.ProductChangedEvent;
+import com.example.demo.service.StockChangedEvent;
+import com.example.demo.stock.HotStockRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Membangun snapshot seluruh katalog sebagai file JSON terkompresi gzip di disk.
+ *
+ * <p>Produk dibagi menjadi blok berdasarkan rentang ID
+ * ({@code app.products.snapshot.block-size}). Setiap blok disimpan sebagai
+ * member gzip tersendiri; file snapshot adalah gabungan member {@code [},
+ * blok-blok yang dipisah member {@code ,}, lalu {@code ]}. Gabungan member
+ * gzip tetap satu stream gzip yang valid (RFC 1952), sehingga perubahan satu
+ * produk hanya merender ulang bloknya, sedangkan blok lain disalin apa adanya
+ * dengan {@link FileChannel#transferTo}.
+ *
+ * <p>Blok ditandai kotor dari {@link ProductChangedEvent} dan
+ * {@link StockChangedEvent}. Snapshot baru dibangun setelah tidak ada
+ * perubahan selama {@code settle-ms}, atau paling lambat {@code max-delay-ms}
+ * sejak perubahan pertama. Setiap build ditulis ke file baru; build
+ * sebelumnya disimpan agar download (atau request Range) yang sedang berjalan
+ * tidak terputus.
+ *
+ * <p>Waktu perubahan pertama hanya di-set dari 0 dan di-reset dengan
+ * compare-and-set, sehingga penandaan blok yang bersamaan dengan
+ * {@link #refresh()} tidak kehilangan awal jendela {@code max-delay-ms}.
+ *
+ * @author Harist Islami
+ * @version 1.1
+ * @since 2026-10-18
+ */
+@Component
+public class CatalogSnapshotService {
+
+    /** Nama file yang disarankan untuk client yang mengunduh snapshot. */
+    public static final String FILE_NAME = "catalog.json.gz";
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogSnapshotService.class);
+    private static final byte[] OPEN_MEMBER = gzip("[");
+    private static final byte[] SEPARATOR_MEMBER = gzip(",");
+    private static final byte[] CLOSE_MEMBER = gzip("]");
+
+    private final ProductRepository productRepository;
+    private final HotStockRegistry hotStockRegistry;
+    private final ProductProperties.Snapshot settings;
+    private final ObjectWriter writer;
+    private final Path directory;
+    private final Path blockDirectory;
+
+    /** Blok yang tidak kosong, terurut berdasarkan nomor blok. Hanya diakses di dalam synchronized. */
+    private final Map<Long, Path> blocks = new TreeMap<>();
+    private final Set<Long> dirtyBlocks = ConcurrentHashMap.newKeySet();
+    /** Waktu blok pertama ditandai kotor sejak refresh terakhir; 0 jika belum ada. */
+    private final AtomicLong firstDirtyNanos = new AtomicLong();
+    private volatile long lastDirtyNanos;
+    private volatile Snapshot current;
+    private Snapshot previous;
+    private long builds;
+
+    @Autowired
+    public CatalogSnapshotService(ProductRepository productRepository,
+                                  HotStockRegistry hotStockRegistry,
+                                  ProductProperties properties,
+                                  ObjectMapper objectMapper) {
+        this.productRepository = productRepository;
+        this.hotStockRegistry = hotStockRegistry;
+        this.settings = properties.getSnapshot();
+        this.writer = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        this.directory = Path.of(settings.getDirectory());
+        this.blockDirectory = directory.resolve("blocks");
+    }
+
+    /**
+     * Snapshot terbaru, atau kosong jika belum pernah dibangun.
+     */
+    public Optional<Snapshot> current() {
+        return Optional.ofNullable(current);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        markDirty(event.getId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStockChanged(StockChangedEvent event) {
+        event.getProductIds().forEach(this::markDirty);
+    }
+
+    /**
+     * Membangun snapshot pertama, lalu membangun ulang blok yang berubah setelah penulisan mereda.
+     */
+    @Scheduled(fixedDelayString = "${app.products.snapshot.check-interval-ms:1000}")
+    public void refreshIfSettled() {
+        if (!settings.isEnabled()) {
+            return;
+        }
+        if (current == null) {
+            rebuildAll();
+            return;
+        }
+        if (dirtyBlocks.isEmpty()) {
+            return;
+        }
+        long now = System.nanoTime();
+        long firstDirty = firstDirtyNanos.get();
+        if (now - lastDirtyNanos >= TimeUnit.MILLISECONDS.toNanos(settings.getSettleMs())
+                || (firstDirty != 0 && now - firstDirty >= TimeUnit.MILLISECONDS.toNanos(settings.getMaxDelayMs()))) {
+            refresh();
+        }
+    }
+
+    /**
+     * Merender seluruh blok dari awal. Pada build pertama, sisa file dari proses
+     * sebelumnya di direktori snapshot ikut dihapus.
+     */
+    public synchronized void rebuildAll() {
+        try {
+            deleteDirectory(current == null ? directory : blockDirectory);
+            Files.createDirectories(blockDirectory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        blocks.clear();
+        Long maxId = productRepository.findMaxId();
+        if (maxId != null) {
+            for (long block = 0; block <= maxId / settings.getBlockSize(); block++) {
+                dirtyBlocks.add(block);
+            }
+        }
+        refresh();
+    }
+
+    /**
+     * Merender ulang blok yang kotor lalu menyusun file snapshot baru.
+     *
+     * @return jumlah blok yang dirender ulang
+     */
+    public synchronized int refresh() {
+        long start = System.nanoTime();
+        long firstDirty = firstDirtyNanos.get();
+        List<Long> rendering = new ArrayList<>(dirtyBlocks);
+        dirtyBlocks.removeAll(rendering);
+        // Reset hanya jika belum diubah; blok yang ditandai setelah salinan di atas memulai jendela baru
+        firstDirtyNanos.compareAndSet(firstDirty, 0);
+        if (!dirtyBlocks.isEmpty()) {
+            firstDirtyNanos.compareAndSet(0, System.nanoTime());
+        }
+        try {
+            for (Long block : rendering) {
+                renderBlock(block);
+            }
+            assemble();
+        } catch (IOException | RuntimeException e) {
+            rendering.forEach(this::markBlockDirty);
+            log.warn("Failed to build catalog snapshot, will retry: {}", e.getMessage());
+            return 0;
+        }
+        log.debug("Built catalog snapshot {} ({} blocks re-rendered) in {} ms",
+                current.path(), rendering.size(), (System.nanoTime() - start) / 1_000_000);
+        return rendering.size();
+    }
+
+    private void markDirty(Long productId) {
+        markBlockDirty(productId / settings.getBlockSize());
+    }
+
+    private void markBlockDirty(long block) {
+        long now = System.nanoTime();
+        lastDirtyNanos = now;
+        if (dirtyBlocks.add(block)) {
+            firstDirtyNanos.compareAndSet(0, now);
+        }
+    }
+
+    private void renderBlock(long block) throws IOException {
+        long fromId = block * settings.getBlockSize();
+        List<Product> products = productRepository.findSnapshotRange(fromId, fromId + settings.getBlockSize() - 1);
+        Path file = blockDirectory.resolve("block-" + block + ".gz");
+        if (products.isEmpty()) {
+            Files.deleteIfExists(file);
+            blocks.remove(block);
+            return;
+        }
+        hotStockRegistry.overlay(products);
+        Path temp = blockDirectory.resolve("block-" + block + ".tmp");
+        try (OutputStream out = new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)), 64 * 1024)) {
+            for (int i = 0; i < products.size(); i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                out.write(writer.writeValueAsBytes(products.get(i)));
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        blocks.put(block, file);
+    }
+
+    private void assemble() throws IOException {
+        long build = ++builds;
+        Path file = directory.resolve("catalog-" + build + ".json.gz");
+        Path temp = directory.resolve("catalog-" + build + ".tmp");
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            write(out, OPEN_MEMBER);
+            boolean first = true;
+            for (Path block : blocks.values()) {
+                if (!first) {
+                    write(out, SEPARATOR_MEMBER);
+                }
+                try (FileChannel in = FileChannel.open(block, StandardOpenOption.READ)) {
+                    long size = in.size();
+                    for (long position = 0; position < size; ) {
+                        position += in.transferTo(position, size - position, out);
+                    }
+                }
+                first = false;
+            }
+            write(out, CLOSE_MEMBER);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Instant builtAt = Instant.now();
+        Snapshot snapshot = new Snapshot(file, Files.size(file), builtAt,
+                "\"" + Long.toHexString(builtAt.toEpochMilli()) + "-" + build + "\"");
+        if (previous != null) {
+            Files.deleteIfExists(previous.path());
+        }
+        previous = current;
+        current = snapshot;
+    }
+
+    private static void write(FileChannel out, byte[] bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    private static byte[] gzip(String text) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(text.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static void deleteDirectory(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(path)) {
+            for (Path file : files.sorted((a, b) -> b.getNameCount() - a.getNameCount()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * Satu build snapshot yang sudah lengkap di disk.
+     *
+     * @param path lokasi file gzip
+     * @param size ukuran file dalam byte
+     * @param builtAt waktu build selesai
+     * @param eTag strong ETag unik per build
+     */
+    public record Snapshot(Path path, long size, Instant builtAt, String eTag) {
+    }
+}
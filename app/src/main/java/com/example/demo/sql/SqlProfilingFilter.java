@@ -0,0 +1,149 @@
+package com.example.demo.sql;
+
+import com.example.demo.config.ProductProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+
+/**
+ * Memasang {@link SqlRequestProfile} untuk setiap request HTTP.
+ *
+ * <p>Jika {@code app.products.sql-profiling.headers=true} (profile
+ * {@code debug}), ringkasan ditambahkan ke respons sebagai header:
+ * <ul>
+ *   <li>{@code X-SQL-Statements} - jumlah statement</li>
+ *   <li>{@code X-SQL-Time-Ms} dan {@code X-SQL-Max-Ms} - total dan statement terlama</li>
+ *   <li>{@code X-SQL-Rows} - baris hasil yang dibaca</li>
+ *   <li>{@code X-SQL-Repeated} - eksekusi yang mengulang statement identik</li>
+ * </ul>
+ * Header ditulis tepat sebelum body mulai dikirim, sehingga statement yang
+ * berjalan sambil body ditulis (streaming) tidak ikut terhitung di header.
+ *
+ * <p>Request yang menjalankan statement identik sebanyak
+ * {@code repeated-statement-threshold} kali atau lebih dicatat di log
+ * sebagai dugaan N+1.
+ *
+ * <p>Didaftarkan oleh {@code SqlProfilingConfig} sebagai filter pertama.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class SqlProfilingFilter extends OncePerRequestFilter {
+
+    static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    static final String TIME_HEADER = "X-SQL-Time-Ms";
+    static final String MAX_TIME_HEADER = "X-SQL-Max-Ms";
+    static final String ROWS_HEADER = "X-SQL-Rows";
+    static final String REPEATED_HEADER = "X-SQL-Repeated";
+
+    private static final Logger log = LoggerFactory.getLogger(SqlProfilingFilter.class);
+
+    private final ProductProperties.SqlProfiling settings;
+
+    public SqlProfilingFilter(ProductProperties properties) {
+        this.settings = properties.getSqlProfiling();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !settings.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlRequestProfile profile = SqlRequestProfile.start();
+        ProfiledResponse profiledResponse = settings.isHeaders() ? new ProfiledResponse(response, profile) : null;
+        try {
+            filterChain.doFilter(request, profiledResponse == null ? response : profiledResponse);
+            if (profiledResponse != null && !response.isCommitted()) {
+                profiledResponse.writeHeaders();
+            }
+        } finally {
+            SqlRequestProfile.end();
+            logRepeated(request, profile);
+        }
+    }
+
+    private void logRepeated(HttpServletRequest request, SqlRequestProfile profile) {
+        Map.Entry<String, Integer> repeated = profile.mostRepeated();
+        if (repeated != null && repeated.getValue() >= settings.getRepeatedStatementThreshold()) {
+            log.warn("Possible N+1: {} {} ran the same statement {} times ({} statements in total): {}",
+                    request.getMethod(), request.getRequestURI(), repeated.getValue(), profile.statements(),
+                    repeated.getKey());
+        }
+    }
+
+    /**
+     * Response yang menulis header X-SQL-* sekali, sebelum body atau error dikirim.
+     */
+    private static final class ProfiledResponse extends HttpServletResponseWrapper {
+
+        private final SqlRequestProfile profile;
+        private boolean headersWritten;
+
+        ProfiledResponse(HttpServletResponse response, SqlRequestProfile profile) {
+            super(response);
+            this.profile = profile;
+        }
+
+        void writeHeaders() {
+            if (headersWritten) {
+                return;
+            }
+            headersWritten = true;
+            setHeader(STATEMENTS_HEADER, String.valueOf(profile.statements()));
+            setHeader(TIME_HEADER, String.valueOf(SqlStatementStatistics.millis(profile.totalNanos())));
+            setHeader(MAX_TIME_HEADER, String.valueOf(SqlStatementStatistics.millis(profile.maxNanos())));
+            setHeader(ROWS_HEADER, String.valueOf(profile.rows()));
+            setHeader(REPEATED_HEADER, String.valueOf(profile.repeatedStatements()));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeaders();
+            super.sendRedirect(location);
+        }
+    }
+}
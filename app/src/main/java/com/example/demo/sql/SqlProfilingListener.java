@@ -0,0 +1,86 @@
+package com.example.demo.sql;
+
+import com.example.demo.config.ProductProperties;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Listener datasource-proxy yang mengukur setiap statement SQL.
+ *
+ * <p>Setiap eksekusi dicatat ke {@link SqlStatementStatistics} dan, jika ada,
+ * ke {@link SqlRequestProfile} milik request yang sedang berjalan. Eksekusi
+ * batch dihitung sebagai satu statement per teks SQL. Statement yang lebih
+ * lama dari {@code app.products.sql-profiling.slow-query-ms} dicatat di log.
+ * Baris hasil dihitung dari setiap {@link ResultSet#next()} yang berhasil.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class SqlProfilingListener implements QueryExecutionListener, MethodExecutionListener {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlProfilingListener.class);
+    private static final String START_NANOS = SqlProfilingListener.class.getName() + ".start";
+
+    private final SqlStatementStatistics statistics;
+    private final long slowQueryNanos;
+
+    public SqlProfilingListener(SqlStatementStatistics statistics, ProductProperties properties) {
+        this.statistics = statistics;
+        this.slowQueryNanos = TimeUnit.MILLISECONDS.toNanos(properties.getSqlProfiling().getSlowQueryMs());
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long start = execInfo.getCustomValue(START_NANOS, Long.class);
+        long nanos = start == null ? TimeUnit.MILLISECONDS.toNanos(execInfo.getElapsedTime()) : System.nanoTime() - start;
+        SqlRequestProfile profile = SqlRequestProfile.current();
+        // Waktu batch dibagi rata ke statement di dalamnya
+        long perStatement = nanos / Math.max(1, queryInfoList.size());
+        for (QueryInfo queryInfo : queryInfoList) {
+            String sql = queryInfo.getQuery();
+            statistics.recordStatement(sql, perStatement);
+            if (profile != null) {
+                profile.recordStatement(sql, perStatement);
+            }
+        }
+        if (nanos >= slowQueryNanos && log.isWarnEnabled()) {
+            log.warn("Slow SQL ({} ms{}): {}", SqlStatementStatistics.millis(nanos),
+                    execInfo.isBatch() ? ", batch of " + execInfo.getBatchSize() : "",
+                    queryInfoList.stream().map(QueryInfo::getQuery).distinct().toList());
+        }
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (executionContext.getTarget() instanceof ResultSet
+                && "next".equals(executionContext.getMethod().getName())
+                && Boolean.TRUE.equals(executionContext.getResult())) {
+            statistics.recordRow();
+            SqlRequestProfile profile = SqlRequestProfile.current();
+            if (profile != null) {
+                profile.recordRow();
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.demo.sql;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Ringkasan statement SQL yang dijalankan selama satu request HTTP.
+ *
+ * <p>Dipasang di thread request oleh {@link SqlProfilingFilter}; statement
+ * yang dijalankan di thread lain tidak ikut terhitung. Contohnya bagian async
+ * dari streaming export, dan query IN dari {@code ProductBatchLoader} yang
+ * dijalankan scheduler untuk beberapa request sekaligus.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class SqlRequestProfile {
+
+    private static final ThreadLocal<SqlRequestProfile> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Integer> executions = new HashMap<>();
+    private int statements;
+    private long totalNanos;
+    private long maxNanos;
+    private long rows;
+
+    static SqlRequestProfile start() {
+        SqlRequestProfile profile = new SqlRequestProfile();
+        CURRENT.set(profile);
+        return profile;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * @return profile request yang sedang berjalan di thread ini, atau null
+     */
+    static SqlRequestProfile current() {
+        return CURRENT.get();
+    }
+
+    void recordStatement(String sql, long nanos) {
+        statements++;
+        totalNanos += nanos;
+        maxNanos = Math.max(maxNanos, nanos);
+        executions.merge(sql, 1, Integer::sum);
+    }
+
+    void recordRow() {
+        rows++;
+    }
+
+    int statements() {
+        return statements;
+    }
+
+    long totalNanos() {
+        return totalNanos;
+    }
+
+    long maxNanos() {
+        return maxNanos;
+    }
+
+    long rows() {
+        return rows;
+    }
+
+    /**
+     * @return jumlah eksekusi yang mengulang statement identik yang sudah dijalankan di request ini
+     */
+    int repeatedStatements() {
+        return statements - executions.size();
+    }
+
+    /**
+     * @return statement yang paling sering diulang beserta jumlah eksekusinya, atau null jika tidak ada
+     */
+    Map.Entry<String, Integer> mostRepeated() {
+        return executions.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .filter(entry -> entry.getValue() > 1)
+                .orElse(null);
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.demo.sql;
+
+import com.example.demo.config.ProductProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistik kumulatif per statement SQL sejak startup (atau reset terakhir).
+ *
+ * <p>Statement dikelompokkan berdasarkan teks SQL-nya (dengan placeholder
+ * {@code ?}, bukan nilai parameter). Jumlah statement berbeda dibatasi
+ * {@code app.products.sql-profiling.max-statements}; statement baru setelah
+ * batas itu digabung ke entry {@value #OTHER_STATEMENTS} agar query IN dengan
+ * jumlah parameter yang berubah-ubah tidak membuat map tumbuh tanpa batas.
+ *
+ * <p>Baris hasil dihitung ke statement terakhir yang dijalankan di thread
+ * yang sama, karena result set dibaca sampai habis sebelum statement
+ * berikutnya pada alur JPA dan JdbcTemplate.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class SqlStatementStatistics {
+
+    static final String OTHER_STATEMENTS = "(other statements)";
+
+    private final int maxStatements;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ThreadLocal<Entry> lastStatement = new ThreadLocal<>();
+
+    public SqlStatementStatistics(ProductProperties properties) {
+        this.maxStatements = properties.getSqlProfiling().getMaxStatements();
+    }
+
+    /**
+     * Ringkasan satu statement untuk endpoint actuator.
+     *
+     * @param sql teks statement
+     * @param count jumlah eksekusi
+     * @param totalMs waktu kumulatif
+     * @param meanMs waktu rata-rata per eksekusi
+     * @param maxMs eksekusi terlama
+     * @param rows jumlah baris hasil yang dibaca
+     */
+    public record StatementSummary(String sql, long count, double totalMs, double meanMs, double maxMs, long rows) {
+    }
+
+    private static final class Entry {
+        final String sql;
+        final LongAdder count = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+        final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        final LongAdder rows = new LongAdder();
+
+        Entry(String sql) {
+            this.sql = sql;
+        }
+
+        StatementSummary summary() {
+            long executions = count.sum();
+            long total = totalNanos.sum();
+            return new StatementSummary(sql, executions, millis(total),
+                    executions == 0 ? 0 : millis(total / executions), millis(maxNanos.get()), rows.sum());
+        }
+    }
+
+    void recordStatement(String sql, long nanos) {
+        Entry entry = entries.get(sql);
+        if (entry == null) {
+            entry = entries.size() < maxStatements
+                    ? entries.computeIfAbsent(sql, Entry::new)
+                    : entries.computeIfAbsent(OTHER_STATEMENTS, Entry::new);
+        }
+        entry.count.increment();
+        entry.totalNanos.add(nanos);
+        entry.maxNanos.accumulate(nanos);
+        lastStatement.set(entry);
+    }
+
+    void recordRow() {
+        Entry entry = lastStatement.get();
+        if (entry != null) {
+            entry.rows.increment();
+        }
+    }
+
+    /**
+     * @param limit jumlah statement maksimum
+     * @return statement dengan waktu kumulatif terbesar lebih dulu
+     */
+    public List<StatementSummary> top(int limit) {
+        return entries.values().stream()
+                .map(Entry::summary)
+                .sorted(Comparator.comparingDouble(StatementSummary::totalMs).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public void reset() {
+        entries.clear();
+    }
+
+    static double millis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+}
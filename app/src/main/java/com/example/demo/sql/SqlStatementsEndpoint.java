@@ -0,0 +1,44 @@
+package com.example.demo.sql;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Endpoint actuator {@code /actuator/sqlstatements}: statement SQL dengan
+ * waktu kumulatif terbesar.
+ *
+ * <p>{@code GET /actuator/sqlstatements?limit=20} mengembalikan top-N
+ * (default {@value #DEFAULT_LIMIT}); {@code DELETE} mengosongkan statistik,
+ * misalnya sebelum mengukur satu skenario.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+@Endpoint(id = "sqlstatements")
+public class SqlStatementsEndpoint {
+
+    static final int DEFAULT_LIMIT = 20;
+
+    private final SqlStatementStatistics statistics;
+
+    public SqlStatementsEndpoint(SqlStatementStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    @ReadOperation
+    public List<SqlStatementStatistics.StatementSummary> topStatements(@Nullable Integer limit) {
+        return statistics.top(limit == null || limit < 1 ? DEFAULT_LIMIT : limit);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        statistics.reset();
+    }
+}
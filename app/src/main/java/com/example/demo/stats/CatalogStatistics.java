@@ -0,0 +1,301 @@
+package com.example.demo.stats;
+
+import com.example.demo.index.ProductIndex;
+import com.example.demo.model.CatalogStats;
+import com.example.demo.model.Product;
+import com.example.demo.repository.ProductRepository;
+import com.example.demo.service.StockChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Agregat katalog (jumlah produk, stok, nilai inventori, harga min/max/rata-rata)
+ * yang diperbarui per perubahan, bukan dihitung ulang per request.
+ *
+ * <p>Untuk setiap produk disimpan harga (dalam sen), stok, dan version terakhir, sehingga
+ * perubahan cukup mengurangi kontribusi lama lalu menambahkan kontribusi baru
+ * ke setiap counter dalam O(1). Harga min/max diambil dari jumlah produk per
+ * harga yang terurut (O(log n)).
+ *
+ * <p>Sebagai {@link ProductIndex}, agregat dibangun saat startup dan mengikuti
+ * create/update/patch/delete/bulk lewat {@code ProductIndexer}. Perubahan stok
+ * langsung (reservasi dan flush hot SKU) diikuti dari {@link StockChangedEvent}
+ * yang membawa stok dan version baru, tanpa membaca ulang database; stok hot
+ * SKU yang belum di-flush belum terhitung. Perubahan dengan version lebih lama
+ * dari yang tersimpan diabaikan, sehingga event yang diterima tidak berurutan
+ * tidak menimpa nilai yang lebih baru.
+ *
+ * <p>Secara berkala agregat dicocokkan dengan satu query agregasi ke database.
+ * Jika berbeda, selisihnya dicatat di metric {@code products.stats.drift} dan
+ * agregat dibangun ulang dari database. Rebuild membaca database tanpa
+ * memegang lock: agregat baru diisi terpisah, perubahan yang masuk selama
+ * rebuild dicatat lalu diterapkan ulang, dan hasilnya dipasang di bawah lock.
+ * Pembaca dan jalur tulis tetap memakai agregat lama selama rebuild.
+ *
+ * @author Harist Islami
+ * @version 1.2
+ * @since 2026-10-18
+ */
+@Component
+public class CatalogStatistics implements ProductIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogStatistics.class);
+
+    static final int REBUILD_BATCH_SIZE = 5000;
+
+    private static final String AGGREGATE_SQL = "SELECT COUNT(*), COALESCE(SUM(stock), 0), "
+            + "COALESCE(SUM(CASE WHEN stock <= 0 THEN 1 ELSE 0 END), 0), COALESCE(SUM(price * stock), 0), "
+            + "COALESCE(SUM(price), 0), MIN(price), MAX(price) FROM products";
+
+    private final ProductRepository productRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Counter driftCounter;
+
+    private final Object rebuildLock = new Object();
+
+    private Totals totals = new Totals();
+    /** Perubahan per ID selama rebuild berjalan (null berarti dihapus); null jika tidak sedang rebuild. */
+    private Map<Long, Row> changedDuringRebuild;
+    private long mutations;
+    private Instant lastReconciledAt;
+
+    @Autowired
+    public CatalogStatistics(ProductRepository productRepository, JdbcTemplate jdbcTemplate,
+                             MeterRegistry meterRegistry) {
+        this.productRepository = productRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.driftCounter = Counter.builder("products.stats.drift")
+                .description("Reconciliations that found in-memory catalog statistics out of sync with the database")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public synchronized void clear() {
+        totals = new Totals();
+        mutations++;
+    }
+
+    @Override
+    public synchronized void index(Product product) {
+        Row row = Row.of(product);
+        totals.put(product.getId(), row);
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.put(product.getId(), row);
+        }
+        mutations++;
+    }
+
+    @Override
+    public synchronized void remove(Long id) {
+        totals.remove(id);
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.put(id, null);
+        }
+        mutations++;
+    }
+
+    @Override
+    public synchronized void rebuildCompleted() {
+        lastReconciledAt = Instant.now();
+    }
+
+    /**
+     * Stok berubah lewat UPDATE langsung; stok dan version baru diambil dari
+     * event dan diterapkan O(1) per produk. Produk yang belum tercatat dilewati
+     * (rebuild atau event simpan produk akan mencatatnya).
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onStockChanged(StockChangedEvent event) {
+        event.getLevels().forEach((id, level) -> {
+            Row current = totals.rows.get(id);
+            if (current == null || level.getVersion() < current.version()) {
+                return;
+            }
+            Row row = new Row(current.cents(), level.getStock(), level.getVersion());
+            totals.put(id, row);
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.put(id, row);
+            }
+            mutations++;
+        });
+    }
+
+    /**
+     * Ringkasan agregat saat ini, tanpa membaca database.
+     */
+    public synchronized CatalogStats stats() {
+        long count = totals.rows.size();
+        if (count == 0) {
+            return new CatalogStats(0, 0, 0, BigDecimal.ZERO.setScale(2), null, null, null, lastReconciledAt);
+        }
+        BigDecimal average = BigDecimal.valueOf(totals.priceSumCents, 2)
+                .divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP);
+        return new CatalogStats(count, totals.totalStock, totals.outOfStock, BigDecimal.valueOf(totals.inventoryCents, 2),
+                BigDecimal.valueOf(totals.productsByPrice.firstKey(), 2),
+                BigDecimal.valueOf(totals.productsByPrice.lastKey(), 2), average, lastReconciledAt);
+    }
+
+    /**
+     * Mencocokkan agregat dengan database dan membangunnya ulang jika berbeda.
+     *
+     * <p>Query agregasi dijalankan tanpa memegang lock. Jika ada perubahan yang
+     * diterapkan selama query berjalan, hasilnya tidak bisa dibandingkan dan
+     * pencocokan dilewati sampai jadwal berikutnya. Rebuild setelah selisih
+     * ditemukan juga berjalan di luar lock.
+     *
+     * @return false jika ditemukan selisih dan agregat dibangun ulang
+     */
+    @Scheduled(initialDelayString = "${app.products.stats.reconcile-interval-ms:300000}",
+            fixedDelayString = "${app.products.stats.reconcile-interval-ms:300000}")
+    public boolean reconcile() {
+        long before;
+        Aggregates memory;
+        synchronized (this) {
+            before = mutations;
+            memory = totals.aggregates();
+        }
+        Aggregates database = jdbcTemplate.queryForObject(AGGREGATE_SQL, (rs, rowNum) -> new Aggregates(
+                rs.getLong(1), rs.getLong(2), rs.getLong(3), toCents(rs.getBigDecimal(4)),
+                toCents(rs.getBigDecimal(5)), nullableCents(rs.getBigDecimal(6)), nullableCents(rs.getBigDecimal(7))));
+        synchronized (this) {
+            if (mutations != before) {
+                log.debug("Catalog changed during reconciliation; retrying on next schedule");
+                return true;
+            }
+            lastReconciledAt = Instant.now();
+            if (memory.equals(database)) {
+                return true;
+            }
+        }
+        driftCounter.increment();
+        log.warn("Catalog statistics drifted from database (memory {}, database {}); rebuilding", memory, database);
+        rebuildFromDatabase();
+        return false;
+    }
+
+    /**
+     * Mengisi agregat baru dari database tanpa lock, lalu memasangnya setelah
+     * perubahan yang masuk selama rebuild diterapkan ulang.
+     */
+    void rebuildFromDatabase() {
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                changedDuringRebuild = new HashMap<>();
+            }
+            Totals rebuilt = new Totals();
+            try {
+                List<Product> batch = productRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(REBUILD_BATCH_SIZE));
+                while (!batch.isEmpty()) {
+                    batch.forEach(product -> rebuilt.put(product.getId(), Row.of(product)));
+                    Long lastId = batch.get(batch.size() - 1).getId();
+                    batch = productRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(REBUILD_BATCH_SIZE));
+                }
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    changedDuringRebuild = null;
+                }
+                throw e;
+            }
+            synchronized (this) {
+                changedDuringRebuild.forEach((id, row) -> {
+                    if (row == null) {
+                        rebuilt.remove(id);
+                    } else {
+                        rebuilt.put(id, row);
+                    }
+                });
+                changedDuringRebuild = null;
+                totals = rebuilt;
+                mutations++;
+            }
+        }
+    }
+
+    private static long toCents(BigDecimal price) {
+        return price.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static Long nullableCents(BigDecimal price) {
+        return price == null ? null : toCents(price);
+    }
+
+    private record Row(long cents, int stock, long version) {
+
+        static Row of(Product product) {
+            return new Row(toCents(product.getPrice()), product.getStock(),
+                    product.getVersion() == null ? 0L : product.getVersion());
+        }
+    }
+
+    /**
+     * Counter agregat beserta baris per produk; diakses di bawah lock
+     * {@code CatalogStatistics}, kecuali instance baru yang sedang diisi rebuild.
+     */
+    private static final class Totals {
+
+        private final Map<Long, Row> rows = new HashMap<>();
+        private final TreeMap<Long, Integer> productsByPrice = new TreeMap<>();
+        private long totalStock;
+        private long outOfStock;
+        private long inventoryCents;
+        private long priceSumCents;
+
+        /**
+         * Mengganti baris produk; baris dengan version lebih lama dari yang tersimpan diabaikan.
+         */
+        void put(Long id, Row row) {
+            Row previous = rows.get(id);
+            if (previous != null) {
+                if (row.version() < previous.version()) {
+                    return;
+                }
+                apply(previous, -1);
+            }
+            rows.put(id, row);
+            apply(row, 1);
+        }
+
+        void remove(Long id) {
+            Row previous = rows.remove(id);
+            if (previous != null) {
+                apply(previous, -1);
+            }
+        }
+
+        private void apply(Row row, int sign) {
+            totalStock += sign * (long) row.stock();
+            if (row.stock() <= 0) {
+                outOfStock += sign;
+            }
+            inventoryCents += sign * Math.multiplyExact(row.cents(), (long) row.stock());
+            priceSumCents += sign * row.cents();
+            productsByPrice.merge(row.cents(), sign, (count, delta) -> count + delta == 0 ? null : count + delta);
+        }
+
+        Aggregates aggregates() {
+            return new Aggregates(rows.size(), totalStock, outOfStock, inventoryCents, priceSumCents,
+                    productsByPrice.isEmpty() ? null : productsByPrice.firstKey(),
+                    productsByPrice.isEmpty() ? null : productsByPrice.lastKey());
+        }
+    }
+
+    private record Aggregates(long count, long totalStock, long outOfStock, long inventoryCents,
+                              long priceSumCents, Long minCents, Long maxCents) {
+    }
+}
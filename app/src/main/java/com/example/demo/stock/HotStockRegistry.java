@@ -0,0 +1,407 @@
+package com.example.demo.stock;
+
+import com.example.demo.config.ProductProperties;
+import com.example.demo.model.Product;
+import com.example.demo.repository.ProductRepository;
+import com.example.demo.service.ProductChangedEvent;
+import com.example.demo.service.ProductNotFoundException;
+import com.example.demo.service.StockChangedEvent;
+import com.example.demo.service.StockChangedEvent.StockLevel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registry stok untuk produk "hot SKU" yang menerima ribuan perubahan stok per detik.
+ *
+ * <p>Stok produk yang dipromosikan dipegang di {@link StripedStockCounter}
+ * sehingga reservasi tidak lagi mengantri pada row lock {@code products.stock}.
+ * Setiap perubahan dicatat di {@link StockJournal} tanpa lock (ditulis ke disk
+ * per group commit oleh thread penulis journal), lalu secara berkala
+ * ({@code app.products.hot-stock.flush-interval-ms}) delta yang terkumpul
+ * ditulis ke database oleh thread flush milik registry sendiri (bukan
+ * scheduler {@code @Scheduled} bersama, yang bisa tertahan job panjang seperti
+ * build snapshot katalog) dalam satu transaksi berisi batch
+ * {@code UPDATE products SET stock = stock + ?}. Flush juga menaikkan
+ * {@code version} dan menerbitkan {@link StockChangedEvent}, sehingga ETag
+ * produk hot maupun cache listing berubah paling lambat satu interval flush
+ * setelah stoknya berubah.
+ *
+ * <p>Pemulihan crash: transaksi flush juga menyimpan nomor segment journal
+ * terakhir yang sudah diterapkan di tabel {@code stock_journal_checkpoint}.
+ * Saat startup, segment yang nomornya lebih besar dari checkpoint diputar
+ * ulang ke database, sehingga delta tidak pernah hilang maupun diterapkan dua
+ * kali. Setelah itu {@link StockChangedEvent} diterbitkan untuk produk yang
+ * dipulihkan, agar read model yang sudah dibangun sebelum pemulihan (urutan
+ * startup antar bean tidak dijamin) ikut diperbarui. Perubahan yang belum sempat ditulis ke journal (paling lama satu
+ * {@code journal-commit-interval-ms}) hilang saat crash. Tanpa
+ * {@code journal-fsync}, journal tahan terhadap crash proses (data ada di
+ * page cache OS) tetapi tidak terhadap mati listrik.
+ *
+ * <p>Promosi dilakukan saat startup dari {@code app.products.hot-stock.product-ids}.
+ * Selama produk hot, semua perubahan stok harus lewat registry ini; update
+ * produk lewat PUT menulis stok absolut, sehingga counter di-set ulang ke
+ * nilai tersebut setelah commit (reservasi yang sedang berjalan tepat pada
+ * saat itu bisa tertimpa).
+ *
+ * @author Harist Islami
+ * @version 1.5
+ * @since 2026-10-18
+ */
+@Component
+public class HotStockRegistry implements SmartInitializingSingleton, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(HotStockRegistry.class);
+
+    private final ProductRepository productRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ProductProperties.HotStock settings;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ConcurrentMap<Long, HotProduct> products = new ConcurrentHashMap<>();
+
+    /** Delta dari segment yang sudah ditutup tetapi belum berhasil ditulis ke database. */
+    private final Map<Long, Long> unflushedDeltas = new HashMap<>();
+    private final List<StockJournal.Segment> unflushedSegments = new ArrayList<>();
+    private volatile StockJournal journal;
+    private ScheduledExecutorService flusher;
+
+    @Autowired
+    public HotStockRegistry(ProductRepository productRepository,
+                            JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            ProductProperties properties,
+                            ApplicationEventPublisher eventPublisher) {
+        this.productRepository = productRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.settings = properties.getHotStock();
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long nextSegment = recover();
+        if (settings.isEnabled()) {
+            journal = new StockJournal(journalDirectory(), nextSegment, settings.isJournalFsync(),
+                    settings.getJournalCommitIntervalMs());
+            settings.getProductIds().forEach(this::promote);
+            flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "hot-stock-flush");
+                thread.setDaemon(true);
+                return thread;
+            });
+            flusher.scheduleWithFixedDelay(this::flushQuietly, settings.getFlushIntervalMs(),
+                    settings.getFlushIntervalMs(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Memindahkan stok produk ke counter in-memory.
+     *
+     * <p>Stok dibaca sekali dari database; perubahan stok lewat jalur lain di
+     * antara pembacaan dan promosi tidak ikut terhitung, sehingga promosi
+     * sebaiknya dilakukan sebelum produk menerima traffic.
+     *
+     * @param id ID produk
+     * @throws IllegalStateException jika mode hot SKU tidak aktif
+     * @throws ProductNotFoundException jika produk tidak ditemukan
+     */
+    public void promote(Long id) {
+        if (journal == null) {
+            throw new IllegalStateException("Hot stock mode is disabled");
+        }
+        Product product = productRepository.findById(id)
+                .orElseThrow(() -> new ProductNotFoundException(id));
+        products.put(id, new HotProduct(product, new StripedStockCounter(product.getStock())));
+        log.info("Product {} promoted to hot stock with {} units", id, product.getStock());
+    }
+
+    public boolean isHot(Long id) {
+        return !products.isEmpty() && products.containsKey(id);
+    }
+
+    /**
+     * Mengurangi stok produk hot jika mencukupi.
+     *
+     * @return true jika berhasil, false jika stok tidak cukup
+     * @throws RuntimeException jika produk tidak (lagi) hot
+     */
+    public boolean tryReserve(Long id, int quantity) {
+        StripedStockCounter counter = counter(id);
+        if (!counter.tryTake(quantity)) {
+            return false;
+        }
+        try {
+            journal.append(id, -quantity);
+        } catch (RuntimeException e) {
+            counter.add(quantity);
+            throw e;
+        }
+        return true;
+    }
+
+    /**
+     * Menambah stok produk hot.
+     *
+     * @throws RuntimeException jika produk tidak (lagi) hot
+     */
+    public void release(Long id, int quantity) {
+        StripedStockCounter counter = counter(id);
+        journal.append(id, quantity);
+        counter.add(quantity);
+    }
+
+    /**
+     * Salinan produk hot dengan stok terkini dari counter.
+     *
+     * @return kosong jika produk tidak hot
+     */
+    public Optional<Product> snapshot(Long id) {
+        HotProduct hot = products.get(id);
+        if (hot == null) {
+            return Optional.empty();
+        }
+        Product template = hot.template;
+        return Optional.of(new Product(template.getId(), template.getName(), template.getDescription(),
+                template.getPrice(), hot.stock(), template.getVersion()));
+    }
+
+    /**
+     * Mengganti stok produk hot pada entity yang tidak lagi managed dengan nilai terkini.
+     */
+    public void overlay(Product product) {
+        if (products.isEmpty()) {
+            return;
+        }
+        HotProduct hot = products.get(product.getId());
+        if (hot != null) {
+            product.setStock(hot.stock());
+        }
+    }
+
+    public void overlay(List<Product> products) {
+        if (!this.products.isEmpty()) {
+            products.forEach(this::overlay);
+        }
+    }
+
+    /**
+     * Menulis delta yang terkumpul ke database. Jika gagal, delta tetap
+     * disimpan dan dicoba lagi pada flush berikutnya. Dipanggil berkala oleh
+     * thread flush registry.
+     */
+    public synchronized void flush() {
+        if (journal == null || (unflushedSegments.isEmpty() && !journal.hasPending())) {
+            return;
+        }
+        StockJournal.Segment segment = journal.rotate();
+        unflushedSegments.add(segment);
+        segment.deltas().forEach((id, delta) -> unflushedDeltas.merge(id, delta, Long::sum));
+        unflushedDeltas.values().removeIf(delta -> delta == 0);
+        try {
+            if (!unflushedDeltas.isEmpty()) {
+                Map<Long, StockLevel> levels = transactionTemplate.execute(status -> {
+                    applyDeltas(unflushedDeltas);
+                    saveCheckpoint(segment.number());
+                    Map<Long, StockLevel> flushed = readLevels(unflushedDeltas.keySet());
+                    flushed.forEach(this::refreshVersion);
+                    return flushed;
+                });
+                eventPublisher.publishEvent(new StockChangedEvent(levels));
+                log.debug("Flushed hot stock deltas for {} products", unflushedDeltas.size());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush hot stock deltas, will retry: {}", e.getMessage());
+            return;
+        }
+        unflushedSegments.forEach(StockJournal.Segment::delete);
+        unflushedSegments.clear();
+        unflushedDeltas.clear();
+    }
+
+    /**
+     * Menyelaraskan counter setelah produk hot diupdate atau dihapus lewat jalur lain.
+     *
+     * <p>Update menulis stok absolut, sehingga delta yang belum ditulis untuk
+     * produk tersebut dibuang dan nilai dari update dipakai sebagai stok baru.
+     * Nilai itu ditulis ulang ke database untuk menimpa flush yang mungkin
+     * sempat berjalan antara commit dan listener ini.
+     *
+     * <p>Update yang tidak menyentuh stok (misalnya PATCH harga atau nama)
+     * hanya memperbarui template; counter, journal, dan delta yang belum
+     * di-flush dibiarkan sehingga reservasi yang sedang berjalan tidak hilang.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!isHot(event.getId())) {
+            return;
+        }
+        synchronized (this) {
+            if (event.getType() == ProductChangedEvent.Type.SAVED && !event.isStockChanged()) {
+                products.get(event.getId()).template = event.getProduct();
+                return;
+            }
+            journal.reset(event.getId());
+            unflushedDeltas.remove(event.getId());
+            if (event.getType() == ProductChangedEvent.Type.DELETED) {
+                products.remove(event.getId());
+                return;
+            }
+            Product product = event.getProduct();
+            HotProduct hot = products.get(event.getId());
+            hot.template = product;
+            hot.counter.reset(product.getStock());
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update("UPDATE products SET stock = ? WHERE id = ?", product.getStock(), product.getId());
+                readLevels(List.of(product.getId())).forEach(this::refreshVersion);
+            });
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (flusher != null) {
+            flusher.shutdown();
+            flusher.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        if (journal != null) {
+            flush();
+            journal.close();
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Hot stock flush failed, will retry: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Menerapkan segment journal yang belum tercatat di checkpoint.
+     *
+     * @return nomor segment berikutnya
+     */
+    private long recover() {
+        List<StockJournal.Segment> segments = StockJournal.list(journalDirectory());
+        long checkpoint = loadCheckpoint();
+        long last = checkpoint;
+        Map<Long, Long> deltas = new HashMap<>();
+        for (StockJournal.Segment segment : segments) {
+            last = Math.max(last, segment.number());
+            if (segment.number() > checkpoint) {
+                StockJournal.replay(segment, deltas);
+            }
+        }
+        deltas.values().removeIf(delta -> delta == 0);
+        if (!deltas.isEmpty()) {
+            long recovered = last;
+            Map<Long, StockLevel> levels = transactionTemplate.execute(status -> {
+                applyDeltas(deltas);
+                saveCheckpoint(recovered);
+                return readLevels(deltas.keySet());
+            });
+            eventPublisher.publishEvent(new StockChangedEvent(levels));
+            log.info("Recovered hot stock deltas for {} products from journal", deltas.size());
+        }
+        segments.forEach(StockJournal.Segment::delete);
+        return last + 1;
+    }
+
+    private void applyDeltas(Map<Long, Long> deltas) {
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((id, delta) -> args.add(new Object[]{delta, id}));
+        jdbcTemplate.batchUpdate("UPDATE products SET stock = stock + ?, version = version + 1 WHERE id = ?", args);
+    }
+
+    /**
+     * Stok dan version terkini dari database untuk produk yang baru ditulis, dalam satu query.
+     */
+    private Map<Long, StockLevel> readLevels(Collection<Long> ids) {
+        Map<Long, StockLevel> levels = new HashMap<>();
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        jdbcTemplate.query("SELECT id, stock, version FROM products WHERE id IN (" + placeholders + ")",
+                rs -> {
+                    levels.put(rs.getLong(1), new StockLevel(rs.getInt(2), rs.getLong(3)));
+                }, ids.toArray());
+        return Map.copyOf(levels);
+    }
+
+    /**
+     * Menyamakan version pada template dengan database, agar ETag dan
+     * If-Match untuk produk hot tetap cocok setelah flush menaikkan version.
+     */
+    private void refreshVersion(Long id, StockLevel level) {
+        HotProduct hot = products.get(id);
+        if (hot == null) {
+            return;
+        }
+        Product template = hot.template;
+        hot.template = new Product(template.getId(), template.getName(), template.getDescription(),
+                template.getPrice(), template.getStock(), level.getVersion());
+    }
+
+    private long loadCheckpoint() {
+        List<Long> segments = jdbcTemplate.queryForList(
+                "SELECT segment FROM stock_journal_checkpoint WHERE id = 1", Long.class);
+        return segments.isEmpty() ? 0L : segments.get(0);
+    }
+
+    private void saveCheckpoint(long segment) {
+        if (jdbcTemplate.update("UPDATE stock_journal_checkpoint SET segment = ? WHERE id = 1", segment) == 0) {
+            jdbcTemplate.update("INSERT INTO stock_journal_checkpoint (id, segment) VALUES (1, ?)", segment);
+        }
+    }
+
+    private StripedStockCounter counter(Long id) {
+        HotProduct hot = products.get(id);
+        if (hot == null) {
+            throw new ProductNotFoundException(id);
+        }
+        return hot.counter;
+    }
+
+    private Path journalDirectory() {
+        return Path.of(settings.getJournalDirectory());
+    }
+
+    private static final class HotProduct {
+        private volatile Product template;
+        private final StripedStockCounter counter;
+
+        private HotProduct(Product template, StripedStockCounter counter) {
+            this.template = template;
+            this.counter = counter;
+        }
+
+        private int stock() {
+            return (int) Math.min(counter.sum(), Integer.MAX_VALUE);
+        }
+    }
+}
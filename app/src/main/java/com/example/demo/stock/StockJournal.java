@@ -0,0 +1,268 @@
+package com.example.demo.stock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Journal append-only untuk delta stok yang belum ditulis ke database.
+ *
+ * <p>Journal terdiri dari segment bernomor urut ({@code stock-<n>.journal}).
+ * Setiap perubahan counter menjadi record 16 byte (ID produk, delta) yang
+ * dimasukkan ke antrian lock-free, sehingga reservasi tidak mengantri pada
+ * lock maupun I/O. Satu thread penulis mengambil seluruh isi antrian setiap
+ * {@code commitIntervalMs} (group commit), menulisnya ke segment aktif dengan
+ * satu pemanggilan write (dan satu {@code force} jika fsync aktif), lalu
+ * mengakumulasikan deltanya di memori. Saat flush, {@link #rotate()} menulis
+ * sisa antrian, menutup segment aktif, dan membuka segment baru di bawah lock
+ * penulis, sehingga isi segment lama selalu sama persis dengan delta yang
+ * dikembalikan.
+ *
+ * <p>Karena reservasi tidak menunggu record-nya ditulis, crash proses dapat
+ * menghilangkan perubahan stok hingga satu interval group commit (record yang
+ * masih di antrian). Tanpa fsync, mati listrik juga menghilangkan record yang
+ * masih di page cache OS.
+ *
+ * <p>Record dengan delta {@link #RESET} membatalkan seluruh delta sebelumnya
+ * untuk produk tersebut (dipakai ketika stok di-set ulang dari database).
+ *
+ * @author Harist Islami
+ * @version 1.1
+ * @since 2026-10-18
+ */
+final class StockJournal implements AutoCloseable {
+
+    static final long RESET = Long.MIN_VALUE;
+
+    private static final Logger log = LoggerFactory.getLogger(StockJournal.class);
+    private static final int RECORD_SIZE = 16;
+    /** Jumlah record maksimum per pemanggilan write. */
+    private static final int GROUP_RECORDS = 4096;
+    private static final Pattern SEGMENT_NAME = Pattern.compile("stock-(\\d+)\\.journal");
+
+    private final Path directory;
+    private final boolean fsync;
+    private final Queue<Entry> queued = new ConcurrentLinkedQueue<>();
+    private final ScheduledExecutorService writer;
+    private volatile boolean closed;
+
+    /** State di bawah ini hanya diakses di dalam synchronized (thread penulis dan rotate). */
+    private final ByteBuffer group = ByteBuffer.allocate(GROUP_RECORDS * RECORD_SIZE);
+    private Map<Long, Long> pending = new HashMap<>();
+    private long segment;
+    private FileChannel channel;
+
+    /**
+     * Membuka segment baru dengan nomor {@code firstSegment} dan memulai thread
+     * penulis yang melakukan group commit setiap {@code commitIntervalMs}.
+     */
+    StockJournal(Path directory, long firstSegment, boolean fsync, long commitIntervalMs) {
+        this.directory = directory;
+        this.fsync = fsync;
+        this.segment = firstSegment;
+        this.channel = open(firstSegment);
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "stock-journal-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writer.scheduleWithFixedDelay(this::commitQuietly, commitIntervalMs, commitIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Mencatat delta tanpa menunggu record-nya ditulis ke disk.
+     *
+     * @throws IllegalStateException jika journal sudah ditutup
+     */
+    void append(Long productId, long delta) {
+        enqueue(new Entry(productId, delta));
+    }
+
+    void reset(Long productId) {
+        enqueue(new Entry(productId, RESET));
+    }
+
+    boolean hasPending() {
+        if (!queued.isEmpty()) {
+            return true;
+        }
+        synchronized (this) {
+            return !pending.isEmpty();
+        }
+    }
+
+    /**
+     * Menulis seluruh record yang sedang mengantri ke segment aktif.
+     */
+    synchronized void commit() {
+        boolean written = false;
+        Entry entry = queued.poll();
+        while (entry != null) {
+            group.clear();
+            while (entry != null) {
+                group.putLong(entry.productId()).putLong(entry.delta());
+                if (entry.delta() == RESET) {
+                    pending.remove(entry.productId());
+                } else {
+                    pending.merge(entry.productId(), entry.delta(), Long::sum);
+                }
+                entry = group.hasRemaining() ? queued.poll() : null;
+            }
+            write(group.flip());
+            written = true;
+            entry = queued.poll();
+        }
+        if (written && fsync) {
+            try {
+                channel.force(false);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to sync stock journal", e);
+            }
+        }
+    }
+
+    /**
+     * Menulis sisa antrian, menutup segment aktif, membuka segment berikutnya,
+     * dan mengembalikan delta yang tercatat di segment yang ditutup.
+     */
+    synchronized Segment rotate() {
+        commit();
+        Segment closed = new Segment(segment, segmentPath(segment), pending);
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        pending = new HashMap<>();
+        segment++;
+        channel = open(segment);
+        return closed;
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        writer.shutdown();
+        synchronized (this) {
+            commit();
+            channel.close();
+        }
+    }
+
+    private void enqueue(Entry entry) {
+        if (closed) {
+            throw new IllegalStateException("Stock journal is closed");
+        }
+        queued.add(entry);
+    }
+
+    private void commitQuietly() {
+        try {
+            commit();
+        } catch (RuntimeException e) {
+            log.warn("Failed to write stock journal, deltas are kept in memory until the next flush: {}",
+                    e.getMessage());
+        }
+    }
+
+    private void write(ByteBuffer records) {
+        try {
+            while (records.hasRemaining()) {
+                channel.write(records);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append to stock journal", e);
+        }
+    }
+
+    private FileChannel open(long number) {
+        try {
+            Files.createDirectories(directory);
+            return FileChannel.open(segmentPath(number),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open stock journal in " + directory, e);
+        }
+    }
+
+    private Path segmentPath(long number) {
+        return directory.resolve("stock-" + number + ".journal");
+    }
+
+    /**
+     * Daftar segment yang ada di direktori, terurut berdasarkan nomor.
+     */
+    static List<Segment> list(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        List<Segment> segments = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Matcher matcher = SEGMENT_NAME.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    segments.add(new Segment(Long.parseLong(matcher.group(1)), file, null));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        segments.sort((a, b) -> Long.compare(a.number(), b.number()));
+        return segments;
+    }
+
+    /**
+     * Membaca ulang delta dari file segment. Record terakhir yang terpotong
+     * (crash di tengah penulisan) diabaikan.
+     */
+    static Map<Long, Long> replay(Segment segment, Map<Long, Long> into) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(segment.path()));
+            while (buffer.remaining() >= RECORD_SIZE) {
+                long productId = buffer.getLong();
+                long delta = buffer.getLong();
+                if (delta == RESET) {
+                    into.remove(productId);
+                } else {
+                    into.merge(productId, delta, Long::sum);
+                }
+            }
+            return into;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read stock journal " + segment.path(), e);
+        }
+    }
+
+    private record Entry(long productId, long delta) {
+    }
+
+    record Segment(long number, Path path, Map<Long, Long> deltas) {
+
+        void delete() {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.demo.stock;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counter stok lock-free yang dipecah menjadi beberapa stripe.
+ *
+ * <p>Setiap thread mengurangi stok dari stripe "miliknya" dengan CAS sehingga
+ * thread yang berbeda jarang berebut cache line yang sama. Tidak ada stripe
+ * yang boleh bernilai negatif, sehingga jumlah seluruh stripe (stok) juga tidak
+ * pernah di bawah nol. Jika stripe sendiri tidak cukup, sisa diambil dari
+ * stripe lain; bila total tetap kurang, bagian yang sudah diambil dikembalikan.
+ * Karena itu, ketika stok hampir habis dan banyak thread mengambil bersamaan,
+ * sebuah reservasi bisa ditolak walau sesaat kemudian stoknya ternyata cukup.
+ * Yang dijamin adalah stok tidak pernah terjual melebihi yang tersedia.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class StripedStockCounter {
+
+    /** Jarak antar stripe dalam satuan long (8 x 8 byte = satu cache line). */
+    private static final int PADDING = 8;
+
+    private static final int STRIPES = stripeCount();
+
+    private final AtomicLongArray cells = new AtomicLongArray(STRIPES * PADDING);
+
+    StripedStockCounter(long initial) {
+        reset(initial);
+    }
+
+    /**
+     * Mengurangi stok jika mencukupi.
+     *
+     * @return true jika stok berhasil dikurangi
+     */
+    boolean tryTake(long quantity) {
+        int home = homeStripe();
+        for (int i = 0; i < STRIPES; i++) {
+            if (takeFrom((home + i) & (STRIPES - 1), quantity, true) == quantity) {
+                return true;
+            }
+        }
+        long[] taken = new long[STRIPES];
+        long remaining = quantity;
+        for (int i = 0; i < STRIPES && remaining > 0; i++) {
+            int stripe = (home + i) & (STRIPES - 1);
+            taken[stripe] = takeFrom(stripe, remaining, false);
+            remaining -= taken[stripe];
+        }
+        if (remaining == 0) {
+            return true;
+        }
+        for (int stripe = 0; stripe < STRIPES; stripe++) {
+            if (taken[stripe] > 0) {
+                cells.getAndAdd(stripe * PADDING, taken[stripe]);
+            }
+        }
+        return false;
+    }
+
+    void add(long quantity) {
+        cells.getAndAdd(homeStripe() * PADDING, quantity);
+    }
+
+    long sum() {
+        long sum = 0;
+        for (int stripe = 0; stripe < STRIPES; stripe++) {
+            sum += cells.get(stripe * PADDING);
+        }
+        return sum;
+    }
+
+    /**
+     * Mengganti nilai stok dan membaginya rata ke semua stripe. Tidak atomik
+     * terhadap take/add yang berjalan bersamaan.
+     */
+    void reset(long value) {
+        long share = value / STRIPES;
+        for (int stripe = 0; stripe < STRIPES; stripe++) {
+            cells.set(stripe * PADDING, share + (stripe == 0 ? value % STRIPES : 0));
+        }
+    }
+
+    /**
+     * Mengambil dari satu stripe: seluruh quantity atau tidak sama sekali jika
+     * {@code exact}, selain itu sebanyak yang tersedia.
+     *
+     * @return jumlah yang berhasil diambil
+     */
+    private long takeFrom(int stripe, long quantity, boolean exact) {
+        int index = stripe * PADDING;
+        while (true) {
+            long current = cells.get(index);
+            long take = Math.min(current, quantity);
+            if (take <= 0 || (exact && take < quantity)) {
+                return 0;
+            }
+            if (cells.compareAndSet(index, current, current - take)) {
+                return take;
+            }
+        }
+    }
+
+    private static int homeStripe() {
+        long id = Thread.currentThread().getId();
+        return Long.hashCode(id * 0x9E3779B97F4A7C15L) & (STRIPES - 1);
+    }
+
+    private static int stripeCount() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        return Integer.highestOneBit(Math.max(1, processors - 1)) << 1;
+    }
+}
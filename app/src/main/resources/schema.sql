@@ -0,0 +1,26 @@
+-- Schema for Product Table
+-- This script creates the products table structure
+
+-- Product ids come from a pooled sequence so Hibernate can batch inserts.
+-- Each nextval reserves a block of 50 ids; seed rows in data.sql use ids 1-34.
+CREATE SEQUENCE IF NOT EXISTS product_seq START WITH 51 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS products (
+    id BIGINT PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    description VARCHAR(500),
+    price DECIMAL(19,2) NOT NULL CHECK (price > 0),
+    stock INTEGER NOT NULL CHECK (stock >= 0),
+    version BIGINT NOT NULL DEFAULT 0
+);
+
+-- Last stock journal segment applied to products.stock (hot SKU write-behind).
+-- Updated in the same transaction as the deltas so journal replay is idempotent.
+CREATE TABLE IF NOT EXISTS stock_journal_checkpoint (
+    id INT PRIMARY KEY,
+    segment BIGINT NOT NULL
+);
+
+-- Add index for better search performance
+CREATE INDEX IF NOT EXISTS idx_product_name ON products(name);
+CREATE INDEX IF NOT EXISTS idx_product_price ON products(price);
\ No newline at end of file
@@ -0,0 +1,108 @@
+package com.example.demo.codec;
+
+import com.example.demo.model.Product;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.CodedOutputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit test untuk ProductProtobufCodec.
+ *
+ * <p>Selain format Protobuf sendiri, test class ini membandingkan ukuran
+ * payload dengan JSON, Smile, dan CBOR untuk daftar produk yang sama.
+ *
+ * @author Harist Islami
+ * @version 1.1
+ * @since 2026-10-18
+ */
+public class ProductProtobufCodecTest {
+
+    @Test
+    public void whenRoundTripProductList_thenAllFieldsPreserved() throws Exception {
+        // Given
+        List<Product> products = List.of(
+                new Product(1L, "Laptop ASUS", "Laptop gaming", new BigDecimal("15000000.50"), 10, 4L),
+                new Product(2L, "Kabel USB", null, new BigDecimal("0.01"), 0, 0L));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        ProductProtobufCodec.writeProducts(products, out);
+        List<Product> decoded = ProductProtobufCodec.readProducts(new ByteArrayInputStream(out.toByteArray()));
+
+        // Then
+        assertThat(decoded).isEqualTo(products);
+    }
+
+    @Test
+    public void whenEncodeProductPage_thenBinaryFormatsRoundTripAndAreSmallerThanJson() throws Exception {
+        // Given
+        List<Product> products = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            products.add(new Product(id, "Laptop Model " + id, "Premium build quality with a two year warranty.",
+                    BigDecimal.valueOf(100_000 + id * 37, 2), (int) (id % 50), 0L));
+        }
+        TypeReference<List<Product>> listType = new TypeReference<>() {
+        };
+        ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+        ObjectMapper smile = Jackson2ObjectMapperBuilder.smile().build();
+        ObjectMapper cbor = Jackson2ObjectMapperBuilder.cbor().build();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        byte[] jsonBytes = json.writeValueAsBytes(products);
+        byte[] smileBytes = smile.writeValueAsBytes(products);
+        byte[] cborBytes = cbor.writeValueAsBytes(products);
+        ProductProtobufCodec.writeProducts(products, out);
+        byte[] protobufBytes = out.toByteArray();
+
+        // Then
+        assertThat(smileBytes.length).isLessThan(jsonBytes.length);
+        assertThat(cborBytes.length).isLessThan(jsonBytes.length);
+        assertThat(protobufBytes.length).isLessThan(smileBytes.length).isLessThan(cborBytes.length);
+        assertThat(ProductProtobufCodec.readProducts(new ByteArrayInputStream(protobufBytes))).isEqualTo(products);
+        for (List<Product> decoded : List.of(json.readValue(jsonBytes, listType),
+                smile.readValue(smileBytes, listType), cbor.readValue(cborBytes, listType))) {
+            // version hanya dibaca dari server (READ_ONLY), sehingga tidak ikut di-deserialize
+            assertThat(decoded).usingRecursiveFieldByFieldElementComparatorIgnoringFields("version")
+                    .isEqualTo(products);
+        }
+    }
+
+    @Test
+    public void whenEncodePrice_thenUseScaledLongCents() {
+        // When & Then
+        assertThat(ProductProtobufCodec.toCents(new BigDecimal("99999999.99"))).isEqualTo(9_999_999_999L);
+        assertThat(ProductProtobufCodec.toCents(new BigDecimal("12"))).isEqualTo(1200L);
+        assertThat(ProductProtobufCodec.toCents(new BigDecimal("1.005"))).isEqualTo(101L);
+        assertThat(ProductProtobufCodec.fromCents(1200L)).isEqualTo(new BigDecimal("12.00"));
+    }
+
+    @Test
+    public void whenMessageHasUnknownFields_thenSkipThem() throws Exception {
+        // Given
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CodedOutputStream out = CodedOutputStream.newInstance(bytes);
+        out.writeInt64(1, 7L);
+        out.writeString(99, "dari versi skema yang lebih baru");
+        out.writeInt64(4, 2550L);
+        out.flush();
+
+        // When
+        Product decoded = ProductProtobufCodec.readProduct(new ByteArrayInputStream(bytes.toByteArray()));
+
+        // Then
+        assertThat(decoded.getId()).isEqualTo(7L);
+        assertThat(decoded.getPrice()).isEqualTo(new BigDecimal("25.50"));
+        assertThat(decoded.getName()).isNull();
+    }
+}
@@ -0,0 +1,224 @@
+package com.example.demo.columnar;
+
+import com.example.demo.config.ProductProperties;
+import com.example.demo.model.Product;
+import com.example.demo.repository.ProductRepository;
+import com.example.demo.service.ProductService;
+import com.example.demo.service.ProductStockService;
+import com.example.demo.service.StockChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test untuk ColumnarCatalog: sinkronisasi dari jalur tulis dan snapshot memory-mapped.
+ *
+ * @author Harist Islami
+ * @version 1.2
+ * @since 2026-10-18
+ */
+@SpringBootTest(properties = "app.products.columnar.enabled=true")
+public class ColumnarCatalogTest {
+
+    @Autowired
+    private ColumnarCatalog columnarCatalog;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductStockService productStockService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProductProperties properties;
+
+    @BeforeEach
+    public void seedProducts() {
+        productService.createProduct(new Product(null, "Columnar Phone", "Seed", new BigDecimal("2500000.00"), 7));
+        productService.createProduct(new Product(null, "Columnar Watch", null, new BigDecimal("750000.50"), 3));
+        productService.createProduct(new Product(null, "Columnar Phone", "Seed", new BigDecimal("750000.50"), 1));
+    }
+
+    @Test
+    public void whenReady_thenContentMatchesDatabase() {
+        // Given
+        List<Product> expected = productRepository.findAll().stream()
+                .sorted(Comparator.comparing(Product::getId)).toList();
+
+        // When
+        columnarCatalog.rebuild();
+        List<Product> columns = columnarCatalog.findAll();
+
+        // Then
+        assertThat(columnarCatalog.isReady()).isTrue();
+        assertThat(columns).hasSameSizeAs(expected).isNotEmpty();
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(columns.get(i).getId()).isEqualTo(expected.get(i).getId());
+            assertThat(columns.get(i).getName()).isEqualTo(expected.get(i).getName());
+            assertThat(columns.get(i).getPrice()).isEqualByComparingTo(expected.get(i).getPrice());
+            assertThat(columns.get(i).getVersion()).isEqualTo(expected.get(i).getVersion());
+        }
+    }
+
+    @Test
+    public void whenProductWritten_thenColumnsFollowWritePaths() {
+        // Given
+        Product created = productService.createProduct(
+                new Product(null, "Columnar Lamp", "Desk lamp", new BigDecimal("123.45"), 9));
+
+        // When
+        productStockService.reserveStock(created.getId(), 4);
+        Product updated = productService.updateProduct(created.getId(),
+                new Product(null, "Columnar Lamp XL", "Desk lamp", new BigDecimal("150.00"), 5));
+
+        // Then
+        Product columns = columnarCatalog.findById(created.getId()).orElseThrow();
+        assertThat(columns.getName()).isEqualTo("Columnar Lamp XL");
+        assertThat(columns.getPrice()).isEqualTo(new BigDecimal("150.00"));
+        assertThat(columns.getStock()).isEqualTo(5);
+        assertThat(columns.getVersion()).isEqualTo(updated.getVersion());
+        assertThat(columnarCatalog.findByPriceBetween(new BigDecimal("149.99"), new BigDecimal("150.00"), 1000))
+                .extracting(Product::getId).contains(created.getId());
+
+        // When
+        productService.deleteProduct(created.getId());
+
+        // Then
+        assertThat(columnarCatalog.findById(created.getId())).isEmpty();
+    }
+
+    @Test
+    public void whenStockEventsArriveOutOfOrder_thenNewestVersionWinsWithoutReadingDatabase() {
+        // Given
+        Product created = productService.createProduct(
+                new Product(null, "Columnar Mug", "Event order", new BigDecimal("45.00"), 9));
+        columnarCatalog.rebuild();
+        long version = created.getVersion();
+
+        // When
+        columnarCatalog.onStockChanged(new StockChangedEvent(
+                Map.of(created.getId(), new StockChangedEvent.StockLevel(6, version + 2))));
+        columnarCatalog.onStockChanged(new StockChangedEvent(
+                Map.of(created.getId(), new StockChangedEvent.StockLevel(8, version + 1))));
+
+        // Then
+        Product columns = columnarCatalog.findById(created.getId()).orElseThrow();
+        assertThat(columns.getStock()).isEqualTo(6);
+        assertThat(columns.getVersion()).isEqualTo(version + 2);
+        assertThat(productRepository.findById(created.getId()).orElseThrow().getStock()).isEqualTo(9);
+    }
+
+    @Test
+    public void whenPriceRangeRequested_thenMatchDatabaseOrder() {
+        // Given
+        columnarCatalog.rebuild();
+        BigDecimal min = new BigDecimal("100000");
+        BigDecimal max = new BigDecimal("5000000");
+
+        // When
+        List<Product> columns = columnarCatalog.findByPriceBetween(min, max, 5);
+
+        // Then
+        List<Product> database = productRepository.findByPriceBetweenOrderByPriceAscIdAsc(min, max, Limit.of(5));
+        assertThat(database).isNotEmpty();
+        assertThat(columns).extracting(Product::getId)
+                .containsExactlyElementsOf(database.stream().map(Product::getId).toList());
+    }
+
+    @Test
+    public void whenPriceBoundsExceedLong_thenClampInsteadOfThrowing() {
+        // When
+        List<Product> all = columnarCatalog.findByPriceBetween(BigDecimal.ZERO, new BigDecimal("1e20"), 1000);
+        List<Product> none = columnarCatalog.findByPriceBetween(new BigDecimal("1e20"), new BigDecimal("1e21"), 1000);
+
+        // Then
+        assertThat(all).isNotEmpty();
+        assertThat(none).isEmpty();
+    }
+
+    @Test
+    public void whenProductRenamedRepeatedly_thenDictionaryDoesNotGrowWithoutBound() {
+        // Given
+        ColumnarCatalog catalog = new ColumnarCatalog(productRepository, jdbcTemplate, properties);
+
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            catalog.apply(new Product(1L, "Renamed " + i, "Same description", new BigDecimal("10.00"), 1, (long) i));
+        }
+
+        // Then
+        assertThat(catalog.dictionarySize()).isLessThan(2_000);
+        assertThat(catalog.findById(1L).orElseThrow().getName()).isEqualTo("Renamed 9999");
+        assertThat(catalog.findById(1L).orElseThrow().getDescription()).isEqualTo("Same description");
+    }
+
+    @Test
+    public void whenSnapshotWritten_thenRowsAreFixedWidthAndStringsStoredOnce() throws Exception {
+        // Given
+        List<Product> products = columnarCatalog.findAll();
+        long strings = products.stream()
+                .flatMap(product -> Stream.of(product.getName(), product.getDescription()))
+                .filter(Objects::nonNull)
+                .distinct()
+                .mapToLong(value -> 4 + value.getBytes(StandardCharsets.UTF_8).length)
+                .sum();
+
+        // When
+        columnarCatalog.writeSnapshot();
+
+        // Then
+        long expected = ColumnarCatalog.HEADER_BYTES + (long) products.size() * ColumnarCatalog.ROW_BYTES + strings;
+        assertThat(Files.size(Path.of(properties.getColumnar().getFile()))).isEqualTo(expected);
+    }
+
+    @Test
+    public void whenRestarted_thenMapSnapshotInsteadOfRebuilding() {
+        // Given
+        columnarCatalog.writeSnapshot();
+        ColumnarCatalog restarted = new ColumnarCatalog(productRepository, jdbcTemplate, properties);
+
+        // When
+        boolean mapped = restarted.load();
+
+        // Then
+        assertThat(mapped).isTrue();
+        assertThat(restarted.findAll()).isNotEmpty().isEqualTo(columnarCatalog.findAll());
+    }
+
+    @Test
+    public void whenDatabaseChangedWhileStopped_thenSnapshotIsRejected() {
+        // Given
+        columnarCatalog.writeSnapshot();
+        Long id = productRepository.findAll().get(0).getId();
+        jdbcTemplate.update("UPDATE products SET version = version + 1 WHERE id = ?", id);
+        ColumnarCatalog restarted = new ColumnarCatalog(productRepository, jdbcTemplate, properties);
+
+        // When
+        boolean mapped = restarted.load();
+
+        // Then
+        assertThat(mapped).isFalse();
+        columnarCatalog.rebuild();
+    }
+}
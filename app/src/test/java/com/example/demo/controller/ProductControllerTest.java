@@ -0,0 +1,1037 @@
+package com.example.demo.controller;
+
+import com.example.demo.codec.ProductProtobufCodec;
+import com.example.demo.config.ProductProperties;
+import com.example.demo.model.BulkResult;
+import com.example.demo.model.CatalogStats;
+import com.example.demo.model.PriceBucket;
+import com.example.demo.model.Product;
+import com.example.demo.model.ProductPage;
+import com.example.demo.model.ProductSearchHit;
+import com.example.demo.model.ProductSuggestion;
+import com.example.demo.model.StockItem;
+import com.example.demo.service.CatalogGeneration;
+import com.example.demo.service.InsufficientStockException;
+import com.example.demo.service.ProductBulkService;
+import com.example.demo.service.ProductField;
+import com.example.demo.service.ProductNotFoundException;
+import com.example.demo.service.ProductPatchService;
+import com.example.demo.service.ProductService;
+import com.example.demo.service.ProductSort;
+import com.example.demo.service.ProductStockService;
+import com.example.demo.service.ProductVersionConflictException;
+import com.example.demo.snapshot.CatalogSnapshotService;
+import com.example.demo.stats.CatalogStatistics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.function.Consumer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit test untuk ProductController.
+ *
+ * <p>Test class ini menguji controller layer untuk Product API endpoints
+ * menggunakan MockMvc dan Mockito untuk mocking service layer.
+ *
+ * @author Harist Islami
+ * @version 2.2
+ * @since 2025-09-20
+ */
+@ExtendWith(SpringExtension.class)
+@WebMvcTest(ProductController.class)
+@Import({ResponseBodyCache.class, CatalogGeneration.class, SimpleMeterRegistry.class})
+@EnableConfigurationProperties(ProductProperties.class)
+public class ProductControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ProductService productService;
+
+    @MockBean
+    private ProductBulkService productBulkService;
+
+    @MockBean
+    private ProductStockService productStockService;
+
+    @MockBean
+    private ProductPatchService productPatchService;
+
+    @MockBean
+    private CatalogSnapshotService catalogSnapshotService;
+
+    @MockBean
+    private CatalogStatistics catalogStatistics;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ResponseBodyCache responseBodyCache;
+
+    @Autowired
+    private ProductProperties productProperties;
+
+    @Autowired
+    private CatalogGeneration catalogGeneration;
+
+    @BeforeEach
+    public void clearResponseCache() {
+        responseBodyCache.clear();
+    }
+
+    @Test
+    public void whenGetAllProducts_thenReturnProductList() throws Exception {
+        // Given
+        Product product1 = new Product(1L, "Laptop ASUS", "Laptop gaming", BigDecimal.valueOf(15000000.0), 10);
+        Product product2 = new Product(2L, "iPhone 14", "Smartphone", BigDecimal.valueOf(18000000.0), 8);
+        List<Product> products = Arrays.asList(product1, product2);
+
+        given(productService.getAllProducts()).willReturn(products);
+
+        // When & Then
+        mockMvc.perform(get("/api/products")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].name", is("Laptop ASUS")))
+                .andExpect(jsonPath("$[1].name", is("iPhone 14")));
+    }
+
+    @Test
+    public void whenGetProductById_thenReturnProduct() throws Exception {
+        // Given
+        Product product = new Product(1L, "Laptop ASUS", "Laptop gaming", BigDecimal.valueOf(15000000.0), 10);
+
+        given(productService.getProductById(1L)).willReturn(Optional.of(product));
+
+        // When & Then
+        mockMvc.perform(get("/api/products/1")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name", is("Laptop ASUS")))
+                .andExpect(jsonPath("$.price", is(15000000.0)));
+    }
+
+    @Test
+    public void whenGetProductByIdNotFound_thenReturn404() throws Exception {
+        // Given
+        given(productService.getProductById(1L)).willReturn(Optional.empty());
+
+        // When & Then
+        mockMvc.perform(get("/api/products/1")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void whenSearchProductsByName_thenReturnMatchingProducts() throws Exception {
+        // Given
+        Product product1 = new Product(1L, "Laptop ASUS", "Laptop gaming", BigDecimal.valueOf(15000000.0), 10);
+        Product product2 = new Product(2L, "Laptop HP", "Laptop business", BigDecimal.valueOf(12000000.0), 8);
+        List<Product> products = Arrays.asList(product1, product2);
+
+        given(productService.findProductsByName("laptop")).willReturn(products);
+
+        // When & Then
+        mockMvc.perform(get("/api/products/search?name=laptop")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].name", is("Laptop ASUS")))
+                .andExpect(jsonPath("$[1].name", is("Laptop HP")));
+    }
+
+    @Test
+    public void whenCreateProduct_thenReturnCreatedProduct() throws Exception {
+        // Given
+        Product productToCreate = new Product(null, "New Product", "Description", BigDecimal.valueOf(1000000.0), 5);
+        Product createdProduct = new Product(1L, "New Product", "Description", BigDecimal.valueOf(1000000.0), 5);
+
+        given(productService.createProduct(any())).willReturn(createdProduct);
+
+        // When & Then
+        mockMvc.perform(post("/api/products")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(productToCreate)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id", is(1)))
+                .andExpect(jsonPath("$.name", is("New Product")))
+                .andExpect(jsonPath("$.price", is(1000000.0)));
+    }
+
+    @Test
+    public void whenCreateProductWithInvalidData_thenReturn400() throws Exception {
+        // Given
+        Product invalidProduct = new Product(null, "", "", BigDecimal.valueOf(-1.0), -1);
+
+        // When & Then
+        mockMvc.perform(post("/api/products")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(invalidProduct)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void whenUpdateProduct_thenReturnUpdatedProduct() throws Exception {
+        // Given
+        Product productToUpdate = new Product(1L, "Updated Product", "Updated Description", BigDecimal.valueOf(2000000.0), 10);
+        Product updatedProduct = new Product(1L, "Updated Product", "Updated Description", BigDecimal.valueOf(2000000.0), 10);
+
+        given(productService.updateProduct(eq(1L), any())).willReturn(updatedProduct);
+
+        // When & Then
+        mockMvc.perform(put("/api/products/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(productToUpdate)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name", is("Updated Product")))
+                .andExpect(jsonPath("$.price", is(2000000.0)));
+    }
+
+    @Test
+    public void whenUpdateProductNotFound_thenReturn404() throws Exception {
+        // Given
+        Product productToUpdate = new Product(999L, "Non-existent", "Description", BigDecimal.valueOf(1000.0), 1);
+
+        given(productService.updateProduct(eq(999L), any()))
+                .willThrow(new ProductNotFoundException(999L));
+
+        // When & Then
+        mockMvc.perform(put("/api/products/999")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(productToUpdate)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void whenUpdateViolatesConstraint_thenNotReportedAsNotFound() throws Exception {
+        // Given: harga yang dibulatkan menjadi 0.00 melanggar CHECK (price > 0)
+        Product productToUpdate = new Product(1L, "Rounded", "Description", new BigDecimal("0.001"), 1);
+
+        given(productService.updateProduct(eq(1L), any()))
+                .willThrow(new DataIntegrityViolationException("CHECK (price > 0)"));
+
+        // When & Then
+        ServletException exception = assertThrows(ServletException.class, () -> mockMvc.perform(put("/api/products/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(productToUpdate))));
+        assertThat(exception.getCause(), instanceOf(DataIntegrityViolationException.class));
+    }
+
+    @Test
+    public void whenDeleteProduct_thenReturn204() throws Exception {
+        // Given
+        doNothing().when(productService).deleteProduct(1L);
+
+        // When & Then
+        mockMvc.perform(delete("/api/products/1")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    public void whenDeleteProductNotFound_thenReturn404() throws Exception {
+        // Given
+        doThrow(new ProductNotFoundException(999L))
+                .when(productService).deleteProduct(999L);
+
+        // When & Then
+        mockMvc.perform(delete("/api/products/999")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void whenGetAllProductsEmpty_thenReturnEmptyList() throws Exception {
+        // Given
+        given(productService.getAllProducts()).willReturn(List.of());
+
+        // When & Then
+        mockMvc.perform(get("/api/products")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    public void whenSearchProductsWithNoResults_thenReturnEmptyList() throws Exception {
+        // Given
+        given(productService.findProductsByName("nonexistent")).willReturn(List.of());
+
+        // When & Then
+        mockMvc.perform(get("/api/products/search?name=nonexistent")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    public void whenCreateProductWithMissingRequiredField_thenReturn400() throws Exception {
+        // Given
+        Product invalidProduct = new Product(null, null, "Description", BigDecimal.valueOf(1000.0), 5);
+
+        // When & Then
+        mockMvc.perform(post("/api/products")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(invalidProduct)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void whenUpdateProductWithInvalidId_thenReturn404() throws Exception {
+        // Given
+        Product productToUpdate = new Product(null, "Updated", "Description", BigDecimal.valueOf(1000.0), 5);
+
+        // When & Then
+        mockMvc.perform(put("/api/products/invalid")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(productToUpdate)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void whenGetProductPage_thenReturnItemsAndNextCursor() throws Exception {
+        // Given
+        Product product1 = new Product(1L, "Laptop ASUS", "Laptop gaming", BigDecimal.valueOf(15000000.0), 10);
+        Product product2 = new Product(2L, "iPhone 14", "Smartphone", BigDecimal.valueOf(18000000.0), 8);
+
+        given(productService.getProductPage(null, 2, ProductSort.ID))
+                .willReturn(new ProductPage(Arrays.asList(product1, product2), "aWQ6Mg"));
+
+        // When & Then
+        mockMvc.perform(get("/api/products?limit=2")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[1].name", is("iPhone 14")))
+                .andExpect(jsonPath("$.nextCursor", is("aWQ6Mg")));
+    }
+
+    @Test
+    public void whenGetProductPageWithInvalidCursor_thenReturn400() throws Exception {
+        // Given
+        given(productService.getProductPage("garbage", 10, ProductSort.PRICE))
+                .willThrow(new IllegalArgumentException("Invalid cursor: garbage"));
+
+        // When & Then
+        mockMvc.perform(get("/api/products?after=garbage&limit=10&sort=price")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void whenGetProductPageWithUnknownSort_thenReturn400() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/products?limit=10&sort=name")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void whenExportProducts_thenStreamNewlineDelimitedJson() throws Exception {
+        // Given
+        Product product1 = new Product(1L, "Laptop ASUS", "Laptop gaming", BigDecimal.valueOf(15000000.0), 10, 0L);
+        Product product2 = new Product(2L, "iPhone 14", "Smartphone", BigDecimal.valueOf(18000000.0), 8, 2L);
+
+        doAnswer(invocation -> {
+            Consumer<Product> consumer = invocation.getArgument(0);
+            consumer.accept(product1);
+            consumer.accept(product2);
+            return null;
+        }).when(productService).exportProducts(any());
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/products/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        assertThat(result.getRequest().getAsyncContext().getTimeout(),
+                is(productProperties.getExport().getTimeoutMs()));
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(
+                        "{\"id\":1,\"name\":\"Laptop ASUS\",\"description\":\"Laptop gaming\",\"price\":1.5E+7,\"stock\":10,\"version\":0}\n"
+                        + "{\"id\":2,\"name\":\"iPhone 14\",\"description\":\"Smartphone\",\"price\":1.8E+7,\"stock\":8,\"version\":2}\n"));
+    }
+
+    @Test
+    public void whenSuggestProducts_thenReturnIdAndNameOnly() throws Exception {
+        // Given
+        given(productService.suggestProducts("sam", 10))
+                .willReturn(List.of(new ProductSuggestion(2L, "Samsung Galaxy S24 Ultra")));
+
+        // When & Then
+        mockMvc.perform(get("/api/products/suggest?prefix=sam")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", is(2)))
+                .andExpect(jsonPath("$[0].name", is("Samsung Galaxy S24 Ultra")))
+                .andExpect(jsonPath("$[0].price").doesNotExist());
+    }
+
+    @Test
+    public void whenSuggestProductsWithInvalidLimit_thenReturn400() throws Exception {
+        // Given
+        given(productService.suggestProducts("sam", 500))
+                .willThrow(new IllegalArgumentException("Limit must be between 1 and 50"));
+
+        // When & Then
+        mockMvc.perform(get("/api/products/suggest?prefix=sam&limit=500")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void whenSearchFullText_thenReturnRankedHits() throws Exception {
+        // Given
+        given(productService.searchFullText("noise canceling", 10)).willReturn(List.of(
+                new ProductSearchHit(6L, "Sony WH-1000XM5", 4.2),
+                new ProductSearchHit(18L, "Bose Smart Speaker 500", 1.1)));
+
+        // When & Then
+        mockMvc.perform(get("/api/products/fulltext?q=noise canceling")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id", is(6)))
+                .andExpect(jsonPath("$[0].score", is(4.2)));
+    }
+
+    @Test
+    public void whenCreateProductsInBulk_thenReturnPerItemResult() throws Exception {
+        // Given
+        List<Product> products = List.of(
+                new Product(null, "Bulk A", null, BigDecimal.valueOf(1000.0), 1),
+                new Product(null, "", null, BigDecimal.valueOf(1000.0), 1));
+        BulkResult result = new BulkResult(2);
+        result.addSuccess(0, 51L);
+        result.addError(1, null, "name: Product name is required");
+        given(productBulkService.createProducts(anyList())).willReturn(result);
+
+        // When & Then
+        mockMvc.perform(post("/api/products/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(products)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded", is(1)))
+                .andExpect(jsonPath("$.failed", is(1)))
+                .andExpect(jsonPath("$.ids[0]", is(51)))
+                .andExpect(jsonPath("$.errors[0].index", is(1)));
+    }
+
+    @Test
+    public void whenUpdateProductsInBulk_thenDelegateToBulkService() throws Exception {
+        // Given
+        List<Product> products = List.of(new Product(1L, "Bulk A", null, BigDecimal.valueOf(1000.0), 1));
+        BulkResult result = new BulkResult(1);
+        result.addSuccess(0, 1L);
+        given(productBulkService.updateProducts(anyList())).willReturn(result);
+
+        // When & Then
+        mockMvc.perform(put("/api/products/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(products)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded", is(1)))
+                .andExpect(jsonPath("$.errors", hasSize(0)));
+    }
+
+    @Test
+    public void whenReserveStock_thenReturn204() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/products/1/stock/reserve?quantity=2"))
+                .andExpect(status().isNoContent());
+
+        Mockito.verify(productStockService).reserveStock(1L, 2);
+    }
+
+    @Test
+    public void whenReserveStockWithInsufficientStock_thenReturn409() throws Exception {
+        // Given
+        doThrow(new InsufficientStockException(1L, 50)).when(productStockService).reserveStock(1L, 50);
+
+        // When & Then
+        mockMvc.perform(post("/api/products/1/stock/reserve?quantity=50"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    public void whenReserveStockForMissingProduct_thenReturn404() throws Exception {
+        // Given
+        doThrow(new ProductNotFoundException(999L))
+                .when(productStockService).reserveStock(999L, 1);
+
+        // When & Then
+        mockMvc.perform(post("/api/products/999/stock/reserve?quantity=1"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void whenReleaseStockWithInvalidQuantity_thenReturn400() throws Exception {
+        // Given
+        doThrow(new IllegalArgumentException("Quantity must be at least 1"))
+                .when(productStockService).releaseStock(1L, 0);
+
+        // When & Then
+        mockMvc.perform(post("/api/products/1/stock/release?quantity=0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void whenReserveCartWithInsufficientStock_thenReturn409() throws Exception {
+        // Given
+        List<StockItem> items = List.of(new StockItem(1L, 1), new StockItem(2L, 100));
+        doThrow(new InsufficientStockException(2L, 100)).when(productStockService).reserveStock(anyList());
+
+        // When & Then
+        mockMvc.perform(post("/api/products/stock/reserve")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(items)))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    public void whenGetProductById_thenReturnVersionETag() throws Exception {
+        // Given
+        Product product = new Product(1L, "Laptop ASUS", "Laptop gaming", BigDecimal.valueOf(15000000.0), 10, 3L);
+        given(productService.getProductById(1L)).willReturn(Optional.of(product));
+
+        // When & Then
+        mockMvc.perform(get("/api/products/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(jsonPath("$.version", is(3)));
+    }
+
+    @Test
+    public void whenGetProductByIdWithMatchingIfNoneMatch_thenReturn304() throws Exception {
+        // Given
+        Product product = new Product(1L, "Laptop ASUS", "Laptop gaming", BigDecimal.valueOf(15000000.0), 10, 3L);
+        given(productService.getProductById(1L)).willReturn(Optional.of(product));
+
+        // When & Then
+        mockMvc.perform(get("/api/products/1").header("If-None-Match", "W/\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    public void whenGetProductByIdWithStaleIfNoneMatch_thenReturnBody() throws Exception {
+        // Given
+        Product product = new Product(1L, "Laptop ASUS", "Laptop gaming", BigDecimal.valueOf(15000000.0), 10, 4L);
+        given(productService.getProductById(1L)).willReturn(Optional.of(product));
+
+        // When & Then
+        mockMvc.perform(get("/api/products/1").header("If-None-Match", "\"3\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name", is("Laptop ASUS")));
+    }
+
+    @Test
+    public void whenUpdateProductWithIfMatch_thenConditionalUpdateAndNewETag() throws Exception {
+        // Given
+        Product productToUpdate = new Product(null, "Updated Product", "Updated Description", BigDecimal.valueOf(2000000.0), 10);
+        Product updatedProduct = new Product(1L, "Updated Product", "Updated Description", BigDecimal.valueOf(2000000.0), 10, 4L);
+        given(productService.updateProduct(eq(1L), any(), eq(3L))).willReturn(updatedProduct);
+
+        // When & Then
+        mockMvc.perform(put("/api/products/1")
+                .header("If-Match", "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(productToUpdate)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""));
+    }
+
+    @Test
+    public void whenUpdateProductWithStaleIfMatch_thenReturn412() throws Exception {
+        // Given
+        Product productToUpdate = new Product(null, "Updated Product", "Updated Description", BigDecimal.valueOf(2000000.0), 10);
+        given(productService.updateProduct(eq(1L), any(), eq(3L)))
+                .willThrow(new ProductVersionConflictException(1L, 3L));
+
+        // When & Then
+        mockMvc.perform(put("/api/products/1")
+                .header("If-Match", "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(productToUpdate)))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    public void whenDeleteProductWithStaleIfMatch_thenReturn412() throws Exception {
+        // Given
+        doThrow(new ProductVersionConflictException(1L, 2L)).when(productService).deleteProduct(1L, 2L);
+
+        // When & Then
+        mockMvc.perform(delete("/api/products/1").header("If-Match", "\"2\""))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    public void whenDeleteProductWithWeakIfMatch_thenNeverMatches() throws Exception {
+        // Given
+        doThrow(new ProductVersionConflictException(1L, -1L)).when(productService).deleteProduct(1L, -1L);
+
+        // When & Then
+        mockMvc.perform(delete("/api/products/1").header("If-Match", "W/\"2\""))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    public void whenPatchProduct_thenReturnPatchedProductWithETag() throws Exception {
+        // Given
+        Product patched = new Product(1L, "Laptop ASUS", "Laptop gaming", BigDecimal.valueOf(14500000.0), 10, 5L);
+        given(productPatchService.patchProduct(eq(1L), any(), isNull())).willReturn(patched);
+
+        // When & Then
+        mockMvc.perform(patch("/api/products/1")
+                .contentType("application/merge-patch+json")
+                .content("{\"price\": 14500000.0}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"5\""))
+                .andExpect(jsonPath("$.price", is(14500000.0)));
+        Mockito.verify(productPatchService).patchProduct(eq(1L),
+                argThat(node -> node.size() == 1 && node.has("price")), isNull());
+    }
+
+    @Test
+    public void whenPatchProductWithIfMatch_thenPassExpectedVersion() throws Exception {
+        // Given
+        Product patched = new Product(1L, "Laptop ASUS", "Laptop gaming", BigDecimal.valueOf(15000000.0), 7, 4L);
+        given(productPatchService.patchProduct(eq(1L), any(), eq(3L))).willReturn(patched);
+
+        // When & Then
+        mockMvc.perform(patch("/api/products/1")
+                .header("If-Match", "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"stock\": 7}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""));
+    }
+
+    @Test
+    public void whenPatchProductWithStaleIfMatch_thenReturn412() throws Exception {
+        // Given
+        given(productPatchService.patchProduct(eq(1L), any(), eq(3L)))
+                .willThrow(new ProductVersionConflictException(1L, 3L));
+
+        // When & Then
+        mockMvc.perform(patch("/api/products/1")
+                .header("If-Match", "\"3\"")
+                .contentType("application/merge-patch+json")
+                .content("{\"stock\": 7}"))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    public void whenPatchProductWithInvalidField_thenReturn400() throws Exception {
+        // Given
+        given(productPatchService.patchProduct(eq(1L), any(), isNull()))
+                .willThrow(new IllegalArgumentException("price: Product price must be greater than 0"));
+
+        // When & Then
+        mockMvc.perform(patch("/api/products/1")
+                .contentType("application/merge-patch+json")
+                .content("{\"price\": -1}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void whenPatchMissingProduct_thenReturn404() throws Exception {
+        // Given
+        given(productPatchService.patchProduct(eq(999L), any(), isNull()))
+                .willThrow(new ProductNotFoundException(999L));
+
+        // When & Then
+        mockMvc.perform(patch("/api/products/999")
+                .contentType("application/merge-patch+json")
+                .content("{\"stock\": 1}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void whenGetProductsByIds_thenReturnFoundProducts() throws Exception {
+        // Given
+        Product product1 = new Product(1L, "Laptop ASUS", "Laptop gaming", BigDecimal.valueOf(15000000.0), 10);
+        Product product3 = new Product(3L, "iPhone 14", "Smartphone Apple", BigDecimal.valueOf(12000000.0), 5);
+        given(productService.getProductsByIds(List.of(3L, 2L, 1L))).willReturn(Arrays.asList(product3, product1));
+
+        // When & Then
+        mockMvc.perform(get("/api/products").param("ids", "3,2,1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id", is(3)))
+                .andExpect(jsonPath("$[1].id", is(1)));
+    }
+
+    @Test
+    public void whenLookupProducts_thenReturnFoundProducts() throws Exception {
+        // Given
+        Product product1 = new Product(1L, "Laptop ASUS", "Laptop gaming", BigDecimal.valueOf(15000000.0), 10);
+        given(productService.getProductsByIds(List.of(1L, 99L))).willReturn(List.of(product1));
+
+        // When & Then
+        mockMvc.perform(post("/api/products/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[1, 99]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].name", is("Laptop ASUS")));
+    }
+
+    @Test
+    public void whenLookupProductsWithTooManyIds_thenReturn400() throws Exception {
+        // Given
+        given(productService.getProductsByIds(any()))
+                .willThrow(new IllegalArgumentException("At most 1000 ids are allowed"));
+
+        // When & Then
+        mockMvc.perform(post("/api/products/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[1, 2]"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void whenGetAllProductsWithFields_thenReturnOnlyRequestedFields() throws Exception {
+        // Given
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", 1L);
+        row.put("name", "Laptop ASUS");
+        given(productService.getAllProducts(EnumSet.of(ProductField.ID, ProductField.NAME))).willReturn(List.of(row));
+
+        // When & Then
+        mockMvc.perform(get("/api/products").param("fields", "name,id"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id", is(1)))
+                .andExpect(jsonPath("$[0].name", is("Laptop ASUS")))
+                .andExpect(jsonPath("$[0].description").doesNotExist());
+    }
+
+    @Test
+    public void whenGetAllProductsWithUnknownField_thenReturn400() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/products").param("fields", "id,color"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void whenSearchProductsByNameWithFields_thenReturnOnlyRequestedFields() throws Exception {
+        // Given
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("price", BigDecimal.valueOf(15000000.0));
+        given(productService.findProductsByName("laptop", EnumSet.of(ProductField.PRICE))).willReturn(List.of(row));
+
+        // When & Then
+        mockMvc.perform(get("/api/products/search").param("name", "laptop").param("fields", "price"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].price", is(15000000.0)))
+                .andExpect(jsonPath("$[0].name").doesNotExist());
+    }
+
+    @Test
+    public void whenGetAllProductsTwice_thenServedFromCacheWithStrongETag() throws Exception {
+        // Given
+        Product product = new Product(1L, "Laptop ASUS", "Laptop gaming", BigDecimal.valueOf(15000000.0), 10);
+        given(productService.getAllProducts()).willReturn(List.of(product));
+
+        // When
+        String eTag = mockMvc.perform(get("/api/products"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", matchesPattern("\"[0-9a-f]{32}\"")))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Then
+        mockMvc.perform(get("/api/products"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", eTag))
+                .andExpect(jsonPath("$[0].name", is("Laptop ASUS")));
+        mockMvc.perform(get("/api/products").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        Mockito.verify(productService, Mockito.times(1)).getAllProducts();
+    }
+
+    @Test
+    public void whenCatalogChanges_thenCachedListIsRebuilt() throws Exception {
+        // Given
+        Product product = new Product(1L, "Laptop ASUS", "Laptop gaming", BigDecimal.valueOf(15000000.0), 10);
+        Product renamed = new Product(1L, "Laptop ASUS Pro", "Laptop gaming", BigDecimal.valueOf(15000000.0), 10);
+        given(productService.findProductsByName(anyString())).willReturn(List.of(product), List.of(renamed));
+        mockMvc.perform(get("/api/products/search").param("name", "laptop")).andExpect(status().isOk());
+
+        // When
+        catalogGeneration.advance();
+
+        // Then
+        mockMvc.perform(get("/api/products/search").param("name", "LAPTOP"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name", is("Laptop ASUS Pro")));
+    }
+
+    @Test
+    public void whenClientAcceptsGzip_thenReturnCompressedBody() throws Exception {
+        // Given
+        List<Product> products = new ArrayList<>();
+        for (long id = 1; id <= 50; id++) {
+            products.add(new Product(id, "Product " + id, "Description " + id, BigDecimal.valueOf(1000.0), 5));
+        }
+        given(productService.getAllProducts()).willReturn(products);
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/products").header("Accept-Encoding", "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("ETag", Matchers.endsWith("-gzip\"")))
+                .andReturn();
+
+        // Then
+        try (GZIPInputStream in = new GZIPInputStream(
+                new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            List<?> decoded = objectMapper.readValue(in, List.class);
+            assertThat(decoded, hasSize(50));
+        }
+        mockMvc.perform(get("/api/products").header("Accept-Encoding", "gzip;q=0"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"));
+    }
+
+    @Test
+    public void whenSnapshotNotBuiltYet_thenReturn503() throws Exception {
+        // Given
+        given(catalogSnapshotService.current()).willReturn(Optional.empty());
+
+        // When & Then
+        mockMvc.perform(get("/api/products/snapshot"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists("Retry-After"));
+    }
+
+    @Test
+    public void whenGetProductByIdAcceptsCbor_thenReturnCborBody() throws Exception {
+        // Given
+        Product product = new Product(1L, "Laptop ASUS", "Laptop gaming", new BigDecimal("15000000.50"), 10, 3L);
+        given(productService.getProductById(1L)).willReturn(Optional.of(product));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/products/1").accept("application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor"))
+                .andReturn();
+
+        // Then
+        Map<?, ?> decoded = new CBORMapper().readValue(result.getResponse().getContentAsByteArray(), Map.class);
+        assertThat(decoded.get("name"), is("Laptop ASUS"));
+        assertThat(decoded.get("price"), is(new BigDecimal("15000000.50")));
+        assertThat(decoded.get("version"), is(3));
+    }
+
+    @Test
+    public void whenGetAllProductsAcceptsProtobuf_thenReturnPriceInCents() throws Exception {
+        // Given
+        Product product1 = new Product(1L, "Laptop ASUS", "Laptop gaming", new BigDecimal("15000000.50"), 10, 0L);
+        Product product2 = new Product(2L, "iPhone 14", null, new BigDecimal("18000000"), 8, 1L);
+        given(productService.getAllProducts()).willReturn(List.of(product1, product2));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/products").accept("application/x-protobuf"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-protobuf"))
+                .andExpect(header().string("Vary", containsString("Accept")))
+                .andReturn();
+
+        // Then
+        List<Product> decoded = ProductProtobufCodec.readProducts(
+                new ByteArrayInputStream(result.getResponse().getContentAsByteArray()));
+        assertThat(decoded.size(), is(2));
+        assertThat(decoded.get(0).getPrice(), is(new BigDecimal("15000000.50")));
+        assertThat(decoded.get(1).getPrice(), is(new BigDecimal("18000000.00")));
+        assertThat(decoded.get(1).getDescription(), nullValue());
+    }
+
+    @Test
+    public void whenAcceptPrefersSpecificBinaryFormat_thenCachedListUsesIt() throws Exception {
+        // Given
+        Product product = new Product(1L, "Laptop ASUS", "Laptop gaming", BigDecimal.valueOf(15000000.0), 10, 0L);
+        given(productService.getAllProducts()).willReturn(List.of(product));
+
+        // When
+        MvcResult smile = mockMvc.perform(get("/api/products").header("Accept", "application/x-jackson-smile, */*"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"))
+                .andReturn();
+        String smileETag = smile.getResponse().getHeader("ETag");
+
+        // Then
+        Product[] decoded = new SmileMapper().readValue(smile.getResponse().getContentAsByteArray(), Product[].class);
+        assertThat(decoded[0].getName(), is("Laptop ASUS"));
+        mockMvc.perform(get("/api/products").header("Accept", "application/cbor;q=0, application/json"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string("ETag", not(smileETag)));
+    }
+
+    @Test
+    public void whenProjectionRequestedAsProtobuf_thenReturn406() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/products").param("fields", "id,name").accept("application/x-protobuf"))
+                .andExpect(status().isNotAcceptable());
+    }
+
+    @Test
+    public void whenCreateProductWithProtobufBody_thenReturnProtobufProduct() throws Exception {
+        // Given
+        Product request = new Product(null, "Mouse Logitech", "Wireless", new BigDecimal("250000.99"), 20);
+        Product saved = new Product(51L, "Mouse Logitech", "Wireless", new BigDecimal("250000.99"), 20, 0L);
+        given(productService.createProduct(Mockito.any(Product.class))).willReturn(saved);
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        ProductProtobufCodec.writeProduct(request, body);
+
+        // When
+        MvcResult result = mockMvc.perform(post("/api/products")
+                        .contentType("application/x-protobuf")
+                        .accept("application/x-protobuf")
+                        .content(body.toByteArray()))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        // Then
+        Mockito.verify(productService).createProduct(request);
+        Product decoded = ProductProtobufCodec.readProduct(
+                new ByteArrayInputStream(result.getResponse().getContentAsByteArray()));
+        assertThat(decoded, is(saved));
+    }
+
+    @Test
+    public void whenGetProductsByPriceRange_thenReturnCheapestFirst() throws Exception {
+        // Given
+        Product product = new Product(3L, "Mouse Logitech", "Wireless", new BigDecimal("250000.00"), 20, 0L);
+        given(productService.getProductsByPriceRange(new BigDecimal("100000"), new BigDecimal("300000"), 5))
+                .willReturn(List.of(product));
+
+        // When & Then
+        mockMvc.perform(get("/api/products/price-range")
+                        .param("min", "100000")
+                        .param("max", "300000")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", is(3)));
+    }
+
+    @Test
+    public void whenGetProductsByPriceRangeWithInvalidRange_thenReturn400() throws Exception {
+        // Given
+        given(productService.getProductsByPriceRange(any(), any(), Mockito.anyInt()))
+                .willThrow(new IllegalArgumentException("Price range must satisfy 0 <= min <= max"));
+
+        // When & Then
+        mockMvc.perform(get("/api/products/price-range").param("min", "5").param("max", "1"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void whenGetTopProducts_thenReturnMostExpensiveFirst() throws Exception {
+        // Given
+        Product product = new Product(1L, "Laptop ASUS", "Laptop gaming", new BigDecimal("15000000.00"), 10, 0L);
+        given(productService.getTopProducts(ProductSort.PRICE, true, 3, true)).willReturn(List.of(product));
+
+        // When & Then
+        mockMvc.perform(get("/api/products/top")
+                        .param("by", "price")
+                        .param("order", "desc")
+                        .param("n", "3")
+                        .param("inStock", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", is(1)));
+    }
+
+    @Test
+    public void whenGetTopProductsWithUnknownOrder_thenReturn400() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/products/top").param("order", "sideways"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/products/top").param("by", "color"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void whenGetPriceHistogram_thenReturnBuckets() throws Exception {
+        // Given
+        given(productService.getPriceHistogram(null, null, 2)).willReturn(List.of(
+                new PriceBucket(new BigDecimal("1.00"), new BigDecimal("1.99"), 2),
+                new PriceBucket(new BigDecimal("2.00"), new BigDecimal("2.99"), 1)));
+
+        // When & Then
+        mockMvc.perform(get("/api/products/price-histogram").param("buckets", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].count", is(2)))
+                .andExpect(jsonPath("$[1].min", is(2.0)));
+    }
+
+    @Test
+    public void whenGetCatalogStats_thenReturnAggregates() throws Exception {
+        // Given
+        given(catalogStatistics.stats()).willReturn(new CatalogStats(2, 15, 1, new BigDecimal("250.00"),
+                new BigDecimal("10.00"), new BigDecimal("20.00"), new BigDecimal("15.00"), null));
+
+        // When & Then
+        mockMvc.perform(get("/api/products/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.productCount", is(2)))
+                .andExpect(jsonPath("$.outOfStockCount", is(1)))
+                .andExpect(jsonPath("$.inventoryValue", is(250.0)))
+                .andExpect(jsonPath("$.averagePrice", is(15.0)));
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.demo.index;
+
+import com.example.demo.model.Product;
+import com.example.demo.model.ProductSearchHit;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit test untuk FullTextIndex.
+ *
+ * <p>Test class ini menguji tokenisasi, urutan relevansi BM25, batas top-k,
+ * dan pemeliharaan index saat produk diubah atau dihapus.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class FullTextIndexTest {
+
+    private final FullTextIndex index = new FullTextIndex();
+
+    @Test
+    public void whenTokenize_thenSplitOnNonAlphanumericAndLowercase() {
+        // When & Then
+        assertThat(FullTextIndex.tokenize("MacBook Pro 16\", M3-Pro chip!"))
+                .containsExactly("macbook", "pro", "16", "m3", "pro", "chip");
+        assertThat(FullTextIndex.tokenize(null)).isEmpty();
+    }
+
+    @Test
+    public void whenTermInName_thenRankAboveTermOnlyInDescription() {
+        // Given
+        index.index(product(1L, "Yoga Mat Premium", "Non-slip exercise mat with extra cushioning."));
+        index.index(product(2L, "Resistance Bands Set", "Bands for yoga and strength training."));
+        index.index(product(3L, "Dumbbell Set", "Adjustable dumbbells."));
+
+        // When
+        List<ProductSearchHit> hits = index.search("yoga", 10);
+
+        // Then
+        assertThat(hits).extracting(ProductSearchHit::getId).containsExactly(1L, 2L);
+        assertThat(hits.get(0).getScore()).isGreaterThan(hits.get(1).getScore());
+        assertThat(hits.get(0).getName()).isEqualTo("Yoga Mat Premium");
+    }
+
+    @Test
+    public void whenMoreQueryTermsMatch_thenScoreIsHigherAndLimitIsApplied() {
+        // Given
+        index.index(product(1L, "Arabica Coffee Beans", "Single-origin coffee from Ethiopian highlands."));
+        index.index(product(2L, "Green Tea Premium", "Organic matcha from Japan."));
+        index.index(product(3L, "Organic Honey", "Pure raw honey."));
+
+        // When
+        List<ProductSearchHit> all = index.search("organic matcha", 10);
+        List<ProductSearchHit> top = index.search("organic matcha", 1);
+
+        // Then
+        assertThat(all).extracting(ProductSearchHit::getId).containsExactly(2L, 3L);
+        assertThat(top).extracting(ProductSearchHit::getId).containsExactly(2L);
+    }
+
+    @Test
+    public void whenProductUpdatedOrRemoved_thenIndexFollows() {
+        // Given
+        index.indexAll(List.of(
+                product(1L, "Casio G-Shock", "Rugged digital watch."),
+                product(2L, "Apple Watch Series 9", "Smartwatch with health features.")));
+
+        // When
+        index.index(product(1L, "Casio Calculator", "Scientific calculator."));
+        index.remove(2L);
+
+        // Then
+        assertThat(index.search("watch", 10)).isEmpty();
+        assertThat(index.search("calculator", 10)).extracting(ProductSearchHit::getId).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    private static Product product(Long id, String name, String description) {
+        return new Product(id, name, description, BigDecimal.valueOf(1000.0), 1);
+    }
+}
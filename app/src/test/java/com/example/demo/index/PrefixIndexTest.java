@@ -0,0 +1,147 @@
+package com.example.demo.index;
+
+import com.example.demo.model.Product;
+import com.example.demo.model.ProductSuggestion;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit test untuk PrefixIndex.
+ *
+ * <p>Test class ini menguji pencarian awalan nama yang case insensitive,
+ * pembatasan jumlah saran, dan pembaruan saat produk diubah atau dihapus,
+ * termasuk saat dilakukan bersamaan dari beberapa thread, serta kesamaan
+ * hasilnya dengan filter dan sort biasa atas katalog yang di-generate.
+ *
+ * @author Harist Islami
+ * @version 1.1
+ * @since 2026-10-18
+ */
+public class PrefixIndexTest {
+
+    private final PrefixIndex index = new PrefixIndex();
+
+    @Test
+    public void whenSuggest_thenReturnNamesWithPrefixInOrder() {
+        // Given
+        index.index(product(1L, "iPhone 15 Pro Max"));
+        index.index(product(2L, "iPad Air"));
+        index.index(product(3L, "IKEA MALM Bed Frame"));
+        index.index(product(4L, "iPhone 14"));
+
+        // When & Then
+        assertThat(index.suggest("IP", 10)).extracting(ProductSuggestion::getName)
+                .containsExactly("iPad Air", "iPhone 14", "iPhone 15 Pro Max");
+        assertThat(index.suggest("iphone 1", 1)).extracting(ProductSuggestion::getId)
+                .containsExactly(4L);
+        assertThat(index.suggest("x", 10)).isEmpty();
+    }
+
+    @Test
+    public void whenProductsShareName_thenBothAreSuggested() {
+        // Given
+        index.index(product(7L, "Yoga Mat"));
+        index.index(product(3L, "Yoga Mat"));
+
+        // When & Then
+        assertThat(index.suggest("yoga", 10)).extracting(ProductSuggestion::getId)
+                .containsExactly(3L, 7L);
+    }
+
+    @Test
+    public void whenProductRenamedOrRemoved_thenSuggestionsFollow() {
+        // Given
+        index.index(product(1L, "Dell XPS 13"));
+        index.index(product(2L, "Dell Inspiron"));
+
+        // When
+        index.index(product(1L, "Alienware m16"));
+        index.remove(2L);
+
+        // Then
+        assertThat(index.suggest("dell", 10)).isEmpty();
+        assertThat(index.suggest("alien", 10)).extracting(ProductSuggestion::getId).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void whenSuggestGeneratedCatalog_thenMatchFilteredAndSortedNames() {
+        // Given
+        String[] words = {"Samsung", "Sony", "Laptop", "Headphones", "Speaker"};
+        Random random = new Random(42);
+        List<Product> products = new ArrayList<>();
+        for (long id = 1; id <= 5_000; id++) {
+            products.add(product(id, words[random.nextInt(words.length)] + " " + random.nextInt(1_000)));
+            index.index(products.get(products.size() - 1));
+        }
+        Comparator<Product> byFoldedNameThenId = Comparator
+                .comparing((Product p) -> p.getName().toLowerCase(Locale.ROOT))
+                .thenComparing(Product::getId);
+
+        // When & Then
+        for (String prefix : List.of("s", "SONY 1", "laptop 99", "head", "x")) {
+            String folded = prefix.toLowerCase(Locale.ROOT);
+            List<Long> expected = products.stream()
+                    .filter(p -> p.getName().toLowerCase(Locale.ROOT).startsWith(folded))
+                    .sorted(byFoldedNameThenId)
+                    .limit(10)
+                    .map(Product::getId)
+                    .toList();
+            assertThat(index.suggest(prefix, 10)).as(prefix)
+                    .extracting(ProductSuggestion::getId).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void whenSameIdsIndexedAndRemovedConcurrently_thenNoGhostKeysRemain() throws Exception {
+        // Given
+        int threads = 8;
+        int ids = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 5_000; i++) {
+                    long id = 1 + (i % ids);
+                    if ((i + thread) % 5 == 0) {
+                        index.remove(id);
+                    } else {
+                        index.index(product(id, "Item " + thread + "-" + i));
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // Then
+        List<ProductSuggestion> all = index.suggest("item", Integer.MAX_VALUE);
+        assertThat(all).hasSize(index.size());
+        assertThat(all).extracting(ProductSuggestion::getId).doesNotHaveDuplicates();
+    }
+
+    private static Product product(Long id, String name) {
+        return new Product(id, name, null, BigDecimal.valueOf(1000.0), 1);
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.demo.index;
+
+import com.example.demo.model.Product;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit test untuk PriceIndex.
+ *
+ * <p>Test class ini menguji rentang harga, urutan top-N, histogram, dan
+ * pembaruan saat harga produk diubah atau produk dihapus, termasuk saat
+ * dilakukan bersamaan dari beberapa thread.
+ *
+ * @author Harist Islami
+ * @version 1.1
+ * @since 2026-10-18
+ */
+public class PriceIndexTest {
+
+    private final PriceIndex index = new PriceIndex();
+
+    @Test
+    public void whenRange_thenReturnIdsOrderedByPriceThenId() {
+        // Given
+        index.index(product(1L, "150.00"));
+        index.index(product(2L, "99.99"));
+        index.index(product(3L, "150.00"));
+        index.index(product(4L, "200.01"));
+
+        // When & Then
+        assertThat(index.range(new BigDecimal("100"), new BigDecimal("200"), 10)).containsExactly(1L, 3L);
+        assertThat(index.range(new BigDecimal("99.99"), new BigDecimal("200.01"), 3)).containsExactly(2L, 1L, 3L);
+        assertThat(index.range(new BigDecimal("150.001"), new BigDecimal("150.009"), 10)).isEmpty();
+    }
+
+    @Test
+    public void whenRangeBoundsExceedLong_thenClampInsteadOfThrowing() {
+        // Given
+        index.index(product(1L, "10.00"));
+        index.index(product(2L, "99999999.99"));
+
+        // When & Then
+        assertThat(index.range(BigDecimal.ZERO, new BigDecimal("1e20"), 10)).containsExactly(1L, 2L);
+        assertThat(index.range(new BigDecimal("1e20"), new BigDecimal("1e21"), 10)).isEmpty();
+    }
+
+    @Test
+    public void whenIdsByPrice_thenIterateFromCheapestOrMostExpensive() {
+        // Given
+        index.index(product(1L, "30.00"));
+        index.index(product(2L, "10.00"));
+        index.index(product(3L, "20.00"));
+
+        // When & Then
+        assertThat(drain(index.idsByPrice(false))).containsExactly(2L, 3L, 1L);
+        assertThat(drain(index.idsByPrice(true))).containsExactly(1L, 3L, 2L);
+        assertThat(index.minCents()).hasValue(1000L);
+        assertThat(index.maxCents()).hasValue(3000L);
+    }
+
+    @Test
+    public void whenHistogram_thenCountKeysPerBucket() {
+        // Given
+        index.index(product(1L, "1.00"));
+        index.index(product(2L, "1.99"));
+        index.index(product(3L, "2.00"));
+        index.index(product(4L, "3.00"));
+        index.index(product(5L, "5.00"));
+
+        // When
+        long[] counts = index.histogram(100, 300, 100, 3);
+
+        // Then
+        assertThat(counts).containsExactly(2, 1, 1);
+    }
+
+    @Test
+    public void whenPriceChangedOrRemoved_thenIndexFollows() {
+        // Given
+        index.index(product(1L, "10.00"));
+        index.index(product(2L, "20.00"));
+
+        // When
+        index.index(product(1L, "25.00"));
+        index.remove(2L);
+
+        // Then
+        assertThat(index.range(BigDecimal.ZERO, new BigDecimal("20"), 10)).isEmpty();
+        assertThat(index.range(BigDecimal.ZERO, new BigDecimal("30"), 10)).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void whenSameIdsIndexedAndRemovedConcurrently_thenNoGhostKeysRemain() throws Exception {
+        // Given
+        int threads = 8;
+        int ids = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 5_000; i++) {
+                    long id = 1 + (i % ids);
+                    if ((i + thread) % 5 == 0) {
+                        index.remove(id);
+                    } else {
+                        index.index(product(id, thread + "." + (i % 100)));
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // Then
+        List<Long> all = drain(index.idsByPrice(false));
+        assertThat(all).hasSize(index.size());
+        assertThat(all).doesNotHaveDuplicates();
+    }
+
+    @Test
+    public void whenRebuilding_thenNotReadyUntilCompleted() {
+        // Given
+        index.rebuildCompleted();
+
+        // When
+        index.clear();
+
+        // Then
+        assertThat(index.isReady()).isFalse();
+        index.rebuildCompleted();
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.minCents()).isEmpty();
+    }
+
+    private static List<Long> drain(Iterator<Long> ids) {
+        List<Long> result = new ArrayList<>();
+        ids.forEachRemaining(result::add);
+        return result;
+    }
+
+    private static Product product(Long id, String price) {
+        return new Product(id, "Product " + id, null, new BigDecimal(price), 1);
+    }
+}
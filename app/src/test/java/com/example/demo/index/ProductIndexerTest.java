@@ -0,0 +1,72 @@
+package com.example.demo.index;
+
+import com.example.demo.model.Product;
+import com.example.demo.repository.ProductRepository;
+import com.example.demo.service.ProductChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test untuk ProductIndexer.
+ *
+ * <p>Test class ini menguji pembangunan ulang index dari repository secara
+ * bertahap dan penerusan {@link ProductChangedEvent} ke index.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@ExtendWith(MockitoExtension.class)
+public class ProductIndexerTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Test
+    public void whenRebuild_thenPageThroughRepositoryAndFillIndexes() {
+        // Given
+        TrigramIndex trigramIndex = new TrigramIndex();
+        ProductIndexer indexer = new ProductIndexer(productRepository, List.of(trigramIndex));
+        Limit batch = Limit.of(ProductIndexer.REBUILD_BATCH_SIZE);
+
+        when(productRepository.findByIdGreaterThanOrderByIdAsc(0L, batch))
+                .thenReturn(List.of(product(1L, "Laptop ASUS"), product(2L, "Laptop HP")));
+        when(productRepository.findByIdGreaterThanOrderByIdAsc(2L, batch))
+                .thenReturn(List.of(product(5L, "Gaming Laptop")));
+        when(productRepository.findByIdGreaterThanOrderByIdAsc(5L, batch)).thenReturn(List.of());
+
+        // When
+        indexer.rebuild();
+
+        // Then
+        assertThat(trigramIndex.search("laptop")).containsExactly(1L, 2L, 5L);
+    }
+
+    @Test
+    public void whenProductChanged_thenIndexesFollow() {
+        // Given
+        TrigramIndex trigramIndex = new TrigramIndex();
+        ProductIndexer indexer = new ProductIndexer(productRepository, List.of(trigramIndex));
+
+        // When
+        indexer.onProductChanged(ProductChangedEvent.saved(product(1L, "Dyson V15")));
+        indexer.onProductChanged(ProductChangedEvent.saved(product(2L, "Dyson V12")));
+        indexer.onProductChanged(ProductChangedEvent.deleted(1L));
+
+        // Then
+        assertThat(trigramIndex.search("dyson")).containsExactly(2L);
+    }
+
+    private static Product product(Long id, String name) {
+        return new Product(id, name, null, BigDecimal.valueOf(1000.0), 1);
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.demo.index;
+
+import com.example.demo.model.Product;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit test untuk TrigramIndex.
+ *
+ * <p>Test class ini menguji pencarian substring lewat irisan posting list
+ * dan pemeliharaan index saat produk diubah atau dihapus, serta kesamaan
+ * hasilnya dengan pencarian substring case insensitive (semantik LIKE).
+ *
+ * @author Harist Islami
+ * @version 1.1
+ * @since 2026-10-18
+ */
+public class TrigramIndexTest {
+
+    private final TrigramIndex index = new TrigramIndex();
+
+    @Test
+    public void whenSearchSubstring_thenReturnMatchingIdsInOrder() {
+        // Given
+        index.index(product(3L, "Laptop HP"));
+        index.index(product(1L, "Laptop ASUS"));
+        index.index(product(2L, "iPhone 14"));
+
+        // When & Then
+        assertThat(index.search("laptop")).containsExactly(1L, 3L);
+        assertThat(index.search("PHONE")).containsExactly(2L);
+        assertThat(index.search("top a")).containsExactly(1L);
+    }
+
+    @Test
+    public void whenAllTrigramsMatchButNotAdjacent_thenCandidateIsRejected() {
+        // Given
+        index.index(product(1L, "abcd bcde"));
+
+        // When & Then
+        assertThat(index.search("abcde")).isEmpty();
+        assertThat(index.search("bcde")).containsExactly(1L);
+    }
+
+    @Test
+    public void whenProductRenamed_thenOldNameNoLongerMatches() {
+        // Given
+        index.index(product(1L, "Nintendo Switch"));
+
+        // When
+        index.index(product(1L, "Nintendo Switch OLED"));
+        index.index(product(1L, "Steam Deck"));
+
+        // Then
+        assertThat(index.search("switch")).isEmpty();
+        assertThat(index.search("deck")).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void whenProductRemoved_thenItIsNotReturned() {
+        // Given
+        index.index(product(1L, "Clean Code"));
+        index.index(product(2L, "Clean Architecture"));
+
+        // When
+        index.remove(1L);
+
+        // Then
+        assertThat(index.search("clean")).containsExactly(2L);
+        assertThat(index.search("code")).isEmpty();
+    }
+
+    @Test
+    public void whenQueryTooShort_thenNotSupported() {
+        // When & Then
+        assertThat(TrigramIndex.supports("ab")).isFalse();
+        assertThat(TrigramIndex.supports("abc")).isTrue();
+        assertThrows(IllegalArgumentException.class, () -> index.search("ab"));
+    }
+
+    @Test
+    public void whenSearchGeneratedCatalog_thenMatchCaseInsensitiveContains() {
+        // Given
+        String[] words = {"Samsung", "Sony", "Laptop", "Headphones", "Pro", "Ultra", "Air"};
+        Random random = new Random(42);
+        List<Product> products = new ArrayList<>();
+        for (long id = 1; id <= 5_000; id++) {
+            String name = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)]
+                    + " " + random.nextInt(1_000);
+            products.add(product(id, name));
+            index.index(products.get(products.size() - 1));
+        }
+
+        // When & Then
+        for (String query : List.of("laptop", "SONY HEAD", "ultra 42", "pro 1", "o a", "zzz")) {
+            String folded = query.toLowerCase(Locale.ROOT);
+            List<Long> expected = products.stream()
+                    .filter(p -> p.getName().toLowerCase(Locale.ROOT).contains(folded))
+                    .map(Product::getId)
+                    .toList();
+            assertThat(index.search(query)).as(query).isEqualTo(expected);
+        }
+    }
+
+    private static Product product(Long id, String name) {
+        return new Product(id, name, null, BigDecimal.valueOf(1000.0), 1);
+    }
+}
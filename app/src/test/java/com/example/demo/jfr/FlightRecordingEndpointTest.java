@@ -0,0 +1,160 @@
+package com.example.demo.jfr;
+
+import com.example.demo.model.Product;
+import com.example.demo.service.ProductService;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration test untuk endpoint /actuator/jfr dan event JFR dari ProductService dan ProductController.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@SpringBootTest(properties = {
+        "management.endpoint.jfr.enabled=true",
+        "management.endpoints.web.exposure.include=jfr",
+        "app.products.jfr.directory=target/jfr-test"
+})
+@AutoConfigureMockMvc
+public class FlightRecordingEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private FlightRecordings flightRecordings;
+
+    @TempDir
+    private Path tempDir;
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        for (FlightRecordings.RecordingInfo recording : flightRecordings.list()) {
+            flightRecordings.delete(recording.name());
+        }
+    }
+
+    @Test
+    public void whenRecordingDownloaded_thenProductEventsAreInFile() throws Exception {
+        // Given
+        mockMvc.perform(post("/actuator/jfr").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"latency-spike\",\"durationSeconds\":120}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("latency-spike"))
+                .andExpect(jsonPath("$.state").value("RUNNING"))
+                .andExpect(jsonPath("$.settings").value("default"));
+
+        // When
+        Product product = productService.createProduct(
+                new Product(null, "Flight Recorder Mug", null, new BigDecimal("9.50"), 3));
+        mockMvc.perform(get("/api/products/{id}", product.getId())).andExpect(status().isOk());
+        productService.suggestProducts("Flight", 5);
+        mockMvc.perform(post("/actuator/jfr/{name}", "latency-spike"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("STOPPED"));
+        byte[] body = mockMvc.perform(get("/actuator/jfr/{name}", "latency-spike"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        Path file = tempDir.resolve("latency-spike.jfr");
+        Files.write(file, body);
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        RecordedEvent write = single(events, "com.example.demo.ProductWrite");
+        assertThat(write.getString("operation")).isEqualTo(ProductWriteEvent.CREATE);
+        assertThat(write.getLong("id")).isEqualTo(product.getId());
+        assertThat(write.getInt("rowCount")).isEqualTo(1);
+        RecordedEvent lookup = single(events, "com.example.demo.ProductLookup");
+        assertThat(lookup.getLong("id")).isEqualTo(product.getId());
+        assertThat(lookup.getInt("rowCount")).isEqualTo(1);
+        RecordedEvent search = single(events, "com.example.demo.ProductSearch");
+        assertThat(search.getString("kind")).isEqualTo(ProductSearchEvent.SUGGEST);
+        assertThat(search.getString("term")).isEqualTo("Flight");
+        assertThat(search.getInt("rowCount")).isEqualTo(1);
+        RecordedEvent request = single(events, "com.example.demo.ProductRequest");
+        assertThat(request.getString("method")).isEqualTo("GET");
+        assertThat(request.getString("route")).isEqualTo("/api/products/{id}");
+        assertThat(request.getString("handler")).isEqualTo("getProductById");
+        assertThat(request.getInt("status")).isEqualTo(200);
+    }
+
+    @Test
+    public void whenRecordingDeleted_thenItIsGone() throws Exception {
+        // Given
+        mockMvc.perform(post("/actuator/jfr").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"short\",\"durationSeconds\":30}"))
+                .andExpect(status().isOk());
+
+        // When
+        mockMvc.perform(delete("/actuator/jfr/{name}", "short"))
+                .andExpect(status().isNoContent());
+
+        // Then
+        mockMvc.perform(get("/actuator/jfr"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+        mockMvc.perform(get("/actuator/jfr/{name}", "short"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void whenRequestInvalid_thenRecordingIsNotStarted() throws Exception {
+        // When / Then
+        mockMvc.perform(post("/actuator/jfr").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"bad\",\"settings\":\"does-not-exist\"}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/actuator/jfr").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"../escape\"}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/actuator/jfr").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"durationSeconds\":0}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/actuator/jfr/{name}", "missing"))
+                .andExpect(status().isNotFound());
+        assertThat(flightRecordings.list()).isEmpty();
+    }
+
+    @Test
+    public void whenNameAlreadyUsed_thenConflict() throws Exception {
+        // Given
+        flightRecordings.start("busy", 30L, null);
+
+        // When / Then
+        mockMvc.perform(post("/actuator/jfr").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"busy\"}"))
+                .andExpect(status().isConflict());
+    }
+
+    private static RecordedEvent single(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .toList();
+        assertThat(matching).as(name).hasSize(1);
+        return matching.get(0);
+    }
+}
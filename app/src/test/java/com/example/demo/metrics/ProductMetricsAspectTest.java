@@ -0,0 +1,118 @@
+package com.example.demo.metrics;
+
+import com.example.demo.model.Product;
+import com.example.demo.service.ProductService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration test untuk timer per layer dari ProductMetricsAspect dan endpoint Prometheus.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@SpringBootTest(properties = {
+        "management.endpoint.prometheus.enabled=true",
+        "management.endpoints.web.exposure.include=prometheus"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+public class ProductMetricsAspectTest {
+
+    private static final long MISSING_ID = 987_654_321L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    public void whenProductFound_thenEveryLayerRecordsFoundOutcome() throws Exception {
+        // Given
+        Product product = productService.createProduct(new Product(null, "Metrics Lamp", null, new BigDecimal("15.00"), 4));
+        long controllerBefore = count("products.controller", "getProductById", "found");
+
+        // When
+        mockMvc.perform(get("/api/products/{id}", product.getId()))
+                .andExpect(status().isOk());
+
+        // Then
+        assertThat(count("products.controller", "getProductById", "found")).isEqualTo(controllerBefore + 1);
+        assertThat(count("products.service", "createProduct", "found")).isPositive();
+        assertThat(count("products.repository", "save", "found")).isPositive();
+    }
+
+    @Test
+    public void whenProductMissing_thenNotFoundOutcomeAndExceptionPathRecorded() throws Exception {
+        // Given
+        String body = "{\"name\":\"Ghost\",\"price\":1.00,\"stock\":1}";
+        long updateBefore = count("products.service.not_found", "updateProduct", "not-found");
+        long deleteBefore = count("products.service.not_found", "deleteProduct", "not-found");
+
+        // When
+        mockMvc.perform(get("/api/products/{id}", MISSING_ID))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(put("/api/products/{id}", MISSING_ID).contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(delete("/api/products/{id}", MISSING_ID))
+                .andExpect(status().isNotFound());
+
+        // Then
+        assertThat(count("products.controller", "getProductById", "not-found")).isPositive();
+        assertThat(count("products.controller", "updateProduct", "not-found")).isPositive();
+        assertThat(count("products.service", "deleteProduct", "not-found")).isPositive();
+        assertThat(count("products.service.not_found", "updateProduct", "not-found")).isEqualTo(updateBefore + 1);
+        assertThat(count("products.service.not_found", "deleteProduct", "not-found")).isEqualTo(deleteBefore + 1);
+        assertThat(count("products.service.not_found", "getProductById", "not-found")).isZero();
+    }
+
+    @Test
+    public void whenRequestInvalid_thenValidationErrorOutcomeRecorded() throws Exception {
+        // When
+        mockMvc.perform(get("/api/products/price-histogram").param("min", "10").param("max", "1"))
+                .andExpect(status().isBadRequest());
+
+        // Then
+        assertThat(count("products.controller", "getPriceHistogram", "validation-error")).isPositive();
+        assertThat(count("products.service", "getPriceHistogram", "validation-error")).isPositive();
+    }
+
+    @Test
+    public void whenScraped_thenPrometheusExposesPercentileHistogram() throws Exception {
+        // Given
+        mockMvc.perform(get("/api/products/{id}", MISSING_ID));
+
+        // When / Then
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(
+                        "products_controller_seconds_bucket{method=\"getProductById\",outcome=\"not-found\"")));
+    }
+
+    private long count(String name, String method, String outcome) {
+        Timer timer = meterRegistry.find(name).tag("method", method).tag("outcome", outcome).timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
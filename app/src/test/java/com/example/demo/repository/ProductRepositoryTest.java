@@ -0,0 +1,353 @@
+package com.example.demo.repository;
+
+import com.example.demo.model.Product;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit test untuk ProductRepository.
+ *
+ * <p>Test class ini menguji repository layer untuk Product entity
+ * menggunakan H2 in-memory database.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2025-09-20
+ */
+@DataJpaTest
+public class ProductRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    public void whenFindById_thenReturnProduct() {
+        // Given
+        Product product = new Product();
+        product.setName("Laptop ASUS");
+        product.setDescription("Laptop gaming");
+        product.setPrice(BigDecimal.valueOf(15000000.0));
+        product.setStock(10);
+
+        entityManager.persist(product);
+        entityManager.flush();
+
+        // When
+        Product found = productRepository.findById(product.getId()).orElse(null);
+
+        // Then
+        assertThat(found).isNotNull();
+        assertThat(found.getName()).isEqualTo(product.getName());
+        assertThat(found.getPrice()).isEqualTo(product.getPrice());
+    }
+
+    @Test
+    public void whenFindByNameContainingIgnoreCase_thenReturnProducts() {
+        // Given
+        Product laptop = new Product();
+        laptop.setName("Laptop ASUS VivoBook");
+        laptop.setDescription("Laptop thin and light");
+        laptop.setPrice(BigDecimal.valueOf(8500000.0));
+        laptop.setStock(15);
+
+        Product phone = new Product();
+        phone.setName("iPhone 14 Pro");
+        phone.setDescription("Smartphone Apple");
+        phone.setPrice(BigDecimal.valueOf(18000000.0));
+        phone.setStock(8);
+
+        Product tablet = new Product();
+        tablet.setName("Samsung Galaxy Tab");
+        tablet.setDescription("Tablet Android");
+        tablet.setPrice(BigDecimal.valueOf(8000000.0));
+        tablet.setStock(12);
+
+        entityManager.persist(laptop);
+        entityManager.persist(phone);
+        entityManager.persist(tablet);
+        entityManager.flush();
+
+        // When
+        List<Product> foundProducts = productRepository.findByNameContainingIgnoreCase("laptop");
+
+        // Then
+        assertThat(foundProducts).hasSize(1);
+        assertThat(foundProducts.get(0).getName()).containsIgnoringCase("laptop");
+    }
+
+    @Test
+    public void whenFindByNameContainingIgnoreCaseWithMultipleMatches_thenReturnAllMatchingProducts() {
+        // Given
+        Product laptop1 = new Product();
+        laptop1.setName("Laptop ASUS");
+        laptop1.setDescription("Laptop gaming");
+        laptop1.setPrice(BigDecimal.valueOf(15000000.0));
+        laptop1.setStock(10);
+
+        Product laptop2 = new Product();
+        laptop2.setName("Laptop HP");
+        laptop2.setDescription("Laptop business");
+        laptop2.setPrice(BigDecimal.valueOf(12000000.0));
+        laptop2.setStock(8);
+
+        Product phone = new Product();
+        phone.setName("iPhone 14");
+        phone.setDescription("Smartphone");
+        phone.setPrice(BigDecimal.valueOf(18000000.0));
+        phone.setStock(5);
+
+        entityManager.persist(laptop1);
+        entityManager.persist(laptop2);
+        entityManager.persist(phone);
+        entityManager.flush();
+
+        // When
+        List<Product> foundProducts = productRepository.findByNameContainingIgnoreCase("laptop");
+
+        // Then
+        assertThat(foundProducts).hasSize(2);
+        assertThat(foundProducts).extracting(Product::getName)
+                .containsExactlyInAnyOrder("Laptop ASUS", "Laptop HP");
+    }
+
+    @Test
+    public void whenFindByNameContainingIgnoreCaseWithNoMatch_thenReturnEmptyList() {
+        // Given
+        Product product = new Product();
+        product.setName("Samsung Galaxy S21");
+        product.setDescription("Smartphone Android");
+        product.setPrice(BigDecimal.valueOf(10000000.0));
+        product.setStock(20);
+
+        entityManager.persist(product);
+        entityManager.flush();
+
+        // When
+        List<Product> foundProducts = productRepository.findByNameContainingIgnoreCase("iphone");
+
+        // Then
+        assertThat(foundProducts).isEmpty();
+    }
+
+    @Test
+    public void whenSaveProduct_thenProductIsPersisted() {
+        // Given
+        Product product = new Product();
+        product.setName("Test Product");
+        product.setDescription("Test Description");
+        product.setPrice(BigDecimal.valueOf(1000000.0));
+        product.setStock(5);
+
+        // When
+        Product savedProduct = productRepository.save(product);
+        Product foundProduct = productRepository.findById(savedProduct.getId()).orElse(null);
+
+        // Then
+        assertThat(foundProduct).isNotNull();
+        assertThat(foundProduct.getName()).isEqualTo("Test Product");
+        assertThat(foundProduct.getDescription()).isEqualTo("Test Description");
+        assertThat(foundProduct.getPrice()).isEqualTo(BigDecimal.valueOf(1000000.0));
+        assertThat(foundProduct.getStock()).isEqualTo(5);
+    }
+
+    @Test
+    public void whenDeleteProduct_thenProductIsRemoved() {
+        // Given
+        Product product = new Product();
+        product.setName("To Be Deleted");
+        product.setDescription("Will be deleted");
+        product.setPrice(BigDecimal.valueOf(500000.0));
+        product.setStock(3);
+
+        entityManager.persist(product);
+        entityManager.flush();
+
+        Long productId = product.getId();
+
+        // When
+        productRepository.deleteById(productId);
+        Product foundProduct = productRepository.findById(productId).orElse(null);
+
+        // Then
+        assertThat(foundProduct).isNull();
+    }
+
+    @Test
+    public void whenFindPageByPriceAfter_thenContinueFromPriceAndIdKeyset() {
+        // Given
+        Product first = new Product(null, "Pen", "Blue pen", BigDecimal.valueOf(1000.0), 10);
+        Product tieA = new Product(null, "Pencil", "HB pencil", BigDecimal.valueOf(2000.0), 10);
+        Product tieB = new Product(null, "Eraser", "White eraser", BigDecimal.valueOf(2000.0), 10);
+        Product last = new Product(null, "Stapler", "Metal stapler", BigDecimal.valueOf(3000.0), 10);
+
+        entityManager.persist(first);
+        entityManager.persist(tieA);
+        entityManager.persist(tieB);
+        entityManager.persist(last);
+        entityManager.flush();
+
+        // When
+        List<Product> firstPage = productRepository.findAllByOrderByPriceAscIdAsc(Limit.of(2));
+        Product lastOfFirstPage = firstPage.get(1);
+        List<Product> secondPage = productRepository.findPageByPriceAfter(
+                lastOfFirstPage.getPrice(), lastOfFirstPage.getId(), Limit.of(2));
+
+        // Then
+        assertThat(firstPage).extracting(Product::getName).containsExactly("Pen", "Pencil");
+        assertThat(secondPage).extracting(Product::getName).containsExactly("Eraser", "Stapler");
+    }
+
+    @Test
+    public void whenFindByIdGreaterThan_thenReturnNextIdsInOrder() {
+        // Given
+        Product a = new Product(null, "A", "First", BigDecimal.valueOf(100.0), 1);
+        Product b = new Product(null, "B", "Second", BigDecimal.valueOf(100.0), 1);
+        Product c = new Product(null, "C", "Third", BigDecimal.valueOf(100.0), 1);
+
+        entityManager.persist(a);
+        entityManager.persist(b);
+        entityManager.persist(c);
+        entityManager.flush();
+
+        // When
+        List<Product> page = productRepository.findByIdGreaterThanOrderByIdAsc(a.getId(), Limit.of(5));
+
+        // Then
+        assertThat(page).extracting(Product::getName).containsExactly("B", "C");
+    }
+
+    @Test
+    public void whenStreamAllForExport_thenReturnDetachedProductsOrderedById() {
+        // Given
+        Product b = new Product(null, "B", "Second", BigDecimal.valueOf(200.0), 2);
+        Product a = new Product(null, "A", "First", BigDecimal.valueOf(100.0), 1);
+
+        entityManager.persist(b);
+        entityManager.persist(a);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<Product> exported;
+        try (Stream<Product> stream = productRepository.streamAllForExport()) {
+            exported = stream.toList();
+        }
+
+        // Then
+        assertThat(exported).extracting(Product::getName).containsExactly("B", "A");
+        assertThat(exported).noneMatch(product -> entityManager.getEntityManager().contains(product));
+    }
+
+    @Test
+    public void whenUpdateByIdAndVersion_thenOnlyMatchingVersionIsUpdated() {
+        // Given
+        Product product = new Product(null, "Original", "Desc", BigDecimal.valueOf(100.0), 1);
+        entityManager.persist(product);
+        entityManager.flush();
+        Long version = product.getVersion();
+        Product changes = new Product(null, "Changed", "Desc", BigDecimal.valueOf(150.0), 2);
+
+        // When
+        int stale = productRepository.updateByIdAndVersion(product.getId(), version + 1, changes);
+        int updated = productRepository.updateByIdAndVersion(product.getId(), version, changes);
+
+        // Then
+        assertThat(stale).isZero();
+        assertThat(updated).isEqualTo(1);
+        Product reloaded = productRepository.findById(product.getId()).orElseThrow();
+        assertThat(reloaded.getName()).isEqualTo("Changed");
+        assertThat(reloaded.getVersion()).isEqualTo(version + 1);
+    }
+
+    @Test
+    public void whenRemoveByIdAndStaleVersion_thenRowIsKept() {
+        // Given
+        Product product = new Product(null, "Keep", "Desc", BigDecimal.valueOf(100.0), 1);
+        entityManager.persist(product);
+        entityManager.flush();
+
+        // When
+        int removed = productRepository.removeByIdAndVersion(product.getId(), product.getVersion() + 1);
+
+        // Then
+        assertThat(removed).isZero();
+        assertThat(productRepository.existsById(product.getId())).isTrue();
+    }
+
+    @Test
+    public void whenFindProjectedByNameContaining_thenOnlyRequestedAttributesAreSelected() {
+        // Given
+        Product first = new Product(null, "Projection Kettle 100%", "Long description that is not needed",
+                BigDecimal.valueOf(250000.0), 7);
+        Product second = new Product(null, "Projection Kettle Mini", "Another long description",
+                BigDecimal.valueOf(150000.0), 3);
+        entityManager.persist(first);
+        entityManager.persist(second);
+        entityManager.flush();
+
+        // When
+        List<Map<String, Object>> rows = productRepository.findProjectedByNameContainingIgnoreCase(
+                "projection kettle", List.of("name", "price"));
+        List<Map<String, Object>> escaped = productRepository.findProjectedByNameContainingIgnoreCase(
+                "100%", List.of("name"));
+
+        // Then
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0)).containsOnlyKeys("id", "name", "price");
+        assertThat(rows.get(0).get("id")).isEqualTo(first.getId());
+        assertThat(rows.get(0).get("name")).isEqualTo("Projection Kettle 100%");
+        assertThat((BigDecimal) rows.get(1).get("price")).isEqualByComparingTo("150000.0");
+        assertThat(escaped).extracting(row -> row.get("id")).containsExactly(first.getId());
+    }
+
+    @Test
+    public void whenFindAllProjected_thenSameRowsAsEntitiesWithOnlyRequestedAttributes() {
+        // Given
+        entityManager.persist(new Product(null, "Projection Desk", "Long description that is not needed",
+                BigDecimal.valueOf(1200000.0), 2));
+        entityManager.persist(new Product(null, "Projection Chair", "Another long description",
+                BigDecimal.valueOf(800000.0), 6));
+        entityManager.flush();
+        List<Product> entities = productRepository.findAll();
+
+        // When
+        List<Map<String, Object>> rows = productRepository.findAllProjected(List.of("name", "price", "stock"));
+
+        // Then
+        assertThat(rows).hasSameSizeAs(entities);
+        assertThat(rows).allSatisfy(row -> assertThat(row).containsOnlyKeys("id", "name", "price", "stock"));
+        assertThat(rows).extracting(row -> row.get("id"))
+                .containsExactlyInAnyOrderElementsOf(entities.stream().map(Product::getId).toList());
+    }
+
+    @Test
+    public void whenFindProjectedByIdIn_thenReturnRequestedRows() {
+        // Given
+        Product product = new Product(null, "Projection Lamp", "Desk lamp", BigDecimal.valueOf(99000.0), 4);
+        entityManager.persist(product);
+        entityManager.flush();
+
+        // When
+        List<Map<String, Object>> rows = productRepository.findProjectedByIdIn(
+                List.of(product.getId()), List.of("stock", "version"));
+
+        // Then
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0)).containsOnlyKeys("id", "stock", "version");
+        assertThat(rows.get(0).get("stock")).isEqualTo(4);
+    }
+}
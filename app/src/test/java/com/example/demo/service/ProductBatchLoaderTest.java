@@ -0,0 +1,198 @@
+package com.example.demo.service;
+
+import com.example.demo.config.ProductProperties;
+import com.example.demo.model.Product;
+import com.example.demo.repository.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test untuk ProductBatchLoader.
+ *
+ * <p>Menguji bahwa lookup tunggal langsung dieksekusi, lookup yang datang
+ * selagi query lain berjalan digabung menjadi satu query IN, batch yang penuh
+ * langsung dieksekusi, dan metric fill ratio tercatat.
+ *
+ * @author Harist Islami
+ * @version 1.1
+ * @since 2026-10-18
+ */
+public class ProductBatchLoaderTest {
+
+    private static final long IN_FLIGHT_ID = 1000L;
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ProductBatchLoader loader;
+
+    @AfterEach
+    public void tearDown() {
+        if (loader != null) {
+            loader.destroy();
+        }
+    }
+
+    @Test
+    public void whenLookupArrivesWhileIdle_thenQueryRunsWithoutWaitingForWindow() {
+        // Given
+        loader = newLoader(true, TimeUnit.SECONDS.toMicros(60), 100);
+        when(productRepository.findByIdIn(anyCollection())).thenReturn(List.of(product(7L)));
+
+        // When
+        Optional<Product> result = loader.load(7L);
+
+        // Then
+        assertThat(result).map(Product::getId).contains(7L);
+        assertThat(meterRegistry.get("products.batcher.flushes").tag("trigger", "immediate").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("products.batcher.flushes").tag("trigger", "window").counter().count())
+                .isZero();
+    }
+
+    @Test
+    public void whenConcurrentLookupsWithinWindow_thenOneInQuery() throws Exception {
+        // Given
+        loader = newLoader(true, 200_000, 100);
+        CountDownLatch batched = new CountDownLatch(1);
+        when(productRepository.findByIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            if (ids.contains(IN_FLIGHT_ID)) {
+                batched.await(5, TimeUnit.SECONDS);
+            } else {
+                batched.countDown();
+            }
+            return ids.stream().filter(id -> id % 2 == 0).map(ProductBatchLoaderTest::product).toList();
+        });
+        int callers = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(callers + 1);
+        Future<Optional<Product>> inFlight = startInFlightLookup(executor);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        List<Future<Optional<Product>>> results = new ArrayList<>();
+        for (long id = 1; id <= callers; id++) {
+            long productId = id;
+            results.add(executor.submit(() -> {
+                start.await();
+                return loader.load(productId);
+            }));
+        }
+        start.countDown();
+
+        // Then
+        for (int i = 0; i < callers; i++) {
+            Optional<Product> result = results.get(i).get(5, TimeUnit.SECONDS);
+            assertThat(result.isPresent()).isEqualTo((i + 1) % 2 == 0);
+        }
+        assertThat(inFlight.get(5, TimeUnit.SECONDS)).isPresent();
+        // Satu query untuk lookup yang sedang berjalan, satu query IN untuk semua pemanggil lain
+        verify(productRepository, times(2)).findByIdIn(anyCollection());
+        verify(productRepository, never()).findById(any());
+        assertThat(meterRegistry.get("products.batcher.batch.size").summary().max()).isEqualTo(10.0);
+        assertThat(meterRegistry.get("products.batcher.fill.ratio").summary().max()).isEqualTo(0.1);
+        assertThat(meterRegistry.get("products.batcher.flushes").tag("trigger", "window").counter().count())
+                .isEqualTo(1.0);
+        executor.shutdown();
+    }
+
+    @Test
+    public void whenBatchIsFull_thenQueryRunsWithoutWaitingForWindow() throws Exception {
+        // Given
+        loader = newLoader(true, TimeUnit.SECONDS.toMicros(60), 1);
+        CountDownLatch batched = new CountDownLatch(1);
+        when(productRepository.findByIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            if (ids.contains(IN_FLIGHT_ID)) {
+                batched.await(5, TimeUnit.SECONDS);
+                return List.of(product(IN_FLIGHT_ID));
+            }
+            batched.countDown();
+            return List.of(product(7L));
+        });
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<Optional<Product>> inFlight = startInFlightLookup(executor);
+
+        // When
+        Optional<Product> result = loader.load(7L);
+
+        // Then
+        assertThat(result).map(Product::getId).contains(7L);
+        assertThat(inFlight.get(5, TimeUnit.SECONDS)).isPresent();
+        assertThat(meterRegistry.get("products.batcher.flushes").tag("trigger", "full").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("products.batcher.fill.ratio").summary().max()).isEqualTo(1.0);
+        executor.shutdown();
+    }
+
+    @Test
+    public void whenQueryFails_thenEveryCallerReceivesException() {
+        // Given
+        loader = newLoader(true, 100, 100);
+        when(productRepository.findByIdIn(anyCollection())).thenThrow(new IllegalStateException("db down"));
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> loader.load(1L));
+    }
+
+    @Test
+    public void whenDisabled_thenFindByIdIsUsed() {
+        // Given
+        loader = newLoader(false, 2000, 100);
+        when(productRepository.findById(3L)).thenReturn(Optional.of(product(3L)));
+
+        // When
+        Optional<Product> result = loader.load(3L);
+
+        // Then
+        assertThat(result).isPresent();
+        verify(productRepository, never()).findByIdIn(anyCollection());
+    }
+
+    /**
+     * Menjalankan lookup {@link #IN_FLIGHT_ID} di thread lain dan menunggu sampai query-nya berjalan,
+     * sehingga lookup berikutnya masuk ke batch alih-alih dieksekusi langsung.
+     */
+    private Future<Optional<Product>> startInFlightLookup(ExecutorService executor) throws InterruptedException {
+        Future<Optional<Product>> inFlight = executor.submit(() -> loader.load(IN_FLIGHT_ID));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (mockingDetails(productRepository).getInvocations().isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        return inFlight;
+    }
+
+    private ProductBatchLoader newLoader(boolean enabled, long windowMicros, int maxBatchSize) {
+        ProductProperties properties = new ProductProperties();
+        properties.getBatchLoader().setEnabled(enabled);
+        properties.getBatchLoader().setWindowMicros(windowMicros);
+        properties.getBatchLoader().setMaxBatchSize(maxBatchSize);
+        return new ProductBatchLoader(productRepository, properties, meterRegistry);
+    }
+
+    private static Product product(Long id) {
+        return new Product(id, "Product " + id, "Batch test", BigDecimal.valueOf(1000.0), 1);
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.demo.service;
+
+import com.example.demo.config.CacheConfig;
+import com.example.demo.model.BulkResult;
+import com.example.demo.model.Product;
+import com.example.demo.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test untuk ProductBulkService.
+ *
+ * <p>Batch dan chunk sengaja dibuat kecil agar satu request melewati
+ * beberapa JDBC batch dan beberapa transaksi.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@SpringBootTest(properties = {
+        "app.products.bulk.batch-size=10",
+        "app.products.bulk.chunk-size=25"
+})
+public class ProductBulkServiceTest {
+
+    @Autowired
+    private ProductBulkService productBulkService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    public void whenCreateProducts_thenAllItemsPersistedWithDistinctIds() {
+        // Given
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            products.add(new Product(999L, "Bulk Product " + i, "Bulk", BigDecimal.valueOf(1000 + i), i));
+        }
+
+        // When
+        BulkResult result = productBulkService.createProducts(products);
+
+        // Then
+        assertThat(result.getRequested()).isEqualTo(120);
+        assertThat(result.getSucceeded()).isEqualTo(120);
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(new HashSet<>(result.getIds())).hasSize(120).doesNotContain(999L);
+        assertThat(result.getIds()).allMatch(id -> id > 34, "id after seed rows");
+        assertThat(productRepository.findByIdIn(result.getIds()))
+                .extracting(Product::getName)
+                .contains("Bulk Product 0", "Bulk Product 119");
+    }
+
+    @Test
+    public void whenCreateProductsWithInvalidItems_thenOnlyInvalidItemsFail() {
+        // Given
+        List<Product> products = List.of(
+                new Product(null, "Valid One", null, BigDecimal.valueOf(1000.0), 1),
+                new Product(null, "", null, BigDecimal.valueOf(1000.0), 1),
+                new Product(null, "Valid Two", null, BigDecimal.valueOf(-5.0), 1),
+                new Product(null, "Valid Three", null, BigDecimal.valueOf(2000.0), 2));
+
+        // When
+        BulkResult result = productBulkService.createProducts(products);
+
+        // Then
+        assertThat(result.getSucceeded()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting("index").containsExactly(1, 2);
+        assertThat(result.getIds().get(0)).isNotNull();
+        assertThat(result.getIds().get(1)).isNull();
+        assertThat(result.getIds().get(2)).isNull();
+        assertThat(result.getIds().get(3)).isNotNull();
+    }
+
+    @Test
+    public void whenUpdateProducts_thenExistingUpdatedAndMissingReported() {
+        // Given
+        Product existing = productService.createProduct(
+                new Product(null, "Before Update", "Old", BigDecimal.valueOf(1000.0), 1));
+        productService.getProductById(existing.getId());
+        List<Product> updates = List.of(
+                new Product(existing.getId(), "After Update", "New", BigDecimal.valueOf(1500.0), 7),
+                new Product(Long.MAX_VALUE, "Missing", null, BigDecimal.valueOf(1000.0), 1),
+                new Product(null, "No Id", null, BigDecimal.valueOf(1000.0), 1));
+
+        // When
+        BulkResult result = productBulkService.updateProducts(updates);
+
+        // Then
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting("index").containsExactlyInAnyOrder(1, 2);
+        assertThat(Objects.requireNonNull(cacheManager.getCache(CacheConfig.PRODUCTS_CACHE)).get(existing.getId()))
+                .isNull();
+        Product reloaded = productService.getProductById(existing.getId()).orElseThrow();
+        assertThat(reloaded.getName()).isEqualTo("After Update");
+        assertThat(reloaded.getStock()).isEqualTo(7);
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.demo.service;
+
+import com.example.demo.config.CacheConfig;
+import com.example.demo.model.Product;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test untuk cache produk pada ProductService.
+ *
+ * <p>Test class ini menguji bahwa {@code getProductById} dilayani dari cache
+ * setelah akses pertama, serta cache diperbarui saat update dan dibuang
+ * saat delete.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@SpringBootTest
+public class ProductCacheTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Cache<Object, Object> cache;
+
+    @BeforeEach
+    public void setUp() {
+        cache = ((CaffeineCache) cacheManager.getCache(CacheConfig.PRODUCTS_CACHE)).getNativeCache();
+        cache.invalidateAll();
+    }
+
+    @Test
+    public void whenGetProductByIdTwice_thenSecondCallIsCacheHit() {
+        // Given
+        Product created = productService.createProduct(
+                new Product(null, "Cached Product", "Description", BigDecimal.valueOf(1000.0), 5));
+        long hitsBefore = cache.stats().hitCount();
+
+        // When
+        productService.getProductById(created.getId());
+        productService.getProductById(created.getId());
+
+        // Then
+        assertThat(cache.stats().hitCount() - hitsBefore).isEqualTo(1);
+        assertThat(cache.getIfPresent(created.getId())).isNotNull();
+    }
+
+    @Test
+    public void whenProductNotFound_thenResultIsNotCached() {
+        // When
+        productService.getProductById(987654L);
+
+        // Then
+        assertThat(cache.getIfPresent(987654L)).isNull();
+    }
+
+    @Test
+    public void whenUpdateProduct_thenCacheHoldsUpdatedProduct() {
+        // Given
+        Product created = productService.createProduct(
+                new Product(null, "Old Name", "Description", BigDecimal.valueOf(1000.0), 5));
+        productService.getProductById(created.getId());
+
+        // When
+        productService.updateProduct(created.getId(),
+                new Product(null, "New Name", "Description", BigDecimal.valueOf(2000.0), 5));
+
+        // Then
+        assertThat(productService.getProductById(created.getId()))
+                .get().extracting(Product::getName).isEqualTo("New Name");
+    }
+
+    @Test
+    public void whenDeleteProduct_thenCacheEntryIsEvicted() {
+        // Given
+        Product created = productService.createProduct(
+                new Product(null, "To Delete", "Description", BigDecimal.valueOf(1000.0), 5));
+        productService.getProductById(created.getId());
+
+        // When
+        productService.deleteProduct(created.getId());
+
+        // Then
+        assertThat(cache.getIfPresent(created.getId())).isNull();
+        assertThat(productService.getProductById(created.getId())).isEmpty();
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.demo.service;
+
+import com.example.demo.model.Product;
+import com.example.demo.repository.ProductRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration test untuk ProductPatchService.
+ *
+ * @author Harist Islami
+ * @version 1.1
+ * @since 2026-10-18
+ */
+@SpringBootTest
+public class ProductPatchServiceTest {
+
+    @Autowired
+    private ProductPatchService productPatchService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    public void whenPatchPrice_thenOnlyPriceChangesAndVersionBumps() throws Exception {
+        // Given
+        Product created = createProduct();
+
+        // When
+        Product patched = productPatchService.patchProduct(created.getId(), json("{\"price\": 1250.50}"), null);
+
+        // Then
+        Product stored = productRepository.findById(created.getId()).orElseThrow();
+        assertThat(stored.getPrice()).isEqualByComparingTo("1250.50");
+        assertThat(stored.getName()).isEqualTo("Patch Product");
+        assertThat(stored.getDescription()).isEqualTo("Patch test");
+        assertThat(stored.getStock()).isEqualTo(5);
+        assertThat(stored.getVersion()).isEqualTo(created.getVersion() + 1);
+        assertThat(patched.getVersion()).isEqualTo(stored.getVersion());
+    }
+
+    @Test
+    public void whenPatchNullDescription_thenDescriptionCleared() throws Exception {
+        // Given
+        Product created = createProduct();
+
+        // When
+        productPatchService.patchProduct(created.getId(), json("{\"description\": null, \"stock\": 9}"), null);
+
+        // Then
+        Product stored = productRepository.findById(created.getId()).orElseThrow();
+        assertThat(stored.getDescription()).isNull();
+        assertThat(stored.getStock()).isEqualTo(9);
+    }
+
+    @Test
+    public void whenPatchWithMatchingVersion_thenApplied() throws Exception {
+        // Given
+        Product created = createProduct();
+
+        // When
+        Product patched = productPatchService.patchProduct(
+                created.getId(), json("{\"name\": \"Renamed\"}"), created.getVersion());
+
+        // Then
+        assertThat(patched.getName()).isEqualTo("Renamed");
+    }
+
+    @Test
+    public void whenPatchWithStaleVersion_thenConflictAndNothingWritten() throws Exception {
+        // Given
+        Product created = createProduct();
+        JsonNode patch = json("{\"stock\": 1}");
+
+        // When & Then
+        assertThatThrownBy(() -> productPatchService.patchProduct(created.getId(), patch, created.getVersion() + 3))
+                .isInstanceOf(ProductVersionConflictException.class);
+        assertThat(productRepository.findById(created.getId()).orElseThrow().getStock()).isEqualTo(5);
+    }
+
+    @Test
+    public void whenPatchMissingProduct_thenNotFound() throws Exception {
+        // Given
+        JsonNode patch = json("{\"stock\": 1}");
+
+        // When & Then
+        assertThatThrownBy(() -> productPatchService.patchProduct(999_999L, patch, null))
+                .isInstanceOf(ProductNotFoundException.class)
+                .hasMessageContaining("Product not found");
+    }
+
+    @Test
+    public void whenPatchInvalidValue_thenRejectedWithoutWrite() throws Exception {
+        // Given
+        Product created = createProduct();
+
+        // When & Then
+        assertThatThrownBy(() -> productPatchService.patchProduct(created.getId(), json("{\"price\": 0}"), null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("price");
+        assertThatThrownBy(() -> productPatchService.patchProduct(created.getId(), json("{\"name\": null}"), null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> productPatchService.patchProduct(created.getId(), json("{\"stock\": 1.5}"), null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(productRepository.findById(created.getId()).orElseThrow().getVersion())
+                .isEqualTo(created.getVersion());
+    }
+
+    @Test
+    public void whenPatchUnknownOrReadOnlyField_thenRejected() throws Exception {
+        // Given
+        Product created = createProduct();
+
+        // When & Then
+        assertThatThrownBy(() -> productPatchService.patchProduct(created.getId(), json("{\"color\": \"red\"}"), null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> productPatchService.patchProduct(created.getId(), json("{\"version\": 9}"), null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> productPatchService.patchProduct(created.getId(), json("[1]"), null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void whenPatchIsEmpty_thenCurrentProductReturnedUnchanged() throws Exception {
+        // Given
+        Product created = createProduct();
+
+        // When
+        Product result = productPatchService.patchProduct(created.getId(), json("{}"), null);
+
+        // Then
+        assertThat(result.getVersion()).isEqualTo(created.getVersion());
+        assertThat(productService.getProductById(created.getId()).orElseThrow().getVersion())
+                .isEqualTo(created.getVersion());
+    }
+
+    private Product createProduct() {
+        return productService.createProduct(
+                new Product(null, "Patch Product", "Patch test", BigDecimal.valueOf(1000.0), 5));
+    }
+
+    private JsonNode json(String content) throws Exception {
+        return objectMapper.readTree(content);
+    }
+}
@@ -0,0 +1,722 @@
+package com.example.demo.service;
+
+import com.example.demo.columnar.ColumnarCatalog;
+import com.example.demo.index.FullTextIndex;
+import com.example.demo.index.PrefixIndex;
+import com.example.demo.index.PriceIndex;
+import com.example.demo.index.TrigramIndex;
+import com.example.demo.model.PriceBucket;
+import com.example.demo.model.Product;
+import com.example.demo.model.ProductPage;
+import com.example.demo.model.ProductSearchHit;
+import com.example.demo.model.ProductSuggestion;
+import com.example.demo.repository.ProductRepository;
+import com.example.demo.stock.HotStockRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test untuk ProductService.
+ *
+ * <p>Test class ini menguji service layer untuk Product business logic
+ * menggunakan Mockito untuk mocking repository layer.
+ *
+ * @author Harist Islami
+ * @version 1.1
+ * @since 2025-09-20
+ */
+@ExtendWith(MockitoExtension.class)
+public class ProductServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private HotStockRegistry hotStockRegistry;
+
+    @Mock
+    private ProductBatchLoader productBatchLoader;
+
+    @Mock
+    private ColumnarCatalog columnarCatalog;
+
+    @Spy
+    private TrigramIndex trigramIndex = new TrigramIndex();
+
+    @Spy
+    private PrefixIndex prefixIndex = new PrefixIndex();
+
+    @Spy
+    private FullTextIndex fullTextIndex = new FullTextIndex();
+
+    @Spy
+    private PriceIndex priceIndex = new PriceIndex();
+
+    @Spy
+    private RequestCoalescer requestCoalescer = new RequestCoalescer(new SimpleMeterRegistry());
+
+    @InjectMocks
+    private ProductService productService;
+
+    @Test
+    public void whenGetAllProducts_thenReturnAllProducts() {
+        // Given
+        Product product1 = new Product(1L, "Laptop ASUS", "Laptop gaming", BigDecimal.valueOf(15000000.0), 10);
+        Product product2 = new Product(2L, "iPhone 14", "Smartphone", BigDecimal.valueOf(18000000.0), 8);
+        List<Product> products = Arrays.asList(product1, product2);
+
+        when(productRepository.findAll()).thenReturn(products);
+
+        // When
+        List<Product> result = productService.getAllProducts();
+
+        // Then
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).getName()).isEqualTo("Laptop ASUS");
+        assertThat(result.get(1).getName()).isEqualTo("iPhone 14");
+    }
+
+    @Test
+    public void whenGetProductById_thenReturnProduct() {
+        // Given
+        Product product = new Product(1L, "Laptop ASUS", "Laptop gaming", BigDecimal.valueOf(15000000.0), 10);
+
+        when(productBatchLoader.load(1L)).thenReturn(Optional.of(product));
+
+        // When
+        Optional<Product> result = productService.getProductById(1L);
+
+        // Then
+        assertThat(result).isPresent();
+        assertThat(result.get().getName()).isEqualTo("Laptop ASUS");
+    }
+
+    @Test
+    public void whenGetProductByIdNotFound_thenReturnEmpty() {
+        // Given
+        when(productBatchLoader.load(1L)).thenReturn(Optional.empty());
+
+        // When
+        Optional<Product> result = productService.getProductById(1L);
+
+        // Then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    public void whenCreateProduct_thenReturnSavedProduct() {
+        // Given
+        Product product = new Product(null, "New Product", "Description", BigDecimal.valueOf(1000000.0), 5);
+        Product savedProduct = new Product(1L, "New Product", "Description", BigDecimal.valueOf(1000000.0), 5);
+
+        when(productRepository.save(any(Product.class))).thenReturn(savedProduct);
+
+        // When
+        Product result = productService.createProduct(product);
+
+        // Then
+        assertThat(result.getId()).isEqualTo(1L);
+        assertThat(result.getName()).isEqualTo("New Product");
+        assertThat(result.getDescription()).isEqualTo("Description");
+        assertThat(result.getPrice()).isEqualTo(BigDecimal.valueOf(1000000.0));
+        assertThat(result.getStock()).isEqualTo(5);
+    }
+
+    @Test
+    public void whenUpdateProduct_thenReturnUpdatedProduct() {
+        // Given
+        Long productId = 1L;
+        Product updatedProduct = new Product(productId, "Updated Name", "Updated Description", BigDecimal.valueOf(2000000.0), 10, 4L);
+
+        when(productRepository.updateById(eq(productId), any(Product.class))).thenReturn(1);
+        when(productRepository.findById(productId)).thenReturn(Optional.of(updatedProduct));
+
+        // When
+        Product result = productService.updateProduct(productId, updatedProduct);
+
+        // Then
+        assertThat(result.getName()).isEqualTo("Updated Name");
+        assertThat(result.getDescription()).isEqualTo("Updated Description");
+        assertThat(result.getPrice()).isEqualTo(BigDecimal.valueOf(2000000.0));
+        assertThat(result.getStock()).isEqualTo(10);
+        assertThat(result.getVersion()).isEqualTo(4L);
+        verify(productRepository, never()).existsById(any());
+    }
+
+    @Test
+    public void whenUpdateProductNotFound_thenThrowException() {
+        // Given
+        Long productId = 1L;
+        Product product = new Product(productId, "Product", "Description", BigDecimal.valueOf(1000000.0), 5);
+
+        when(productRepository.updateById(eq(productId), any(Product.class))).thenReturn(0);
+
+        // When & Then
+        RuntimeException exception = assertThrows(ProductNotFoundException.class, () -> {
+            productService.updateProduct(productId, product);
+        });
+
+        assertThat(exception.getMessage()).isEqualTo("Product not found with id: " + productId);
+    }
+
+    @Test
+    public void whenUpdateProductWithMatchingVersion_thenSingleStatementAndVersionIncremented() {
+        // Given
+        Product product = new Product(null, "Updated Name", "Updated Description", BigDecimal.valueOf(2000000.0), 10);
+        when(productRepository.updateByIdAndVersion(1L, 3L, product)).thenReturn(1);
+
+        // When
+        Product result = productService.updateProduct(1L, product, 3L);
+
+        // Then
+        assertThat(result.getId()).isEqualTo(1L);
+        assertThat(result.getVersion()).isEqualTo(4L);
+        verify(productRepository, never()).existsById(any());
+        verify(productRepository, never()).findById(any());
+    }
+
+    @Test
+    public void whenUpdateProductWithStaleVersion_thenThrowConflict() {
+        // Given
+        Product product = new Product(null, "Updated Name", "Updated Description", BigDecimal.valueOf(2000000.0), 10);
+        when(productRepository.updateByIdAndVersion(1L, 3L, product)).thenReturn(0);
+        when(productRepository.existsById(1L)).thenReturn(true);
+
+        // When & Then
+        assertThrows(ProductVersionConflictException.class, () -> productService.updateProduct(1L, product, 3L));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    public void whenDeleteProduct_thenProductIsDeleted() {
+        // Given
+        Long productId = 1L;
+        when(productRepository.removeById(productId)).thenReturn(1);
+
+        // When
+        productService.deleteProduct(productId);
+
+        // Then
+        verify(productRepository, times(1)).removeById(productId);
+        verify(productRepository, never()).existsById(any());
+    }
+
+    @Test
+    public void whenDeleteProductNotFound_thenThrowException() {
+        // Given
+        Long productId = 1L;
+        when(productRepository.removeById(productId)).thenReturn(0);
+
+        // When & Then
+        RuntimeException exception = assertThrows(ProductNotFoundException.class, () -> {
+            productService.deleteProduct(productId);
+        });
+
+        assertThat(exception.getMessage()).isEqualTo("Product not found with id: " + productId);
+    }
+
+    @Test
+    public void whenDeleteProductWithStaleVersion_thenThrowConflict() {
+        // Given
+        when(productRepository.removeByIdAndVersion(1L, 2L)).thenReturn(0);
+        when(productRepository.existsById(1L)).thenReturn(true);
+
+        // When & Then
+        assertThrows(ProductVersionConflictException.class, () -> productService.deleteProduct(1L, 2L));
+    }
+
+    @Test
+    public void whenDeleteProductWithVersionNotFound_thenThrowNotFound() {
+        // Given
+        when(productRepository.removeByIdAndVersion(1L, 2L)).thenReturn(0);
+        when(productRepository.existsById(1L)).thenReturn(false);
+
+        // When & Then
+        assertThrows(ProductNotFoundException.class, () -> productService.deleteProduct(1L, 2L));
+    }
+
+    @Test
+    public void whenFindProductsByName_thenReturnMatchingProducts() {
+        // Given
+        Product product1 = new Product(1L, "Laptop ASUS", "Laptop gaming", BigDecimal.valueOf(15000000.0), 10);
+        Product product2 = new Product(2L, "Laptop HP", "Laptop business", BigDecimal.valueOf(12000000.0), 8);
+        Product product3 = new Product(3L, "iPhone 14", "Smartphone", BigDecimal.valueOf(18000000.0), 5);
+
+        trigramIndex.index(product1);
+        trigramIndex.index(product2);
+        trigramIndex.index(product3);
+
+        when(productRepository.findByIdIn(List.of(1L, 2L))).thenReturn(Arrays.asList(product2, product1));
+
+        // When
+        List<Product> result = productService.findProductsByName("laptop");
+
+        // Then
+        assertThat(result).hasSize(2);
+        assertThat(result).extracting(Product::getName)
+                .containsExactly("Laptop ASUS", "Laptop HP");
+        verify(productRepository, never()).findByNameContainingIgnoreCase(any());
+    }
+
+    @Test
+    public void whenFindProductsByNameWithNoMatch_thenReturnEmptyList() {
+        // Given
+        trigramIndex.index(new Product(1L, "Laptop ASUS", "Laptop gaming", BigDecimal.valueOf(15000000.0), 10));
+
+        // When
+        List<Product> result = productService.findProductsByName("nonexistent");
+
+        // Then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    public void whenFindProductsByNameCaseInsensitive_thenReturnMatchingProducts() {
+        // Given
+        Product product1 = new Product(1L, "Laptop ASUS", "Laptop gaming", BigDecimal.valueOf(15000000.0), 10);
+        Product product2 = new Product(2L, "laptop HP", "Laptop business", BigDecimal.valueOf(12000000.0), 8);
+
+        trigramIndex.index(product1);
+        trigramIndex.index(product2);
+
+        when(productRepository.findByIdIn(List.of(1L, 2L))).thenReturn(Arrays.asList(product1, product2));
+
+        // When
+        List<Product> result = productService.findProductsByName("LAPTOP");
+
+        // Then
+        assertThat(result).hasSize(2);
+        assertThat(result).extracting(Product::getName)
+                .containsExactlyInAnyOrder("Laptop ASUS", "laptop HP");
+    }
+
+    @Test
+    public void whenFindProductsByNameWithShortQuery_thenFallBackToDatabase() {
+        // Given
+        Product product = new Product(1L, "iPad Air", "Tablet", BigDecimal.valueOf(12999999.0), 35);
+
+        when(productRepository.findByNameContainingIgnoreCase("ip")).thenReturn(List.of(product));
+
+        // When
+        List<Product> result = productService.findProductsByName("ip");
+
+        // Then
+        assertThat(result).containsExactly(product);
+        verify(trigramIndex, never()).search(any());
+    }
+
+    @Test
+    public void whenCreateProduct_thenPublishSavedEvent() {
+        // Given
+        Product savedProduct = new Product(1L, "New Product", "Description", BigDecimal.valueOf(1000000.0), 5);
+
+        when(productRepository.save(any(Product.class))).thenReturn(savedProduct);
+
+        // When
+        productService.createProduct(new Product(null, "New Product", "Description", BigDecimal.valueOf(1000000.0), 5));
+
+        // Then
+        verify(eventPublisher).publishEvent(ProductChangedEvent.saved(savedProduct));
+    }
+
+    @Test
+    public void whenDeleteProduct_thenPublishDeletedEvent() {
+        // Given
+        when(productRepository.removeById(1L)).thenReturn(1);
+
+        // When
+        productService.deleteProduct(1L);
+
+        // Then
+        verify(eventPublisher).publishEvent(ProductChangedEvent.deleted(1L));
+    }
+
+    @Test
+    public void whenGetProductPageWithMoreRows_thenReturnNextCursor() {
+        // Given
+        Product product1 = new Product(1L, "Laptop ASUS", "Laptop gaming", BigDecimal.valueOf(15000000.0), 10);
+        Product product2 = new Product(2L, "iPhone 14", "Smartphone", BigDecimal.valueOf(18000000.0), 8);
+        Product product3 = new Product(3L, "Laptop HP", "Laptop business", BigDecimal.valueOf(12000000.0), 5);
+
+        when(productRepository.findAllByOrderByIdAsc(Limit.of(3)))
+                .thenReturn(Arrays.asList(product1, product2, product3));
+        when(productRepository.findByIdGreaterThanOrderByIdAsc(2L, Limit.of(3)))
+                .thenReturn(List.of(product3));
+
+        // When
+        ProductPage firstPage = productService.getProductPage(null, 2, ProductSort.ID);
+        ProductPage secondPage = productService.getProductPage(firstPage.getNextCursor(), 2, ProductSort.ID);
+
+        // Then
+        assertThat(firstPage.getItems()).extracting(Product::getId).containsExactly(1L, 2L);
+        assertThat(firstPage.getNextCursor()).isNotNull();
+        assertThat(secondPage.getItems()).extracting(Product::getId).containsExactly(3L);
+        assertThat(secondPage.getNextCursor()).isNull();
+    }
+
+    @Test
+    public void whenGetProductPageSortedByPrice_thenCursorCarriesPriceAndId() {
+        // Given
+        Product cheap = new Product(7L, "Organic Honey", "Raw honey", BigDecimal.valueOf(149999.0), 180);
+        Product next = new Product(3L, "Resistance Bands", "Bands", BigDecimal.valueOf(299999.0), 150);
+
+        when(productRepository.findAllByOrderByPriceAscIdAsc(Limit.of(2)))
+                .thenReturn(Arrays.asList(cheap, next));
+        when(productRepository.findPageByPriceAfter(BigDecimal.valueOf(149999.0), 7L, Limit.of(2)))
+                .thenReturn(List.of(next));
+
+        // When
+        ProductPage firstPage = productService.getProductPage(null, 1, ProductSort.PRICE);
+        ProductPage secondPage = productService.getProductPage(firstPage.getNextCursor(), 1, ProductSort.PRICE);
+
+        // Then
+        assertThat(firstPage.getItems()).extracting(Product::getId).containsExactly(7L);
+        assertThat(secondPage.getItems()).extracting(Product::getId).containsExactly(3L);
+    }
+
+    @Test
+    public void whenGetProductPageWithRawIdCursor_thenContinueAfterThatId() {
+        // Given
+        when(productRepository.findByIdGreaterThanOrderByIdAsc(10L, Limit.of(6))).thenReturn(List.of());
+
+        // When
+        ProductPage page = productService.getProductPage("10", 5, ProductSort.ID);
+
+        // Then
+        assertThat(page.getItems()).isEmpty();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    public void whenGetProductPageWithCursorFromOtherSort_thenThrowException() {
+        // Given
+        Product product = new Product(1L, "Laptop ASUS", "Laptop gaming", BigDecimal.valueOf(15000000.0), 10);
+        when(productRepository.findAllByOrderByIdAsc(Limit.of(2))).thenReturn(Arrays.asList(product, product));
+        String idCursor = productService.getProductPage(null, 1, ProductSort.ID).getNextCursor();
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> productService.getProductPage(idCursor, 1, ProductSort.PRICE));
+    }
+
+    @Test
+    public void whenGetProductPageWithInvalidLimit_thenThrowException() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> productService.getProductPage(null, 0, ProductSort.ID));
+        assertThrows(IllegalArgumentException.class,
+                () -> productService.getProductPage(null, ProductService.MAX_PAGE_LIMIT + 1, ProductSort.ID));
+    }
+
+    @Test
+    public void whenExportProducts_thenEveryStreamedProductReachesConsumer() {
+        // Given
+        Product product1 = new Product(1L, "Laptop ASUS", "Laptop gaming", BigDecimal.valueOf(15000000.0), 10);
+        Product product2 = new Product(2L, "iPhone 14", "Smartphone", BigDecimal.valueOf(18000000.0), 8);
+
+        when(productRepository.streamAllForExport()).thenReturn(Stream.of(product1, product2));
+
+        // When
+        List<Product> exported = new ArrayList<>();
+        productService.exportProducts(exported::add);
+
+        // Then
+        assertThat(exported).containsExactly(product1, product2);
+    }
+
+    @Test
+    public void whenSuggestProducts_thenAnswerFromPrefixIndexWithoutDatabase() {
+        // Given
+        prefixIndex.index(new Product(1L, "Samsung Galaxy S24 Ultra", "Phone", BigDecimal.valueOf(18999999.0), 30));
+        prefixIndex.index(new Product(2L, "Sony WH-1000XM5", "Headphones", BigDecimal.valueOf(5999999.0), 50));
+        prefixIndex.index(new Product(3L, "Samsung Galaxy Tab", "Tablet", BigDecimal.valueOf(8000000.0), 12));
+
+        // When
+        List<ProductSuggestion> result = productService.suggestProducts("SAM", 10);
+
+        // Then
+        assertThat(result).extracting(ProductSuggestion::getId).containsExactly(1L, 3L);
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    public void whenSuggestProductsWithInvalidArguments_thenThrowException() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> productService.suggestProducts(" ", 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> productService.suggestProducts("sam", ProductService.MAX_SUGGESTION_LIMIT + 1));
+    }
+
+    @Test
+    public void whenSearchFullText_thenRankFromIndexWithoutDatabase() {
+        // Given
+        fullTextIndex.index(new Product(1L, "Philips Air Fryer", "Digital air fryer for healthy cooking.", BigDecimal.valueOf(1899999.0), 30));
+        fullTextIndex.index(new Product(2L, "Tefal Non-Stick Pan Set", "Cookware set with ceramic coating.", BigDecimal.valueOf(899999.0), 50));
+
+        // When
+        List<ProductSearchHit> result = productService.searchFullText("cooking fryer", 10);
+
+        // Then
+        assertThat(result).extracting(ProductSearchHit::getId).containsExactly(1L);
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    public void whenSearchFullTextWithBlankQuery_thenThrowException() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> productService.searchFullText("  ", 10));
+    }
+
+    @Test
+    public void whenGetProductsByIds_thenSingleInQueryInRequestOrder() {
+        // Given
+        Product product1 = new Product(1L, "Laptop ASUS", "Laptop gaming", BigDecimal.valueOf(15000000.0), 10);
+        Product product3 = new Product(3L, "iPhone 14", "Smartphone Apple", BigDecimal.valueOf(12000000.0), 5);
+        when(productRepository.findByIdIn(List.of(3L, 2L, 1L))).thenReturn(List.of(product1, product3));
+
+        // When
+        List<Product> result = productService.getProductsByIds(List.of(3L, 2L, 1L, 3L));
+
+        // Then
+        assertThat(result).extracting(Product::getId).containsExactly(3L, 1L);
+        verify(productRepository, times(1)).findByIdIn(any());
+        verify(hotStockRegistry).overlay(result);
+    }
+
+    @Test
+    public void whenGetProductsByIdsWithInvalidList_thenThrowException() {
+        // Given
+        List<Long> tooMany = new ArrayList<>();
+        for (long id = 1; id <= ProductService.MAX_MULTI_GET_IDS + 1; id++) {
+            tooMany.add(id);
+        }
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> productService.getProductsByIds(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> productService.getProductsByIds(Arrays.asList(1L, null)));
+        assertThrows(IllegalArgumentException.class, () -> productService.getProductsByIds(tooMany));
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    public void whenGetAllProductsWithFields_thenOnlyRequestedFieldsReturned() {
+        // Given
+        Map<String, Object> row = new LinkedHashMap<>(Map.of("id", 1L));
+        row.put("name", "Laptop ASUS");
+        row.put("stock", 10);
+        when(productRepository.findAllProjected(List.of("name", "stock"))).thenReturn(List.of(row));
+        when(hotStockRegistry.snapshot(1L)).thenReturn(Optional.of(
+                new Product(1L, "Laptop ASUS", "Laptop gaming", BigDecimal.valueOf(15000000.0), 4)));
+
+        // When
+        List<Map<String, Object>> result = productService.getAllProducts(ProductField.parse("stock,name"));
+
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0)).containsOnlyKeys("name", "stock");
+        assertThat(result.get(0).get("stock")).isEqualTo(4);
+        verify(productRepository, never()).findAll();
+    }
+
+    @Test
+    public void whenFindProductsByNameWithFields_thenProjectFromTrigramMatches() {
+        // Given
+        trigramIndex.index(new Product(1L, "Laptop ASUS", "Laptop gaming", BigDecimal.valueOf(15000000.0), 10));
+        trigramIndex.index(new Product(2L, "Laptop HP", "Laptop business", BigDecimal.valueOf(12000000.0), 8));
+        Map<String, Object> hp = new LinkedHashMap<>(Map.of("id", 2L));
+        Map<String, Object> asus = new LinkedHashMap<>(Map.of("id", 1L));
+        when(productRepository.findProjectedByIdIn(List.of(1L, 2L), List.of("id"))).thenReturn(List.of(hp, asus));
+
+        // When
+        List<Map<String, Object>> result = productService.findProductsByName("laptop", ProductField.parse("id"));
+
+        // Then
+        assertThat(result).extracting(row -> row.get("id")).containsExactly(1L, 2L);
+        verify(productRepository, never()).findByIdIn(any());
+    }
+
+    @Test
+    public void whenParseUnknownField_thenThrowException() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> ProductField.parse("id,color"));
+        assertThrows(IllegalArgumentException.class, () -> ProductField.parse(" , "));
+    }
+
+    @Test
+    public void whenColumnarCatalogReady_thenReadsSkipDatabase() {
+        // Given
+        Product product = new Product(1L, "Laptop ASUS", "Laptop gaming", new BigDecimal("15000000.00"), 10, 2L);
+        when(columnarCatalog.isReady()).thenReturn(true);
+        when(columnarCatalog.findById(1L)).thenReturn(Optional.of(product));
+        when(columnarCatalog.findAll()).thenReturn(List.of(product));
+        when(columnarCatalog.findByIdIn(List.of(1L))).thenReturn(List.of(product));
+
+        // When
+        Optional<Product> byId = productService.getProductById(1L);
+        List<Product> all = productService.getAllProducts();
+        List<Product> byIds = productService.getProductsByIds(List.of(1L));
+
+        // Then
+        assertThat(byId).contains(product);
+        assertThat(all).containsExactly(product);
+        assertThat(byIds).containsExactly(product);
+        verifyNoInteractions(productRepository, productBatchLoader);
+    }
+
+    @Test
+    public void whenGetProductsByPriceRangeWithoutColumnar_thenQueryDatabase() {
+        // Given
+        Product product = new Product(1L, "Laptop ASUS", "Laptop gaming", new BigDecimal("150.00"), 10, 0L);
+        when(productRepository.findByPriceBetweenOrderByPriceAscIdAsc(
+                new BigDecimal("100"), new BigDecimal("200"), Limit.of(10))).thenReturn(List.of(product));
+
+        // When
+        List<Product> result = productService.getProductsByPriceRange(new BigDecimal("100"), new BigDecimal("200"), 10);
+
+        // Then
+        assertThat(result).containsExactly(product);
+        verify(columnarCatalog, never()).findByPriceBetween(any(), any(), anyInt());
+    }
+
+    @Test
+    public void whenGetProductsByPriceRangeInvalid_thenThrowException() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> productService.getProductsByPriceRange(new BigDecimal("200"), new BigDecimal("100"), 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> productService.getProductsByPriceRange(new BigDecimal("-1"), new BigDecimal("100"), 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> productService.getProductsByPriceRange(BigDecimal.ONE, BigDecimal.TEN, 0));
+    }
+
+    @Test
+    public void whenGetProductsByPriceRangeWithIndex_thenLoadIdsInPriceOrder() {
+        // Given
+        Product cheap = new Product(2L, "Mouse", null, new BigDecimal("120.00"), 5, 0L);
+        Product pricey = new Product(1L, "Keyboard", null, new BigDecimal("180.00"), 5, 0L);
+        priceIndex.index(pricey);
+        priceIndex.index(cheap);
+        priceIndex.rebuildCompleted();
+        when(productRepository.findByIdIn(List.of(2L, 1L))).thenReturn(List.of(pricey, cheap));
+
+        // When
+        List<Product> result = productService.getProductsByPriceRange(new BigDecimal("100"), new BigDecimal("200"), 10);
+
+        // Then
+        assertThat(result).containsExactly(cheap, pricey);
+        verify(productRepository, never()).findByPriceBetweenOrderByPriceAscIdAsc(any(), any(), any());
+    }
+
+    @Test
+    public void whenGetTopProductsInStockWithIndex_thenSkipSoldOutProducts() {
+        // Given
+        Product soldOut = new Product(1L, "Monitor", null, new BigDecimal("300.00"), 0, 0L);
+        Product second = new Product(2L, "Laptop", null, new BigDecimal("200.00"), 4, 0L);
+        Product third = new Product(3L, "Tablet", null, new BigDecimal("100.00"), 2, 0L);
+        Stream.of(soldOut, second, third).forEach(priceIndex::index);
+        priceIndex.rebuildCompleted();
+        when(productRepository.findByIdIn(List.of(1L))).thenReturn(List.of(soldOut));
+        when(productRepository.findByIdIn(List.of(2L, 3L))).thenReturn(List.of(third, second));
+
+        // When
+        List<Product> result = productService.getTopProducts(ProductSort.PRICE, true, 1, true);
+
+        // Then
+        assertThat(result).containsExactly(second);
+    }
+
+    @Test
+    public void whenGetTopProductsWithoutIndex_thenQueryDatabase() {
+        // Given
+        Product product = new Product(1L, "Laptop ASUS", "Laptop gaming", new BigDecimal("150.00"), 10, 0L);
+        when(productRepository.findByStockGreaterThanOrderByPriceAscIdAsc(0, Limit.of(5))).thenReturn(List.of(product));
+
+        // When
+        List<Product> result = productService.getTopProducts(ProductSort.PRICE, false, 5, true);
+
+        // Then
+        assertThat(result).containsExactly(product);
+    }
+
+    @Test
+    public void whenGetTopProductsInvalid_thenThrowException() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> productService.getTopProducts(ProductSort.ID, false, 5, false));
+        assertThrows(IllegalArgumentException.class, () -> productService.getTopProducts(ProductSort.PRICE, false, 0, false));
+        assertThrows(IllegalArgumentException.class,
+                () -> productService.getTopProducts(ProductSort.PRICE, false, ProductService.MAX_TOP_N + 1, false));
+    }
+
+    @Test
+    public void whenGetPriceHistogramWithIndex_thenCountWithoutLoadingProducts() {
+        // Given
+        priceIndex.index(new Product(1L, "A", null, new BigDecimal("1.00"), 1, 0L));
+        priceIndex.index(new Product(2L, "B", null, new BigDecimal("1.50"), 1, 0L));
+        priceIndex.index(new Product(3L, "C", null, new BigDecimal("2.99"), 1, 0L));
+        priceIndex.rebuildCompleted();
+
+        // When
+        List<PriceBucket> result = productService.getPriceHistogram(null, null, 2);
+
+        // Then
+        assertThat(result).containsExactly(
+                new PriceBucket(new BigDecimal("1.00"), new BigDecimal("1.99"), 2),
+                new PriceBucket(new BigDecimal("2.00"), new BigDecimal("2.99"), 1));
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    public void whenGetPriceHistogramBoundTooLarge_thenThrowException() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> productService.getPriceHistogram(null, new BigDecimal("1e20"), 2));
+        assertThrows(IllegalArgumentException.class,
+                () -> productService.getPriceHistogram(new BigDecimal("1e20"), null, 2));
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    public void whenGetPriceHistogramWithoutIndex_thenCountPerBucketInDatabase() {
+        // Given
+        when(productRepository.countByPriceBetween(new BigDecimal("0.00"), new BigDecimal("0.04"))).thenReturn(3L);
+        when(productRepository.countByPriceBetween(new BigDecimal("0.05"), new BigDecimal("0.09"))).thenReturn(1L);
+
+        // When
+        List<PriceBucket> result = productService.getPriceHistogram(BigDecimal.ZERO, new BigDecimal("0.09"), 2);
+
+        // Then
+        assertThat(result).extracting(PriceBucket::getCount).containsExactly(3L, 1L);
+    }
+
+    @Test
+    public void whenGetPriceHistogramOnEmptyCatalog_thenReturnNoBuckets() {
+        // When & Then
+        assertThat(productService.getPriceHistogram(null, null, 10)).isEmpty();
+        assertThrows(IllegalArgumentException.class, () -> productService.getPriceHistogram(null, null, 0));
+    }
+}
@@ -0,0 +1,229 @@
+package com.example.demo.service;
+
+import com.example.demo.model.Product;
+import com.example.demo.model.StockItem;
+import com.example.demo.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration test untuk ProductStockService.
+ *
+ * <p>Selain skenario dasar, test ini menjalankan 64 thread yang berebut stok
+ * yang sama untuk membuktikan tidak terjadi oversell.
+ *
+ * @author Harist Islami
+ * @version 1.1
+ * @since 2026-10-18
+ */
+@SpringBootTest
+public class ProductStockServiceTest {
+
+    private static final int THREADS = 64;
+
+    @Autowired
+    private ProductStockService productStockService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CatalogGeneration catalogGeneration;
+
+    @Test
+    public void whenReserveAndRelease_thenStockAdjusted() {
+        // Given
+        Long id = createProduct(10);
+
+        // When
+        productStockService.reserveStock(id, 4);
+        productStockService.releaseStock(id, 1);
+
+        // Then
+        assertThat(stockOf(id)).isEqualTo(7);
+    }
+
+    @Test
+    public void whenReserveMoreThanStock_thenThrowAndKeepStock() {
+        // Given
+        Long id = createProduct(3);
+
+        // When & Then
+        assertThatThrownBy(() -> productStockService.reserveStock(id, 4))
+                .isInstanceOf(InsufficientStockException.class);
+        assertThat(stockOf(id)).isEqualTo(3);
+    }
+
+    @Test
+    public void whenReserveMissingProduct_thenThrowNotFound() {
+        assertThatThrownBy(() -> productStockService.reserveStock(Long.MAX_VALUE, 1))
+                .isInstanceOf(ProductNotFoundException.class)
+                .hasMessageContaining("Product not found");
+    }
+
+    @Test
+    public void whenReserveCachedProduct_thenCacheReflectsNewStock() {
+        // Given
+        Long id = createProduct(10);
+        productService.getProductById(id);
+
+        // When
+        productStockService.reserveStock(id, 2);
+
+        // Then
+        assertThat(productService.getProductById(id).orElseThrow().getStock()).isEqualTo(8);
+    }
+
+    @Test
+    public void whenCartHasInsufficientItem_thenWholeCartRolledBack() {
+        // Given
+        Long first = createProduct(5);
+        Long second = createProduct(1);
+
+        // When & Then
+        assertThatThrownBy(() -> productStockService.reserveStock(List.of(
+                new StockItem(first, 2), new StockItem(second, 1), new StockItem(second, 1))))
+                .isInstanceOf(InsufficientStockException.class);
+        assertThat(stockOf(first)).isEqualTo(5);
+        assertThat(stockOf(second)).isEqualTo(1);
+    }
+
+    @Test
+    public void whenCartReserved_thenEveryItemDecremented() {
+        // Given
+        Long first = createProduct(5);
+        Long second = createProduct(5);
+
+        // When
+        productStockService.reserveStock(List.of(new StockItem(second, 2), new StockItem(first, 3)));
+        productStockService.releaseStock(List.of(new StockItem(first, 1)));
+
+        // Then
+        assertThat(stockOf(first)).isEqualTo(3);
+        assertThat(stockOf(second)).isEqualTo(3);
+    }
+
+    @Test
+    public void whenEmptyCart_thenThrowIllegalArgument() {
+        assertThatThrownBy(() -> productStockService.reserveStock(List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void whenManyThreadsReserveConcurrently_thenNoOversell() throws Exception {
+        // Given
+        int stock = 100;
+        int attemptsPerThread = 5;
+        Long id = createProduct(stock);
+        AtomicInteger reserved = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        // When
+        runConcurrently(() -> {
+            for (int i = 0; i < attemptsPerThread; i++) {
+                try {
+                    productStockService.reserveStock(id, 1);
+                    reserved.incrementAndGet();
+                } catch (InsufficientStockException e) {
+                    rejected.incrementAndGet();
+                }
+            }
+        });
+
+        // Then
+        assertThat(reserved.get()).isEqualTo(stock);
+        assertThat(rejected.get()).isEqualTo(THREADS * attemptsPerThread - stock);
+        assertThat(stockOf(id)).isZero();
+    }
+
+    @Test
+    public void whenManyThreadsReserveOverlappingCarts_thenNoOversell() throws Exception {
+        // Given
+        int stock = 40;
+        Long first = createProduct(stock);
+        Long second = createProduct(stock);
+        AtomicInteger reserved = new AtomicInteger();
+
+        // When
+        AtomicInteger turn = new AtomicInteger();
+        runConcurrently(() -> {
+            List<StockItem> cart = turn.getAndIncrement() % 2 == 0
+                    ? List.of(new StockItem(first, 1), new StockItem(second, 1))
+                    : List.of(new StockItem(second, 1), new StockItem(first, 1));
+            try {
+                productStockService.reserveStock(cart);
+                reserved.incrementAndGet();
+            } catch (InsufficientStockException e) {
+                // stok habis untuk keranjang ini
+            }
+        });
+
+        // Then
+        assertThat(reserved.get()).isEqualTo(stock);
+        assertThat(stockOf(first)).isZero();
+        assertThat(stockOf(second)).isZero();
+    }
+
+    private void runConcurrently(Runnable task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void whenStockChanges_thenCatalogGenerationAdvances() {
+        // Given
+        Long id = createProduct(10);
+        long before = catalogGeneration.current();
+
+        // When
+        productStockService.reserveStock(id, 1);
+        long afterReserve = catalogGeneration.current();
+        productStockService.releaseStock(List.of(new StockItem(id, 1)));
+
+        // Then
+        assertThat(afterReserve).isGreaterThan(before);
+        assertThat(catalogGeneration.current()).isGreaterThan(afterReserve);
+    }
+
+    private Long createProduct(int stock) {
+        return productService.createProduct(
+                new Product(null, "Stock Product", "Stock test", BigDecimal.valueOf(1000.0), stock)).getId();
+    }
+
+    private int stockOf(Long id) {
+        return productRepository.findById(id).orElseThrow().getStock();
+    }
+}
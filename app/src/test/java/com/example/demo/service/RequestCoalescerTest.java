@@ -0,0 +1,102 @@
+package com.example.demo.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit test untuk RequestCoalescer.
+ *
+ * <p>Test class ini menguji bahwa lookup identik yang bersamaan hanya
+ * dieksekusi sekali, exception diteruskan ke semua penunggu, dan metric
+ * jumlah pemanggilan yang digabung tercatat.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class RequestCoalescerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RequestCoalescer coalescer = new RequestCoalescer(meterRegistry);
+
+    @Test
+    public void whenConcurrentIdenticalLookups_thenLoaderRunsOnce() throws Exception {
+        // Given
+        int callers = 16;
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        // When
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            results.add(executor.submit(() -> coalescer.execute("findById", 1L, () -> {
+                executions.incrementAndGet();
+                await(release);
+                return "product-1";
+            })));
+        }
+        while (collapsed("findById") < callers - 1) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        // Then
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("product-1");
+        }
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("products.coalescer.calls")
+                .tags("operation", "findById", "result", "executed").counter().count()).isEqualTo(1.0);
+        executor.shutdown();
+    }
+
+    @Test
+    public void whenLookupsAreSequential_thenEachOneExecutes() {
+        // Given
+        AtomicInteger executions = new AtomicInteger();
+
+        // When
+        coalescer.execute("findById", 1L, executions::incrementAndGet);
+        coalescer.execute("findById", 1L, executions::incrementAndGet);
+        coalescer.execute("findByName", 1L, executions::incrementAndGet);
+
+        // Then
+        assertThat(executions.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void whenLoaderFails_thenExceptionIsPropagatedAndKeyReleased() {
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> coalescer.execute("findById", 1L, () -> {
+            throw new IllegalStateException("database down");
+        }));
+        assertThat(coalescer.<String>execute("findById", 1L, () -> "recovered")).isEqualTo("recovered");
+    }
+
+    private double collapsed(String operation) {
+        var counter = meterRegistry.find("products.coalescer.calls")
+                .tags("operation", operation, "result", "collapsed").counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
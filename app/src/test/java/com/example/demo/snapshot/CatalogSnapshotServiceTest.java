@@ -0,0 +1,145 @@
+package com.example.demo.snapshot;
+
+import com.example.demo.model.Product;
+import com.example.demo.repository.ProductRepository;
+import com.example.demo.service.ProductService;
+import com.example.demo.service.ProductStockService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration test untuk CatalogSnapshotService dan endpoint GET /api/products/snapshot.
+ *
+ * <p>Jadwal pengecekan dibuat sangat jarang agar test mengendalikan kapan
+ * snapshot dibangun ulang.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@SpringBootTest(properties = {
+        "app.products.snapshot.block-size=10",
+        "app.products.snapshot.check-interval-ms=3600000"
+})
+@AutoConfigureMockMvc
+public class CatalogSnapshotServiceTest {
+
+    @Autowired
+    private CatalogSnapshotService catalogSnapshotService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductStockService productStockService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void rebuild() {
+        catalogSnapshotService.rebuildAll();
+    }
+
+    @Test
+    public void whenRebuilt_thenSnapshotContainsWholeCatalogInIdOrder() throws Exception {
+        // When
+        JsonNode snapshot = readSnapshot();
+
+        // Then
+        List<Long> expected = productRepository.findAll().stream()
+                .map(Product::getId).sorted(Comparator.naturalOrder()).toList();
+        assertThat(ids(snapshot)).isEqualTo(expected);
+    }
+
+    @Test
+    public void whenProductChanges_thenOnlyItsBlockIsRenderedAgain() throws Exception {
+        // Given
+        Product created = productService.createProduct(
+                new Product(null, "Snapshot Kettle", "Snapshot test", BigDecimal.valueOf(1000.0), 8));
+        productStockService.reserveStock(created.getId(), 3);
+
+        // When
+        int rendered = catalogSnapshotService.refresh();
+
+        // Then
+        assertThat(rendered).isEqualTo(1);
+        JsonNode product = findById(readSnapshot(), created.getId());
+        assertThat(product.get("name").asText()).isEqualTo("Snapshot Kettle");
+        assertThat(product.get("stock").asInt()).isEqualTo(5);
+    }
+
+    @Test
+    public void whenDownloadSnapshot_thenServeGzipFileWithRangeAndConditionalSupport() throws Exception {
+        // Given
+        CatalogSnapshotService.Snapshot snapshot = catalogSnapshotService.current().orElseThrow();
+        byte[] file = Files.readAllBytes(snapshot.path());
+
+        // When
+        MvcResult full = mockMvc.perform(get("/api/products/snapshot"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/gzip"))
+                .andExpect(header().string("ETag", snapshot.eTag()))
+                .andReturn();
+        MvcResult range = mockMvc.perform(get("/api/products/snapshot").header("Range", "bytes=0-9"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string("Content-Range", "bytes 0-9/" + file.length))
+                .andReturn();
+
+        // Then
+        assertThat(full.getResponse().getContentAsByteArray()).isEqualTo(file);
+        assertThat(range.getResponse().getContentAsByteArray()).isEqualTo(Arrays.copyOf(file, 10));
+        mockMvc.perform(get("/api/products/snapshot").header("If-None-Match", snapshot.eTag()))
+                .andExpect(status().isNotModified());
+    }
+
+    private JsonNode readSnapshot() throws IOException {
+        CatalogSnapshotService.Snapshot snapshot = catalogSnapshotService.current().orElseThrow();
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(snapshot.path()))) {
+            return objectMapper.readTree(in);
+        }
+    }
+
+    private static List<Long> ids(JsonNode snapshot) {
+        List<Long> ids = new ArrayList<>();
+        snapshot.forEach(product -> ids.add(product.get("id").asLong()));
+        return ids;
+    }
+
+    private static JsonNode findById(JsonNode snapshot, Long id) {
+        for (JsonNode product : snapshot) {
+            if (product.get("id").asLong() == id) {
+                return product;
+            }
+        }
+        throw new AssertionError("Product " + id + " not in snapshot");
+    }
+}
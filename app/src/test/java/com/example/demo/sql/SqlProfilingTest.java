@@ -0,0 +1,131 @@
+package com.example.demo.sql;
+
+import com.example.demo.model.Product;
+import com.example.demo.service.ProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration test untuk profiling SQL per request: header X-SQL-* dan statistik per statement.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@SpringBootTest(properties = {
+        "app.products.sql-profiling.enabled=true",
+        "app.products.sql-profiling.headers=true"
+})
+@AutoConfigureMockMvc
+public class SqlProfilingTest {
+
+    private static final long MISSING_ID = 987_654_321L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private SqlStatementsEndpoint sqlStatementsEndpoint;
+
+    @BeforeEach
+    public void setUp() {
+        productService.createProduct(new Product(null, "Profiled Desk", null, new BigDecimal("120.00"), 2));
+        productService.createProduct(new Product(null, "Profiled Chair", null, new BigDecimal("80.00"), 6));
+        sqlStatementsEndpoint.reset();
+    }
+
+    @Test
+    public void whenPageRequested_thenHeadersReportStatementsAndRows() throws Exception {
+        // When
+        MvcResult result = mockMvc.perform(get("/api/products").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // Then
+        assertThat(intHeader(result, SqlProfilingFilter.STATEMENTS_HEADER)).isEqualTo(1);
+        assertThat(intHeader(result, SqlProfilingFilter.ROWS_HEADER)).isEqualTo(3);
+        assertThat(intHeader(result, SqlProfilingFilter.REPEATED_HEADER)).isZero();
+        assertThat(Double.parseDouble(result.getResponse().getHeader(SqlProfilingFilter.TIME_HEADER)))
+                .isGreaterThanOrEqualTo(Double.parseDouble(result.getResponse().getHeader(SqlProfilingFilter.MAX_TIME_HEADER)));
+    }
+
+    @Test
+    public void whenConditionalUpdateMissesProduct_thenSecondStatementIsVisible() throws Exception {
+        // When
+        MvcResult result = mockMvc.perform(put("/api/products/{id}", MISSING_ID)
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Ghost\",\"price\":1.00,\"stock\":1}"))
+                .andExpect(status().isNotFound())
+                .andReturn();
+
+        // Then
+        assertThat(intHeader(result, SqlProfilingFilter.STATEMENTS_HEADER)).isEqualTo(2);
+        assertThat(intHeader(result, SqlProfilingFilter.ROWS_HEADER)).isEqualTo(1);
+    }
+
+    @Test
+    public void whenStatementsRun_thenEndpointListsTopStatementsByCumulativeTime() throws Exception {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/products").param("limit", "1")).andExpect(status().isOk());
+        }
+
+        // When
+        List<SqlStatementStatistics.StatementSummary> top = sqlStatementsEndpoint.topStatements(null);
+
+        // Then
+        assertThat(top).isNotEmpty();
+        assertThat(top).extracting(SqlStatementStatistics.StatementSummary::totalMs)
+                .isSortedAccordingTo((a, b) -> Double.compare(b, a));
+        SqlStatementStatistics.StatementSummary page = top.stream()
+                .filter(summary -> summary.sql().toLowerCase().contains("from products"))
+                .findFirst().orElseThrow();
+        assertThat(page.count()).isEqualTo(3);
+        assertThat(page.rows()).isEqualTo(6);
+        assertThat(sqlStatementsEndpoint.topStatements(1)).hasSize(1);
+    }
+
+    @Test
+    public void whenSameStatementRepeated_thenProfileCountsRepeats() {
+        // Given
+        SqlRequestProfile profile = SqlRequestProfile.start();
+        try {
+            // When
+            profile.recordStatement("select * from products where id=?", 1_000);
+            profile.recordStatement("select * from products where id=?", 3_000);
+            profile.recordStatement("update products set stock=? where id=?", 2_000);
+
+            // Then
+            assertThat(profile.statements()).isEqualTo(3);
+            assertThat(profile.repeatedStatements()).isEqualTo(1);
+            assertThat(profile.maxNanos()).isEqualTo(3_000);
+            assertThat(profile.mostRepeated().getKey()).isEqualTo("select * from products where id=?");
+            assertThat(profile.mostRepeated().getValue()).isEqualTo(2);
+        } finally {
+            SqlRequestProfile.end();
+        }
+    }
+
+    private static int intHeader(MvcResult result, String name) {
+        return Integer.parseInt(result.getResponse().getHeader(name));
+    }
+}
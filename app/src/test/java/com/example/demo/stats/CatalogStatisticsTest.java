@@ -0,0 +1,158 @@
+package com.example.demo.stats;
+
+import com.example.demo.model.CatalogStats;
+import com.example.demo.model.Product;
+import com.example.demo.repository.ProductRepository;
+import com.example.demo.service.ProductService;
+import com.example.demo.service.ProductStockService;
+import com.example.demo.service.StockChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Integration test untuk CatalogStatistics: delta dari jalur tulis dan pencocokan dengan database.
+ *
+ * @author Harist Islami
+ * @version 1.2
+ * @since 2026-10-18
+ */
+@SpringBootTest(properties = "app.products.stats.reconcile-interval-ms=3600000")
+public class CatalogStatisticsTest {
+
+    @Autowired
+    private CatalogStatistics catalogStatistics;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductStockService productStockService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void whenProductsWritten_thenAggregatesFollowDeltas() {
+        // Given
+        CatalogStats before = catalogStatistics.stats();
+
+        // When
+        Product soldOut = productService.createProduct(new Product(null, "Stats Cable", null, new BigDecimal("10.00"), 0));
+        Product stocked = productService.createProduct(new Product(null, "Stats Charger", null, new BigDecimal("20.00"), 5));
+
+        // Then
+        CatalogStats after = catalogStatistics.stats();
+        assertThat(after.getProductCount()).isEqualTo(before.getProductCount() + 2);
+        assertThat(after.getOutOfStockCount()).isEqualTo(before.getOutOfStockCount() + 1);
+        assertThat(after.getTotalStock()).isEqualTo(before.getTotalStock() + 5);
+        assertThat(after.getInventoryValue()).isEqualByComparingTo(before.getInventoryValue().add(new BigDecimal("100.00")));
+        assertThat(after.getMinPrice()).isLessThanOrEqualTo(new BigDecimal("10.00"));
+        assertThat(after.getMaxPrice()).isGreaterThanOrEqualTo(new BigDecimal("20.00"));
+
+        // When
+        productService.updateProduct(soldOut.getId(), new Product(null, "Stats Cable", null, new BigDecimal("10.00"), 3));
+        productService.deleteProduct(stocked.getId());
+
+        // Then
+        CatalogStats updated = catalogStatistics.stats();
+        assertThat(updated.getProductCount()).isEqualTo(before.getProductCount() + 1);
+        assertThat(updated.getOutOfStockCount()).isEqualTo(before.getOutOfStockCount());
+        assertThat(updated.getTotalStock()).isEqualTo(before.getTotalStock() + 3);
+        assertThat(updated.getInventoryValue()).isEqualByComparingTo(before.getInventoryValue().add(new BigDecimal("30.00")));
+        assertThat(catalogStatistics.reconcile()).isTrue();
+    }
+
+    @Test
+    public void whenStockReserved_thenAggregatesFollowStockEvent() {
+        // Given
+        Product product = productService.createProduct(new Product(null, "Stats Lamp", null, new BigDecimal("12.50"), 4));
+        CatalogStats before = catalogStatistics.stats();
+
+        // When
+        productStockService.reserveStock(product.getId(), 4);
+
+        // Then
+        CatalogStats after = catalogStatistics.stats();
+        assertThat(after.getTotalStock()).isEqualTo(before.getTotalStock() - 4);
+        assertThat(after.getOutOfStockCount()).isEqualTo(before.getOutOfStockCount() + 1);
+        assertThat(after.getInventoryValue()).isEqualByComparingTo(before.getInventoryValue().subtract(new BigDecimal("50.00")));
+    }
+
+    @Test
+    public void whenDatabaseChangedBehindTheService_thenReconcileDetectsDriftAndRebuilds() {
+        // Given
+        Product product = productService.createProduct(new Product(null, "Stats Desk", null, new BigDecimal("99.99"), 1));
+        CatalogStats before = catalogStatistics.stats();
+        jdbcTemplate.update("UPDATE products SET stock = stock + 7 WHERE id = ?", product.getId());
+
+        // When
+        boolean inSync = catalogStatistics.reconcile();
+
+        // Then
+        assertThat(inSync).isFalse();
+        CatalogStats after = catalogStatistics.stats();
+        assertThat(after.getTotalStock()).isEqualTo(before.getTotalStock() + 7);
+        assertThat(after.getLastReconciledAt()).isNotNull();
+        assertThat(catalogStatistics.reconcile()).isTrue();
+    }
+
+    @Test
+    public void whenProductWrittenDuringRebuild_thenWriteIsNotBlockedAndSurvivesTheSwap() {
+        // Given
+        ProductRepository repository = mock(ProductRepository.class);
+        CatalogStatistics statistics = new CatalogStatistics(repository, jdbcTemplate, new SimpleMeterRegistry());
+        Product stored = new Product(1L, "Stats Shelf", null, new BigDecimal("10.00"), 2);
+        Product written = new Product(2L, "Stats Stool", null, new BigDecimal("30.00"), 5);
+        when(repository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Limit.class))).thenAnswer(invocation -> {
+            // Tulis dari thread lain saat rebuild sedang membaca database
+            CompletableFuture.runAsync(() -> statistics.index(written)).get(5, TimeUnit.SECONDS);
+            return List.of(stored);
+        });
+        when(repository.findByIdGreaterThanOrderByIdAsc(eq(1L), any(Limit.class))).thenReturn(List.of());
+
+        // When
+        statistics.rebuildFromDatabase();
+
+        // Then
+        CatalogStats stats = statistics.stats();
+        assertThat(stats.getProductCount()).isEqualTo(2);
+        assertThat(stats.getTotalStock()).isEqualTo(7);
+        assertThat(stats.getInventoryValue()).isEqualByComparingTo(new BigDecimal("170.00"));
+        assertThat(stats.getMaxPrice()).isEqualByComparingTo(new BigDecimal("30.00"));
+    }
+
+    @Test
+    public void whenStockEventsArriveOutOfOrder_thenNewestVersionWinsWithoutReadingDatabase() {
+        // Given
+        ProductRepository repository = mock(ProductRepository.class);
+        CatalogStatistics statistics = new CatalogStatistics(repository, jdbcTemplate, new SimpleMeterRegistry());
+        statistics.index(new Product(1L, "Stats Rack", null, new BigDecimal("10.00"), 10, 3L));
+
+        // When: reservasi kedua (version 5) diterapkan sebelum reservasi pertama (version 4)
+        statistics.onStockChanged(new StockChangedEvent(Map.of(1L, new StockChangedEvent.StockLevel(6, 5L))));
+        statistics.onStockChanged(new StockChangedEvent(Map.of(1L, new StockChangedEvent.StockLevel(8, 4L))));
+
+        // Then
+        CatalogStats stats = statistics.stats();
+        assertThat(stats.getTotalStock()).isEqualTo(6);
+        assertThat(stats.getInventoryValue()).isEqualByComparingTo(new BigDecimal("60.00"));
+        verifyNoInteractions(repository);
+    }
+}
@@ -0,0 +1,293 @@
+package com.example.demo.stock;
+
+import com.example.demo.config.ProductProperties;
+import com.example.demo.model.Product;
+import com.example.demo.repository.ProductRepository;
+import com.example.demo.service.InsufficientStockException;
+import com.example.demo.service.ProductPatchService;
+import com.example.demo.service.ProductService;
+import com.example.demo.service.ProductStockService;
+import com.example.demo.service.StockChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration test untuk mode hot SKU.
+ *
+ * <p>Flush terjadwal dibuat sangat jarang agar test yang menentukan kapan
+ * delta ditulis ke database.
+ *
+ * @author Harist Islami
+ * @version 1.4
+ * @since 2026-10-18
+ */
+@SpringBootTest(properties = {
+        "app.products.hot-stock.enabled=true",
+        "app.products.hot-stock.flush-interval-ms=3600000"
+})
+public class HotStockRegistryTest {
+
+    private static final int THREADS = 64;
+
+    @Autowired
+    private HotStockRegistry hotStockRegistry;
+
+    @Autowired
+    private ProductStockService productStockService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductPatchService productPatchService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path journalDirectory;
+
+    /** Event yang diterbitkan registry buatan {@link #newRegistry()}. */
+    private final List<Object> publishedEvents = new ArrayList<>();
+
+    @Test
+    public void whenHotStockReserved_thenReadsSeeLiveValueBeforeFlush() {
+        // Given
+        Long id = createProduct(10);
+        hotStockRegistry.promote(id);
+
+        // When
+        productStockService.reserveStock(id, 3);
+
+        // Then
+        assertThat(productService.getProductById(id).orElseThrow().getStock()).isEqualTo(7);
+        assertThat(productService.getAllProducts()).filteredOn(p -> p.getId().equals(id))
+                .extracting(Product::getStock).containsExactly(7);
+        assertThat(databaseStock(id)).isEqualTo(10);
+
+        hotStockRegistry.flush();
+        assertThat(databaseStock(id)).isEqualTo(7);
+    }
+
+    @Test
+    public void whenHotStockExhausted_thenThrowInsufficientStock() {
+        // Given
+        Long id = createProduct(2);
+        hotStockRegistry.promote(id);
+
+        // When & Then
+        assertThatThrownBy(() -> productStockService.reserveStock(id, 3))
+                .isInstanceOf(InsufficientStockException.class);
+        assertThat(productService.getProductById(id).orElseThrow().getStock()).isEqualTo(2);
+    }
+
+    @Test
+    public void whenProductUpdated_thenCounterResyncedFromDatabase() {
+        // Given
+        Long id = createProduct(10);
+        hotStockRegistry.promote(id);
+        productStockService.reserveStock(id, 4);
+
+        // When
+        productService.updateProduct(id, new Product(null, "Renamed", "Hot", BigDecimal.valueOf(1000.0), 50));
+
+        // Then
+        Product live = productService.getProductById(id).orElseThrow();
+        assertThat(live.getName()).isEqualTo("Renamed");
+        assertThat(live.getStock()).isEqualTo(50);
+        hotStockRegistry.flush();
+        assertThat(databaseStock(id)).isEqualTo(50);
+    }
+
+    @Test
+    public void whenPatchDoesNotTouchStock_thenReservationsAreKept() throws Exception {
+        // Given
+        Long id = createProduct(10);
+        hotStockRegistry.promote(id);
+        productStockService.reserveStock(id, 4);
+
+        // When
+        productPatchService.patchProduct(id, objectMapper.readTree("{\"price\": 12.5}"), null);
+
+        // Then
+        Product live = productService.getProductById(id).orElseThrow();
+        assertThat(live.getPrice()).isEqualByComparingTo("12.5");
+        assertThat(live.getStock()).isEqualTo(6);
+        hotStockRegistry.flush();
+        assertThat(databaseStock(id)).isEqualTo(6);
+    }
+
+    @Test
+    public void whenHotProductPatched_thenResponseCarriesLiveStock() throws Exception {
+        // Given
+        Long id = createProduct(10);
+        hotStockRegistry.promote(id);
+        productStockService.reserveStock(id, 4);
+
+        // When
+        Product patched = productPatchService.patchProduct(id, objectMapper.readTree("{\"name\": \"Patched\"}"), null);
+        Product unchanged = productPatchService.patchProduct(id, objectMapper.readTree("{}"), null);
+
+        // Then
+        assertThat(patched.getName()).isEqualTo("Patched");
+        assertThat(patched.getStock()).isEqualTo(6);
+        assertThat(unchanged.getStock()).isEqualTo(6);
+        assertThat(databaseStock(id)).isEqualTo(10);
+    }
+
+    @Test
+    public void whenManyThreadsReserveHotStock_thenNoOversell() throws Exception {
+        // Given
+        int stock = 500;
+        Long id = createProduct(stock);
+        hotStockRegistry.promote(id);
+        AtomicInteger reserved = new AtomicInteger();
+
+        // When
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 20; i++) {
+                        try {
+                            productStockService.reserveStock(id, 1);
+                            reserved.incrementAndGet();
+                        } catch (InsufficientStockException e) {
+                            // stok habis
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        hotStockRegistry.flush();
+
+        // Then
+        assertThat(reserved.get()).isEqualTo(stock);
+        assertThat(productService.getProductById(id).orElseThrow().getStock()).isZero();
+        assertThat(databaseStock(id)).isZero();
+    }
+
+    @Test
+    public void whenRegistryCrashesBeforeFlush_thenJournalReplayedOnStartup() throws Exception {
+        // Given: registry yang "crash" setelah reservasi tanpa sempat flush
+        Long id = createProduct(20);
+        HotStockRegistry crashed = newRegistry();
+        crashed.afterSingletonsInstantiated();
+        crashed.promote(id);
+        assertThat(crashed.tryReserve(id, 5)).isTrue();
+        crashed.release(id, 1);
+        awaitJournalBytes(32);
+        assertThat(databaseStock(id)).isEqualTo(20);
+
+        // When
+        HotStockRegistry restarted = newRegistry();
+        restarted.afterSingletonsInstantiated();
+
+        // Then
+        assertThat(databaseStock(id)).isEqualTo(16);
+        assertThat(StockJournal.list(journalDirectory)).hasSize(1);
+        assertThat(publishedEvents).singleElement()
+                .isInstanceOfSatisfying(StockChangedEvent.class, event -> {
+                    assertThat(event.getProductIds()).containsExactly(id);
+                    assertThat(event.getLevels().get(id).getStock()).isEqualTo(16);
+                });
+    }
+
+    @Test
+    public void whenFlushIntervalElapses_thenRegistryFlushesOnItsOwnThread() throws Exception {
+        // Given: registry di luar Spring, sehingga tidak ada scheduler @Scheduled yang memanggil flush
+        Long id = createProduct(10);
+        HotStockRegistry registry = newRegistry(20);
+        registry.afterSingletonsInstantiated();
+        registry.promote(id);
+
+        // When
+        assertThat(registry.tryReserve(id, 3)).isTrue();
+
+        // Then
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (databaseStock(id) != 7 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(databaseStock(id)).isEqualTo(7);
+        registry.destroy();
+    }
+
+    /** Menunggu group commit journal menulis record ke disk. */
+    private void awaitJournalBytes(long bytes) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (journalBytes() < bytes && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private long journalBytes() throws IOException {
+        long bytes = 0;
+        for (StockJournal.Segment segment : StockJournal.list(journalDirectory)) {
+            bytes += Files.size(segment.path());
+        }
+        return bytes;
+    }
+
+    private HotStockRegistry newRegistry() {
+        return newRegistry(3_600_000);
+    }
+
+    private HotStockRegistry newRegistry(long flushIntervalMs) {
+        ProductProperties properties = new ProductProperties();
+        properties.getHotStock().setEnabled(true);
+        properties.getHotStock().setFlushIntervalMs(flushIntervalMs);
+        properties.getHotStock().setJournalDirectory(journalDirectory.toString());
+        return new HotStockRegistry(productRepository, jdbcTemplate, transactionManager, properties,
+                publishedEvents::add);
+    }
+
+    private Long createProduct(int stock) {
+        return productService.createProduct(
+                new Product(null, "Hot Product", "Hot", BigDecimal.valueOf(1000.0), stock)).getId();
+    }
+
+    private int databaseStock(Long id) {
+        return jdbcTemplate.queryForObject("SELECT stock FROM products WHERE id = ?", Integer.class, id);
+    }
+}
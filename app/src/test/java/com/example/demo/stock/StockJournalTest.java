@@ -0,0 +1,133 @@
+package com.example.demo.stock;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit test untuk StockJournal.
+ *
+ * <p>Kecuali test group commit, interval penulis dibuat sangat panjang agar
+ * record hanya ditulis oleh {@code rotate()} dan {@code close()}.
+ *
+ * @author Harist Islami
+ * @version 1.1
+ * @since 2026-10-18
+ */
+public class StockJournalTest {
+
+    private static final long MANUAL_COMMIT_MS = 3_600_000;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void whenManyThreadsAppend_thenWriterCommitsEveryRecordInGroups() throws Exception {
+        // Given
+        int threads = 8;
+        int appendsPerThread = 1000;
+        long expectedBytes = 16L * threads * appendsPerThread;
+        try (StockJournal journal = new StockJournal(directory, 1, false, 1)) {
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long productId = t % 4 + 1;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < appendsPerThread; i++) {
+                        journal.append(productId, -1);
+                    }
+                    return null;
+                }));
+            }
+
+            // When
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+            executor.shutdown();
+            Path file = StockJournal.list(directory).get(0).path();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (Files.size(file) < expectedBytes && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+
+            // Then: record sudah ada di disk sebelum rotate
+            Map<Long, Long> expected = Map.of(1L, -2000L, 2L, -2000L, 3L, -2000L, 4L, -2000L);
+            assertThat(Files.size(file)).isEqualTo(expectedBytes);
+            assertThat(StockJournal.replay(StockJournal.list(directory).get(0), new HashMap<>()))
+                    .containsExactlyInAnyOrderEntriesOf(expected);
+            assertThat(journal.rotate().deltas()).containsExactlyInAnyOrderEntriesOf(expected);
+        }
+    }
+
+    @Test
+    public void whenRotate_thenClosedSegmentHoldsAccumulatedDeltas() throws Exception {
+        // Given
+        try (StockJournal journal = new StockJournal(directory, 7, false, MANUAL_COMMIT_MS)) {
+            journal.append(1L, -2);
+            journal.append(1L, -3);
+            journal.append(2L, 5);
+
+            // When
+            StockJournal.Segment segment = journal.rotate();
+            journal.append(1L, -1);
+
+            // Then
+            assertThat(segment.number()).isEqualTo(7);
+            assertThat(segment.deltas()).containsExactlyInAnyOrderEntriesOf(Map.of(1L, -5L, 2L, 5L));
+            assertThat(StockJournal.replay(segment, new HashMap<>())).isEqualTo(segment.deltas());
+            assertThat(StockJournal.list(directory)).extracting(StockJournal.Segment::number)
+                    .containsExactly(7L, 8L);
+        }
+    }
+
+    @Test
+    public void whenResetRecorded_thenEarlierDeltasDiscardedOnReplay() throws Exception {
+        // Given
+        try (StockJournal journal = new StockJournal(directory, 1, false, MANUAL_COMMIT_MS)) {
+            journal.append(1L, -4);
+            journal.reset(1L);
+            journal.append(1L, -1);
+        }
+
+        // When
+        List<StockJournal.Segment> segments = StockJournal.list(directory);
+        Map<Long, Long> deltas = StockJournal.replay(segments.get(0), new HashMap<>());
+
+        // Then
+        assertThat(deltas).containsExactlyEntriesOf(Map.of(1L, -1L));
+    }
+
+    @Test
+    public void whenLastRecordTruncated_thenIgnoredOnReplay() throws Exception {
+        // Given
+        try (StockJournal journal = new StockJournal(directory, 1, false, MANUAL_COMMIT_MS)) {
+            journal.append(3L, -2);
+        }
+        Path file = StockJournal.list(directory).get(0).path();
+        Files.write(file, new byte[]{0, 0, 0}, StandardOpenOption.APPEND);
+
+        // When
+        Map<Long, Long> deltas = StockJournal.replay(StockJournal.list(directory).get(0), new HashMap<>());
+
+        // Then
+        assertThat(deltas).containsExactlyEntriesOf(Map.of(3L, -2L));
+    }
+}
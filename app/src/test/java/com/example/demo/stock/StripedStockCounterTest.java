@@ -0,0 +1,92 @@
+package com.example.demo.stock;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit test untuk StripedStockCounter.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class StripedStockCounterTest {
+
+    @Test
+    public void whenTakeWithinStock_thenSumDecreases() {
+        StripedStockCounter counter = new StripedStockCounter(10);
+
+        assertThat(counter.tryTake(4)).isTrue();
+        counter.add(1);
+
+        assertThat(counter.sum()).isEqualTo(7);
+    }
+
+    @Test
+    public void whenTakeMoreThanStock_thenRejectedAndUnchanged() {
+        StripedStockCounter counter = new StripedStockCounter(3);
+
+        assertThat(counter.tryTake(4)).isFalse();
+        assertThat(counter.sum()).isEqualTo(3);
+    }
+
+    @Test
+    public void whenTakeSpansStripes_thenWholeStockCanBeTaken() {
+        StripedStockCounter counter = new StripedStockCounter(1001);
+
+        assertThat(counter.tryTake(1001)).isTrue();
+        assertThat(counter.sum()).isZero();
+    }
+
+    @Test
+    public void whenResetCalled_thenSumEqualsNewValue() {
+        StripedStockCounter counter = new StripedStockCounter(5);
+
+        counter.reset(42);
+
+        assertThat(counter.sum()).isEqualTo(42);
+    }
+
+    @Test
+    public void whenManyThreadsTakeConcurrently_thenNeverBelowZero() throws Exception {
+        int threads = 64;
+        StripedStockCounter counter = new StripedStockCounter(10_000);
+        AtomicLong taken = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int quantity = 1 + t % 3;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 1_000; i++) {
+                        if (counter.tryTake(quantity)) {
+                            taken.addAndGet(quantity);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(counter.sum()).isGreaterThanOrEqualTo(0);
+        assertThat(taken.get() + counter.sum()).isEqualTo(10_000);
+    }
+}
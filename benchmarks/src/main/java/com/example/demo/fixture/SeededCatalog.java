@@ -0,0 +1,136 @@
+package com.example.demo.fixture;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.index.ProductIndexer;
+import com.example.demo.model.Product;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Menjalankan aplikasi di atas H2 in-memory yang di-seed dengan sejumlah produk,
+ * untuk benchmark JMH dan load test.
+ *
+ * <p>Konfigurasi aplikasi sama dengan produksi, kecuali snapshot katalog
+ * dimatikan dan rekonsiliasi statistik dijadwalkan jauh di depan agar tidak
+ * ada pekerjaan latar yang ikut terukur. Produk mendapat ID 1 sampai
+ * {@code rows} dengan nama seperti "Laptop Model 42". Setelah seed, index
+ * in-memory dibangun ulang dan cache produk dikosongkan.
+ *
+ * <p>{@link #generate(int, Consumer)} menghasilkan produk yang sama tanpa
+ * aplikasi, untuk benchmark struktur data in-memory. Semua benchmark
+ * memakai kelas ini sebagai satu-satunya sumber data.
+ *
+ * @author Harist Islami
+ * @version 1.1
+ * @since 2026-10-18
+ */
+public final class SeededCatalog {
+
+    public static final String[] NOUNS = {"Laptop", "Phone", "Headphones", "Watch", "Tablet", "Speaker", "Shoes", "Vacuum", "Monitor", "Camera"};
+    public static final int MODELS = 10_000;
+    private static final String[] DESCRIPTIONS = {
+            "Premium build quality with a two year official warranty.",
+            "Lightweight, fast charging and water resistant.",
+            "Best seller in its category with free shipping."};
+    private static final int SEED_BATCH_SIZE = 10_000;
+
+    private SeededCatalog() {
+    }
+
+    /**
+     * Menjalankan aplikasi lalu mengganti isi tabel produk dengan {@code rows} produk.
+     *
+     * @param rows jumlah produk
+     * @param webApplicationType NONE untuk benchmark in-process, SERVLET untuk load test HTTP
+     * @param properties properti tambahan, misalnya {@code server.port=0}
+     * @return context aplikasi yang sudah siap
+     */
+    public static ConfigurableApplicationContext start(int rows, WebApplicationType webApplicationType,
+                                                       String... properties) {
+        String[] defaults = {
+                "spring.datasource.url=jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1;MODE=MySQL",
+                "spring.h2.console.enabled=false",
+                "app.products.snapshot.enabled=false",
+                "app.products.stats.reconcile-interval-ms=86400000",
+                "logging.level.root=WARN",
+                "logging.level.com.example.demo=WARN"};
+        // Diberikan sebagai argumen command line agar menimpa application.properties
+        String[] args = Stream.concat(Stream.of(defaults), Stream.of(properties))
+                .map(property -> "--" + property)
+                .toArray(String[]::new);
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(DemoApplication.class)
+                .web(webApplicationType)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .run(args);
+        seed(context.getBean(JdbcTemplate.class), rows);
+        context.getBean(ProductIndexer.class).rebuild();
+        CacheManager cacheManager = context.getBean(CacheManager.class);
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        return context;
+    }
+
+    /**
+     * Nama yang dipakai seed; rata-rata cocok dengan {@code rows / 100_000} produk.
+     */
+    public static String randomName() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return NOUNS[random.nextInt(NOUNS.length)] + " Model " + random.nextInt(MODELS);
+    }
+
+    /**
+     * Menghasilkan produk dengan ID 1 sampai {@code rows}, sama persis dengan isi tabel hasil {@link #start}.
+     *
+     * @param rows jumlah produk
+     * @param sink penerima setiap produk, berurutan berdasarkan ID
+     */
+    public static void generate(int rows, Consumer<Product> sink) {
+        Random random = new Random(42);
+        for (int i = 0; i < rows; i++) {
+            String name = NOUNS[random.nextInt(NOUNS.length)] + " Model " + random.nextInt(MODELS);
+            sink.accept(new Product(i + 1L, name, DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)],
+                    BigDecimal.valueOf(1000 + random.nextInt(1_000_000), 2), random.nextInt(500), 0L));
+        }
+    }
+
+    /**
+     * @return {@code rows} produk pertama dari {@link #generate(int, Consumer)}
+     */
+    public static List<Product> products(int rows) {
+        List<Product> products = new ArrayList<>(rows);
+        generate(rows, products::add);
+        return products;
+    }
+
+    private static void seed(JdbcTemplate jdbcTemplate, int rows) {
+        jdbcTemplate.update("DELETE FROM products");
+        List<Object[]> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        generate(rows, product -> {
+            batch.add(new Object[]{product.getId(), product.getName(), product.getDescription(),
+                    product.getPrice(), product.getStock(), product.getVersion()});
+            if (batch.size() == SEED_BATCH_SIZE) {
+                insert(jdbcTemplate, batch);
+            }
+        });
+        insert(jdbcTemplate, batch);
+        // ID baru dari createProduct harus di atas ID hasil seed
+        jdbcTemplate.execute("ALTER SEQUENCE product_seq RESTART WITH " + (rows + 101L));
+    }
+
+    private static void insert(JdbcTemplate jdbcTemplate, List<Object[]> batch) {
+        jdbcTemplate.batchUpdate("INSERT INTO products (id, name, description, price, stock, version) VALUES (?, ?, ?, ?, ?, ?)", batch);
+        batch.clear();
+    }
+}
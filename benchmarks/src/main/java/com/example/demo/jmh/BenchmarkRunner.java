@@ -0,0 +1,39 @@
+package com.example.demo.jmh;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point benchmark JMH.
+ *
+ * <p>Ukuran katalog diatur lewat system property {@code jmh.rows} (dipisahkan
+ * koma), benchmark yang dijalankan lewat {@code jmh.include} (regex), dan
+ * hasilnya ditulis sebagai JSON ke {@code jmh.result} agar bisa dibandingkan
+ * antar rilis. Argumen command line JMH biasa (misalnya {@code -f 2 -wi 5})
+ * tetap diterima dan menimpa anotasi di kelas benchmark.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(System.getProperty("jmh.include", "com\\.example\\.demo\\.jmh\\..*"))
+                .param("rows", System.getProperty("jmh.rows", "1000,100000,1000000").split(","))
+                .resultFormat(ResultFormatType.JSON)
+                .result(System.getProperty("jmh.result", "target/jmh-result.json"))
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.demo.jmh;
+
+import com.example.demo.fixture.SeededCatalog;
+import com.example.demo.service.ProductService;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Aplikasi lengkap (tanpa web server) dari {@link SeededCatalog} dengan
+ * {@code rows} produk, dibagikan ke semua thread benchmark.
+ *
+ * @author Harist Islami
+ * @version 1.2
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+public class CatalogState {
+
+    @Param({"1000", "100000", "1000000"})
+    public int rows;
+
+    ConfigurableApplicationContext context;
+    ProductService productService;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = SeededCatalog.start(rows, WebApplicationType.NONE);
+        productService = context.getBean(ProductService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    long randomId() {
+        return ThreadLocalRandom.current().nextLong(1, rows + 1L);
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.demo.jmh;
+
+import com.example.demo.columnar.ColumnarCatalog;
+import com.example.demo.config.ProductProperties;
+import com.example.demo.model.Product;
+import com.example.demo.repository.ProductRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark read model kolumnar terhadap katalog dari {@link CatalogState}.
+ *
+ * <p>{@code rebuild} dan {@code load} mengukur waktu startup: membangun
+ * kolom dari database vs memetakan snapshot yang sudah ditulis, masing-masing
+ * sebagai satu operasi (single shot). {@code priceRange*} membandingkan
+ * rentang harga dari kolom dengan query database yang setara. Snapshot
+ * ditulis ke direktori sementara, bukan ke {@code app.products.columnar.file}.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ColumnarCatalogBenchmark {
+
+    private static final BigDecimal MIN = new BigDecimal("1000.00");
+    private static final BigDecimal MAX = new BigDecimal("2000.00");
+    private static final int LIMIT = 100;
+
+    private ProductRepository productRepository;
+    private JdbcTemplate jdbcTemplate;
+    private ProductProperties properties;
+    private Path directory;
+    private ColumnarCatalog columns;
+
+    @Setup(Level.Trial)
+    public void setUp(CatalogState catalog) throws IOException {
+        productRepository = catalog.bean(ProductRepository.class);
+        jdbcTemplate = catalog.bean(JdbcTemplate.class);
+        directory = Files.createTempDirectory("columnar-bench");
+        properties = new ProductProperties();
+        properties.getColumnar().setEnabled(true);
+        properties.getColumnar().setFile(directory.resolve("catalog.col").toString());
+        columns = new ColumnarCatalog(productRepository, jdbcTemplate, properties);
+        columns.rebuild();
+        columns.writeSnapshot();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(Path.of(properties.getColumnar().getFile()));
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public ColumnarCatalog rebuild() {
+        ColumnarCatalog catalog = new ColumnarCatalog(productRepository, jdbcTemplate, properties);
+        catalog.rebuild();
+        return catalog;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public ColumnarCatalog load() {
+        ColumnarCatalog catalog = new ColumnarCatalog(productRepository, jdbcTemplate, properties);
+        if (!catalog.load()) {
+            throw new IllegalStateException("Columnar snapshot was not mapped");
+        }
+        return catalog;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public List<Product> priceRangeColumnar() {
+        return columns.findByPriceBetween(MIN, MAX, LIMIT);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public List<Product> priceRangeDatabase() {
+        return productRepository.findByPriceBetweenOrderByPriceAscIdAsc(MIN, MAX, Limit.of(LIMIT));
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.demo.jmh;
+
+import com.example.demo.codec.ProductProtobufCodec;
+import com.example.demo.fixture.SeededCatalog;
+import com.example.demo.model.Product;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark serialisasi daftar produk per format body: JSON, Smile, CBOR, dan Protobuf.
+ *
+ * <p>Daftar berisi {@code size} produk pertama dari {@link SeededCatalog}.
+ * Mapper Jackson dibangun seperti converter aplikasi
+ * ({@code default-property-inclusion=non_null}); Protobuf memakai
+ * {@link ProductProtobufCodec}. Ukuran payload per format diuji di
+ * {@code ProductProtobufCodecTest}.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductFormatBenchmark {
+
+    private static final TypeReference<List<Product>> PRODUCT_LIST = new TypeReference<>() {
+    };
+
+    @Param({"json", "smile", "cbor", "protobuf"})
+    public String format;
+
+    @Param({"100", "10000"})
+    public int size;
+
+    private ObjectMapper mapper;
+    private List<Product> products;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        Jackson2ObjectMapperBuilder builder = switch (format) {
+            case "json" -> Jackson2ObjectMapperBuilder.json();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile();
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor();
+            default -> null;
+        };
+        mapper = builder == null ? null : builder.serializationInclusion(JsonInclude.Include.NON_NULL).build();
+        products = SeededCatalog.products(size);
+        encoded = serialize();
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        if (mapper != null) {
+            return mapper.writeValueAsBytes(products);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ProductProtobufCodec.writeProducts(products, out);
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public List<Product> deserialize() throws IOException {
+        if (mapper != null) {
+            return mapper.readValue(encoded, PRODUCT_LIST);
+        }
+        return ProductProtobufCodec.readProducts(new ByteArrayInputStream(encoded));
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.demo.jmh;
+
+import com.example.demo.service.ProductField;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark sparse fieldset: entity lengkap vs projection {@code id,name,price,stock}.
+ *
+ * <p>Setiap benchmark mengukur query ditambah serialisasi JSON dengan
+ * ObjectMapper aplikasi, seperti yang dikerjakan endpoint listing dan
+ * pencarian. Ukuran payload bisa dibandingkan dengan profiler {@code gc}
+ * JMH ({@code -prof gc}) lewat alokasi per operasi.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ProductProjectionBenchmark {
+
+    private static final Set<ProductField> SUMMARY_FIELDS = ProductField.parse("id,name,price,stock");
+
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp(CatalogState catalog) {
+        objectMapper = catalog.bean(ObjectMapper.class);
+    }
+
+    @Benchmark
+    public byte[] listFull(CatalogState catalog) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(catalog.productService.getAllProducts());
+    }
+
+    @Benchmark
+    public byte[] listProjected(CatalogState catalog) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(catalog.productService.getAllProducts(SUMMARY_FIELDS));
+    }
+
+    @Benchmark
+    public byte[] searchFull(CatalogState catalog) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(catalog.productService.findProductsByName("laptop"));
+    }
+
+    @Benchmark
+    public byte[] searchProjected(CatalogState catalog) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(catalog.productService.findProductsByName("laptop", SUMMARY_FIELDS));
+    }
+}
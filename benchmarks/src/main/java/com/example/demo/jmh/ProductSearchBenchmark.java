@@ -0,0 +1,68 @@
+package com.example.demo.jmh;
+
+import com.example.demo.index.TrigramIndex;
+import com.example.demo.model.Product;
+import com.example.demo.repository.ProductRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark pencarian nama produk: query LIKE di database vs {@link TrigramIndex}.
+ *
+ * <p>{@code service} mengukur jalur lengkap {@code ProductService.findProductsByName}
+ * (index lalu pengambilan produk berdasarkan ID). Query dipilih untuk
+ * nama hasil seed "Laptop Model 42": cocok banyak, cocok sedikit, dan tidak
+ * cocok sama sekali. Kesamaan hasil index dengan LIKE diuji di
+ * {@code TrigramIndexTest}.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ProductSearchBenchmark {
+
+    @Param({"laptop", "model 42", "phone model 4217", "zzz"})
+    public String query;
+
+    private ProductRepository productRepository;
+    private TrigramIndex trigramIndex;
+
+    @Setup
+    public void setUp(CatalogState catalog) {
+        productRepository = catalog.bean(ProductRepository.class);
+        trigramIndex = catalog.bean(TrigramIndex.class);
+    }
+
+    @Benchmark
+    public List<Product> likeQuery() {
+        return productRepository.findByNameContainingIgnoreCase(query);
+    }
+
+    @Benchmark
+    public List<Long> trigramIndex() {
+        return trigramIndex.search(query);
+    }
+
+    @Benchmark
+    public List<Product> service(CatalogState catalog) {
+        return catalog.productService.findProductsByName(query);
+    }
+}
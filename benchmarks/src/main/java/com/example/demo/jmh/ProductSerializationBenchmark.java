@@ -0,0 +1,93 @@
+package com.example.demo.jmh;
+
+import com.example.demo.fixture.SeededCatalog;
+import com.example.demo.model.Product;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark serialisasi Jackson untuk {@link Product}: satu produk dan
+ * satu halaman 100 produk, dengan ObjectMapper yang dikonfigurasi seperti
+ * aplikasi ({@code default-property-inclusion=non_null}). Produknya adalah
+ * 100 produk pertama dari {@link SeededCatalog}.
+ *
+ * @author Harist Islami
+ * @version 1.1
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductSerializationBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    private ObjectWriter productWriter;
+    private ObjectWriter listWriter;
+    private ObjectReader productReader;
+    private ObjectReader listReader;
+    private Product product;
+    private List<Product> page;
+    private byte[] productJson;
+    private byte[] pageJson;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .build();
+        TypeReference<List<Product>> listType = new TypeReference<>() {
+        };
+        productWriter = objectMapper.writerFor(Product.class);
+        listWriter = objectMapper.writerFor(listType);
+        productReader = objectMapper.readerFor(Product.class);
+        listReader = objectMapper.readerFor(listType);
+
+        page = SeededCatalog.products(PAGE_SIZE);
+        product = page.get(0);
+        productJson = productWriter.writeValueAsBytes(product);
+        pageJson = listWriter.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializeProduct() throws JsonProcessingException {
+        return productWriter.writeValueAsBytes(product);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return listWriter.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public Product deserializeProduct() throws IOException {
+        return productReader.readValue(productJson);
+    }
+
+    @Benchmark
+    public List<Product> deserializePage() throws IOException {
+        return listReader.readValue(pageJson);
+    }
+}
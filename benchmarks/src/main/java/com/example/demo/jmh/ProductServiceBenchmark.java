@@ -0,0 +1,60 @@
+package com.example.demo.jmh;
+
+import com.example.demo.fixture.SeededCatalog;
+import com.example.demo.model.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark jalur utama ProductService terhadap katalog dari {@link CatalogState}.
+ *
+ * <p>{@code getProductById} memilih ID acak sehingga rasio cache hit
+ * mengikuti ukuran katalog (cache produk menyimpan 10.000 entri).
+ * {@code createProduct} menambah baris selama benchmark berjalan; setiap
+ * benchmark mendapat fork dan database sendiri.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ProductServiceBenchmark {
+
+    @Benchmark
+    public Optional<Product> getProductById(CatalogState catalog) {
+        return catalog.productService.getProductById(catalog.randomId());
+    }
+
+    @Benchmark
+    public List<Product> findProductsByName(CatalogState catalog) {
+        return catalog.productService.findProductsByName(SeededCatalog.randomName());
+    }
+
+    @Benchmark
+    public Product createProduct(CatalogState catalog) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return catalog.productService.createProduct(new Product(null, SeededCatalog.randomName(), "Benchmark",
+                BigDecimal.valueOf(1000 + random.nextInt(1_000_000), 2), random.nextInt(500)));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<Product> getAllProducts(CatalogState catalog) {
+        return catalog.productService.getAllProducts();
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.demo.jmh;
+
+import com.example.demo.fixture.SeededCatalog;
+import com.example.demo.index.PrefixIndex;
+import com.example.demo.model.ProductSuggestion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark latency autocomplete {@link PrefixIndex} tanpa aplikasi.
+ *
+ * <p>Index diisi nama produk dari {@link SeededCatalog#generate}, lalu
+ * setiap pemanggilan memakai prefix acak sepanjang 1-6 karakter dari nama
+ * yang ada. Mode sample time mencatat distribusi latency, sehingga p50,
+ * p99, dan p99.9 terbaca langsung di hasil JMH.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ProductSuggestBenchmark {
+
+    private static final int PREFIXES = 65_536;
+
+    @Param({"1000", "100000", "1000000"})
+    public int rows;
+
+    private PrefixIndex index;
+    private String[] prefixes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        index = new PrefixIndex();
+        String[] names = new String[rows];
+        SeededCatalog.generate(rows, product -> {
+            index.index(product);
+            names[(int) (product.getId() - 1)] = product.getName();
+        });
+        Random random = new Random(42);
+        prefixes = new String[PREFIXES];
+        for (int i = 0; i < PREFIXES; i++) {
+            String name = names[random.nextInt(rows)];
+            prefixes[i] = name.substring(0, 1 + random.nextInt(Math.min(6, name.length())));
+        }
+    }
+
+    @Benchmark
+    public List<ProductSuggestion> suggest() {
+        return index.suggest(prefixes[ThreadLocalRandom.current().nextInt(PREFIXES)], 10);
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.demo.load;
+
+import com.example.demo.load.Workload.Operation;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Mengirim request dengan laju kedatangan tetap (open loop) dan mencatat latensinya.
+ *
+ * <p>Request ke-i dijadwalkan pada {@code start + i / rate} tanpa menunggu
+ * respons request sebelumnya. Latensi terkoreksi diukur dari waktu yang
+ * dijadwalkan itu, bukan dari saat request benar-benar dikirim, sehingga
+ * saat server (atau generator) tertahan, request yang ikut tertunda tetap
+ * terhitung lambat (koreksi coordinated omission). Latensi dari saat kirim
+ * dicatat terpisah sebagai pembanding.
+ *
+ * <p>Jumlah request yang belum selesai dibatasi {@code maxInFlight}; jika
+ * batas tercapai, pengiriman menunggu, dan waktu tunggu itu ikut masuk
+ * latensi terkoreksi. Request selama masa warmup dikirim tetapi tidak dicatat.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class LoadGenerator {
+
+    /** Latensi tertinggi yang dicatat histogram; nilai di atasnya dipotong. */
+    static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final HttpClient client;
+    private final Workload workload;
+    private final double ratePerSecond;
+    private final Duration warmup;
+    private final Duration duration;
+    private final int maxInFlight;
+
+    LoadGenerator(HttpClient client, Workload workload, double ratePerSecond, Duration warmup,
+                  Duration duration, int maxInFlight) {
+        this.client = client;
+        this.workload = workload;
+        this.ratePerSecond = ratePerSecond;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Statistik satu operasi selama masa pengukuran.
+     */
+    static class OperationStats {
+        final Histogram corrected = newHistogram();
+        final Histogram uncorrected = newHistogram();
+        final LongAdder success = new LongAdder();
+        final LongAdder clientErrors = new LongAdder();
+        final LongAdder serverErrors = new LongAdder();
+        final LongAdder failures = new LongAdder();
+
+        private void record(long intendedNanos, long sentNanos, long completedNanos) {
+            corrected.recordValue(toMicros(completedNanos - intendedNanos));
+            uncorrected.recordValue(toMicros(completedNanos - sentNanos));
+        }
+
+        private static Histogram newHistogram() {
+            return new ConcurrentHistogram(1, HIGHEST_TRACKABLE_MICROS, 3);
+        }
+
+        private static long toMicros(long nanos) {
+            return Math.max(1, Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), HIGHEST_TRACKABLE_MICROS));
+        }
+    }
+
+    /**
+     * Hasil load test.
+     *
+     * @param operations statistik per operasi
+     * @param measuredSeconds lama masa pengukuran sampai request terakhir selesai
+     * @param maxSendLagMicros keterlambatan kirim terbesar dari jadwal; besar berarti generator tidak sanggup
+     */
+    record Result(Map<Operation, OperationStats> operations, double measuredSeconds, long maxSendLagMicros) {
+    }
+
+    Result run() throws InterruptedException {
+        Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        LongAccumulator maxSendLag = new LongAccumulator(Math::max, 0);
+        double intervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        long warmupRequests = (long) (warmup.toNanos() / intervalNanos);
+        long totalRequests = warmupRequests + (long) (duration.toNanos() / intervalNanos);
+        long start = System.nanoTime();
+        long measureStart = start + (long) (warmupRequests * intervalNanos);
+
+        for (long i = 0; i < totalRequests; i++) {
+            long intended = start + (long) (i * intervalNanos);
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            inFlight.acquire();
+            Workload.Call call = workload.next();
+            boolean measured = i >= warmupRequests;
+            long sent = System.nanoTime();
+            if (measured) {
+                maxSendLag.accumulate(TimeUnit.NANOSECONDS.toMicros(sent - intended));
+            }
+            client.sendAsync(call.request(), HttpResponse.BodyHandlers.ofString()).whenComplete((response, error) -> {
+                long completed = System.nanoTime();
+                try {
+                    if (error == null && call.operation() == Operation.CREATE && response.statusCode() / 100 == 2) {
+                        workload.onCreated(response.body());
+                    }
+                    if (measured) {
+                        record(stats.get(call.operation()), intended, sent, completed, response, error);
+                    }
+                } finally {
+                    inFlight.release();
+                }
+            });
+        }
+        inFlight.acquire(maxInFlight);
+        double measuredSeconds = (System.nanoTime() - measureStart) / 1e9;
+        return new Result(stats, measuredSeconds, maxSendLag.get());
+    }
+
+    private static void record(OperationStats operation, long intended, long sent, long completed,
+                               HttpResponse<?> response, Throwable error) {
+        operation.record(intended, sent, completed);
+        if (error != null) {
+            operation.failures.increment();
+        } else if (response.statusCode() >= 500) {
+            operation.serverErrors.increment();
+        } else if (response.statusCode() >= 400) {
+            operation.clientErrors.increment();
+        } else {
+            operation.success.increment();
+        }
+    }
+}
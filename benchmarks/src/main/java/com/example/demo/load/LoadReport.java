@@ -0,0 +1,148 @@
+package com.example.demo.load;
+
+import com.example.demo.load.LoadGenerator.OperationStats;
+import com.example.demo.load.Workload.Operation;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Menulis hasil load test sebagai {@code report.json}, {@code report.html},
+ * dan satu file {@code <operasi>.hgrm} per operasi (distribusi persentil
+ * HdrHistogram dalam milidetik, bisa dibuka di HdrHistogram plotter).
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class LoadReport {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9, 99.99};
+
+    private final ObjectMapper objectMapper;
+
+    LoadReport(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @return path report.html
+     */
+    Path write(Path directory, Map<String, Object> settings, LoadGenerator.Result result) throws IOException {
+        Files.createDirectories(directory);
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("generatedAt", Instant.now().toString());
+        report.put("settings", settings);
+        report.put("measuredSeconds", round(result.measuredSeconds()));
+        report.put("maxSendLagMs", round(result.maxSendLagMicros() / 1000.0));
+        Map<String, Object> operations = new LinkedHashMap<>();
+        long total = 0;
+        for (Map.Entry<Operation, OperationStats> entry : result.operations().entrySet()) {
+            OperationStats stats = entry.getValue();
+            long count = stats.corrected.getTotalCount();
+            if (count == 0) {
+                continue;
+            }
+            total += count;
+            Map<String, Object> operation = new LinkedHashMap<>();
+            operation.put("requests", count);
+            operation.put("throughputPerSecond", round(count / result.measuredSeconds()));
+            operation.put("success", stats.success.sum());
+            operation.put("clientErrors", stats.clientErrors.sum());
+            operation.put("serverErrors", stats.serverErrors.sum());
+            operation.put("failures", stats.failures.sum());
+            operation.put("latencyMs", latency(stats.corrected));
+            operation.put("uncorrectedLatencyMs", latency(stats.uncorrected));
+            operations.put(entry.getKey().name(), operation);
+            writeDistribution(directory.resolve(entry.getKey().name().toLowerCase(Locale.ROOT) + ".hgrm"), stats.corrected);
+        }
+        report.put("totalRequests", total);
+        report.put("throughputPerSecond", round(total / result.measuredSeconds()));
+        report.put("operations", operations);
+
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(directory.resolve("report.json").toFile(), report);
+        Path html = directory.resolve("report.html");
+        Files.writeString(html, html(report, operations), StandardCharsets.UTF_8);
+        return html;
+    }
+
+    private static Map<String, Object> latency(Histogram histogram) {
+        Map<String, Object> latency = new LinkedHashMap<>();
+        latency.put("mean", round(histogram.getMean() / 1000.0));
+        for (double percentile : PERCENTILES) {
+            latency.put("p" + format(percentile), round(histogram.getValueAtPercentile(percentile) / 1000.0));
+        }
+        latency.put("max", round(histogram.getMaxValue() / 1000.0));
+        return latency;
+    }
+
+    private static void writeDistribution(Path file, Histogram histogram) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (PrintStream out = new PrintStream(buffer, true, StandardCharsets.UTF_8)) {
+            histogram.outputPercentileDistribution(out, 1000.0);
+        }
+        Files.write(file, buffer.toByteArray());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String html(Map<String, Object> report, Map<String, Object> operations) {
+        List<String> columns = List.of("mean", "p50", "p90", "p99", "p99.9", "p99.99", "max");
+        StringBuilder html = new StringBuilder();
+        html.append("<!DOCTYPE html>\n<html><head><meta charset=\"utf-8\"><title>Load test report</title>\n")
+                .append("<style>body{font-family:sans-serif;margin:2em}table{border-collapse:collapse;margin-bottom:2em}")
+                .append("th,td{border:1px solid #ccc;padding:4px 8px;text-align:right}th:first-child,td:first-child{text-align:left}")
+                .append("</style></head><body>\n<h1>Load test report</h1>\n<p>Generated ")
+                .append(escape(report.get("generatedAt"))).append("</p>\n<h2>Settings</h2>\n<table>\n");
+        ((Map<String, Object>) report.get("settings")).forEach((key, value) ->
+                html.append("<tr><td>").append(escape(key)).append("</td><td>").append(escape(value)).append("</td></tr>\n"));
+        html.append("<tr><td>measured seconds</td><td>").append(report.get("measuredSeconds")).append("</td></tr>\n")
+                .append("<tr><td>total requests</td><td>").append(report.get("totalRequests")).append("</td></tr>\n")
+                .append("<tr><td>throughput (req/s)</td><td>").append(report.get("throughputPerSecond")).append("</td></tr>\n")
+                .append("<tr><td>max send lag (ms)</td><td>").append(report.get("maxSendLagMs")).append("</td></tr>\n")
+                .append("</table>\n");
+        for (String kind : List.of("latencyMs", "uncorrectedLatencyMs")) {
+            html.append("<h2>").append(kind.equals("latencyMs")
+                    ? "Latency from intended start, corrected for coordinated omission (ms)"
+                    : "Latency from actual send, uncorrected (ms)").append("</h2>\n<table>\n<tr><th>operation</th><th>requests</th>"
+                    + "<th>2xx/3xx</th><th>4xx</th><th>5xx</th><th>failed</th>");
+            columns.forEach(column -> html.append("<th>").append(column).append("</th>"));
+            html.append("</tr>\n");
+            operations.forEach((name, value) -> {
+                Map<String, Object> operation = (Map<String, Object>) value;
+                Map<String, Object> latency = (Map<String, Object>) operation.get(kind);
+                html.append("<tr><td>").append(name).append("</td><td>").append(operation.get("requests"))
+                        .append("</td><td>").append(operation.get("success"))
+                        .append("</td><td>").append(operation.get("clientErrors"))
+                        .append("</td><td>").append(operation.get("serverErrors"))
+                        .append("</td><td>").append(operation.get("failures")).append("</td>");
+                columns.forEach(column -> html.append("<td>").append(latency.get(column)).append("</td>"));
+                html.append("</tr>\n");
+            });
+            html.append("</table>\n");
+        }
+        return html.append("</body></html>\n").toString();
+    }
+
+    private static String escape(Object value) {
+        return String.valueOf(value).replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+
+    private static String format(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000.0) / 1000.0;
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.demo.load;
+
+import com.example.demo.fixture.SeededCatalog;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Entry point load test HTTP untuk {@code /api/products}.
+ *
+ * <p>Aplikasi dijalankan di port acak di atas katalog hasil seed, lalu
+ * {@link LoadGenerator} mengirim campuran request dari {@link Workload}
+ * dengan laju tetap. Semua pengaturan dibaca dari system property:
+ * <ul>
+ *   <li>{@code load.rows} - jumlah produk hasil seed (default 100000)</li>
+ *   <li>{@code load.rate} - request per detik (default 200)</li>
+ *   <li>{@code load.warmup-seconds} - masa warmup yang tidak dicatat (default 10)</li>
+ *   <li>{@code load.duration-seconds} - masa pengukuran (default 60)</li>
+ *   <li>{@code load.mix} - bobot operasi (default {@value #DEFAULT_MIX})</li>
+ *   <li>{@code load.max-in-flight} - batas request yang belum selesai (default 1000)</li>
+ *   <li>{@code load.collection} - Postman collection sumber bentuk request</li>
+ *   <li>{@code load.report-dir} - direktori report (default target/load-report)</li>
+ * </ul>
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class LoadTestRunner {
+
+    static final String DEFAULT_MIX = "get_by_id=50,search=20,list=1,create=12,update=12,delete=5";
+    static final String DEFAULT_COLLECTION = "../documentation/Spring_Boot_Demo_API_Postman_Collection.json";
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int rows = Integer.getInteger("load.rows", 100_000);
+        double rate = Double.parseDouble(System.getProperty("load.rate", "200"));
+        Duration warmup = Duration.ofSeconds(Long.getLong("load.warmup-seconds", 10));
+        Duration duration = Duration.ofSeconds(Long.getLong("load.duration-seconds", 60));
+        String mix = System.getProperty("load.mix", DEFAULT_MIX);
+        int maxInFlight = Integer.getInteger("load.max-in-flight", 1000);
+        Path collection = Path.of(System.getProperty("load.collection", DEFAULT_COLLECTION));
+        Path reportDirectory = Path.of(System.getProperty("load.report-dir", "target/load-report"));
+        if (rate <= 0 || maxInFlight < 1 || duration.isZero() || duration.isNegative()) {
+            throw new IllegalArgumentException("load.rate, load.duration-seconds and load.max-in-flight must be positive");
+        }
+
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("rows", rows);
+        settings.put("ratePerSecond", rate);
+        settings.put("warmupSeconds", warmup.toSeconds());
+        settings.put("durationSeconds", duration.toSeconds());
+        settings.put("mix", mix);
+        settings.put("maxInFlight", maxInFlight);
+        settings.put("collection", collection.toString());
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        try (ConfigurableApplicationContext context = SeededCatalog.start(rows, WebApplicationType.SERVLET, "server.port=0")) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            Workload workload = new Workload(collection, Workload.parseMix(mix),
+                    URI.create("http://localhost:" + port), rows, objectMapper);
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(executor)
+                    .build();
+            System.out.printf("Load test: %,d products, %.0f req/s, %ds warmup + %ds measured, mix %s%n",
+                    rows, rate, warmup.toSeconds(), duration.toSeconds(), mix);
+            LoadGenerator.Result result = new LoadGenerator(client, workload, rate, warmup, duration, maxInFlight).run();
+            Path report = new LoadReport(objectMapper).write(reportDirectory, settings, result);
+            System.out.printf("Report written to %s%n", report.toAbsolutePath());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
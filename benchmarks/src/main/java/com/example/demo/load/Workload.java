@@ -0,0 +1,238 @@
+package com.example.demo.load;
+
+import com.example.demo.fixture.SeededCatalog;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Campuran request ke {@code ProductController} yang dibentuk dari Postman collection.
+ *
+ * <p>Method, path, dan body setiap operasi diambil dari request dengan nama
+ * yang sesuai di collection; ID, kata kunci, nama, dan harga lalu diganti
+ * dengan nilai acak dari katalog hasil seed. DELETE hanya menghapus produk
+ * yang dibuat oleh load test itu sendiri agar katalog seed tidak menyusut;
+ * jika belum ada, operasi itu menjadi CREATE.
+ *
+ * @author Harist Islami
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class Workload {
+
+    /**
+     * Operasi yang bisa dicampur, dengan nama request di Postman collection.
+     */
+    enum Operation {
+        GET_BY_ID("Get Product by ID"),
+        SEARCH("Search Products by Name"),
+        LIST("Get All Products"),
+        CREATE("Create Product"),
+        UPDATE("Update Product"),
+        DELETE("Delete Product");
+
+        private final String requestName;
+
+        Operation(String requestName) {
+            this.requestName = requestName;
+        }
+
+        static Operation from(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unsupported operation: " + value);
+            }
+        }
+    }
+
+    /**
+     * Satu request beserta operasinya.
+     */
+    record Call(Operation operation, HttpRequest request) {
+    }
+
+    private record Template(String method, String path, ObjectNode body) {
+    }
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final ObjectMapper objectMapper;
+    private final URI baseUri;
+    private final long rows;
+    private final Map<Operation, Template> templates = new EnumMap<>(Operation.class);
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final ConcurrentLinkedQueue<Long> createdIds = new ConcurrentLinkedQueue<>();
+
+    /**
+     * @param collection file Postman collection (format v2.1)
+     * @param mix bobot per operasi, misalnya {@code get_by_id=60,search=20,create=20}
+     * @param baseUri alamat aplikasi yang diuji
+     * @param rows jumlah produk hasil seed (ID 1 sampai rows)
+     */
+    Workload(Path collection, Map<Operation, Integer> mix, URI baseUri, long rows, ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.baseUri = baseUri;
+        this.rows = rows;
+        try {
+            collectTemplates(objectMapper.readTree(collection.toFile()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read Postman collection " + collection, e);
+        }
+        this.operations = mix.keySet().toArray(Operation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            Operation operation = operations[i];
+            if (!templates.containsKey(operation)) {
+                throw new IllegalArgumentException("No request named '" + operation.requestName + "' in " + collection);
+            }
+            total += mix.get(operation);
+            cumulativeWeights[i] = total;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("Workload mix must have a positive weight");
+        }
+    }
+
+    /**
+     * Mengubah {@code get_by_id=60,search=20} menjadi bobot per operasi.
+     */
+    static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight: " + entry);
+            }
+            if (weight > 0) {
+                weights.put(Operation.from(parts[0]), weight);
+            }
+        }
+        return weights;
+    }
+
+    /**
+     * Memilih operasi berikutnya sesuai bobot lalu membuat request-nya.
+     */
+    Call next() {
+        int pick = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return call(operations[i]);
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    private Call call(Operation operation) {
+        if (operation == Operation.DELETE) {
+            Long id = createdIds.poll();
+            return id == null ? call(Operation.CREATE)
+                    : new Call(operation, build(operation, withId(templates.get(operation).path(), id), null));
+        }
+        Template template = templates.get(operation);
+        return new Call(operation, switch (operation) {
+            case GET_BY_ID -> build(operation, withId(template.path(), randomId()), null);
+            case SEARCH -> build(operation, withQuery(template.path(), "name",
+                    SeededCatalog.NOUNS[ThreadLocalRandom.current().nextInt(SeededCatalog.NOUNS.length)]), null);
+            case LIST -> build(operation, template.path(), null);
+            case CREATE -> build(operation, template.path(), randomBody(template.body()));
+            case UPDATE -> build(operation, withId(template.path(), randomId()), randomBody(template.body()));
+            case DELETE -> throw new IllegalStateException();
+        });
+    }
+
+    /**
+     * Mencatat ID dari respons CREATE agar bisa dipakai DELETE berikutnya.
+     */
+    void onCreated(String responseBody) {
+        try {
+            JsonNode id = objectMapper.readTree(responseBody).get("id");
+            if (id != null) {
+                createdIds.add(id.asLong());
+            }
+        } catch (IOException e) {
+            // respons yang tidak bisa dibaca tidak menghentikan load test
+        }
+    }
+
+    private HttpRequest build(Operation operation, String path, ObjectNode body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json");
+        if (body == null) {
+            return builder.method(templates.get(operation).method(), HttpRequest.BodyPublishers.noBody()).build();
+        }
+        return builder.header("Content-Type", "application/json")
+                .method(templates.get(operation).method(), HttpRequest.BodyPublishers.ofString(body.toString()))
+                .build();
+    }
+
+    private ObjectNode randomBody(ObjectNode template) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        ObjectNode body = template.deepCopy();
+        body.put("name", SeededCatalog.randomName());
+        body.put("price", BigDecimal.valueOf(1000 + random.nextInt(1_000_000), 2));
+        body.put("stock", random.nextInt(500));
+        return body;
+    }
+
+    private long randomId() {
+        return ThreadLocalRandom.current().nextLong(1, rows + 1);
+    }
+
+    private static String withId(String path, long id) {
+        return path.substring(0, path.lastIndexOf('/') + 1) + id;
+    }
+
+    private static String withQuery(String path, String name, String value) {
+        int query = path.indexOf('?');
+        return (query < 0 ? path : path.substring(0, query)) + "?" + name + "=" + URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private void collectTemplates(JsonNode node) {
+        for (JsonNode item : node.path("item")) {
+            if (item.has("item")) {
+                collectTemplates(item);
+                continue;
+            }
+            JsonNode request = item.path("request");
+            for (Operation operation : Operation.values()) {
+                if (operation.requestName.equals(item.path("name").asText())) {
+                    JsonNode url = request.path("url");
+                    String raw = url.isTextual() ? url.asText() : url.path("raw").asText();
+                    String path = raw.replace("{{base_url}}", "");
+                    String rawBody = request.path("body").path("raw").asText("");
+                    try {
+                        ObjectNode body = rawBody.isBlank() ? objectMapper.createObjectNode()
+                                : (ObjectNode) objectMapper.readTree(rawBody);
+                        templates.put(operation, new Template(request.path("method").asText(), path, body));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Invalid body in request '" + operation.requestName + "'", e);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -1,14 +0,0 @@
--- Schema for Product Table
--- This script creates the products table structure
-
-CREATE TABLE IF NOT EXISTS products (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
-    name VARCHAR(100) NOT NULL,
-    description VARCHAR(500),
-    price DECIMAL(19,2) NOT NULL CHECK (price > 0),
-    stock INTEGER NOT NULL CHECK (stock >= 0)
-);
-
--- Add index for better search performance
-CREATE INDEX IF NOT EXISTS idx_product_name ON products(name);
-CREATE INDEX IF NOT EXISTS idx_product_price ON products(price);
\ No newline at end of file